@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.util.List;
+
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.ClientGeneratorConfiguration;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.JDBCConnectionConfiguration;
+import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.config.Property;
+import org.mybatis.generator.config.SqlMapGeneratorConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+
+/**
+ * Builds generator configurations for the benchmarks. The configurations are built in code rather than parsed from
+ * XML so that parsing is not part of any measurement.
+ */
+public final class BenchmarkConfigurations {
+    private static final String TARGET_PROJECT = "BENCHMARK";
+
+    private BenchmarkConfigurations() {
+        // utility class - no instances
+    }
+
+    /**
+     * Creates a context that generates code for every table in the schema.
+     *
+     * @param id the context id
+     * @param knownRuntime the runtime to generate code for
+     * @param schema the schema to introspect
+     * @param properties additional context properties
+     * @return the context
+     */
+    public static Context createContext(String id, KnownRuntime knownRuntime, SyntheticSchema schema,
+            List<Property> properties) {
+        Context.Builder builder = new Context.Builder()
+                .withId(id)
+                .withTargetRuntime(knownRuntime.getAlias())
+                .withJdbcConnectionConfiguration(new JDBCConnectionConfiguration.Builder()
+                        .withDriverClass("org.hsqldb.jdbc.JDBCDriver")
+                        .withConnectionURL(schema.url())
+                        .withUserId("sa")
+                        .build())
+                .withModelGeneratorConfiguration(new ModelGeneratorConfiguration.Builder()
+                        .withTargetPackage("mbg.benchmark.model")
+                        .withTargetProject(TARGET_PROJECT)
+                        .build());
+
+        if (knownRuntime.isLegacyMyBatis3Based()) {
+            builder.withSqlMapGeneratorConfiguration(new SqlMapGeneratorConfiguration.Builder()
+                    .withTargetPackage("mbg.benchmark.mapper")
+                    .withTargetProject(TARGET_PROJECT)
+                    .build());
+            builder.withClientGeneratorConfiguration(new ClientGeneratorConfiguration.Builder()
+                    .withTargetPackage("mbg.benchmark.mapper")
+                    .withTargetProject(TARGET_PROJECT)
+                    .withLegacyClientType(ClientGeneratorConfiguration.LegacyClientType.XML_MAPPER)
+                    .build());
+        } else {
+            builder.withClientGeneratorConfiguration(new ClientGeneratorConfiguration.Builder()
+                    .withTargetPackage("mbg.benchmark.mapper")
+                    .withTargetProject(TARGET_PROJECT)
+                    .build());
+        }
+
+        for (String tableName : schema.tableNames()) {
+            builder.withTableConfiguration(new TableConfiguration.Builder()
+                    .withTableName(tableName)
+                    .build());
+        }
+
+        properties.forEach(builder::withProperty);
+        return builder.build();
+    }
+
+    public static Configuration createConfiguration(Context context) {
+        return new Configuration.Builder()
+                .withContext(context)
+                .build();
+    }
+
+    /**
+     * Runs the generator without writing any files.
+     *
+     * @param configuration the configuration
+     * @return the generator, from which the generated files can be retrieved
+     * @throws Exception if generation fails
+     */
+    public static MyBatisGenerator generate(Configuration configuration) throws Exception {
+        MyBatisGenerator generator = new MyBatisGenerator.Builder()
+                .withConfiguration(configuration)
+                .build();
+        generator.generateOnly();
+        return generator;
+    }
+}
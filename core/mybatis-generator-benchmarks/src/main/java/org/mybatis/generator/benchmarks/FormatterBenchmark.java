@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.config.Context;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures rendering of generated Java and XML files with the default formatters. The files are generated once
+ * during setup, so the measurement covers only the renderers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatterBenchmark {
+    private static final int TABLE_COUNT = 20;
+    private static final int COLUMN_COUNT = 40;
+
+    private List<GeneratedJavaFile> javaFiles;
+    private List<GeneratedXmlFile> xmlFiles;
+    private DefaultJavaFormatter javaFormatter;
+    private DefaultXmlFormatter xmlFormatter;
+
+    @Setup
+    public void setup() throws Exception {
+        SyntheticSchema schema = SyntheticSchema.create("formatter", TABLE_COUNT, COLUMN_COUNT);
+        Context context;
+        MyBatisGenerator generator;
+        try {
+            context = BenchmarkConfigurations.createContext("formatter", KnownRuntime.MYBATIS3, schema, List.of());
+            generator = BenchmarkConfigurations.generate(BenchmarkConfigurations.createConfiguration(context));
+        } finally {
+            schema.shutdown();
+        }
+
+        javaFiles = generator.getGeneratedJavaFiles();
+        xmlFiles = generator.getGeneratedXmlFiles();
+
+        Indenter indenter = Indenter.defaultIndenter();
+        javaFormatter = new DefaultJavaFormatter();
+        javaFormatter.setContext(context);
+        javaFormatter.setIndenter(indenter);
+        xmlFormatter = new DefaultXmlFormatter();
+        xmlFormatter.setContext(context);
+        xmlFormatter.setIndenter(indenter);
+    }
+
+    @Benchmark
+    public void formatJavaFiles(Blackhole blackhole) {
+        for (GeneratedJavaFile javaFile : javaFiles) {
+            blackhole.consume(javaFormatter.getFormattedContent(javaFile.getCompilationUnit()));
+        }
+    }
+
+    @Benchmark
+    public void formatJavaFilesToAppendable(Blackhole blackhole) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (GeneratedJavaFile javaFile : javaFiles) {
+            sb.setLength(0);
+            javaFormatter.format(javaFile.getCompilationUnit(), sb);
+            blackhole.consume(sb);
+        }
+    }
+
+    @Benchmark
+    public void formatXmlFiles(Blackhole blackhole) {
+        for (GeneratedXmlFile xmlFile : xmlFiles) {
+            blackhole.consume(xmlFormatter.getFormattedContent(xmlFile.getDocument()));
+        }
+    }
+
+    @Benchmark
+    public void formatXmlFilesToAppendable(Blackhole blackhole) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (GeneratedXmlFile xmlFile : xmlFiles) {
+            sb.setLength(0);
+            xmlFormatter.format(xmlFile.getDocument(), sb);
+            blackhole.consume(sb);
+        }
+    }
+}
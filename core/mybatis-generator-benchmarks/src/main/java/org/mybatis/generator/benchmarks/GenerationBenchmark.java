@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Property;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures code generation for each runtime. The schema is introspected once during setup and written to an
+ * introspection snapshot, and the measured runs read the snapshot. So the measurement covers runtime construction,
+ * plugin calls, and building the generated files, but not database access or writing files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+    private static final int COLUMN_COUNT = 12;
+
+    @Param({"MYBATIS3", "MYBATIS3_SIMPLE", "MYBATIS3_DYNAMIC_SQL", "MYBATIS3_KOTLIN"})
+    public KnownRuntime runtime;
+
+    @Param({"10", "100"})
+    public int tables;
+
+    private Path snapshotFile;
+    private Configuration configuration;
+
+    @Setup
+    public void setup() throws Exception {
+        snapshotFile = Files.createTempFile("mbg-generation-benchmark", ".xml");
+        SyntheticSchema schema = SyntheticSchema.create("generation_" + runtime.name().toLowerCase() + '_' + tables,
+                tables, COLUMN_COUNT);
+        try {
+            BenchmarkConfigurations.generate(createConfiguration(schema, "write"));
+        } finally {
+            schema.shutdown();
+        }
+
+        configuration = createConfiguration(schema, "read");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public MyBatisGenerator generate() throws Exception {
+        return BenchmarkConfigurations.generate(configuration);
+    }
+
+    private Configuration createConfiguration(SyntheticSchema schema, String snapshotMode) {
+        return BenchmarkConfigurations.createConfiguration(
+                BenchmarkConfigurations.createContext("generation", runtime, schema, List.of(
+                        new Property(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FILE, snapshotFile.toString()),
+                        new Property(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE, snapshotMode))));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.JavaTypeResolver;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.Property;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.db.DatabaseIntrospector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures introspection of every table in a synthetic schema with each introspection strategy. The connection is
+ * opened once per trial, so the measurement covers the metadata queries and the construction of the introspected
+ * tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntrospectionBenchmark {
+
+    @Param({"WIDE", "MANY_TABLES"})
+    public SyntheticSchema.Shape shape;
+
+    @Param({"perTable", "prefetch", "catalogViews"})
+    public String introspectionStrategy;
+
+    private SyntheticSchema schema;
+    private Context context;
+    private Connection connection;
+
+    @Setup
+    public void setup() throws SQLException {
+        schema = SyntheticSchema.create("introspection_" + shape.name().toLowerCase(), shape);
+        context = BenchmarkConfigurations.createContext("introspection", KnownRuntime.MYBATIS3, schema,
+                List.of(new Property(PropertyRegistry.CONTEXT_INTROSPECTION_STRATEGY, introspectionStrategy)));
+        connection = schema.openConnection();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        schema.shutdown();
+    }
+
+    @Benchmark
+    public List<IntrospectedTable> introspectTables() throws SQLException {
+        List<String> warnings = new ArrayList<>();
+        JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(context, warnings);
+        DatabaseIntrospector databaseIntrospector =
+                new DatabaseIntrospector(context, connection.getMetaData(), javaTypeResolver);
+
+        List<IntrospectedTable> answer = new ArrayList<>();
+        for (TableConfiguration tc : context.tableConfigurations()) {
+            answer.addAll(databaseIntrospector.introspectTables(tc, KnownRuntime.MYBATIS3));
+        }
+        return answer;
+    }
+}
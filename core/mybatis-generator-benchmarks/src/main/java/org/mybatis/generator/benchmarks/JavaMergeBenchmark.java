@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.JavaMergeConfiguration;
+import org.mybatis.generator.config.MergeStrategy;
+import org.mybatis.generator.exception.MergeException;
+import org.mybatis.generator.merge.java.JavaFileMerger;
+import org.mybatis.generator.merge.java.JavaMergerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures merging of regenerated Java files into existing files with each merge strategy. The existing files are
+ * the generated files with a hand-written method added, which is the usual situation when code is regenerated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JavaMergeBenchmark {
+    private static final int TABLE_COUNT = 3;
+    private static final int COLUMN_COUNT = 30;
+
+    @Param({"MERGE_INTO_NEW", "MERGE_INTO_EXISTING"})
+    public MergeStrategy mergeStrategy;
+
+    @Param({"false", "true"})
+    public boolean lexicalPreserving;
+
+    private Path directory;
+    private final List<String> newSources = new ArrayList<>();
+    private final List<File> existingFiles = new ArrayList<>();
+    private JavaFileMerger javaFileMerger;
+
+    @Setup
+    public void setup() throws Exception {
+        SyntheticSchema schema = SyntheticSchema.create("java_merge", TABLE_COUNT, COLUMN_COUNT);
+        Context context;
+        MyBatisGenerator generator;
+        try {
+            context = BenchmarkConfigurations.createContext("javaMerge", KnownRuntime.MYBATIS3, schema, List.of());
+            generator = BenchmarkConfigurations.generate(BenchmarkConfigurations.createConfiguration(context));
+        } finally {
+            schema.shutdown();
+        }
+
+        Indenter indenter = Indenter.defaultIndenter();
+        DefaultJavaFormatter javaFormatter = new DefaultJavaFormatter();
+        javaFormatter.setContext(context);
+        javaFormatter.setIndenter(indenter);
+
+        directory = Files.createTempDirectory("mbg-java-merge-benchmark");
+        for (GeneratedJavaFile javaFile : generator.getGeneratedJavaFiles()) {
+            String source = javaFormatter.getFormattedContent(javaFile.getCompilationUnit());
+            Path existingFile = directory.resolve(javaFile.getFileName());
+            Files.writeString(existingFile,
+                    addCustomMethod(source, javaFile.getCompilationUnit() instanceof Interface));
+            newSources.add(source);
+            existingFiles.add(existingFile.toFile());
+        }
+
+        javaFileMerger = JavaMergerFactory.getMerger(new JavaMergeConfiguration.Builder()
+                .withMergeStrategy(mergeStrategy)
+                .isLexicalPreserving(lexicalPreserving)
+                .build(), indenter);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        for (File existingFile : existingFiles) {
+            Files.deleteIfExists(existingFile.toPath());
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void mergeJavaFiles(Blackhole blackhole) throws MergeException {
+        for (int i = 0; i < newSources.size(); i++) {
+            blackhole.consume(javaFileMerger.getMergedSource(newSources.get(i), existingFiles.get(i), null));
+        }
+    }
+
+    private static String addCustomMethod(String source, boolean isInterface) {
+        int index = source.lastIndexOf('}');
+        String modifier = isInterface ? "default" : "public";
+        return source.substring(0, index)
+                + "\n    " + modifier + " String customMethod() {\n        return \"custom\";\n    }\n"
+                + source.substring(index);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A synthetic schema in an in-memory HSQLDB database. Every table has an integer primary key followed by columns
+ * that cycle through the common JDBC types, so that the introspector and the Java type resolver see a realistic mix
+ * of columns.
+ */
+public final class SyntheticSchema {
+    private static final String[] COLUMN_TYPES = {
+        "VARCHAR(64)",
+        "INTEGER",
+        "BIGINT",
+        "DECIMAL(12, 2)",
+        "TIMESTAMP",
+        "DATE",
+        "BOOLEAN",
+        "CHAR(10)",
+        "SMALLINT",
+        "DOUBLE",
+        "CLOB",
+        "VARBINARY(256)"
+    };
+
+    /**
+     * Shapes of schemas that stress different parts of introspection.
+     */
+    public enum Shape {
+        /**
+         * A few tables with many columns each.
+         */
+        WIDE(10, 200),
+
+        /**
+         * Many tables with a few columns each.
+         */
+        MANY_TABLES(250, 8);
+
+        private final int tableCount;
+        private final int columnCount;
+
+        Shape(int tableCount, int columnCount) {
+            this.tableCount = tableCount;
+            this.columnCount = columnCount;
+        }
+    }
+
+    private final String url;
+    private final List<String> tableNames;
+
+    private SyntheticSchema(String url, List<String> tableNames) {
+        this.url = url;
+        this.tableNames = tableNames;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public List<String> tableNames() {
+        return tableNames;
+    }
+
+    public Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(url, "sa", "");
+    }
+
+    /**
+     * Shuts down the database and discards its contents.
+     *
+     * @throws SQLException if the database cannot be shut down
+     */
+    public void shutdown() throws SQLException {
+        try (Connection connection = openConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    public static SyntheticSchema create(String databaseName, Shape shape) throws SQLException {
+        return create(databaseName, shape.tableCount, shape.columnCount);
+    }
+
+    /**
+     * Creates a schema in a new in-memory database.
+     *
+     * @param databaseName the name of the in-memory database. Benchmarks should use distinct names so that a schema
+     *     left behind by another benchmark in the same JVM is never reused
+     * @param tableCount the number of tables to create
+     * @param columnCount the number of columns in each table, including the primary key column
+     * @return the schema
+     * @throws SQLException if the schema cannot be created
+     */
+    public static SyntheticSchema create(String databaseName, int tableCount, int columnCount)
+            throws SQLException {
+        SyntheticSchema schema = new SyntheticSchema("jdbc:hsqldb:mem:" + databaseName,
+                calculateTableNames(tableCount));
+
+        try (Connection connection = schema.openConnection(); Statement statement = connection.createStatement()) {
+            for (String tableName : schema.tableNames) {
+                statement.execute(createTableStatement(tableName, columnCount));
+            }
+        }
+
+        return schema;
+    }
+
+    private static List<String> calculateTableNames(int tableCount) {
+        List<String> answer = new ArrayList<>();
+        for (int i = 1; i <= tableCount; i++) {
+            answer.add(String.format("BENCH_TABLE_%04d", i));
+        }
+        return List.copyOf(answer);
+    }
+
+    private static String createTableStatement(String tableName, int columnCount) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("create table ");
+        sb.append(tableName);
+        sb.append(" (ID INTEGER NOT NULL");
+        for (int i = 1; i < columnCount; i++) {
+            sb.append(", COLUMN_");
+            sb.append(i);
+            sb.append(' ');
+            sb.append(COLUMN_TYPES[i % COLUMN_TYPES.length]);
+        }
+        sb.append(", primary key (ID))");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.exception.MergeException;
+import org.mybatis.generator.merge.xml.XmlFileMergerJaxp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures merging of regenerated XML mapper files into existing files. The existing files are the generated files
+ * with a hand-written statement added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlMergeBenchmark {
+    private static final int TABLE_COUNT = 3;
+    private static final int COLUMN_COUNT = 30;
+
+    private Path directory;
+    private final List<String> newSources = new ArrayList<>();
+    private final List<File> existingFiles = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Exception {
+        SyntheticSchema schema = SyntheticSchema.create("xml_merge", TABLE_COUNT, COLUMN_COUNT);
+        Context context;
+        MyBatisGenerator generator;
+        try {
+            context = BenchmarkConfigurations.createContext("xmlMerge", KnownRuntime.MYBATIS3, schema, List.of());
+            generator = BenchmarkConfigurations.generate(BenchmarkConfigurations.createConfiguration(context));
+        } finally {
+            schema.shutdown();
+        }
+
+        DefaultXmlFormatter xmlFormatter = new DefaultXmlFormatter();
+        xmlFormatter.setContext(context);
+        xmlFormatter.setIndenter(Indenter.defaultIndenter());
+
+        directory = Files.createTempDirectory("mbg-xml-merge-benchmark");
+        for (GeneratedXmlFile xmlFile : generator.getGeneratedXmlFiles()) {
+            String source = xmlFormatter.getFormattedContent(xmlFile.getDocument());
+            Path existingFile = directory.resolve(xmlFile.getFileName());
+            Files.writeString(existingFile, addCustomStatement(source));
+            newSources.add(source);
+            existingFiles.add(existingFile.toFile());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        for (File existingFile : existingFiles) {
+            Files.deleteIfExists(existingFile.toPath());
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void mergeXmlFiles(Blackhole blackhole) throws MergeException {
+        for (int i = 0; i < newSources.size(); i++) {
+            blackhole.consume(XmlFileMergerJaxp.getMergedSource(newSources.get(i), existingFiles.get(i)));
+        }
+    }
+
+    private static String addCustomStatement(String source) {
+        int index = source.lastIndexOf("</mapper>");
+        return source.substring(0, index)
+                + "  <select id=\"customSelect\" resultType=\"java.lang.Integer\">\n"
+                + "    select count(*) from BENCH_TABLE_0001\n"
+                + "  </select>\n"
+                + source.substring(index);
+    }
+}
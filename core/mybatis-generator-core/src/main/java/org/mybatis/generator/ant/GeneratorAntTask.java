@@ -79,6 +79,16 @@ import org.mybatis.generator.internal.DefaultShellCallback;
  *         false (default), then existing Java files will be untouched and the generator
  *         will write new Java files with a unique name
  *     </li>
+ *     <li>"parallelism" - the maximum number of tables that will be generated concurrently
+ *         in each context. Default is 1 (sequential generation)</li>
+ *     <li>"writeParallelism" - the number of threads that format and write generated files.
+ *         Default is 1 (files are written sequentially after generation is complete)</li>
+ *     <li>"streaming" - if true, then the files for each table are written as soon as the table
+ *         is generated, and are not kept in memory afterwards. Default is false</li>
+ *     <li>"atomicWrite" - if true, then each generated file is written to a temporary file and
+ *         moved into place, so an interrupted run never leaves a partially written file. Default is false</li>
+ *     <li>"compareBeforeWrite" - if true, then generated files are compared with existing files
+ *         and files with identical content are not written. Default is false</li>
  * </ul>
  *
  *
@@ -93,6 +103,11 @@ public class GeneratorAntTask extends Task {
     private @Nullable String contextIds;
     private @Nullable String fullyQualifiedTableNames;
     private boolean javaMergeEnabled;
+    private int parallelism = 1;
+    private int writeParallelism = 1;
+    private boolean compareBeforeWrite;
+    private boolean streaming;
+    private boolean atomicWrite;
 
     @Override
     public void execute() {
@@ -116,9 +131,19 @@ public class GeneratorAntTask extends Task {
                     .withFullyQualifiedTableNames(fullyQualifiedTables)
                     .withJavaFileMergeEnabled(javaMergeEnabled)
                     .withOverwriteEnabled(overwrite)
+                    .withCompareBeforeWriteEnabled(compareBeforeWrite)
+                    .withStreamingEnabled(streaming)
+                    .withAtomicWriteEnabled(atomicWrite)
+                    .withParallelism(parallelism)
+                    .withWriteParallelism(writeParallelism)
                     .build();
 
             warnings.addAll(myBatisGenerator.generateAndWrite());
+            if (compareBeforeWrite) {
+                log(getString("Progress.19", //$NON-NLS-1$
+                        Integer.toString(myBatisGenerator.getNumberOfWrittenFiles()),
+                        Integer.toString(myBatisGenerator.getNumberOfUnchangedFiles())));
+            }
         } catch (XMLParserException | InvalidConfigurationException e) {
             for (String error : e.getExtraMessages()) {
                 log(error, Project.MSG_ERR);
@@ -213,4 +238,44 @@ public class GeneratorAntTask extends Task {
     public void setJavaMergeEnabled(boolean javaMergeEnabled) {
         this.javaMergeEnabled = javaMergeEnabled;
     }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getWriteParallelism() {
+        return writeParallelism;
+    }
+
+    public void setWriteParallelism(int writeParallelism) {
+        this.writeParallelism = writeParallelism;
+    }
+
+    public boolean isCompareBeforeWrite() {
+        return compareBeforeWrite;
+    }
+
+    public void setCompareBeforeWrite(boolean compareBeforeWrite) {
+        this.compareBeforeWrite = compareBeforeWrite;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public boolean isAtomicWrite() {
+        return atomicWrite;
+    }
+
+    public void setAtomicWrite(boolean atomicWrite) {
+        this.atomicWrite = atomicWrite;
+    }
 }
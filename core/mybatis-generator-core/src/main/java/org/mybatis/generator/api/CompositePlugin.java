@@ -49,6 +49,16 @@ public abstract class CompositePlugin implements Plugin {
         plugins.add(plugin);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return plugins.stream().allMatch(Plugin::isThreadSafe);
+    }
+
+    @Override
+    public boolean supportsIncrementalGeneration() {
+        return plugins.stream().allMatch(Plugin::supportsIncrementalGeneration);
+    }
+
     @Override
     public void initialized(IntrospectedTable introspectedTable) {
         for (Plugin plugin : plugins) {
@@ -0,0 +1,52 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.io.IOException;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Receives generated files from {@link MyBatisGenerator#generateToSink(GeneratedFileSink)}. Each file is
+ * formatted and passed to the sink as soon as the table it belongs to has been generated. The generator does not
+ * keep a reference to the file afterwards, so memory use is bounded by the size of the largest table rather than
+ * the size of the whole schema.
+ *
+ * <p>Files are passed to the sink on the thread that called the generator, in the same order that
+ * {@link MyBatisGenerator#generateAndWrite()} would write them.
+ */
+@FunctionalInterface
+public interface GeneratedFileSink {
+
+    /**
+     * Called once for every generated file.
+     *
+     * @param generatedFile
+     *            the generated file. Implementations should not keep a reference to this object, or to the DOM it
+     *            contains, if memory use is a concern
+     * @param content
+     *            the formatted content of the file
+     * @param fileEncoding
+     *            the encoding configured for the file, or null if the platform default encoding should be used
+     * @throws IOException
+     *             if the file cannot be saved. Generation will stop, and the exception will be thrown from
+     *             generateToSink()
+     * @throws InterruptedException
+     *             if generation should be canceled
+     */
+    void accept(GeneratedFile generatedFile, String content, @Nullable String fileEncoding)
+            throws IOException, InterruptedException;
+}
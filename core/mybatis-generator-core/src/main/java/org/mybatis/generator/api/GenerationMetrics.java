@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wall time and allocation metrics for a generation run. Metrics are collected only if they are enabled with
+ * {@link MyBatisGenerator.Builder#withMetricsEnabled(boolean)}, and are available from
+ * {@link MyBatisGenerator#getGenerationMetrics()} after one of the generate methods returns.
+ *
+ * <p>Every measurement is taken on the thread that does the work, so when tables are generated or files are
+ * written on several threads the times of a phase are summed over the threads, and may be greater than the
+ * elapsed time of the run. Allocated bytes are only measured if the JVM supports thread allocation measurement
+ * (see {@link #allocationsMeasured()}) - otherwise they are always zero.
+ *
+ * <p>New XML and Kotlin files are formatted while they are written to disk, so formatting them is measured as part
+ * of the write phase rather than the formatting phase.
+ *
+ * @param elapsedNanos the wall time of the run
+ * @param allocatedBytes the bytes allocated by the thread that ran the generator
+ * @param allocationsMeasured true if the JVM supports measuring allocated bytes
+ * @param phases totals for every phase over all contexts
+ * @param contexts metrics for every context, in the order the contexts were run
+ */
+public record GenerationMetrics(long elapsedNanos, long allocatedBytes, boolean allocationsMeasured,
+                                Map<Phase, Measurement> phases, List<ContextMetrics> contexts) {
+    public GenerationMetrics {
+        phases = copyPhases(phases);
+        contexts = List.copyOf(contexts);
+    }
+
+    private static Map<Phase, Measurement> copyPhases(Map<Phase, Measurement> phases) {
+        // the EnumMap copy constructor cannot be used because it fails with an empty map
+        Map<Phase, Measurement> copy = new EnumMap<>(Phase.class);
+        copy.putAll(phases);
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * The phases of a generation run.
+     */
+    public enum Phase {
+        CONFIGURATION_VALIDATION("configurationValidation"), //$NON-NLS-1$
+        PLUGIN_INITIALIZATION("pluginInitialization"), //$NON-NLS-1$
+        INTROSPECTION("introspection"), //$NON-NLS-1$
+        RUNTIME_CONSTRUCTION("runtimeConstruction"), //$NON-NLS-1$
+        GENERATION("generation"), //$NON-NLS-1$
+        FORMATTING("formatting"), //$NON-NLS-1$
+        MERGE("merge"), //$NON-NLS-1$
+        WRITE("write"); //$NON-NLS-1$
+
+        private final String alias;
+
+        Phase(String alias) {
+            this.alias = alias;
+        }
+
+        public String getAlias() {
+            return alias;
+        }
+    }
+
+    /**
+     * The accumulated cost of repeated units of work - for example every call of a plugin hook.
+     *
+     * @param count the number of times the work was done
+     * @param elapsedNanos the total wall time
+     * @param allocatedBytes the total bytes allocated
+     */
+    public record Measurement(long count, long elapsedNanos, long allocatedBytes) {
+        public static final Measurement NONE = new Measurement(0, 0, 0);
+
+        public Measurement plus(Measurement other) {
+            return new Measurement(count + other.count, elapsedNanos + other.elapsedNanos,
+                    allocatedBytes + other.allocatedBytes);
+        }
+    }
+
+    /**
+     * Metrics for a single context.
+     *
+     * @param contextId the id of the context
+     * @param phases the phases of the context. Configuration validation is not measured per context
+     * @param tables the generation of every table in the context, keyed and sorted by the fully qualified
+     *     table name
+     * @param pluginHooks the calls of every plugin in the context, keyed by the plugin type and then by the
+     *     plugin method name. Both levels are sorted by name
+     */
+    public record ContextMetrics(String contextId, Map<Phase, Measurement> phases, Map<String, Measurement> tables,
+                                 Map<String, Map<String, Measurement>> pluginHooks) {
+        public ContextMetrics {
+            phases = copyPhases(phases);
+            tables = Collections.unmodifiableMap(new LinkedHashMap<>(tables));
+            Map<String, Map<String, Measurement>> copy = new LinkedHashMap<>();
+            pluginHooks.forEach((k, v) -> copy.put(k, Collections.unmodifiableMap(new LinkedHashMap<>(v))));
+            pluginHooks = Collections.unmodifiableMap(copy);
+        }
+    }
+}
@@ -169,6 +169,13 @@ public class IntrospectedColumn {
     public void setActualColumnName(String actualColumnName) {
         this.actualColumnName = actualColumnName;
         isColumnNameDelimited = StringUtility.stringContainsSpace(actualColumnName);
+        columnChanged();
+    }
+
+    private void columnChanged() {
+        if (introspectedTable != null) {
+            introspectedTable.columnChanged();
+        }
     }
 
     public boolean isIdentity() {
@@ -236,6 +243,7 @@ public class IntrospectedColumn {
 
     public void setColumnNameDelimited(boolean isColumnNameDelimited) {
         this.isColumnNameDelimited = isColumnNameDelimited;
+        columnChanged();
     }
 
     public boolean isColumnNameDelimited() {
@@ -248,6 +256,7 @@ public class IntrospectedColumn {
 
     public void setJdbcTypeName(@Nullable String jdbcTypeName) {
         this.jdbcTypeName = jdbcTypeName;
+        columnChanged();
     }
 
     public FullyQualifiedJavaType getFullyQualifiedJavaType() {
@@ -256,6 +265,7 @@ public class IntrospectedColumn {
 
     public void setFullyQualifiedJavaType(FullyQualifiedJavaType fullyQualifiedJavaType) {
         this.fullyQualifiedJavaType = fullyQualifiedJavaType;
+        columnChanged();
     }
 
     public Optional<String> getTableAlias() {
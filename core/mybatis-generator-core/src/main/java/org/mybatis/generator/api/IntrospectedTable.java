@@ -15,11 +15,15 @@
  */
 package org.mybatis.generator.api;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -28,6 +32,7 @@ import org.mybatis.generator.internal.rules.ConditionalModelRules;
 import org.mybatis.generator.internal.rules.FlatModelRules;
 import org.mybatis.generator.internal.rules.HierarchicalModelRules;
 import org.mybatis.generator.internal.rules.Rules;
+import org.mybatis.generator.internal.util.ColumnNameIndex;
 
 /**
  * This class holds the results of database introspection - namely the different columns associated with the table.
@@ -37,9 +42,17 @@ import org.mybatis.generator.internal.rules.Rules;
  * @author Jeff Butler
  */
 public class IntrospectedTable extends CodeGenerationAttributes {
-    protected final List<IntrospectedColumn> primaryKeyColumns = new ArrayList<>();
-    protected final List<IntrospectedColumn> baseColumns = new ArrayList<>();
-    protected final List<IntrospectedColumn> blobColumns = new ArrayList<>();
+    protected final List<IntrospectedColumn> primaryKeyColumns = new ColumnList();
+    protected final List<IntrospectedColumn> baseColumns = new ColumnList();
+    protected final List<IntrospectedColumn> blobColumns = new ColumnList();
+
+    /**
+     * Name index and views over all columns. These are rebuilt when they are requested after any of the column
+     * lists, or the name or type of any column in the table, has changed.
+     */
+    private volatile @Nullable ColumnIndex columnIndex;
+    private volatile @Nullable ColumnViews columnViews;
+    private volatile int columnChanges;
 
     /**
      * Table remarks retrieved from database metadata.
@@ -58,18 +71,39 @@ public class IntrospectedTable extends CodeGenerationAttributes {
     }
 
     public Optional<IntrospectedColumn> getColumn(String columnName) {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream(), blobColumns.stream())
-                .flatMap(Function.identity())
-                .filter(ic -> columnMatches(ic, columnName))
-                .findFirst();
+        return columnIndex().names().get(columnName);
     }
 
-    private boolean columnMatches(IntrospectedColumn introspectedColumn, String columnName) {
-        if (introspectedColumn.isColumnNameDelimited()) {
-            return introspectedColumn.getActualColumnName().equals(columnName);
-        } else {
-            return introspectedColumn.getActualColumnName().equalsIgnoreCase(columnName);
+    private ColumnIndex columnIndex() {
+        int version = columnsVersion();
+        ColumnIndex index = columnIndex;
+        if (index == null || index.version() != version) {
+            index = ColumnIndex.of(version, primaryKeyColumns, baseColumns, blobColumns);
+            columnIndex = index;
+        }
+        return index;
+    }
+
+    private int columnsVersion() {
+        return ((ColumnList) primaryKeyColumns).version() + ((ColumnList) baseColumns).version()
+                + ((ColumnList) blobColumns).version() + columnChanges;
+    }
+
+    /**
+     * Called by columns in this table when their name, whether their name is delimited, or their type changes.
+     */
+    void columnChanged() {
+        columnChanges++;
+    }
+
+    private ColumnViews columnViews() {
+        int version = columnsVersion();
+        ColumnViews views = columnViews;
+        if (views == null || views.version() != version) {
+            views = ColumnViews.of(version, primaryKeyColumns, baseColumns, blobColumns);
+            columnViews = views;
         }
+        return views;
     }
 
     /**
@@ -79,9 +113,7 @@ public class IntrospectedTable extends CodeGenerationAttributes {
      * @return true if the table contains DATE columns
      */
     public boolean hasJDBCDateColumns() {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream())
-                .flatMap(Function.identity())
-                .anyMatch(IntrospectedColumn::isJDBCDateColumn);
+        return columnViews().hasJDBCDateColumns();
     }
 
     /**
@@ -91,9 +123,7 @@ public class IntrospectedTable extends CodeGenerationAttributes {
      * @return true if the table contains TIME columns
      */
     public boolean hasJDBCTimeColumns() {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream())
-                .flatMap(Function.identity())
-                .anyMatch(IntrospectedColumn::isJDBCTimeColumn);
+        return columnViews().hasJDBCTimeColumns();
     }
 
     /**
@@ -119,23 +149,19 @@ public class IntrospectedTable extends CodeGenerationAttributes {
      * Returns all columns in the table (for use by the select by primary key and
      * select by example with BLOBs methods).
      *
-     * @return a List of ColumnDefinition objects for all columns in the table
+     * @return an unmodifiable List of ColumnDefinition objects for all columns in the table
      */
     public List<IntrospectedColumn> getAllColumns() {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream(), blobColumns.stream())
-                .flatMap(Function.identity())
-                .toList();
+        return columnViews().allColumns();
     }
 
     /**
      * Returns all columns except BLOBs (for use by the select by example without BLOBs method).
      *
-     * @return a List of ColumnDefinition objects for columns in the table that are non BLOBs
+     * @return an unmodifiable List of ColumnDefinition objects for columns in the table that are non BLOBs
      */
     public List<IntrospectedColumn> getNonBLOBColumns() {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream())
-                .flatMap(Function.identity())
-                .toList();
+        return columnViews().nonBLOBColumns();
     }
 
     public int getColumnCount() {
@@ -147,9 +173,7 @@ public class IntrospectedTable extends CodeGenerationAttributes {
     }
 
     public List<IntrospectedColumn> getNonPrimaryKeyColumns() {
-        return Stream.of(baseColumns.stream(), blobColumns.stream())
-                .flatMap(Function.identity())
-                .toList();
+        return columnViews().nonPrimaryKeyColumns();
     }
 
     public List<IntrospectedColumn> getBLOBColumns() {
@@ -179,31 +203,36 @@ public class IntrospectedTable extends CodeGenerationAttributes {
     }
 
     public void addPrimaryKeyColumn(String columnName) {
-        boolean found = false;
-        // first search base columns
-        Iterator<IntrospectedColumn> iter = baseColumns.iterator();
+        ColumnIndex index = columnIndex();
+        if (index.hasCollisions()) {
+            // more than one column could have this name, so search in the order the columns were found
+            if (!moveToPrimaryKey(baseColumns, columnName)) {
+                // search blob columns in the weird event that a blob is the primary key
+                moveToPrimaryKey(blobColumns, columnName);
+            }
+            return;
+        }
+
+        IntrospectedColumn introspectedColumn = index.actualNames().get(columnName);
+        if (introspectedColumn != null
+                && (baseColumns.remove(introspectedColumn) || blobColumns.remove(introspectedColumn))) {
+            primaryKeyColumns.add(introspectedColumn);
+            // the same columns have the same names, so the index is still good
+            columnIndex = index.withVersion(columnsVersion());
+        }
+    }
+
+    private boolean moveToPrimaryKey(List<IntrospectedColumn> columns, String columnName) {
+        Iterator<IntrospectedColumn> iter = columns.iterator();
         while (iter.hasNext()) {
             IntrospectedColumn introspectedColumn = iter.next();
             if (introspectedColumn.getActualColumnName().equals(columnName)) {
                 primaryKeyColumns.add(introspectedColumn);
                 iter.remove();
-                found = true;
-                break;
-            }
-        }
-
-        // search blob columns in the weird event that a blob is the primary key
-        if (!found) {
-            iter = blobColumns.iterator();
-            while (iter.hasNext()) {
-                IntrospectedColumn introspectedColumn = iter.next();
-                if (introspectedColumn.getActualColumnName().equals(columnName)) {
-                    primaryKeyColumns.add(introspectedColumn);
-                    iter.remove();
-                    break;
-                }
+                return true;
             }
         }
+        return false;
     }
 
     public Optional<String> getRemarks() {
@@ -245,4 +274,94 @@ public class IntrospectedTable extends CodeGenerationAttributes {
             return this;
         }
     }
+
+    /**
+     * A list of columns that can tell when it has been changed. Every add, remove, or replacement of a column
+     * changes the version. Structural changes also update modCount, so iterators over the list are fail-fast.
+     */
+    private static class ColumnList extends AbstractList<IntrospectedColumn> implements RandomAccess {
+        private final List<IntrospectedColumn> columns = new ArrayList<>();
+        private int version;
+
+        @Override
+        public IntrospectedColumn get(int index) {
+            return columns.get(index);
+        }
+
+        @Override
+        public int size() {
+            return columns.size();
+        }
+
+        @Override
+        public IntrospectedColumn set(int index, IntrospectedColumn element) {
+            version++;
+            return columns.set(index, element);
+        }
+
+        @Override
+        public void add(int index, IntrospectedColumn element) {
+            modCount++;
+            version++;
+            columns.add(index, element);
+        }
+
+        @Override
+        public IntrospectedColumn remove(int index) {
+            modCount++;
+            version++;
+            return columns.remove(index);
+        }
+
+        private int version() {
+            return version;
+        }
+    }
+
+    private record ColumnIndex(int version, ColumnNameIndex<IntrospectedColumn> names,
+                               Map<String, IntrospectedColumn> actualNames, boolean hasCollisions) {
+
+        @SafeVarargs
+        static ColumnIndex of(int version, List<IntrospectedColumn>... columnLists) {
+            ColumnNameIndex<IntrospectedColumn> names = new ColumnNameIndex<>();
+            Map<String, IntrospectedColumn> actualNames = new HashMap<>();
+            boolean hasCollisions = false;
+            for (List<IntrospectedColumn> columns : columnLists) {
+                for (IntrospectedColumn column : columns) {
+                    names.add(column.getActualColumnName(), column.isColumnNameDelimited(), column);
+                    if (actualNames.putIfAbsent(column.getActualColumnName(), column) != null) {
+                        hasCollisions = true;
+                    }
+                }
+            }
+            return new ColumnIndex(version, names, actualNames, hasCollisions || names.hasCollisions());
+        }
+
+        ColumnIndex withVersion(int version) {
+            return new ColumnIndex(version, names, actualNames, hasCollisions);
+        }
+    }
+
+    private record ColumnViews(int version, List<IntrospectedColumn> allColumns,
+                               List<IntrospectedColumn> nonBLOBColumns, List<IntrospectedColumn> nonPrimaryKeyColumns,
+                               boolean hasJDBCDateColumns, boolean hasJDBCTimeColumns) {
+
+        static ColumnViews of(int version, List<IntrospectedColumn> primaryKeyColumns,
+                              List<IntrospectedColumn> baseColumns, List<IntrospectedColumn> blobColumns) {
+            List<IntrospectedColumn> nonBLOBColumns = concat(primaryKeyColumns, baseColumns);
+            return new ColumnViews(version,
+                    concat(nonBLOBColumns, blobColumns),
+                    nonBLOBColumns,
+                    concat(baseColumns, blobColumns),
+                    nonBLOBColumns.stream().anyMatch(IntrospectedColumn::isJDBCDateColumn),
+                    nonBLOBColumns.stream().anyMatch(IntrospectedColumn::isJDBCTimeColumn));
+        }
+
+        private static List<IntrospectedColumn> concat(List<IntrospectedColumn> first,
+                                                       List<IntrospectedColumn> second) {
+            return Stream.of(first.stream(), second.stream())
+                    .flatMap(Function.identity())
+                    .toList();
+        }
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Timing and volume metrics for the introspection of all tables in a context. Metrics are collected only
+ * if an {@link IntrospectionMetricsListener} is supplied to the generator, or if the context specifies an
+ * "introspectionMetricsFile".
+ *
+ * <p>All times are wall clock times in nanoseconds. Metadata calls are counted at the boundary of the
+ * metadata source - so with the "prefetch" or "catalogViews" introspection strategies most calls are
+ * answered from previously fetched metadata, and the time of the database round trip is reported for the
+ * first table in each schema.
+ *
+ * @param contextId the id of the context
+ * @param elapsedNanos the time spent introspecting the context, including connecting to the database
+ * @param tables metrics for every table configuration in the context, in configuration order
+ */
+public record IntrospectionMetrics(String contextId, long elapsedNanos, List<TableMetrics> tables) {
+    public IntrospectionMetrics {
+        tables = List.copyOf(tables);
+    }
+
+    public CallMetrics columnsCalls() {
+        return total(TableMetrics::columnsCalls);
+    }
+
+    public CallMetrics primaryKeysCalls() {
+        return total(TableMetrics::primaryKeysCalls);
+    }
+
+    public CallMetrics tablesCalls() {
+        return total(TableMetrics::tablesCalls);
+    }
+
+    public int metadataCalls() {
+        return tables.stream().mapToInt(TableMetrics::metadataCalls).sum();
+    }
+
+    public int typeResolutionFallbacks() {
+        return tables.stream().mapToInt(TableMetrics::typeResolutionFallbacks).sum();
+    }
+
+    private CallMetrics total(Function<TableMetrics, CallMetrics> calls) {
+        return tables.stream().map(calls).reduce(CallMetrics.NONE, CallMetrics::plus);
+    }
+
+    /**
+     * Metrics for the introspection of a single table configuration. A table configuration with wildcards may
+     * introspect several tables.
+     *
+     * @param catalog the catalog in the table configuration, if any
+     * @param schema the schema in the table configuration, if any
+     * @param tableName the table name in the table configuration
+     * @param elapsedNanos the time spent introspecting the table configuration
+     * @param introspectedTables the number of tables introspected for the table configuration
+     * @param columnsCalls metrics for the column metadata calls
+     * @param primaryKeysCalls metrics for the primary key metadata calls
+     * @param tablesCalls metrics for the table metadata calls
+     * @param typeResolutionFallbacks the number of columns whose Java type could not be resolved and that
+     *     fell back to {@code java.lang.Object}
+     */
+    public record TableMetrics(@Nullable String catalog, @Nullable String schema, String tableName,
+                               long elapsedNanos, int introspectedTables, CallMetrics columnsCalls,
+                               CallMetrics primaryKeysCalls, CallMetrics tablesCalls, int typeResolutionFallbacks) {
+        public int metadataCalls() {
+            return columnsCalls.calls() + primaryKeysCalls.calls() + tablesCalls.calls();
+        }
+
+        public long metadataNanos() {
+            return columnsCalls.elapsedNanos() + primaryKeysCalls.elapsedNanos() + tablesCalls.elapsedNanos();
+        }
+    }
+
+    /**
+     * Metrics for one kind of metadata call.
+     *
+     * @param calls the number of calls made to the metadata source
+     * @param rows the number of rows returned by the calls
+     * @param elapsedNanos the time spent in the calls
+     */
+    public record CallMetrics(int calls, long rows, long elapsedNanos) {
+        public static final CallMetrics NONE = new CallMetrics(0, 0, 0);
+
+        public CallMetrics plus(CallMetrics other) {
+            return new CallMetrics(calls + other.calls, rows + other.rows, elapsedNanos + other.elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+/**
+ * This interface can be implemented to receive timing and volume metrics from table introspection - for
+ * example to find the tables or schemas that are slow to introspect.
+ *
+ * <p>Methods are called on the thread that runs the generator, in configuration order, even if tables are
+ * introspected over several connections. For each context, <code>tableIntrospected</code> is called once for
+ * every table configuration and then <code>contextIntrospected</code> is called once with the totals.
+ */
+public interface IntrospectionMetricsListener {
+    /**
+     * Called after a table configuration has been introspected.
+     *
+     * @param contextId
+     *            the id of the context that holds the table configuration
+     * @param tableMetrics
+     *            the metrics for the table configuration
+     */
+    default void tableIntrospected(String contextId, IntrospectionMetrics.TableMetrics tableMetrics) {}
+
+    /**
+     * Called after all tables in a context have been introspected.
+     *
+     * @param metrics
+     *            the metrics for the context
+     */
+    default void contextIntrospected(IntrospectionMetrics metrics) {}
+}
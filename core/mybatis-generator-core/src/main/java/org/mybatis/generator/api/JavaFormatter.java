@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.config.Context;
 
@@ -35,4 +37,19 @@ public interface JavaFormatter {
     void setIndenter(Indenter indenter);
 
     String getFormattedContent(CompilationUnit compilationUnit);
+
+    /**
+     * Writes the formatted content of a compilation unit to an appendable. The content written must be the same as
+     * the content returned from {@link #getFormattedContent(CompilationUnit)}.
+     *
+     * <p>The default implementation appends the formatted content. Formatters can override this method
+     * to write to the appendable directly, without building the content as a string first.
+     *
+     * @param compilationUnit the compilation unit to format
+     * @param appendable where the formatted content is written
+     * @throws IOException if the appendable throws an IOException
+     */
+    default void format(CompilationUnit compilationUnit, Appendable appendable) throws IOException {
+        appendable.append(getFormattedContent(compilationUnit));
+    }
 }
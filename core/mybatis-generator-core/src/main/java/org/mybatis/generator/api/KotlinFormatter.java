@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.kotlin.KotlinFile;
 import org.mybatis.generator.config.Context;
 
@@ -33,4 +35,19 @@ public interface KotlinFormatter {
     void setContext(Context context);
 
     String getFormattedContent(KotlinFile kotlinFile);
+
+    /**
+     * Writes the formatted content of a Kotlin file to an appendable. The content written must be the same as
+     * the content returned from {@link #getFormattedContent(KotlinFile)}.
+     *
+     * <p>The default implementation appends the formatted content. Formatters can override this method
+     * to write to the appendable directly, without building the content as a string first.
+     *
+     * @param kotlinFile the Kotlin file to format
+     * @param appendable where the formatted content is written
+     * @throws IOException if the appendable throws an IOException
+     */
+    default void format(KotlinFile kotlinFile, Appendable appendable) throws IOException {
+        appendable.append(getFormattedContent(kotlinFile));
+    }
 }
@@ -19,29 +19,33 @@ import static org.mybatis.generator.internal.util.ClassloaderUtility.getCustomCl
 import static org.mybatis.generator.internal.util.StringUtility.mapStringValueOrElseGet;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.GenerationMetrics.Phase;
 import org.mybatis.generator.codegen.CalculatedContextValues;
 import org.mybatis.generator.codegen.GenerationEngine;
+import org.mybatis.generator.codegen.GenerationMetricsCollector;
 import org.mybatis.generator.codegen.GenerationResults;
+import org.mybatis.generator.codegen.GenerationResultsConsumer;
+import org.mybatis.generator.codegen.GenerationSession;
 import org.mybatis.generator.codegen.IntrospectionEngine;
-import org.mybatis.generator.codegen.RootClassInfo;
+import org.mybatis.generator.codegen.SchemaFingerprints;
+import org.mybatis.generator.codegen.SynchronizedProgressCallback;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.IndentationConfiguration;
@@ -51,7 +55,8 @@ import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.MergeException;
 import org.mybatis.generator.exception.ShellException;
 import org.mybatis.generator.internal.DefaultShellCallback;
-import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.util.BoundedTaskPipeline;
+import org.mybatis.generator.internal.util.ChannelFileWriter;
 import org.mybatis.generator.merge.java.JavaFileMerger;
 import org.mybatis.generator.merge.java.JavaMergerFactory;
 import org.mybatis.generator.merge.xml.XmlFileMergerJaxp;
@@ -70,22 +75,41 @@ import org.mybatis.generator.merge.xml.XmlFileMergerJaxp;
  * @see org.mybatis.generator.config.xml.ConfigurationParser
  */
 public class MyBatisGenerator {
+    private static final int PIPELINE_CAPACITY_PER_THREAD = 4;
+
     private final Configuration configuration;
     private final ShellCallback shellCallback;
     private final ProgressCallback progressCallback;
+    private final @Nullable IntrospectionMetricsListener introspectionMetricsListener;
     private final Set<String> contextIds;
     private final Set<String> fullyQualifiedTableNames;
     private final JavaFileMerger javaFileMerger;
     private final boolean isOverwriteEnabled;
+    private final boolean isCompareBeforeWriteEnabled;
+    private final boolean isStreamingEnabled;
     private final boolean isJavaFileMergeEnabled;
+    // files may be written on pipeline threads, and file writers are not thread safe
+    private final ThreadLocal<ChannelFileWriter> fileWriters;
     private final Indenter indenter;
+    private final int parallelism;
+    private final int writeParallelism;
+    private final boolean isMetricsEnabled;
 
     private final List<GenerationResults> generationResultsList = new ArrayList<>();
+    private final List<SchemaFingerprints> schemaFingerprintsList = new ArrayList<>();
+    private int numberOfWrittenFiles;
+    private int numberOfUnchangedFiles;
+    private GenerationMetricsCollector metricsCollector = GenerationMetricsCollector.disabled();
+    private @Nullable GenerationMetrics generationMetrics;
 
     private MyBatisGenerator(Builder builder) {
         configuration = Objects.requireNonNull(builder.configuration, getString("RuntimeError.2")); //$NON-NLS-1$
         shellCallback = Objects.requireNonNullElseGet(builder.shellCallback, DefaultShellCallback::new);
-        progressCallback = Objects.requireNonNullElseGet(builder.progressCallback, () -> new ProgressCallback() {});
+        writeParallelism = builder.writeParallelism;
+        ProgressCallback callback = Objects.requireNonNullElseGet(builder.progressCallback,
+                () -> new ProgressCallback() {});
+        progressCallback = writeParallelism > 1 ? new SynchronizedProgressCallback(callback) : callback;
+        introspectionMetricsListener = builder.introspectionMetricsListener;
         fullyQualifiedTableNames = builder.fullyQualifiedTableNames;
         contextIds = builder.contextIds;
         indenter = configuration.getIndentationConfiguration()
@@ -103,6 +127,12 @@ public class MyBatisGenerator {
         }
 
         isOverwriteEnabled = builder.isOverwriteEnabled;
+        isCompareBeforeWriteEnabled = builder.isCompareBeforeWriteEnabled;
+        isStreamingEnabled = builder.isStreamingEnabled;
+        boolean isAtomicWriteEnabled = builder.isAtomicWriteEnabled;
+        fileWriters = ThreadLocal.withInitial(() -> new ChannelFileWriter(isAtomicWriteEnabled));
+        parallelism = builder.parallelism;
+        isMetricsEnabled = builder.isMetricsEnabled;
     }
 
     /**
@@ -122,7 +152,50 @@ public class MyBatisGenerator {
     public List<String> generateOnly() throws SQLException, InterruptedException,
             InvalidConfigurationException {
         List<String> warnings = new ArrayList<>();
-        generateFiles(warnings);
+        List<GenerationEngine> generationEngines = prepareGeneration(warnings, false);
+        runGenerationEngines(generationEngines);
+        finishMetrics();
+        progressCallback.done();
+        return warnings;
+    }
+
+    /**
+     * This is one of the main methods for generating code. This method is long-running, but progress can be provided
+     * and the method can be canceled through the ProgressCallback interface. This method will not write results to
+     * the disk. Instead, each generated file is formatted and passed to the sink as soon as the table it belongs to
+     * has been generated. Generated files are not retained, so the getGeneratedJavaFiles(), getGeneratedKotlinFiles(),
+     * getGeneratedXmlFiles(), and getGeneratedGenericFiles() methods will return empty lists after this method
+     * is called.
+     *
+     * <p>This method should be used instead of generateOnly() when the generated files for all tables will not fit
+     * in memory at the same time.
+     *
+     * @param sink
+     *            receives each generated file
+     * @return any warnings created during the generation process
+     * @throws SQLException
+     *             the SQL exception
+     * @throws IOException
+     *             if the sink throws an IOException
+     * @throws InterruptedException
+     *             if the method is canceled through the ProgressCallback
+     * @throws InvalidConfigurationException
+     *             if the specified configuration is invalid
+     */
+    public List<String> generateToSink(GeneratedFileSink sink) throws SQLException, IOException,
+            InterruptedException, InvalidConfigurationException {
+        List<String> warnings = new ArrayList<>();
+        List<GenerationEngine> generationEngines = prepareGeneration(warnings, false);
+        runGenerationEngines(generationEngines, false, generationResults -> {
+            for (PendingFile pendingFile : calculatePendingFiles(generationResults)) {
+                progressCallback.checkCancel();
+                String content = render(pendingFile);
+                GenerationMetricsCollector.Sample start = metricsCollector.start();
+                sink.accept(pendingFile.generatedFile(), content, pendingFile.encoding());
+                metricsCollector.record(pendingFile.contextId(), Phase.WRITE, start);
+            }
+        });
+        finishMetrics();
         progressCallback.done();
         return warnings;
     }
@@ -145,33 +218,59 @@ public class MyBatisGenerator {
     public List<String> generateAndWrite() throws SQLException, IOException, InterruptedException,
             InvalidConfigurationException {
         List<String> warnings = new ArrayList<>();
-        generateFiles(warnings);
-        writeGeneratedFiles(warnings);
+        List<GenerationEngine> generationEngines = prepareGeneration(warnings, true);
+        if (writeParallelism > 1) {
+            generateAndWriteFiles(generationEngines, warnings);
+        } else if (isStreamingEnabled) {
+            List<FileWriteResult> results = new ArrayList<>();
+            runGenerationEngines(generationEngines, true, generationResults -> {
+                for (PendingFile pendingFile : calculatePendingFiles(generationResults)) {
+                    results.add(writeFile(pendingFile));
+                }
+            });
+            completeWrite(results, warnings);
+        } else {
+            // results are kept for each table, so that files that are not written can be traced to their table
+            runGenerationEngines(generationEngines, false, generationResultsList::add);
+            writeGeneratedFiles(warnings);
+        }
+        writeSchemaFingerprints(warnings);
+        finishMetrics();
         progressCallback.done();
         return warnings;
     }
 
-    private void generateFiles(List<String> warnings) throws SQLException, InterruptedException,
-            InvalidConfigurationException {
+    private List<GenerationEngine> prepareGeneration(List<String> warnings, boolean isIncremental)
+            throws SQLException, InterruptedException, InvalidConfigurationException {
+        metricsCollector = isMetricsEnabled ? GenerationMetricsCollector.enabled()
+                : GenerationMetricsCollector.disabled();
+        generationMetrics = null;
+
+        GenerationMetricsCollector.Sample start = metricsCollector.start();
         configuration.validate();
+        metricsCollector.record(Phase.CONFIGURATION_VALIDATION, start);
         generationResultsList.clear();
-        ObjectFactory.reset();
-        RootClassInfo.reset();
+        schemaFingerprintsList.clear();
 
-        setupCustomClassloader();
+        GenerationSession generationSession = createGenerationSession();
         List<Context> contextsToRun = calculateContextsToRun();
         List<CalculatedContextValues> contextValuesList = calculateContextValues(contextsToRun, indenter,
-                warnings);
+                generationSession, warnings);
         List<ContextValuesAndTables> contextValuesAndTablesList = runAllIntrospections(contextValuesList, warnings);
-        List<GenerationEngine> generationEngines = createGenerationEngines(contextValuesAndTablesList, warnings);
-        runGenerationEngines(generationEngines);
+        if (isIncremental) {
+            contextValuesAndTablesList = contextValuesAndTablesList.stream()
+                    .map(c -> removeUnchangedTables(c, warnings))
+                    .toList();
+        }
+        return createGenerationEngines(contextValuesAndTablesList, warnings);
     }
 
-    private void setupCustomClassloader() {
+    private GenerationSession createGenerationSession() {
+        var builder = new GenerationSession.Builder();
         if (!configuration.getClassPathEntries().isEmpty()) {
-            ClassLoader classLoader = getCustomClassloader(configuration.getClassPathEntries());
-            ObjectFactory.addExternalClassLoader(classLoader);
+            builder.withExternalClassLoader(getCustomClassloader(configuration.getClassPathEntries()));
         }
+        return builder.build();
     }
 
     List<Context> calculateContextsToRun() {
@@ -188,18 +287,22 @@ public class MyBatisGenerator {
     }
 
     private List<CalculatedContextValues> calculateContextValues(List<Context> contextsToRun, Indenter indenter,
+                                                                 GenerationSession generationSession,
                                                                  List<String> warnings) {
         return contextsToRun.stream()
-                .map(c -> createContextValues(c, indenter, warnings))
+                .map(c -> createContextValues(c, indenter, generationSession, warnings))
                 .toList();
     }
 
     private CalculatedContextValues createContextValues(Context context, Indenter indenter,
+                                                        GenerationSession generationSession,
                                                         List<String> warnings) {
         return new CalculatedContextValues.Builder()
                 .withContext(context)
                 .withWarnings(warnings)
                 .withIndenter(indenter)
+                .withGenerationSession(generationSession)
+                .withMetricsCollector(metricsCollector)
                 .build();
     }
 
@@ -225,19 +328,54 @@ public class MyBatisGenerator {
                                                             CalculatedContextValues contextValues,
                                                             List<String> warnings)
             throws SQLException, InterruptedException {
+        String contextId = contextValues.context().getId();
+        GenerationMetricsCollector.Sample start = metricsCollector.start();
         List<IntrospectedTable> answer = new IntrospectionEngine.Builder()
                 .withContextValues(contextValues)
                 .withFullyQualifiedTableNames(fullyQualifiedTableNames)
                 .withWarnings(warnings)
                 .withProgressCallback(progressCallback)
+                .withMetricsListener(introspectionMetricsListener)
                 .build()
                 .introspectTables();
+        metricsCollector.record(contextId, Phase.INTROSPECTION, start);
 
+        start = metricsCollector.start();
         answer.forEach(t -> contextValues.pluginAggregator().initialized(t));
+        metricsCollector.record(contextId, Phase.PLUGIN_INITIALIZATION, start);
 
         return answer;
     }
 
+    /**
+     * Removes tables that have not changed since the previous run from a context configured for incremental
+     * generation. Unchanged tables are not generated, and none of their files are written.
+     */
+    private ContextValuesAndTables removeUnchangedTables(ContextValuesAndTables contextValuesAndTables,
+                                                         List<String> warnings) {
+        CalculatedContextValues contextValues = contextValuesAndTables.contextValues();
+        Context context = contextValues.context();
+        Optional<String> schemaFingerprintFile = context.getSchemaFingerprintFile();
+        if (schemaFingerprintFile.isEmpty()) {
+            return contextValuesAndTables;
+        }
+
+        if (!contextValues.pluginAggregator().supportsIncrementalGeneration()) {
+            warnings.add(getString("Warning.38", context.getId())); //$NON-NLS-1$
+            return contextValuesAndTables;
+        }
+
+        SchemaFingerprints schemaFingerprints = SchemaFingerprints.read(new File(schemaFingerprintFile.get()),
+                contextValues, warnings);
+        schemaFingerprintsList.add(schemaFingerprints);
+
+        List<IntrospectedTable> changedTables = contextValuesAndTables.introspectedTables().stream()
+                .filter(t -> !schemaFingerprints.isUnchanged(t))
+                .toList();
+
+        return new ContextValuesAndTables(contextValues, changedTables);
+    }
+
     private List<GenerationEngine> createGenerationEngines(List<ContextValuesAndTables> contextValuesAndTablesListList,
                                                            List<String> warnings) {
         return contextValuesAndTablesListList.stream()
@@ -252,6 +390,7 @@ public class MyBatisGenerator {
                 .withProgressCallback(progressCallback)
                 .withWarnings(warnings)
                 .withIntrospectedTables(contextValuesAndTables.introspectedTables())
+                .withParallelism(parallelism)
                 .build();
     }
 
@@ -262,37 +401,111 @@ public class MyBatisGenerator {
 
         // now run the generators
         for (GenerationEngine generationEngine: generationEngines) {
-            var generationResults = generationEngine.generate();
-            generationResultsList.add(generationResults);
+            generationResultsList.add(generationEngine.generate());
+        }
+    }
+
+    /**
+     * Runs the generators, passing the files generated for each table to the consumer as soon as they are available.
+     * The generated files are retained for the getGeneratedXXX() methods only if they are being written and
+     * streaming is not enabled.
+     */
+    private void runGenerationEngines(List<GenerationEngine> generationEngines, boolean isWriting,
+                                      GenerationResultsConsumer consumer) throws IOException, InterruptedException {
+        int totalSteps = generationEngines.stream().mapToInt(GenerationEngine::getGenerationSteps).sum();
+        progressCallback.generationStarted(totalSteps);
+        if (isWriting) {
+            // files are saved while generation is running. The number of generated files is not known yet,
+            // but every generation step produces (about) one file.
+            progressCallback.saveStarted(totalSteps);
+        }
+
+        boolean retainResults = isWriting && !isStreamingEnabled;
+        for (GenerationEngine generationEngine: generationEngines) {
+            generationEngine.generate(generationResults -> {
+                if (retainResults) {
+                    generationResultsList.add(generationResults);
+                }
+                consumer.accept(generationResults);
+            });
         }
     }
 
     private void writeGeneratedFiles(List<String> warnings) throws IOException, InterruptedException {
-        Set<String> projects = new HashSet<>();
         int totalSteps = generationResultsList.stream().mapToInt(GenerationResults::getNumberOfGeneratedFiles).sum();
         progressCallback.saveStarted(totalSteps);
 
+        List<FileWriteResult> results = new ArrayList<>();
         for (GenerationResults generationResults : generationResultsList) {
-            for (GeneratedXmlFile gxf : generationResults.generatedXmlFiles()) {
-                projects.add(gxf.getTargetProject());
-                writeGeneratedXmlFile(gxf, generationResults.xmlFormatter(), warnings);
+            for (PendingFile pendingFile : calculatePendingFiles(generationResults)) {
+                results.add(writeFile(pendingFile));
             }
+        }
 
-            for (GeneratedJavaFile gjf : generationResults.generatedJavaFiles()) {
-                projects.add(gjf.getTargetProject());
-                writeGeneratedJavaFile(gjf, generationResults.javaFormatter(), generationResults.javaFileEncoding(),
-                        warnings);
+        completeWrite(results, warnings);
+    }
+
+    /**
+     * Generates files and writes them on a pool of threads. Files are submitted for writing as soon as each table
+     * has been generated. Submission blocks when the pipeline is full, so generation cannot run too far ahead of
+     * writing.
+     */
+    private void generateAndWriteFiles(List<GenerationEngine> generationEngines, List<String> warnings)
+            throws IOException, InterruptedException {
+        try (BoundedTaskPipeline<FileWriteResult, IOException> pipeline = new BoundedTaskPipeline<>(
+                writeParallelism, writeParallelism * PIPELINE_CAPACITY_PER_THREAD, "mbg-write", //$NON-NLS-1$
+                IOException.class)) {
+            runGenerationEngines(generationEngines, true,
+                    generationResults -> submitFiles(generationResults, pipeline));
+            completeWrite(pipeline.finish(), warnings);
+        }
+    }
+
+    private void submitFiles(GenerationResults generationResults,
+                             BoundedTaskPipeline<FileWriteResult, IOException> pipeline) throws InterruptedException {
+        for (PendingFile pendingFile : calculatePendingFiles(generationResults)) {
+            GeneratedFile gf = pendingFile.generatedFile();
+            File directory;
+            try {
+                // shell callbacks are not expected to be thread safe, so directories are resolved on this thread
+                directory = shellCallback.getDirectory(gf.getTargetProject(), gf.getTargetPackage());
+            } catch (ShellException e) {
+                pipeline.addResult(FileWriteResult.notWritten(pendingFile, List.of(e.getMessage())));
+                continue;
             }
 
-            for (GeneratedKotlinFile gkf : generationResults.generatedKotlinFiles()) {
-                projects.add(gkf.getTargetProject());
-                writeGeneratedKotlinFile(gkf, generationResults.kotlinFormatter(),
-                        generationResults.kotlinFileEncoding(), warnings);
+            // files with the same name must be written in order (they may be merged, or given unique names)
+            pipeline.submit(directory.toPath().resolve(gf.getFileName()), () -> writeFile(pendingFile, directory));
+        }
+    }
+
+    private void completeWrite(List<FileWriteResult> results, List<String> warnings) {
+        Set<String> projects = new HashSet<>();
+        numberOfWrittenFiles = 0;
+        numberOfUnchangedFiles = 0;
+
+        for (FileWriteResult result : results) {
+            warnings.addAll(result.warnings());
+            switch (result.outcome()) {
+            case WRITTEN -> numberOfWrittenFiles++;
+            case UNCHANGED -> numberOfUnchangedFiles++;
+            case NOT_WRITTEN -> { }
             }
 
-            for (GenericGeneratedFile gf : generationResults.generatedGenericFiles()) {
-                projects.add(gf.getTargetProject());
-                writeGenericGeneratedFile(gf, warnings);
+            if (result.outcome() != FileWriteOutcome.UNCHANGED) {
+                projects.add(result.targetProject());
+            }
+
+            IntrospectedTable introspectedTable = result.introspectedTable();
+            Path file = result.file();
+            if (introspectedTable != null) {
+                if (file == null) {
+                    // the table must be generated again by the next run
+                    schemaFingerprintsList.forEach(f -> f.forget(introspectedTable));
+                } else {
+                    // the table must be generated again if the file is removed
+                    schemaFingerprintsList.forEach(f -> f.addGeneratedFile(introspectedTable, file));
+                }
             }
         }
 
@@ -301,60 +514,163 @@ public class MyBatisGenerator {
         }
     }
 
-    private void writeGeneratedJavaFile(GeneratedJavaFile gf, JavaFormatter javaFormatter,
-                                        @Nullable String javaFileEncoding, List<String> warnings)
-            throws InterruptedException, IOException {
-        String source = javaFormatter.getFormattedContent(gf.getCompilationUnit());
-        writeFile(source, javaFileEncoding, gf, warnings, isJavaFileMergeEnabled,
-                (newContent, existingContent) -> javaFileMerger.getMergedSource(newContent, existingContent,
-                        javaFileEncoding));
+    private void writeSchemaFingerprints(List<String> warnings) {
+        for (SchemaFingerprints schemaFingerprints : schemaFingerprintsList) {
+            try {
+                schemaFingerprints.write();
+            } catch (IOException e) {
+                warnings.add(getString("Warning.40", //$NON-NLS-1$
+                        schemaFingerprints.getFile().getPath(), e.getMessage()));
+            }
+        }
     }
 
-    private void writeGeneratedKotlinFile(GeneratedKotlinFile gf, KotlinFormatter kotlinFormatter,
-                                          @Nullable String kotlinFileEncoding, List<String> warnings)
-            throws InterruptedException, IOException {
-        String source = kotlinFormatter.getFormattedContent(gf.getKotlinFile());
-        writeFile(source, kotlinFileEncoding, gf, warnings, false, Merger.noMerge());
+    private void finishMetrics() {
+        if (metricsCollector.isEnabled()) {
+            generationMetrics = metricsCollector.finish();
+        }
     }
 
-    private void writeGenericGeneratedFile(GenericGeneratedFile gf, List<String> warnings)
-            throws InterruptedException, IOException {
-        String source = gf.getFormattedContent();
-        writeFile(source, gf.getFileEncoding().orElse(null), gf, warnings, false, Merger.noMerge());
+    private List<PendingFile> calculatePendingFiles(GenerationResults generationResults) {
+        List<PendingFile> answer = new ArrayList<>();
+        String contextId = generationResults.contextId();
+        IntrospectedTable introspectedTable = generationResults.introspectedTable().orElse(null);
+
+        XmlFormatter xmlFormatter = generationResults.xmlFormatter();
+        for (GeneratedXmlFile gf : generationResults.generatedXmlFiles()) {
+            answer.add(new PendingFile(contextId, introspectedTable, gf,
+                    () -> xmlFormatter.getFormattedContent(gf.getDocument()),
+                    appendable -> xmlFormatter.format(gf.getDocument(), appendable),
+                    "UTF-8", true, XmlFileMergerJaxp::getMergedSource)); //$NON-NLS-1$
+        }
+
+        JavaFormatter javaFormatter = generationResults.javaFormatter();
+        String javaFileEncoding = generationResults.javaFileEncoding();
+        for (GeneratedJavaFile gf : generationResults.generatedJavaFiles()) {
+            answer.add(new PendingFile(contextId, introspectedTable, gf,
+                    () -> javaFormatter.getFormattedContent(gf.getCompilationUnit()), null,
+                    javaFileEncoding, isJavaFileMergeEnabled,
+                    (newContent, existingContent) -> javaFileMerger.getMergedSource(newContent, existingContent,
+                            javaFileEncoding)));
+        }
+
+        KotlinFormatter kotlinFormatter = generationResults.kotlinFormatter();
+        String kotlinFileEncoding = generationResults.kotlinFileEncoding();
+        for (GeneratedKotlinFile gf : generationResults.generatedKotlinFiles()) {
+            answer.add(new PendingFile(contextId, introspectedTable, gf,
+                    () -> kotlinFormatter.getFormattedContent(gf.getKotlinFile()),
+                    appendable -> kotlinFormatter.format(gf.getKotlinFile(), appendable),
+                    kotlinFileEncoding, false, Merger.noMerge()));
+        }
+
+        for (GenericGeneratedFile gf : generationResults.generatedGenericFiles()) {
+            answer.add(new PendingFile(contextId, introspectedTable, gf, gf::getFormattedContent, null,
+                    gf.getFileEncoding().orElse(null), false, Merger.noMerge()));
+        }
+
+        return answer;
     }
 
-    private void writeGeneratedXmlFile(GeneratedXmlFile gf, XmlFormatter xmlFormatter, List<String> warnings)
-            throws InterruptedException, IOException {
-        String source = xmlFormatter.getFormattedContent(gf.getDocument());
-        writeFile(source, "UTF-8", gf, warnings, true, XmlFileMergerJaxp::getMergedSource); //$NON-NLS-1$
+    private FileWriteResult writeFile(PendingFile pendingFile) throws InterruptedException, IOException {
+        GeneratedFile gf = pendingFile.generatedFile();
+        try {
+            File directory = shellCallback.getDirectory(gf.getTargetProject(), gf.getTargetPackage());
+            return writeFile(pendingFile, directory);
+        } catch (ShellException e) {
+            return FileWriteResult.notWritten(pendingFile, List.of(e.getMessage()));
+        }
     }
 
-    private void writeFile(String content, @Nullable String encoding, GeneratedFile gf, List<String> warnings,
-                           boolean mergeEnabled, Merger merger)
+    /**
+     * Renders a generated file and writes it, merging with or renaming around an existing file as required.
+     * If there is no existing file, and the file can be written directly, it is streamed to the new file without
+     * rendering it as a string first. This method may be called from a pipeline worker thread.
+     */
+    private FileWriteResult writeFile(PendingFile pendingFile, File directory)
             throws InterruptedException, IOException {
+        GeneratedFile gf = pendingFile.generatedFile();
+        List<String> warnings = new ArrayList<>();
         try {
-            File directory = shellCallback.getDirectory(gf.getTargetProject(), gf.getTargetPackage());
             Path targetFile = directory.toPath().resolve(gf.getFileName());
+            String content = null;
             if (Files.exists(targetFile)) {
-                if (mergeEnabled && gf.isMergeable()) {
-                    content = merger.apply(content, targetFile.toFile());
-                } else if (isOverwriteEnabled) {
-                    warnings.add(getString("Warning.11", targetFile.toFile().getAbsolutePath())); //$NON-NLS-1$
-                } else {
-                    targetFile = getUniqueFileName(directory, gf.getFileName());
-                    warnings.add(getString("Warning.2", targetFile.toFile().getAbsolutePath())); //$NON-NLS-1$
+                content = render(pendingFile);
+                boolean merge = pendingFile.mergeEnabled() && gf.isMergeable();
+                if (merge) {
+                    GenerationMetricsCollector.Sample start = metricsCollector.start();
+                    content = pendingFile.merger().apply(content, targetFile.toFile());
+                    metricsCollector.record(pendingFile.contextId(), Phase.MERGE, start);
+                }
+
+                if (isCompareBeforeWriteEnabled && hasSameContent(pendingFile, targetFile, content)) {
+                    return FileWriteResult.of(pendingFile, FileWriteOutcome.UNCHANGED, targetFile, warnings);
+                }
+
+                if (!merge) {
+                    if (isOverwriteEnabled) {
+                        warnings.add(getString("Warning.11", //$NON-NLS-1$
+                                targetFile.toFile().getAbsolutePath()));
+                    } else {
+                        targetFile = getUniqueFileName(directory, gf.getFileName());
+                        warnings.add(getString("Warning.2", //$NON-NLS-1$
+                                targetFile.toFile().getAbsolutePath()));
+                    }
                 }
             }
 
             progressCallback.checkCancel();
             progressCallback.startTask(getString("Progress.15", targetFile.toString())); //$NON-NLS-1$
-            writeFile(targetFile.toFile(), content, encoding);
-        } catch (ShellException e) {
-            warnings.add(e.getMessage());
+            ContentWriter contentWriter = calculateContentWriter(pendingFile, content);
+            GenerationMetricsCollector.Sample start = metricsCollector.start();
+            writeFile(targetFile.toFile(), contentWriter, pendingFile.encoding());
+            metricsCollector.record(pendingFile.contextId(), Phase.WRITE, start);
+            return FileWriteResult.of(pendingFile, FileWriteOutcome.WRITTEN, targetFile, warnings);
         } catch (MergeException e) {
             warnings.add(e.getMessage());
             warnings.addAll(e.getExtraMessages());
+            return FileWriteResult.notWritten(pendingFile, warnings);
+        }
+    }
+
+    /**
+     * Streamed files are formatted while they are written, so formatting them is measured as part of writing.
+     */
+    private ContentWriter calculateContentWriter(PendingFile pendingFile, @Nullable String content) {
+        if (content != null) {
+            return appendable -> appendable.append(content);
         }
+
+        ContentWriter contentWriter = pendingFile.contentWriter();
+        if (contentWriter != null) {
+            return contentWriter;
+        }
+
+        String renderedContent = render(pendingFile);
+        return appendable -> appendable.append(renderedContent);
+    }
+
+    private String render(PendingFile pendingFile) {
+        GenerationMetricsCollector.Sample start = metricsCollector.start();
+        String content = pendingFile.renderer().get();
+        metricsCollector.record(pendingFile.contextId(), Phase.FORMATTING, start);
+        return content;
+    }
+
+    private boolean hasSameContent(PendingFile pendingFile, Path file, String content) throws IOException {
+        // comparing is measured as part of writing, because it replaces the write of an unchanged file
+        GenerationMetricsCollector.Sample start = metricsCollector.start();
+        boolean answer = hasSameContent(file, content, pendingFile.encoding());
+        metricsCollector.record(pendingFile.contextId(), Phase.WRITE, start);
+        return answer;
+    }
+
+    private boolean hasSameContent(Path file, String content, @Nullable String fileEncoding) throws IOException {
+        byte[] newContent = content.getBytes(calculateCharset(fileEncoding));
+        return Files.size(file) == newContent.length && Arrays.equals(Files.readAllBytes(file), newContent);
+    }
+
+    private Charset calculateCharset(@Nullable String fileEncoding) {
+        return mapStringValueOrElseGet(fileEncoding, Charset::forName, Charset::defaultCharset);
     }
 
     /**
@@ -362,23 +678,16 @@ public class MyBatisGenerator {
      *
      * @param file
      *            the file
-     * @param content
-     *            the content
+     * @param contentWriter
+     *            writes the content to the file
      * @param fileEncoding
      *            the file encoding
      * @throws IOException
      *             Signals that an I/O exception has occurred.
      */
-    private void writeFile(File file, String content, @Nullable String fileEncoding) throws IOException {
-        Charset cs = mapStringValueOrElseGet(fileEncoding, Charset::forName, Charset::defaultCharset);
-        try (OutputStream outputStream = Files.newOutputStream(file.toPath(), StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING)) {
-            try (OutputStreamWriter outputStreamWriter = new OutputStreamWriter(outputStream, cs)) {
-                try (BufferedWriter bufferedWriter = new BufferedWriter(outputStreamWriter)) {
-                    bufferedWriter.write(content);
-                }
-            }
-        }
+    private void writeFile(File file, ContentWriter contentWriter, @Nullable String fileEncoding)
+            throws IOException {
+        fileWriters.get().write(file.toPath(), fileEncoding, contentWriter::write);
     }
 
     /**
@@ -474,9 +783,77 @@ public class MyBatisGenerator {
                 .toList();
     }
 
+    /**
+     * Returns the number of files written by the most recent call to generateAndWrite().
+     *
+     * @return the number of files written
+     */
+    public int getNumberOfWrittenFiles() {
+        return numberOfWrittenFiles;
+    }
+
+    /**
+     * Returns the number of files that were not written by the most recent call to generateAndWrite() because the
+     * existing file already had the same content. Files are only compared when compare before write is enabled.
+     *
+     * @return the number of unchanged files
+     */
+    public int getNumberOfUnchangedFiles() {
+        return numberOfUnchangedFiles;
+    }
+
+    /**
+     * Returns the wall time and allocation metrics of the most recent call to one of the generate methods.
+     * Metrics are only available if they were enabled with {@link Builder#withMetricsEnabled(boolean)}, and if
+     * the generate method completed normally.
+     *
+     * @return the metrics of the most recent run, if any
+     */
+    public Optional<GenerationMetrics> getGenerationMetrics() {
+        return Optional.ofNullable(generationMetrics);
+    }
+
     private record ContextValuesAndTables(CalculatedContextValues contextValues,
                                           List<IntrospectedTable> introspectedTables) { }
 
+    /**
+     * A file waiting to be written. The renderer renders the file as a string. If the content writer is not null,
+     * it writes the same content directly to a file. The table is null for files generated for the whole context.
+     */
+    private record PendingFile(String contextId, @Nullable IntrospectedTable introspectedTable,
+                               GeneratedFile generatedFile, Supplier<String> renderer,
+                               @Nullable ContentWriter contentWriter, @Nullable String encoding,
+                               boolean mergeEnabled, Merger merger) { }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(Appendable appendable) throws IOException;
+    }
+
+    private enum FileWriteOutcome {
+        WRITTEN,
+        UNCHANGED,
+        NOT_WRITTEN
+    }
+
+    /**
+     * The outcome of writing a file. The table is held rather than the pending file, so that streamed files can be
+     * garbage collected after they are written.
+     */
+    private record FileWriteResult(String targetProject, @Nullable IntrospectedTable introspectedTable,
+                                   FileWriteOutcome outcome, @Nullable Path file, List<String> warnings) {
+        static FileWriteResult of(PendingFile pendingFile, FileWriteOutcome outcome, Path file,
+                                  List<String> warnings) {
+            return new FileWriteResult(pendingFile.generatedFile().getTargetProject(), pendingFile.introspectedTable(),
+                    outcome, file, warnings);
+        }
+
+        static FileWriteResult notWritten(PendingFile pendingFile, List<String> warnings) {
+            return new FileWriteResult(pendingFile.generatedFile().getTargetProject(), pendingFile.introspectedTable(),
+                    FileWriteOutcome.NOT_WRITTEN, null, warnings);
+        }
+    }
+
     @FunctionalInterface
     private interface Merger {
         String apply(String newContent, File existingContent) throws MergeException;
@@ -490,11 +867,18 @@ public class MyBatisGenerator {
         private @Nullable Configuration configuration;
         private @Nullable ShellCallback shellCallback;
         private @Nullable ProgressCallback progressCallback;
+        private @Nullable IntrospectionMetricsListener introspectionMetricsListener;
         private final Set<String> contextIds = new HashSet<>();
         private final Set<String> fullyQualifiedTableNames = new HashSet<>();
         private boolean isOverwriteEnabled = false;
+        private boolean isCompareBeforeWriteEnabled = false;
+        private boolean isStreamingEnabled = false;
+        private boolean isAtomicWriteEnabled = false;
         private boolean isJavaFileMergeEnabled = false;
         private @Nullable Indenter indenter;
+        private int parallelism = 1;
+        private int writeParallelism = 1;
+        private boolean isMetricsEnabled = false;
 
         public Builder withConfiguration(Configuration configuration) {
             this.configuration = configuration;
@@ -511,6 +895,20 @@ public class MyBatisGenerator {
             return this;
         }
 
+        /**
+         * Specify a listener that will receive timing and volume metrics for the introspection of every table.
+         * Metrics are only collected if a listener is specified, or if a context specifies the
+         * "introspectionMetricsFile" property.
+         *
+         * @param introspectionMetricsListener the listener, or null to disable the listener
+         * @return this builder
+         */
+        public Builder withIntrospectionMetricsListener(
+                @Nullable IntrospectionMetricsListener introspectionMetricsListener) {
+            this.introspectionMetricsListener = introspectionMetricsListener;
+            return this;
+        }
+
         /**
          * Set of context IDs to use in generation. Only the contexts with an id specified in this set will run.
          * If the set is empty, then all contexts are run.
@@ -569,6 +967,61 @@ public class MyBatisGenerator {
             return this;
         }
 
+        /**
+         * If true, then a generated file is compared with the existing file (after any merge) before it is written.
+         * If the content is identical, then the existing file is not touched and the project containing the file
+         * is not refreshed. This preserves file timestamps, so incremental builds and file watchers do not see
+         * unchanged files as modified.
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param compareBeforeWriteEnabled whether generated files should be compared with existing files before
+         *     they are written
+         * @return this builder
+         */
+        public Builder withCompareBeforeWriteEnabled(boolean compareBeforeWriteEnabled) {
+            this.isCompareBeforeWriteEnabled = compareBeforeWriteEnabled;
+            return this;
+        }
+
+        /**
+         * If true, then generateAndWrite() writes the files for each table as soon as the table has been generated,
+         * and does not retain the generated files afterwards. Memory use is then bounded by the size of the largest
+         * table rather than the size of the whole schema. The getGeneratedJavaFiles(), getGeneratedKotlinFiles(),
+         * getGeneratedXmlFiles(), and getGeneratedGenericFiles() methods will return empty lists after
+         * generateAndWrite() is called in this mode.
+         *
+         * <p>To process generated files without writing them to disk, and without retaining them, use
+         * {@link MyBatisGenerator#generateToSink(GeneratedFileSink)}.
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param streamingEnabled whether generated files should be written, and released, as soon as each table
+         *     has been generated
+         * @return this builder
+         */
+        public Builder withStreamingEnabled(boolean streamingEnabled) {
+            this.isStreamingEnabled = streamingEnabled;
+            return this;
+        }
+
+        /**
+         * If true, then each generated file is written to a temporary file in the target directory, and the
+         * temporary file is then moved over the target file. A run that is interrupted while a file is being
+         * written then never leaves a partially written file in place of the generated file. The move is atomic
+         * if the file system supports atomic moves.
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param atomicWriteEnabled whether generated files should be written to a temporary file and moved into
+         *     place
+         * @return this builder
+         */
+        public Builder withAtomicWriteEnabled(boolean atomicWriteEnabled) {
+            this.isAtomicWriteEnabled = atomicWriteEnabled;
+            return this;
+        }
+
         /**
          * Specify an indenter to use if no indenters are configured in the configuration.
          * If not specified, then the library will use the default indenter.
@@ -582,6 +1035,65 @@ public class MyBatisGenerator {
             return this;
         }
 
+        /**
+         * Specify the maximum number of tables that will be generated concurrently within a context. Introspection
+         * and file writing are not affected by this setting. Generated files are always returned in
+         * configuration order.
+         *
+         * <p>This value can be overridden for individual contexts with the "generationParallelism" context property.
+         * If any plugin in a context is not thread safe (see {@link Plugin#isThreadSafe()}), then that context
+         * will be generated sequentially.
+         *
+         * <p>The default is <code>1</code> (sequential generation)</p>
+         *
+         * @param parallelism the maximum number of generation threads
+         * @return this builder
+         */
+        public Builder withParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Specify the number of threads used to format, merge, and write files in generateAndWrite(). If the
+         * value is greater than one, then files are handed to a pool of writer threads as soon as each table has
+         * been generated, so file I/O overlaps with generation of the remaining tables. Generation is paused if
+         * the writers fall too far behind, so only a bounded number of generated files wait to be written.
+         *
+         * <p>Formatters and the Java file merger are called from the writer threads. The shell callback is
+         * always called from the thread that called generateAndWrite(), and files with the same target path are
+         * always written in generation order. Warnings are reported in the same order as with sequential writing.
+         * Because saving starts before the number of generated files is known, the progress callback receives an
+         * estimate in {@link ProgressCallback#saveStarted(int)}, and progress methods may be called from any
+         * thread (calls are synchronized).
+         *
+         * <p>The default is <code>1</code> (files are written sequentially after all generation is complete)</p>
+         *
+         * @param writeParallelism the maximum number of writer threads
+         * @return this builder
+         */
+        public Builder withWriteParallelism(int writeParallelism) {
+            this.writeParallelism = writeParallelism;
+            return this;
+        }
+
+        /**
+         * Enable collection of wall time and allocation metrics for every phase of a run. The metrics are broken
+         * down by context, by table, and by plugin method, and are available from
+         * {@link MyBatisGenerator#getGenerationMetrics()} after a generate method returns. Every plugin is called
+         * through a measuring proxy when metrics are enabled, so metrics should not be enabled in production runs
+         * where the overhead matters.
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param metricsEnabled whether metrics should be collected
+         * @return this builder
+         */
+        public Builder withMetricsEnabled(boolean metricsEnabled) {
+            this.isMetricsEnabled = metricsEnabled;
+            return this;
+        }
+
         public MyBatisGenerator build() {
             return new MyBatisGenerator(this);
         }
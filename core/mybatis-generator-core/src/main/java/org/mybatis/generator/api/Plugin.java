@@ -140,6 +140,37 @@ public interface Plugin {
      */
     boolean validate(List<String> warnings);
 
+    /**
+     * Returns true if this plugin can safely be called from multiple threads at the same time. When parallel
+     * generation is enabled, the per-table plugin methods (clientXXX, modelXXX, sqlMapXXX, etc.) may be called
+     * concurrently for different tables. If any plugin in a context is not thread safe, then code generation for
+     * that context will run sequentially.
+     *
+     * <p>The default implementation returns false. Plugins that hold no mutable state across tables, or that guard
+     * their state properly, should override this method and return true.
+     *
+     * @return true if the plugin is thread safe
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
+    /**
+     * Returns true if this plugin produces correct results when only some tables in a context are generated. When
+     * a context is configured for incremental generation (see the "schemaFingerprintFile" context property), tables
+     * that have not changed since the last run are skipped entirely - the per-table plugin methods are not called
+     * for those tables. If any plugin in a context does not support incremental generation, then every table in that
+     * context will be generated.
+     *
+     * <p>The default implementation returns false. Plugins that do not depend on seeing every table in a context
+     * (for example, plugins that do not generate context level files) should override this method and return true.
+     *
+     * @return true if the plugin supports incremental generation
+     */
+    default boolean supportsIncrementalGeneration() {
+        return false;
+    }
+
     /**
      * This method can be used to generate any additional Java file needed by
      * your implementation. This method is called once, after all other Java
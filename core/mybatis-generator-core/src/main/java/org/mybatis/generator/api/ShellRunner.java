@@ -17,6 +17,7 @@ package org.mybatis.generator.api;
 
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,6 +28,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.codegen.GenerationMetricsReport;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
@@ -46,6 +49,12 @@ public class ShellRunner {
     private static final String TABLES = "-tables"; //$NON-NLS-1$
     private static final String VERBOSE = "-verbose"; //$NON-NLS-1$
     private static final String JAVA_MERGE_ENABLED = "-javaMergeEnabled";
+    private static final String PARALLELISM = "-parallelism"; //$NON-NLS-1$
+    private static final String WRITE_PARALLELISM = "-writeParallelism"; //$NON-NLS-1$
+    private static final String COMPARE_BEFORE_WRITE = "-compareBeforeWrite"; //$NON-NLS-1$
+    private static final String STREAMING = "-streaming"; //$NON-NLS-1$
+    private static final String ATOMIC_WRITE = "-atomicWrite"; //$NON-NLS-1$
+    private static final String METRICS = "-metrics"; //$NON-NLS-1$
     private static final String HELP_1 = "-?"; //$NON-NLS-1$
     private static final String HELP_2 = "-h"; //$NON-NLS-1$
 
@@ -88,6 +97,12 @@ public class ShellRunner {
             warnings.addAll(cp.getWarnings());
             boolean overwriteEnabled = arguments.containsKey(OVERWRITE);
             boolean javaMergeEnabled = arguments.containsKey(JAVA_MERGE_ENABLED);
+            boolean compareBeforeWriteEnabled = arguments.containsKey(COMPARE_BEFORE_WRITE);
+            boolean streamingEnabled = arguments.containsKey(STREAMING);
+            boolean atomicWriteEnabled = arguments.containsKey(ATOMIC_WRITE);
+            int parallelism = calculateParallelism(PARALLELISM, arguments.get(PARALLELISM));
+            int writeParallelism = calculateParallelism(WRITE_PARALLELISM, arguments.get(WRITE_PARALLELISM));
+            String metricsFile = arguments.get(METRICS);
 
             ProgressCallback progressCallback = arguments.containsKey(VERBOSE) ? new VerboseProgressCallback()
                     : null;
@@ -100,9 +115,24 @@ public class ShellRunner {
                     .withFullyQualifiedTableNames(fullyQualifiedTables)
                     .withJavaFileMergeEnabled(javaMergeEnabled)
                     .withOverwriteEnabled(overwriteEnabled)
+                    .withCompareBeforeWriteEnabled(compareBeforeWriteEnabled)
+                    .withStreamingEnabled(streamingEnabled)
+                    .withAtomicWriteEnabled(atomicWriteEnabled)
+                    .withParallelism(parallelism)
+                    .withWriteParallelism(writeParallelism)
+                    .withMetricsEnabled(metricsFile != null)
                     .build();
 
             warnings.addAll(myBatisGenerator.generateAndWrite());
+            if (metricsFile != null) {
+                myBatisGenerator.getGenerationMetrics()
+                        .ifPresent(m -> writeMetrics(m, new File(metricsFile), warnings));
+            }
+            if (compareBeforeWriteEnabled) {
+                writeLine(getString("Progress.19", //$NON-NLS-1$
+                        Integer.toString(myBatisGenerator.getNumberOfWrittenFiles()),
+                        Integer.toString(myBatisGenerator.getNumberOfUnchangedFiles())));
+            }
         } catch (XMLParserException e) {
             writeLine(getString("Progress.3")); //$NON-NLS-1$
             writeLine();
@@ -137,6 +167,28 @@ public class ShellRunner {
         }
     }
 
+    private static int calculateParallelism(String argument, @Nullable String parallelism) {
+        if (parallelism == null) {
+            return 1;
+        }
+
+        try {
+            return Integer.parseInt(parallelism);
+        } catch (NumberFormatException e) {
+            writeLine(getString("RuntimeError.33", argument, parallelism)); //$NON-NLS-1$
+            System.exit(-1);
+            return 1; // only to satisfy the compiler, never returns
+        }
+    }
+
+    private static void writeMetrics(GenerationMetrics metrics, File file, List<String> warnings) {
+        try {
+            GenerationMetricsReport.write(metrics, file);
+        } catch (IOException e) {
+            warnings.add(getString("Warning.42", file.getPath(), e.getMessage())); //$NON-NLS-1$
+        }
+    }
+
     private static void usage() {
         writeLine(getString("Usage")); //$NON-NLS-1$
     }
@@ -167,6 +219,12 @@ public class ShellRunner {
                 arguments.put(VERBOSE, "Y"); //$NON-NLS-1$
             } else if (JAVA_MERGE_ENABLED.equalsIgnoreCase(args[i])) {
                 arguments.put(JAVA_MERGE_ENABLED, "Y"); //$NON-NLS-1$
+            } else if (COMPARE_BEFORE_WRITE.equalsIgnoreCase(args[i])) {
+                arguments.put(COMPARE_BEFORE_WRITE, "Y"); //$NON-NLS-1$
+            } else if (STREAMING.equalsIgnoreCase(args[i])) {
+                arguments.put(STREAMING, "Y"); //$NON-NLS-1$
+            } else if (ATOMIC_WRITE.equalsIgnoreCase(args[i])) {
+                arguments.put(ATOMIC_WRITE, "Y"); //$NON-NLS-1$
             } else if (HELP_1.equalsIgnoreCase(args[i])) {
                 arguments.put(HELP_1, "Y"); //$NON-NLS-1$
             } else if (HELP_2.equalsIgnoreCase(args[i])) {
@@ -180,6 +238,27 @@ public class ShellRunner {
                     errors.add(getString("RuntimeError.19", CONTEXT_IDS)); //$NON-NLS-1$
                 }
                 i++;
+            } else if (PARALLELISM.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(PARALLELISM, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", PARALLELISM)); //$NON-NLS-1$
+                }
+                i++;
+            } else if (WRITE_PARALLELISM.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(WRITE_PARALLELISM, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", WRITE_PARALLELISM)); //$NON-NLS-1$
+                }
+                i++;
+            } else if (METRICS.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(METRICS, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", METRICS)); //$NON-NLS-1$
+                }
+                i++;
             } else if (TABLES.equalsIgnoreCase(args[i])) {
                 if ((i + 1) < args.length) {
                     arguments.put(TABLES, args[i + 1]);
@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.config.Context;
 
@@ -35,4 +37,19 @@ public interface XmlFormatter {
     void setIndenter(Indenter indenter);
 
     String getFormattedContent(Document document);
+
+    /**
+     * Writes the formatted content of a document to an appendable. The content written must be the same as
+     * the content returned from {@link #getFormattedContent(Document)}.
+     *
+     * <p>The default implementation appends the formatted content. Formatters can override this method
+     * to write to the appendable directly, without building the content as a string first.
+     *
+     * @param document the document to format
+     * @param appendable where the formatted content is written
+     * @throws IOException if the appendable throws an IOException
+     */
+    default void format(Document document, Appendable appendable) throws IOException {
+        appendable.append(getFormattedContent(document));
+    }
 }
@@ -15,6 +15,9 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
@@ -26,6 +29,7 @@ import org.mybatis.generator.api.dom.java.Interface;
 import org.mybatis.generator.api.dom.java.TopLevelClass;
 import org.mybatis.generator.api.dom.java.TopLevelEnumeration;
 import org.mybatis.generator.api.dom.java.TopLevelRecord;
+import org.mybatis.generator.api.dom.java.render.JavaSourceWriter;
 import org.mybatis.generator.api.dom.java.render.TopLevelClassRenderer;
 import org.mybatis.generator.api.dom.java.render.TopLevelEnumerationRenderer;
 import org.mybatis.generator.api.dom.java.render.TopLevelInterfaceRenderer;
@@ -40,12 +44,51 @@ import org.mybatis.generator.config.Context;
 public class DefaultJavaFormatter implements JavaFormatter, CompilationUnitVisitor<String> {
     protected @Nullable Context context;
     protected @Nullable Indenter indenter;
+    private final boolean isDirectWriteEnabled = isDirectWriteSupported(getClass());
 
     @Override
     public String getFormattedContent(CompilationUnit compilationUnit) {
         return compilationUnit.accept(this);
     }
 
+    /**
+     * Writes the compilation unit directly to the appendable. If a subclass overrides
+     * {@link #getFormattedContent(CompilationUnit)} or any of the visit methods, then this method appends the content
+     * returned from {@link #getFormattedContent(CompilationUnit)} instead, so that new and existing files are
+     * formatted the same way.
+     */
+    @Override
+    public void format(CompilationUnit compilationUnit, Appendable appendable) throws IOException {
+        if (!isDirectWriteEnabled) {
+            JavaFormatter.super.format(compilationUnit, appendable);
+            return;
+        }
+
+        JavaSourceWriter writer = new JavaSourceWriter(appendable, Objects.requireNonNull(indenter));
+        try {
+            compilationUnit.accept(new WritingVisitor(writer));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isDirectWriteSupported(Class<?> formatterClass) {
+        try {
+            return isDeclaredHere(formatterClass.getMethod("getFormattedContent", //$NON-NLS-1$
+                            CompilationUnit.class))
+                    && isDeclaredHere(formatterClass.getMethod("visit", TopLevelClass.class)) //$NON-NLS-1$
+                    && isDeclaredHere(formatterClass.getMethod("visit", TopLevelEnumeration.class)) //$NON-NLS-1$
+                    && isDeclaredHere(formatterClass.getMethod("visit", Interface.class)) //$NON-NLS-1$
+                    && isDeclaredHere(formatterClass.getMethod("visit", TopLevelRecord.class)); //$NON-NLS-1$
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isDeclaredHere(Method method) {
+        return method.getDeclaringClass() == DefaultJavaFormatter.class;
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
@@ -75,4 +118,36 @@ public class DefaultJavaFormatter implements JavaFormatter, CompilationUnitVisit
     public String visit(TopLevelRecord topLevelRecord) {
         return new TopLevelRecordRenderer(Objects.requireNonNull(indenter)).render(topLevelRecord);
     }
+
+    private class WritingVisitor implements CompilationUnitVisitor<JavaSourceWriter> {
+        private final JavaSourceWriter writer;
+
+        WritingVisitor(JavaSourceWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public JavaSourceWriter visit(TopLevelClass topLevelClass) {
+            new TopLevelClassRenderer(Objects.requireNonNull(indenter)).render(topLevelClass, writer);
+            return writer;
+        }
+
+        @Override
+        public JavaSourceWriter visit(TopLevelEnumeration topLevelEnumeration) {
+            new TopLevelEnumerationRenderer(Objects.requireNonNull(indenter)).render(topLevelEnumeration, writer);
+            return writer;
+        }
+
+        @Override
+        public JavaSourceWriter visit(Interface topLevelInterface) {
+            new TopLevelInterfaceRenderer(Objects.requireNonNull(indenter)).render(topLevelInterface, writer);
+            return writer;
+        }
+
+        @Override
+        public JavaSourceWriter visit(TopLevelRecord topLevelRecord) {
+            new TopLevelRecordRenderer(Objects.requireNonNull(indenter)).render(topLevelRecord, writer);
+            return writer;
+        }
+    }
 }
@@ -15,6 +15,9 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.KotlinFormatter;
 import org.mybatis.generator.api.dom.kotlin.KotlinFile;
@@ -28,12 +31,41 @@ import org.mybatis.generator.config.Context;
  */
 public class DefaultKotlinFormatter implements KotlinFormatter {
     protected @Nullable Context context;
+    private final boolean isDirectWriteEnabled = isDirectWriteSupported(getClass());
 
     @Override
     public String getFormattedContent(KotlinFile kotlinFile) {
         return new KotlinFileRenderer().render(kotlinFile);
     }
 
+    /**
+     * Writes the file directly to the appendable. If a subclass overrides
+     * {@link #getFormattedContent(KotlinFile)}, then this method appends the content returned from that method
+     * instead, so that new and existing files are formatted the same way.
+     */
+    @Override
+    public void format(KotlinFile kotlinFile, Appendable appendable) throws IOException {
+        if (!isDirectWriteEnabled) {
+            KotlinFormatter.super.format(kotlinFile, appendable);
+            return;
+        }
+
+        try {
+            new KotlinFileRenderer().render(kotlinFile, appendable);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isDirectWriteSupported(Class<?> formatterClass) {
+        try {
+            return formatterClass.getMethod("getFormattedContent", KotlinFile.class) //$NON-NLS-1$
+                    .getDeclaringClass() == DefaultKotlinFormatter.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
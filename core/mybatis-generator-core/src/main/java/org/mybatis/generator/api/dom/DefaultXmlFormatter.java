@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
@@ -32,12 +34,41 @@ import org.mybatis.generator.config.Context;
 public class DefaultXmlFormatter implements XmlFormatter {
     protected @Nullable Context context;
     protected @Nullable Indenter indenter;
+    private final boolean isDirectWriteEnabled = isDirectWriteSupported(getClass());
 
     @Override
     public String getFormattedContent(Document document) {
         return new DocumentRenderer(Objects.requireNonNull(indenter)).render(document);
     }
 
+    /**
+     * Writes the document directly to the appendable. If a subclass overrides
+     * {@link #getFormattedContent(Document)}, then this method appends the content returned from that method instead,
+     * so that new and existing files are formatted the same way.
+     */
+    @Override
+    public void format(Document document, Appendable appendable) throws IOException {
+        if (!isDirectWriteEnabled) {
+            XmlFormatter.super.format(document, appendable);
+            return;
+        }
+
+        try {
+            new DocumentRenderer(Objects.requireNonNull(indenter)).render(document, appendable);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isDirectWriteSupported(Class<?> formatterClass) {
+        try {
+            return formatterClass.getMethod("getFormattedContent", Document.class) //$NON-NLS-1$
+                    .getDeclaringClass() == DefaultXmlFormatter.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
@@ -17,6 +17,8 @@ package org.mybatis.generator.api.dom.java;
 
 import java.util.List;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * This interface describes methods common to all Java compilation units (Java
@@ -28,6 +30,25 @@ public interface CompilationUnit {
 
     Set<FullyQualifiedJavaType> getImportedTypes();
 
+    /**
+     * Returns the import lines required by the imported types, in the order they are rendered.
+     *
+     * <p>The default implementation calculates the import lines from {@link #getImportedTypes()} every time it is
+     * called. The compilation units in this package maintain an index of import lines as types are imported, and
+     * return it without calculating it again.
+     *
+     * @return the import lines, such as {@code import java.util.List;}
+     */
+    default SortedSet<String> getImportLines() {
+        SortedSet<String> answer = new TreeSet<>();
+        for (FullyQualifiedJavaType type : getImportedTypes()) {
+            for (String s : type.getImportList()) {
+                answer.add("import " + s + ";"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+        return answer;
+    }
+
     Set<String> getStaticImports();
 
     FullyQualifiedJavaType getType();
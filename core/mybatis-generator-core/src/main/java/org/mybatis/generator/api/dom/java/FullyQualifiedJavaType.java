@@ -19,9 +19,12 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -31,19 +34,28 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
     private static final String JAVA_LANG = "java.lang"; //$NON-NLS-1$
 
-    private static @Nullable FullyQualifiedJavaType intInstance = null;
+    /**
+     * Upper limit on the number of interned types. Past this point {@link #of(String)} still returns immutable
+     * instances, but they are no longer shared.
+     */
+    private static final int MAX_INTERNED_TYPES = 10_000;
+
+    private static final ConcurrentMap<String, FullyQualifiedJavaType> INTERNED_TYPES = new ConcurrentHashMap<>();
+
+    // shared instances of common types. These are immutable, so they can be used safely from any thread
+    private static final FullyQualifiedJavaType INT_INSTANCE = of("int"); //$NON-NLS-1$
 
-    private static @Nullable FullyQualifiedJavaType stringInstance = null;
+    private static final FullyQualifiedJavaType STRING_INSTANCE = of("java.lang.String"); //$NON-NLS-1$
 
-    private static @Nullable FullyQualifiedJavaType booleanPrimitiveInstance = null;
+    private static final FullyQualifiedJavaType BOOLEAN_PRIMITIVE_INSTANCE = of("boolean"); //$NON-NLS-1$
 
-    private static @Nullable FullyQualifiedJavaType objectInstance = null;
+    private static final FullyQualifiedJavaType OBJECT_INSTANCE = of("java.lang.Object"); //$NON-NLS-1$
 
-    private static @Nullable FullyQualifiedJavaType dateInstance = null;
+    private static final FullyQualifiedJavaType DATE_INSTANCE = of("java.util.Date"); //$NON-NLS-1$
 
-    private static @Nullable FullyQualifiedJavaType criteriaInstance = null;
+    private static final FullyQualifiedJavaType CRITERIA_INSTANCE = of("Criteria"); //$NON-NLS-1$
 
-    private static @Nullable FullyQualifiedJavaType generatedCriteriaInstance = null;
+    private static final FullyQualifiedJavaType GENERATED_CRITERIA_INSTANCE = of("GeneratedCriteria"); //$NON-NLS-1$
 
     /** The short name without any generic arguments. */
     private String baseShortName = ""; //$NON-NLS-1$
@@ -59,8 +71,6 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
     private boolean isArray;
 
-    private @Nullable PrimitiveTypeWrapper primitiveTypeWrapper;
-
     private final List<FullyQualifiedJavaType> typeArguments;
 
     // the following three values are used for dealing with wildcard types
@@ -70,16 +80,88 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
     private boolean extendsBoundedWildcard;
 
+    private final boolean immutable;
+
+    // the base names never change after parsing, so they are calculated once
+    private final String fullyQualifiedNameWithoutTypeParameters;
+
+    private final String shortNameWithoutTypeArguments;
+
+    // the complete names are only cached for immutable instances - type arguments can be added to
+    // a mutable instance, or to any of its type arguments, at any time
+    private final @Nullable String fullyQualifiedName;
+
+    private final @Nullable String shortName;
+
+    private final @Nullable List<String> importList;
+
     /**
      * Use this constructor to construct a generic type with the specified type parameters.
      *
+     * <p>The new instance is mutable - type arguments may be added to it. If the type will not be changed, then
+     * {@link #of(String)} is a cheaper way to get an instance.
+     *
      * @param fullTypeSpecification
      *            the full type specification
      */
     public FullyQualifiedJavaType(String fullTypeSpecification) {
+        this(fullTypeSpecification, false);
+    }
+
+    FullyQualifiedJavaType(String fullTypeSpecification, boolean immutable) {
         super();
+        this.immutable = immutable;
         typeArguments = new ArrayList<>();
         parse(fullTypeSpecification);
+
+        fullyQualifiedNameWithoutTypeParameters = calculateBaseType(baseQualifiedName);
+        shortNameWithoutTypeArguments = calculateBaseType(baseShortName);
+        if (immutable) {
+            fullyQualifiedName = calculateFullyQualifiedName();
+            shortName = calculateShortName();
+            importList = List.copyOf(calculateImportList());
+        } else {
+            fullyQualifiedName = null;
+            shortName = null;
+            importList = null;
+        }
+    }
+
+    /**
+     * Returns an immutable instance of the type. Instances are interned, so calling this method again with the same
+     * specification will usually return the same instance without parsing the specification again. The names and
+     * imports of immutable instances are calculated once, which makes them cheap to use as keys in import sets.
+     *
+     * <p>Type arguments cannot be added to the returned instance. Use the constructor if a mutable instance is
+     * required.
+     *
+     * @param fullTypeSpecification
+     *            the full type specification
+     * @return an immutable instance of the type
+     */
+    public static FullyQualifiedJavaType of(String fullTypeSpecification) {
+        FullyQualifiedJavaType type = INTERNED_TYPES.get(fullTypeSpecification);
+        if (type == null) {
+            // computeIfAbsent is not used because parsing a generic type interns the type arguments recursively
+            type = new FullyQualifiedJavaType(fullTypeSpecification, true);
+            if (INTERNED_TYPES.size() < MAX_INTERNED_TYPES) {
+                FullyQualifiedJavaType existing = INTERNED_TYPES.putIfAbsent(fullTypeSpecification, type);
+                if (existing != null) {
+                    type = existing;
+                }
+            }
+        }
+
+        return type;
+    }
+
+    /**
+     * Returns true if this instance is immutable - type arguments cannot be added to it.
+     *
+     * @return true if this instance is immutable
+     */
+    public boolean isImmutable() {
+        return immutable;
     }
 
     public boolean isExplicitlyImported() {
@@ -92,19 +174,26 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
      * @return Returns the fullyQualifiedName.
      */
     public String getFullyQualifiedName() {
-        String s = getFullyQualifiedNameWithoutTypeParameters();
+        if (fullyQualifiedName != null) {
+            return fullyQualifiedName;
+        }
+
+        return calculateFullyQualifiedName();
+    }
 
+    private String calculateFullyQualifiedName() {
         if (typeArguments.isEmpty()) {
-            return s;
+            return fullyQualifiedNameWithoutTypeParameters;
         } else {
             return typeArguments.stream()
                     .map(FullyQualifiedJavaType::getFullyQualifiedName)
-                    .collect(Collectors.joining(", ", s + "<", ">")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    .collect(Collectors.joining(", ", //$NON-NLS-1$
+                            fullyQualifiedNameWithoutTypeParameters + "<", ">")); //$NON-NLS-1$ //$NON-NLS-2$
         }
     }
 
     public String getFullyQualifiedNameWithoutTypeParameters() {
-        return calculateBaseType(baseQualifiedName);
+        return fullyQualifiedNameWithoutTypeParameters;
     }
 
     /**
@@ -123,6 +212,14 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
      * @return the import list
      */
     public List<String> getImportList() {
+        if (importList != null) {
+            return importList;
+        }
+
+        return calculateImportList();
+    }
+
+    private List<String> calculateImportList() {
         List<String> answer = new ArrayList<>();
         if (isExplicitlyImported()) {
             int index = baseShortName.indexOf('.');
@@ -157,19 +254,26 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public String getShortName() {
-        String s = getShortNameWithoutTypeArguments();
+        if (shortName != null) {
+            return shortName;
+        }
+
+        return calculateShortName();
+    }
 
+    private String calculateShortName() {
         if (typeArguments.isEmpty()) {
-            return s;
+            return shortNameWithoutTypeArguments;
         } else {
             return typeArguments.stream()
                     .map(FullyQualifiedJavaType::getShortName)
-                    .collect(Collectors.joining(", ", s + "<", ">")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    .collect(Collectors.joining(", ", //$NON-NLS-1$
+                            shortNameWithoutTypeArguments + "<", ">")); //$NON-NLS-1$ //$NON-NLS-2$
         }
     }
 
     public String getShortNameWithoutTypeArguments() {
-        return calculateBaseType(baseShortName);
+        return shortNameWithoutTypeArguments;
     }
 
     private String calculateBaseType(String name) {
@@ -219,15 +323,28 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public PrimitiveTypeWrapper getPrimitiveTypeWrapper() {
-        return Objects.requireNonNull(primitiveTypeWrapper);
+        // the wrapper is found when it is needed rather than when parsing. The shared instances below are built
+        // while this class is initialized, and PrimitiveTypeWrapper is a subclass that can only be initialized after
+        // this class
+        return Objects.requireNonNull(primitive ? findPrimitiveTypeWrapper() : null);
+    }
+
+    private @Nullable PrimitiveTypeWrapper findPrimitiveTypeWrapper() {
+        return switch (baseQualifiedName) {
+            case "byte" -> PrimitiveTypeWrapper.getByteInstance(); //$NON-NLS-1$
+            case "short" -> PrimitiveTypeWrapper.getShortInstance(); //$NON-NLS-1$
+            case "int" -> PrimitiveTypeWrapper.getIntegerInstance(); //$NON-NLS-1$
+            case "long" -> PrimitiveTypeWrapper.getLongInstance(); //$NON-NLS-1$
+            case "char" -> PrimitiveTypeWrapper.getCharacterInstance(); //$NON-NLS-1$
+            case "float" -> PrimitiveTypeWrapper.getFloatInstance(); //$NON-NLS-1$
+            case "double" -> PrimitiveTypeWrapper.getDoubleInstance(); //$NON-NLS-1$
+            case "boolean" -> PrimitiveTypeWrapper.getBooleanInstance(); //$NON-NLS-1$
+            default -> null;
+        };
     }
 
     public static FullyQualifiedJavaType getIntInstance() {
-        if (intInstance == null) {
-            intInstance = new FullyQualifiedJavaType("int"); //$NON-NLS-1$
-        }
-
-        return intInstance;
+        return INT_INSTANCE;
     }
 
     public static FullyQualifiedJavaType getNewListInstance() {
@@ -251,39 +368,27 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public static FullyQualifiedJavaType getStringInstance() {
-        stringInstance = Objects.requireNonNullElseGet(stringInstance,
-                () -> new FullyQualifiedJavaType("java.lang.String")); //$NON-NLS-1$
-        return stringInstance;
+        return STRING_INSTANCE;
     }
 
     public static FullyQualifiedJavaType getBooleanPrimitiveInstance() {
-        booleanPrimitiveInstance = Objects.requireNonNullElseGet(booleanPrimitiveInstance,
-                () -> new FullyQualifiedJavaType("boolean")); //$NON-NLS-1$
-        return booleanPrimitiveInstance;
+        return BOOLEAN_PRIMITIVE_INSTANCE;
     }
 
     public static FullyQualifiedJavaType getObjectInstance() {
-        objectInstance = Objects.requireNonNullElseGet(objectInstance,
-                () -> new FullyQualifiedJavaType("java.lang.Object")); //$NON-NLS-1$
-        return objectInstance;
+        return OBJECT_INSTANCE;
     }
 
     public static FullyQualifiedJavaType getDateInstance() {
-        dateInstance = Objects.requireNonNullElseGet(dateInstance,
-                () -> new FullyQualifiedJavaType("java.util.Date")); //$NON-NLS-1$
-        return dateInstance;
+        return DATE_INSTANCE;
     }
 
     public static FullyQualifiedJavaType getCriteriaInstance() {
-        criteriaInstance = Objects.requireNonNullElseGet(criteriaInstance,
-                () -> new FullyQualifiedJavaType("Criteria")); //$NON-NLS-1$
-        return criteriaInstance;
+        return CRITERIA_INSTANCE;
     }
 
     public static FullyQualifiedJavaType getGeneratedCriteriaInstance() {
-        generatedCriteriaInstance = Objects.requireNonNullElseGet(generatedCriteriaInstance,
-                () -> new FullyQualifiedJavaType("GeneratedCriteria")); //$NON-NLS-1$
-        return generatedCriteriaInstance;
+        return GENERATED_CRITERIA_INSTANCE;
     }
 
     @Override
@@ -291,7 +396,27 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
         return getFullyQualifiedName().compareTo(other.getFullyQualifiedName());
     }
 
+    /**
+     * Returns a new, mutable, copy of this type with the type arguments added. This type is not changed, so this
+     * method can be used with shared immutable instances like those returned from {@link #of(String)}.
+     *
+     * @param typeArguments
+     *            the type arguments to add
+     * @return the new type
+     */
+    public FullyQualifiedJavaType withTypeArguments(FullyQualifiedJavaType... typeArguments) {
+        FullyQualifiedJavaType answer = new FullyQualifiedJavaType(getFullyQualifiedName());
+        for (FullyQualifiedJavaType typeArgument : typeArguments) {
+            answer.addTypeArgument(typeArgument);
+        }
+        return answer;
+    }
+
     public void addTypeArgument(FullyQualifiedJavaType type) {
+        if (immutable) {
+            throw new UnsupportedOperationException(getString("RuntimeError.39", //$NON-NLS-1$
+                    getFullyQualifiedName()));
+        }
         typeArguments.add(type);
     }
 
@@ -351,44 +476,10 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
             explicitlyImported = false;
             packageName = ""; //$NON-NLS-1$
 
-            switch (baseQualifiedName) {
-            case "byte":  //$NON-NLS-1$
-                primitive = true;
-                primitiveTypeWrapper = PrimitiveTypeWrapper.getByteInstance();
-                break;
-            case "short":  //$NON-NLS-1$
-                primitive = true;
-                primitiveTypeWrapper = PrimitiveTypeWrapper.getShortInstance();
-                break;
-            case "int":  //$NON-NLS-1$
-                primitive = true;
-                primitiveTypeWrapper = PrimitiveTypeWrapper.getIntegerInstance();
-                break;
-            case "long":  //$NON-NLS-1$
-                primitive = true;
-                primitiveTypeWrapper = PrimitiveTypeWrapper.getLongInstance();
-                break;
-            case "char":  //$NON-NLS-1$
-                primitive = true;
-                primitiveTypeWrapper = PrimitiveTypeWrapper.getCharacterInstance();
-                break;
-            case "float":  //$NON-NLS-1$
-                primitive = true;
-                primitiveTypeWrapper = PrimitiveTypeWrapper.getFloatInstance();
-                break;
-            case "double":  //$NON-NLS-1$
-                primitive = true;
-                primitiveTypeWrapper = PrimitiveTypeWrapper.getDoubleInstance();
-                break;
-            case "boolean":  //$NON-NLS-1$
-                primitive = true;
-                primitiveTypeWrapper = PrimitiveTypeWrapper.getBooleanInstance();
-                break;
-            default:
-                primitive = false;
-                primitiveTypeWrapper = null;
-                break;
-            }
+            primitive = switch (baseQualifiedName) {
+                case "byte", "short", "int", "long", "char", "float", "double", "boolean" -> true; //$NON-NLS-1$
+                default -> false;
+            };
         }
     }
 
@@ -413,8 +504,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
                 openCount--;
             } else if (",".equals(token)) { //$NON-NLS-1$
                 if (openCount == 0) {
-                    typeArguments
-                            .add(new FullyQualifiedJavaType(sb.toString()));
+                    typeArguments.add(parseTypeArgument(sb.toString()));
                     sb.setLength(0);
                 } else {
                     sb.append(token);
@@ -430,10 +520,15 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
         String finalType = sb.toString();
         if (stringHasValue(finalType)) {
-            typeArguments.add(new FullyQualifiedJavaType(finalType));
+            typeArguments.add(parseTypeArgument(finalType));
         }
     }
 
+    private FullyQualifiedJavaType parseTypeArgument(String typeSpecification) {
+        // type arguments of an immutable type must also be immutable
+        return immutable ? of(typeSpecification) : new FullyQualifiedJavaType(typeSpecification);
+    }
+
     /**
      * Returns the package name of a fully qualified type.
      *
@@ -456,6 +551,6 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public List<FullyQualifiedJavaType> getTypeArguments() {
-        return typeArguments;
+        return immutable ? Collections.unmodifiableList(typeArguments) : typeArguments;
     }
 }
@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.java;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * The imported types of a compilation unit, with an index of the import lines they require. The index is
+ * updated as types are added, so the import lines of a compilation unit can be rendered without calculating
+ * them again for every type.
+ *
+ * <p>Callers (comment generators, for example) add types to the set returned from
+ * {@link CompilationUnit#getImportedTypes()} directly, so the index is maintained in this set rather than in the
+ * compilation unit. Type arguments can be added to a mutable type after it is added to the set, so the import
+ * lines of mutable types are only calculated when the import lines are requested. If a type is removed, the index
+ * is rebuilt the next time the import lines are requested.
+ */
+final class ImportedTypeSet extends AbstractSet<FullyQualifiedJavaType> {
+    private final TreeSet<FullyQualifiedJavaType> types = new TreeSet<>();
+    private final TreeSet<String> importLines = new TreeSet<>();
+    private final SortedSet<String> unmodifiableImportLines = Collections.unmodifiableSortedSet(importLines);
+    private final List<FullyQualifiedJavaType> mutableTypes = new ArrayList<>();
+    private boolean isIndexCurrent = true;
+
+    @Override
+    public boolean add(FullyQualifiedJavaType type) {
+        if (!types.add(type)) {
+            return false;
+        }
+
+        if (!type.isImmutable()) {
+            mutableTypes.add(type);
+        } else if (isIndexCurrent) {
+            addImportLines(importLines, type);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return types.contains(o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean removed = types.remove(o);
+        if (removed) {
+            isIndexCurrent = false;
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        types.clear();
+        importLines.clear();
+        mutableTypes.clear();
+        isIndexCurrent = true;
+    }
+
+    @Override
+    public Iterator<FullyQualifiedJavaType> iterator() {
+        Iterator<FullyQualifiedJavaType> iterator = types.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public FullyQualifiedJavaType next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                isIndexCurrent = false;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return types.size();
+    }
+
+    /**
+     * Returns the import lines required by the types in this set, in sorted order.
+     *
+     * @return the import lines, such as {@code import java.util.List;}
+     */
+    SortedSet<String> getImportLines() {
+        if (!isIndexCurrent) {
+            rebuildIndex();
+        }
+
+        if (mutableTypes.isEmpty()) {
+            return unmodifiableImportLines;
+        }
+
+        TreeSet<String> answer = new TreeSet<>(importLines);
+        for (FullyQualifiedJavaType type : mutableTypes) {
+            addImportLines(answer, type);
+        }
+        return Collections.unmodifiableSortedSet(answer);
+    }
+
+    private void rebuildIndex() {
+        importLines.clear();
+        mutableTypes.clear();
+        for (FullyQualifiedJavaType type : types) {
+            if (type.isImmutable()) {
+                addImportLines(importLines, type);
+            } else {
+                mutableTypes.add(type);
+            }
+        }
+        isIndexCurrent = true;
+    }
+
+    private static void addImportLines(SortedSet<String> lines, FullyQualifiedJavaType type) {
+        for (String s : type.getImportList()) {
+            lines.add("import " + s + ";"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+}
@@ -18,11 +18,12 @@ package org.mybatis.generator.api.dom.java;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 
 public class Interface extends InnerInterface implements CompilationUnit {
 
-    private final Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
+    private final ImportedTypeSet importedTypes = new ImportedTypeSet();
 
     private final Set<String> staticImports = new TreeSet<>();
 
@@ -41,6 +42,11 @@ public class Interface extends InnerInterface implements CompilationUnit {
         return importedTypes;
     }
 
+    @Override
+    public SortedSet<String> getImportLines() {
+        return importedTypes.getImportLines();
+    }
+
     @Override
     public void addImportedType(FullyQualifiedJavaType importedType) {
         if (importedType.isExplicitlyImported()
@@ -15,25 +15,29 @@
  */
 package org.mybatis.generator.api.dom.java;
 
-import java.util.Objects;
-
-import org.jspecify.annotations.Nullable;
-
 public class PrimitiveTypeWrapper extends FullyQualifiedJavaType {
-    private static @Nullable PrimitiveTypeWrapper booleanInstance;
-    private static @Nullable PrimitiveTypeWrapper byteInstance;
-    private static @Nullable PrimitiveTypeWrapper characterInstance;
-    private static @Nullable PrimitiveTypeWrapper doubleInstance;
-    private static @Nullable PrimitiveTypeWrapper floatInstance;
-    private static @Nullable PrimitiveTypeWrapper integerInstance;
-    private static @Nullable PrimitiveTypeWrapper longInstance;
-    private static @Nullable PrimitiveTypeWrapper shortInstance;
+    private static final PrimitiveTypeWrapper BOOLEAN_INSTANCE =
+            new PrimitiveTypeWrapper("java.lang.Boolean", "booleanValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+    private static final PrimitiveTypeWrapper BYTE_INSTANCE =
+            new PrimitiveTypeWrapper("java.lang.Byte", "byteValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+    private static final PrimitiveTypeWrapper CHARACTER_INSTANCE =
+            new PrimitiveTypeWrapper("java.lang.Character", "charValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+    private static final PrimitiveTypeWrapper DOUBLE_INSTANCE =
+            new PrimitiveTypeWrapper("java.lang.Double", "doubleValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+    private static final PrimitiveTypeWrapper FLOAT_INSTANCE =
+            new PrimitiveTypeWrapper("java.lang.Float", "floatValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+    private static final PrimitiveTypeWrapper INTEGER_INSTANCE =
+            new PrimitiveTypeWrapper("java.lang.Integer", "intValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+    private static final PrimitiveTypeWrapper LONG_INSTANCE =
+            new PrimitiveTypeWrapper("java.lang.Long", "longValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+    private static final PrimitiveTypeWrapper SHORT_INSTANCE =
+            new PrimitiveTypeWrapper("java.lang.Short", "shortValue()"); //$NON-NLS-1$ //$NON-NLS-2$
 
     private final String toPrimitiveMethod;
 
     /**
      * Use the static getXXXInstance methods to gain access to one of the type
-     * wrappers.
+     * wrappers. The wrappers are shared, so they are immutable.
      *
      * @param fullyQualifiedName
      *            fully qualified name of the wrapper type
@@ -42,7 +46,7 @@ public class PrimitiveTypeWrapper extends FullyQualifiedJavaType {
      */
     private PrimitiveTypeWrapper(String fullyQualifiedName,
             String toPrimitiveMethod) {
-        super(fullyQualifiedName);
+        super(fullyQualifiedName, true);
         this.toPrimitiveMethod = toPrimitiveMethod;
     }
 
@@ -69,58 +73,34 @@ public class PrimitiveTypeWrapper extends FullyQualifiedJavaType {
     }
 
     public static PrimitiveTypeWrapper getBooleanInstance() {
-        booleanInstance = Objects.requireNonNullElseGet(booleanInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Boolean", //$NON-NLS-1$
-                    "booleanValue()")); //$NON-NLS-1$
-        return booleanInstance;
+        return BOOLEAN_INSTANCE;
     }
 
     public static PrimitiveTypeWrapper getByteInstance() {
-        byteInstance = Objects.requireNonNullElseGet(byteInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Byte", //$NON-NLS-1$
-                    "byteValue()")); //$NON-NLS-1$
-        return byteInstance;
+        return BYTE_INSTANCE;
     }
 
     public static PrimitiveTypeWrapper getCharacterInstance() {
-        characterInstance = Objects.requireNonNullElseGet(characterInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Character", //$NON-NLS-1$
-                    "charValue()")); //$NON-NLS-1$
-        return characterInstance;
+        return CHARACTER_INSTANCE;
     }
 
     public static PrimitiveTypeWrapper getDoubleInstance() {
-        doubleInstance = Objects.requireNonNullElseGet(doubleInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Double", //$NON-NLS-1$
-                    "doubleValue()")); //$NON-NLS-1$
-        return doubleInstance;
+        return DOUBLE_INSTANCE;
     }
 
     public static PrimitiveTypeWrapper getFloatInstance() {
-        floatInstance = Objects.requireNonNullElseGet(floatInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Float", //$NON-NLS-1$
-                    "floatValue()")); //$NON-NLS-1$
-        return floatInstance;
+        return FLOAT_INSTANCE;
     }
 
     public static PrimitiveTypeWrapper getIntegerInstance() {
-        integerInstance = Objects.requireNonNullElseGet(integerInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Integer", //$NON-NLS-1$
-                    "intValue()")); //$NON-NLS-1$
-        return integerInstance;
+        return INTEGER_INSTANCE;
     }
 
     public static PrimitiveTypeWrapper getLongInstance() {
-        longInstance = Objects.requireNonNullElseGet(longInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Long", //$NON-NLS-1$
-                    "longValue()")); //$NON-NLS-1$
-        return longInstance;
+        return LONG_INSTANCE;
     }
 
     public static PrimitiveTypeWrapper getShortInstance() {
-        shortInstance = Objects.requireNonNullElseGet(shortInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Short", //$NON-NLS-1$
-                    "shortValue()")); //$NON-NLS-1$
-        return shortInstance;
+        return SHORT_INSTANCE;
     }
 }
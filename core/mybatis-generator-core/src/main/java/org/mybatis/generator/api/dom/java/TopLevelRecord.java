@@ -18,11 +18,12 @@ package org.mybatis.generator.api.dom.java;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 
 public class TopLevelRecord extends InnerRecord implements CompilationUnit {
 
-    private final Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
+    private final ImportedTypeSet importedTypes = new ImportedTypeSet();
 
     private final Set<String> staticImports = new TreeSet<>();
 
@@ -41,8 +42,13 @@ public class TopLevelRecord extends InnerRecord implements CompilationUnit {
         return importedTypes;
     }
 
+    @Override
+    public SortedSet<String> getImportLines() {
+        return importedTypes.getImportLines();
+    }
+
     public void addImportedType(String importedType) {
-        addImportedType(new FullyQualifiedJavaType(importedType));
+        addImportedType(FullyQualifiedJavaType.of(importedType));
     }
 
     @Override
@@ -17,21 +17,16 @@ package org.mybatis.generator.api.dom.java.render;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.java.AbstractJavaType;
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.api.dom.java.Field;
-import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.java.InitializationBlock;
 import org.mybatis.generator.api.dom.java.InnerClass;
 import org.mybatis.generator.api.dom.java.InnerEnum;
@@ -66,170 +61,196 @@ public abstract class AbstractJavaRenderer {
     }
 
     public List<String> renderFields(List<Field> fields, CompilationUnit compilationUnit) {
-        return fields.stream()
-                .flatMap(f -> renderField(f, compilationUnit))
-                .toList();
+        return collectLines(writer -> renderFields(fields, compilationUnit, writer));
     }
 
-    private Stream<String> renderField(Field field, CompilationUnit compilationUnit) {
-        return addEmptyLine(fieldRenderer.render(field, compilationUnit).stream()
-                .map(this::javaIndent));
+    public void renderFields(List<Field> fields, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        writer.indent();
+        for (Field field : fields) {
+            fieldRenderer.render(field, compilationUnit, writer);
+            writer.endMember();
+        }
+        writer.outdent();
     }
 
     public List<String> renderInitializationBlocks(List<InitializationBlock> initializationBlocks) {
-        return initializationBlocks.stream()
-                .flatMap(this::renderInitializationBlock)
-                .toList();
+        return collectLines(writer -> renderInitializationBlocks(initializationBlocks, writer));
     }
 
-    private Stream<String> renderInitializationBlock(InitializationBlock initializationBlock) {
+    public void renderInitializationBlocks(List<InitializationBlock> initializationBlocks, JavaSourceWriter writer) {
+        if (initializationBlocks.isEmpty()) {
+            return;
+        }
+
         InitializationBlockRenderer initializationBlockRenderer = new InitializationBlockRenderer(indenter);
-        return addEmptyLine(initializationBlockRenderer.render(initializationBlock).stream()
-                .map(this::javaIndent));
+        writer.indent();
+        for (InitializationBlock initializationBlock : initializationBlocks) {
+            initializationBlockRenderer.render(initializationBlock, writer);
+            writer.endMember();
+        }
+        writer.outdent();
     }
 
     public List<String> renderClassOrEnumMethods(List<Method> methods, CompilationUnit compilationUnit) {
-        return methods.stream()
-                .flatMap(m -> renderMethod(m, false, compilationUnit))
-                .toList();
+        return collectLines(writer -> renderClassOrEnumMethods(methods, compilationUnit, writer));
+    }
+
+    public void renderClassOrEnumMethods(List<Method> methods, CompilationUnit compilationUnit,
+                                         JavaSourceWriter writer) {
+        renderMethods(methods, false, compilationUnit, writer);
     }
 
     public List<String> renderInterfaceMethods(List<Method> methods, CompilationUnit compilationUnit) {
-        return methods.stream()
-                .flatMap(m -> renderMethod(m, true, compilationUnit))
-                .toList();
+        return collectLines(writer -> renderInterfaceMethods(methods, compilationUnit, writer));
     }
 
-    private Stream<String> renderMethod(Method method, boolean inInterface, CompilationUnit compilationUnit) {
-        return addEmptyLine(methodRenderer.render(method, inInterface, compilationUnit).stream()
-                .map(this::javaIndent));
+    public void renderInterfaceMethods(List<Method> methods, CompilationUnit compilationUnit,
+                                       JavaSourceWriter writer) {
+        renderMethods(methods, true, compilationUnit, writer);
+    }
+
+    private void renderMethods(List<Method> methods, boolean inInterface, CompilationUnit compilationUnit,
+                               JavaSourceWriter writer) {
+        writer.indent();
+        for (Method method : methods) {
+            methodRenderer.render(method, inInterface, compilationUnit, writer);
+            writer.endMember();
+        }
+        writer.outdent();
     }
 
     public List<String> renderInnerClasses(List<InnerClass> innerClasses, CompilationUnit compilationUnit) {
-        return innerClasses.stream()
-                .flatMap(ic -> renderInnerClass(ic, compilationUnit))
-                .toList();
+        return collectLines(writer -> renderInnerClasses(innerClasses, compilationUnit, writer));
     }
 
-    private Stream<String> renderInnerClass(InnerClass innerClass, CompilationUnit compilationUnit) {
-        innerClassRenderer = Objects.requireNonNullElseGet(innerClassRenderer, () -> new InnerClassRenderer(indenter));
-        return addEmptyLine(innerClassRenderer.render(innerClass, compilationUnit).stream()
-                .map(this::javaIndent));
+    public void renderInnerClasses(List<InnerClass> innerClasses, CompilationUnit compilationUnit,
+                                   JavaSourceWriter writer) {
+        writer.indent();
+        for (InnerClass innerClass : innerClasses) {
+            innerClassRenderer =
+                    Objects.requireNonNullElseGet(innerClassRenderer, () -> new InnerClassRenderer(indenter));
+            innerClassRenderer.render(innerClass, compilationUnit, writer);
+            writer.endMember();
+        }
+        writer.outdent();
     }
 
     public List<String> renderInnerInterfaces(List<InnerInterface> innerInterfaces, CompilationUnit compilationUnit) {
-        return innerInterfaces.stream()
-                .flatMap(ii -> renderInnerInterface(ii, compilationUnit))
-                .toList();
+        return collectLines(writer -> renderInnerInterfaces(innerInterfaces, compilationUnit, writer));
     }
 
-    private Stream<String> renderInnerInterface(InnerInterface innerInterface, CompilationUnit compilationUnit) {
-        innerInterfaceRenderer =
-                Objects.requireNonNullElseGet(innerInterfaceRenderer, () -> new InnerInterfaceRenderer(indenter));
-        return addEmptyLine(innerInterfaceRenderer.render(innerInterface, compilationUnit).stream()
-                .map(this::javaIndent));
+    public void renderInnerInterfaces(List<InnerInterface> innerInterfaces, CompilationUnit compilationUnit,
+                                      JavaSourceWriter writer) {
+        writer.indent();
+        for (InnerInterface innerInterface : innerInterfaces) {
+            innerInterfaceRenderer =
+                    Objects.requireNonNullElseGet(innerInterfaceRenderer, () -> new InnerInterfaceRenderer(indenter));
+            innerInterfaceRenderer.render(innerInterface, compilationUnit, writer);
+            writer.endMember();
+        }
+        writer.outdent();
     }
 
     public List<String> renderInnerEnums(List<InnerEnum> innerEnums, CompilationUnit compilationUnit) {
-        return innerEnums.stream()
-                .flatMap(ie -> renderInnerEnum(ie, compilationUnit))
-                .toList();
+        return collectLines(writer -> renderInnerEnums(innerEnums, compilationUnit, writer));
     }
 
-    private Stream<String> renderInnerEnum(InnerEnum innerEnum, CompilationUnit compilationUnit) {
-        innerEnumRenderer = Objects.requireNonNullElseGet(innerEnumRenderer, () -> new InnerEnumRenderer(indenter));
-        return addEmptyLine(innerEnumRenderer.render(innerEnum, compilationUnit).stream()
-                .map(this::javaIndent));
+    public void renderInnerEnums(List<InnerEnum> innerEnums, CompilationUnit compilationUnit,
+                                 JavaSourceWriter writer) {
+        writer.indent();
+        for (InnerEnum innerEnum : innerEnums) {
+            innerEnumRenderer =
+                    Objects.requireNonNullElseGet(innerEnumRenderer, () -> new InnerEnumRenderer(indenter));
+            innerEnumRenderer.render(innerEnum, compilationUnit, writer);
+            writer.endMember();
+        }
+        writer.outdent();
     }
 
     public List<String> renderInnerRecords(List<InnerRecord> innerRecords, CompilationUnit compilationUnit) {
-        return innerRecords.stream()
-                .flatMap(ir -> renderInnerRecord(ir, compilationUnit))
-                .toList();
+        return collectLines(writer -> renderInnerRecords(innerRecords, compilationUnit, writer));
     }
 
-    private Stream<String> renderInnerRecord(InnerRecord innerRecord, CompilationUnit compilationUnit) {
-        innerRecordRenderer =
-                Objects.requireNonNullElseGet(innerRecordRenderer, () -> new InnerRecordRenderer(indenter));
-        return addEmptyLine(innerRecordRenderer.render(innerRecord, compilationUnit).stream()
-                .map(this::javaIndent));
+    public void renderInnerRecords(List<InnerRecord> innerRecords, CompilationUnit compilationUnit,
+                                   JavaSourceWriter writer) {
+        writer.indent();
+        for (InnerRecord innerRecord : innerRecords) {
+            innerRecordRenderer =
+                    Objects.requireNonNullElseGet(innerRecordRenderer, () -> new InnerRecordRenderer(indenter));
+            innerRecordRenderer.render(innerRecord, compilationUnit, writer);
+            writer.endMember();
+        }
+        writer.outdent();
     }
 
     public List<String> renderPackage(CompilationUnit compilationUnit) {
-        List<String> answer = new ArrayList<>();
+        return collectLines(writer -> renderPackage(compilationUnit, writer));
+    }
 
+    public void renderPackage(CompilationUnit compilationUnit, JavaSourceWriter writer) {
         String pack = compilationUnit.getType().getPackageName();
         if (stringHasValue(pack)) {
-            answer.add("package " + pack + ";"); //$NON-NLS-1$ //$NON-NLS-2$
-            answer.add(""); //$NON-NLS-1$
+            writer.writeLine("package " + pack + ";"); //$NON-NLS-1$ //$NON-NLS-2$
+            writer.writeLine(""); //$NON-NLS-1$
         }
-        return answer;
     }
 
     public List<String> renderStaticImports(CompilationUnit compilationUnit) {
+        return collectLines(writer -> renderStaticImports(compilationUnit, writer));
+    }
+
+    public void renderStaticImports(CompilationUnit compilationUnit, JavaSourceWriter writer) {
         if (compilationUnit.getStaticImports().isEmpty()) {
-            return List.of();
+            return;
         }
 
-        return addEmptyLine(compilationUnit.getStaticImports().stream()
-                .map(s -> "import static " + s + ";")) //$NON-NLS-1$ //$NON-NLS-2$
-                .toList();
+        for (String staticImport : compilationUnit.getStaticImports()) {
+            writer.writeLine("import static " + staticImport + ";"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        writer.writeLine(""); //$NON-NLS-1$
     }
 
     public List<String> renderImports(CompilationUnit compilationUnit) {
-        Set<String> imports = renderImports(compilationUnit.getImportedTypes());
+        return collectLines(writer -> renderImports(compilationUnit, writer));
+    }
+
+    public void renderImports(CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        Set<String> imports = compilationUnit.getImportLines();
 
         if (imports.isEmpty()) {
-            return List.of();
+            return;
         }
 
-        return addEmptyLine(imports.stream()).toList();
-    }
-
-    private Set<String> renderImports(Set<FullyQualifiedJavaType> imports) {
-        return imports.stream()
-                .map(FullyQualifiedJavaType::getImportList)
-                .flatMap(List::stream)
-                .map(this::toFullImport)
-                .collect(Collectors.toCollection(TreeSet::new));
-    }
-
-    private String toFullImport(String s) {
-        return "import " + s + ";"; //$NON-NLS-1$ //$NON-NLS-2$
+        for (String importLine : imports) {
+            writer.writeLine(importLine);
+        }
+        writer.writeLine(""); //$NON-NLS-1$
     }
 
     protected List<String> renderInnerTypes(AbstractJavaType abstractJavaType, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
+        return collectLines(writer -> renderInnerTypes(abstractJavaType, compilationUnit, writer));
+    }
 
+    protected void renderInnerTypes(AbstractJavaType abstractJavaType, CompilationUnit compilationUnit,
+                                    JavaSourceWriter writer) {
         if (!abstractJavaType.getInnerClasses().isEmpty()) {
-            lines.addAll(renderInnerClasses(abstractJavaType.getInnerClasses(), compilationUnit));
+            renderInnerClasses(abstractJavaType.getInnerClasses(), compilationUnit, writer);
         }
 
         if (!abstractJavaType.getInnerInterfaces().isEmpty()) {
-            lines.addAll(renderInnerInterfaces(abstractJavaType.getInnerInterfaces(), compilationUnit));
+            renderInnerInterfaces(abstractJavaType.getInnerInterfaces(), compilationUnit, writer);
         }
 
         if (!abstractJavaType.getInnerEnums().isEmpty()) {
-            lines.addAll(renderInnerEnums(abstractJavaType.getInnerEnums(), compilationUnit));
+            renderInnerEnums(abstractJavaType.getInnerEnums(), compilationUnit, writer);
         }
 
         if (!abstractJavaType.getInnerRecords().isEmpty()) {
-            lines.addAll(renderInnerRecords(abstractJavaType.getInnerRecords(), compilationUnit));
+            renderInnerRecords(abstractJavaType.getInnerRecords(), compilationUnit, writer);
         }
-
-        return lines;
     }
 
-    private Stream<String> addEmptyLine(Stream<String> in) {
-        return Stream.of(in, Stream.of("")) //$NON-NLS-1$
-                .flatMap(Function.identity());
-    }
-
-    private String javaIndent(String in) {
-        if (in.isEmpty()) {
-            return in; // don't indent empty lines
-        }
-
-        return indenter.javaIndent(1) + in;
+    protected List<String> collectLines(Consumer<JavaSourceWriter> renderer) {
+        return JavaSourceWriter.collectLines(indenter, renderer);
     }
 }
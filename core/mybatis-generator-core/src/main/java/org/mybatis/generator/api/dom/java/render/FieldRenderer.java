@@ -35,6 +35,12 @@ public class FieldRenderer {
         return lines;
     }
 
+    public void render(Field field, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        writer.writeLines(field.getJavaDocLines());
+        writer.writeLines(field.getAnnotations());
+        writer.writeLine(renderField(field, compilationUnit));
+    }
+
     private String renderField(Field field, CompilationUnit compilationUnit) {
         StringBuilder sb = new StringBuilder();
         sb.append(field.getVisibility().getValue());
@@ -15,7 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.mybatis.generator.api.Indenter;
@@ -23,20 +22,23 @@ import org.mybatis.generator.api.dom.java.InitializationBlock;
 
 public class InitializationBlockRenderer {
 
+    private final Indenter indenter;
     private final BodyLineRenderer bodyLineRenderer;
 
     public InitializationBlockRenderer(Indenter indenter) {
+        this.indenter = indenter;
         bodyLineRenderer = new BodyLineRenderer(indenter);
     }
 
     public List<String> render(InitializationBlock initializationBlock) {
+        return JavaSourceWriter.collectLines(indenter, writer -> render(initializationBlock, writer));
+    }
 
-        List<String> lines = new ArrayList<>(initializationBlock.getJavaDocLines());
-        lines.add(renderFirstLine(initializationBlock));
-        lines.addAll(bodyLineRenderer.render(initializationBlock.getBodyLines()));
-        lines.add("}"); //$NON-NLS-1$
-
-        return lines;
+    public void render(InitializationBlock initializationBlock, JavaSourceWriter writer) {
+        writer.writeLines(initializationBlock.getJavaDocLines());
+        writer.writeLine(renderFirstLine(initializationBlock));
+        bodyLineRenderer.render(initializationBlock.getBodyLines(), writer);
+        writer.writeLine("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InitializationBlock initializationBlock) {
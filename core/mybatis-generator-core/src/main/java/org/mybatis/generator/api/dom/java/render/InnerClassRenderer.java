@@ -15,9 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.internal.util.StringUtility.removeLastEmptyLine;
-
-import java.util.ArrayList;
 import java.util.List;
 
 import org.mybatis.generator.api.Indenter;
@@ -32,20 +29,18 @@ public class InnerClassRenderer extends AbstractJavaRenderer {
     }
 
     public List<String> render(InnerClass innerClass, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerClass.getJavaDocLines());
-        lines.addAll(innerClass.getAnnotations());
-        lines.add(renderFirstLine(innerClass, compilationUnit));
-        lines.addAll(renderFields(innerClass.getFields(), compilationUnit));
-        lines.addAll(renderInitializationBlocks(innerClass.getInitializationBlocks()));
-        lines.addAll(renderClassOrEnumMethods(innerClass.getMethods(), compilationUnit));
-        lines.addAll(renderInnerTypes(innerClass, compilationUnit));
-        lines = removeLastEmptyLine(lines);
-
-        lines.add("}"); //$NON-NLS-1$
+        return collectLines(writer -> render(innerClass, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(InnerClass innerClass, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        writer.writeLines(innerClass.getJavaDocLines());
+        writer.writeLines(innerClass.getAnnotations());
+        writer.writeLine(renderFirstLine(innerClass, compilationUnit));
+        renderFields(innerClass.getFields(), compilationUnit, writer);
+        renderInitializationBlocks(innerClass.getInitializationBlocks(), writer);
+        renderClassOrEnumMethods(innerClass.getMethods(), compilationUnit, writer);
+        renderInnerTypes(innerClass, compilationUnit, writer);
+        writer.closeBlock();
     }
 
     private String renderFirstLine(InnerClass innerClass, CompilationUnit compilationUnit) {
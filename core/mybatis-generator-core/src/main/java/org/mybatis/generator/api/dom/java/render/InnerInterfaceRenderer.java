@@ -15,9 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.internal.util.StringUtility.removeLastEmptyLine;
-
-import java.util.ArrayList;
 import java.util.List;
 
 import org.mybatis.generator.api.Indenter;
@@ -32,19 +29,17 @@ public class InnerInterfaceRenderer extends AbstractJavaRenderer {
     }
 
     public List<String> render(InnerInterface innerInterface, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerInterface.getJavaDocLines());
-        lines.addAll(innerInterface.getAnnotations());
-        lines.add(renderFirstLine(innerInterface, compilationUnit));
-        lines.addAll(renderFields(innerInterface.getFields(), compilationUnit));
-        lines.addAll(renderInterfaceMethods(innerInterface.getMethods(), compilationUnit));
-        lines.addAll(renderInnerTypes(innerInterface, compilationUnit));
-        lines = removeLastEmptyLine(lines);
-
-        lines.add("}"); //$NON-NLS-1$
+        return collectLines(writer -> render(innerInterface, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(InnerInterface innerInterface, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        writer.writeLines(innerInterface.getJavaDocLines());
+        writer.writeLines(innerInterface.getAnnotations());
+        writer.writeLine(renderFirstLine(innerInterface, compilationUnit));
+        renderFields(innerInterface.getFields(), compilationUnit, writer);
+        renderInterfaceMethods(innerInterface.getMethods(), compilationUnit, writer);
+        renderInnerTypes(innerInterface, compilationUnit, writer);
+        writer.closeBlock();
     }
 
     private String renderFirstLine(InnerInterface innerInterface, CompilationUnit compilationUnit) {
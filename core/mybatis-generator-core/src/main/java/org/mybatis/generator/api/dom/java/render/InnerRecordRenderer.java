@@ -15,9 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.internal.util.StringUtility.removeLastEmptyLine;
-
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,20 +32,18 @@ public class InnerRecordRenderer extends AbstractJavaRenderer {
     }
 
     public List<String> render(InnerRecord innerRecord, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerRecord.getJavaDocLines());
-        lines.addAll(innerRecord.getAnnotations());
-        lines.add(renderFirstLine(innerRecord, compilationUnit));
-        lines.addAll(renderFields(innerRecord.getFields(), compilationUnit));
-        lines.addAll(renderInitializationBlocks(innerRecord.getInitializationBlocks()));
-        lines.addAll(renderClassOrEnumMethods(innerRecord.getMethods(), compilationUnit));
-        lines.addAll(renderInnerTypes(innerRecord, compilationUnit));
-        lines = removeLastEmptyLine(lines);
-
-        lines.add("}"); //$NON-NLS-1$
+        return collectLines(writer -> render(innerRecord, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(InnerRecord innerRecord, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        writer.writeLines(innerRecord.getJavaDocLines());
+        writer.writeLines(innerRecord.getAnnotations());
+        writer.writeLine(renderFirstLine(innerRecord, compilationUnit));
+        renderFields(innerRecord.getFields(), compilationUnit, writer);
+        renderInitializationBlocks(innerRecord.getInitializationBlocks(), writer);
+        renderClassOrEnumMethods(innerRecord.getMethods(), compilationUnit, writer);
+        renderInnerTypes(innerRecord, compilationUnit, writer);
+        writer.closeBlock();
     }
 
     private String renderFirstLine(InnerRecord innerRecord, CompilationUnit compilationUnit) {
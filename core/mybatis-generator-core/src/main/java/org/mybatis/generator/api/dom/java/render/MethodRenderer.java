@@ -15,7 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,25 +28,28 @@ import org.mybatis.generator.internal.util.CustomCollectors;
 public class MethodRenderer {
     private final TypeParameterRenderer typeParameterRenderer = new TypeParameterRenderer();
     private final ParameterRenderer parameterRenderer = new ParameterRenderer();
+    private final Indenter indenter;
     private final BodyLineRenderer bodyLineRenderer;
 
     public MethodRenderer(Indenter indenter) {
+        this.indenter = indenter;
         bodyLineRenderer = new BodyLineRenderer(indenter);
     }
 
     public List<String> render(Method method, boolean inInterface, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
+        return JavaSourceWriter.collectLines(indenter, writer -> render(method, inInterface, compilationUnit, writer));
+    }
 
-        lines.addAll(method.getJavaDocLines());
-        lines.addAll(method.getAnnotations());
-        lines.add(getFirstLine(method, inInterface, compilationUnit));
+    public void render(Method method, boolean inInterface, CompilationUnit compilationUnit,
+                       JavaSourceWriter writer) {
+        writer.writeLines(method.getJavaDocLines());
+        writer.writeLines(method.getAnnotations());
+        writer.writeLine(getFirstLine(method, inInterface, compilationUnit));
 
         if (!method.isAbstract() && !method.isNative()) {
-            lines.addAll(bodyLineRenderer.render(method.getBodyLines()));
-            lines.add("}"); //$NON-NLS-1$
+            bodyLineRenderer.render(method.getBodyLines(), writer);
+            writer.writeLine("}"); //$NON-NLS-1$
         }
-
-        return lines;
     }
 
     private String getFirstLine(Method method, boolean inInterface, CompilationUnit compilationUnit) {
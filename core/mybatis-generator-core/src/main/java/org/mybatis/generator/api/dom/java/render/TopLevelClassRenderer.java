@@ -15,10 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.java.TopLevelClass;
 
@@ -28,14 +24,16 @@ public class TopLevelClassRenderer extends InnerClassRenderer {
     }
 
     public String render(TopLevelClass topLevelClass) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(topLevelClass.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelClass));
-        lines.addAll(renderStaticImports(topLevelClass));
-        lines.addAll(renderImports(topLevelClass));
-        lines.addAll(render(topLevelClass, topLevelClass));
+        StringBuilder sb = new StringBuilder();
+        render(topLevelClass, new JavaSourceWriter(sb, indenter));
+        return sb.toString();
+    }
 
-        return lines.stream().collect(Collectors.joining(System.lineSeparator()));
+    public void render(TopLevelClass topLevelClass, JavaSourceWriter writer) {
+        writer.writeLines(topLevelClass.getFileCommentLines());
+        renderPackage(topLevelClass, writer);
+        renderStaticImports(topLevelClass, writer);
+        renderImports(topLevelClass, writer);
+        render(topLevelClass, topLevelClass, writer);
     }
 }
@@ -15,10 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.java.TopLevelEnumeration;
 
@@ -28,14 +24,16 @@ public class TopLevelEnumerationRenderer extends InnerEnumRenderer {
     }
 
     public String render(TopLevelEnumeration topLevelEnumeration) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(topLevelEnumeration.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelEnumeration));
-        lines.addAll(renderStaticImports(topLevelEnumeration));
-        lines.addAll(renderImports(topLevelEnumeration));
-        lines.addAll(render(topLevelEnumeration, topLevelEnumeration));
+        StringBuilder sb = new StringBuilder();
+        render(topLevelEnumeration, new JavaSourceWriter(sb, indenter));
+        return sb.toString();
+    }
 
-        return lines.stream().collect(Collectors.joining(System.lineSeparator()));
+    public void render(TopLevelEnumeration topLevelEnumeration, JavaSourceWriter writer) {
+        writer.writeLines(topLevelEnumeration.getFileCommentLines());
+        renderPackage(topLevelEnumeration, writer);
+        renderStaticImports(topLevelEnumeration, writer);
+        renderImports(topLevelEnumeration, writer);
+        render(topLevelEnumeration, topLevelEnumeration, writer);
     }
 }
@@ -15,10 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.java.Interface;
 
@@ -28,14 +24,16 @@ public class TopLevelInterfaceRenderer extends InnerInterfaceRenderer {
     }
 
     public String render(Interface topLevelInterface) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(topLevelInterface.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelInterface));
-        lines.addAll(renderStaticImports(topLevelInterface));
-        lines.addAll(renderImports(topLevelInterface));
-        lines.addAll(render(topLevelInterface, topLevelInterface));
+        StringBuilder sb = new StringBuilder();
+        render(topLevelInterface, new JavaSourceWriter(sb, indenter));
+        return sb.toString();
+    }
 
-        return lines.stream().collect(Collectors.joining(System.lineSeparator()));
+    public void render(Interface topLevelInterface, JavaSourceWriter writer) {
+        writer.writeLines(topLevelInterface.getFileCommentLines());
+        renderPackage(topLevelInterface, writer);
+        renderStaticImports(topLevelInterface, writer);
+        renderImports(topLevelInterface, writer);
+        render(topLevelInterface, topLevelInterface, writer);
     }
 }
@@ -15,10 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.java.TopLevelRecord;
 
@@ -28,14 +24,16 @@ public class TopLevelRecordRenderer extends InnerRecordRenderer {
     }
 
     public String render(TopLevelRecord topLevelRecord) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(topLevelRecord.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelRecord));
-        lines.addAll(renderStaticImports(topLevelRecord));
-        lines.addAll(renderImports(topLevelRecord));
-        lines.addAll(render(topLevelRecord, topLevelRecord));
+        StringBuilder sb = new StringBuilder();
+        render(topLevelRecord, new JavaSourceWriter(sb, indenter));
+        return sb.toString();
+    }
 
-        return lines.stream().collect(Collectors.joining(System.lineSeparator()));
+    public void render(TopLevelRecord topLevelRecord, JavaSourceWriter writer) {
+        writer.writeLines(topLevelRecord.getFileCommentLines());
+        renderPackage(topLevelRecord, writer);
+        renderStaticImports(topLevelRecord, writer);
+        renderImports(topLevelRecord, writer);
+        render(topLevelRecord, topLevelRecord, writer);
     }
 }
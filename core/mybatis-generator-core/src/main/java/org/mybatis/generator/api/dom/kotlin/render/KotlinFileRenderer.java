@@ -15,46 +15,56 @@
  */
 package org.mybatis.generator.api.dom.kotlin.render;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.io.UncheckedIOException;
 
 import org.mybatis.generator.api.dom.kotlin.KotlinFile;
 import org.mybatis.generator.api.dom.kotlin.KotlinNamedItem;
 
 public class KotlinFileRenderer {
     public String render(KotlinFile kotlinFile) {
-        List<String> lines = new ArrayList<>();
-        KotlinNamedItemRenderer renderer = new KotlinNamedItemRenderer();
+        StringBuilder sb = new StringBuilder();
+        render(kotlinFile, sb);
+        return sb.toString();
+    }
 
-        kotlinFile.getPackage().ifPresent(p -> lines.add("package " + p)); //$NON-NLS-1$
+    /**
+     * Writes the file to an appendable, without building the file as a string.
+     *
+     * @param kotlinFile the file to render
+     * @param appendable where the file is written
+     * @throws UncheckedIOException if the appendable throws an IOException
+     */
+    public void render(KotlinFile kotlinFile, Appendable appendable) {
+        KotlinSourceWriter writer = new KotlinSourceWriter(appendable);
+        KotlinNamedItemRenderer renderer = new KotlinNamedItemRenderer();
 
-        lines.addAll(prependBlankLineIfNotEmpty(lines.size(), renderImports(kotlinFile)));
+        writer.writeLines(kotlinFile.getFileCommentLines());
 
-        for (KotlinNamedItem item : kotlinFile.getNamedItems()) {
-            lines.addAll(prependBlankLineIfNotEmpty(lines.size(), renderer.render(item)));
+        // sections are separated by a blank line, but there is no blank line after the file comments
+        boolean hasContent = false;
+        if (kotlinFile.getPackage().isPresent()) {
+            writer.writeLine("package " + kotlinFile.getPackage().get()); //$NON-NLS-1$
+            hasContent = true;
         }
 
-        lines.addAll(0, kotlinFile.getFileCommentLines());
-        return lines.stream()
-                .collect(Collectors.joining(System.lineSeparator()));
-    }
-
-    private List<String> prependBlankLineIfNotEmpty(int currentLength, List<String> in) {
-        if (in.isEmpty() || currentLength == 0) {
-            return in;
+        if (!kotlinFile.getImports().isEmpty()) {
+            writeSectionSeparator(writer, hasContent);
+            for (String s : kotlinFile.getImports()) {
+                writer.writeLine("import " + s); //$NON-NLS-1$
+            }
+            hasContent = true;
         }
 
-        return Stream.of(Stream.of(""), in.stream()) //$NON-NLS-1$
-                .flatMap(Function.identity())
-                .toList();
+        for (KotlinNamedItem item : kotlinFile.getNamedItems()) {
+            writeSectionSeparator(writer, hasContent);
+            renderer.render(item, writer);
+            hasContent = true;
+        }
     }
 
-    private List<String> renderImports(KotlinFile kotlinFile) {
-        return kotlinFile.getImports().stream()
-                .map(s -> "import " + s) //$NON-NLS-1$
-                .toList();
+    private void writeSectionSeparator(KotlinSourceWriter writer, boolean hasContent) {
+        if (hasContent) {
+            writer.writeLine(""); //$NON-NLS-1$
+        }
     }
 }
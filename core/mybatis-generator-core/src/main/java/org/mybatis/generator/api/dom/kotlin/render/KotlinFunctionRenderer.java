@@ -15,7 +15,6 @@
  */
 package org.mybatis.generator.api.dom.kotlin.render;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,19 +22,21 @@ import org.mybatis.generator.api.dom.kotlin.KotlinFunction;
 
 public class KotlinFunctionRenderer {
     public List<String> render(KotlinFunction function) {
+        return KotlinSourceWriter.collectLines(writer -> render(function, writer));
+    }
 
-        List<String> answer = new ArrayList<>(function.getAnnotations());
+    public void render(KotlinFunction function, KotlinSourceWriter writer) {
+        writer.writeLines(function.getAnnotations());
 
-        answer.add(renderFirstLine(function));
+        writer.writeLine(renderFirstLine(function));
 
-        answer.addAll(function.getCodeLines().stream().map(KotlinRenderingUtilities::kotlinIndent)
-                        .toList());
+        writer.indent();
+        writer.writeLines(function.getCodeLines());
+        writer.outdent();
 
         if (!function.getCodeLines().isEmpty() && !function.isOneLineFunction()) {
-            answer.add("}"); //$NON-NLS-1$
+            writer.writeLine("}"); //$NON-NLS-1$
         }
-
-        return answer;
     }
 
     private String renderFirstLine(KotlinFunction function) {
@@ -28,6 +28,10 @@ public class KotlinNamedItemRenderer implements KotlinNamedItemVisitor<List<Stri
         return namedItem.accept(this);
     }
 
+    public void render(KotlinNamedItem namedItem, KotlinSourceWriter writer) {
+        namedItem.accept(new WritingVisitor(writer));
+    }
+
     @Override
     public List<String> visit(KotlinType kotlinType) {
         return new KotlinTypeRenderer().render(kotlinType);
@@ -42,4 +46,30 @@ public class KotlinNamedItemRenderer implements KotlinNamedItemVisitor<List<Stri
     public List<String> visit(KotlinFunction kotlinFunction) {
         return new KotlinFunctionRenderer().render(kotlinFunction);
     }
+
+    private static class WritingVisitor implements KotlinNamedItemVisitor<KotlinSourceWriter> {
+        private final KotlinSourceWriter writer;
+
+        WritingVisitor(KotlinSourceWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public KotlinSourceWriter visit(KotlinType kotlinType) {
+            new KotlinTypeRenderer().render(kotlinType, writer);
+            return writer;
+        }
+
+        @Override
+        public KotlinSourceWriter visit(KotlinProperty kotlinProperty) {
+            new KotlinPropertyRenderer().render(kotlinProperty, writer);
+            return writer;
+        }
+
+        @Override
+        public KotlinSourceWriter visit(KotlinFunction kotlinFunction) {
+            new KotlinFunctionRenderer().render(kotlinFunction, writer);
+            return writer;
+        }
+    }
 }
@@ -15,7 +15,6 @@
  */
 package org.mybatis.generator.api.dom.kotlin.render;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.mybatis.generator.api.dom.kotlin.KotlinProperty;
@@ -23,12 +22,15 @@ import org.mybatis.generator.api.dom.kotlin.KotlinProperty;
 public class KotlinPropertyRenderer {
 
     public List<String> render(KotlinProperty kotlinProperty) {
-        List<String> answer = new ArrayList<>(kotlinProperty.getAnnotations());
-        answer.add(renderProperty(kotlinProperty));
-        return answer;
+        return KotlinSourceWriter.collectLines(writer -> render(kotlinProperty, writer));
     }
 
-    private String renderProperty(KotlinProperty kotlinProperty) {
+    public void render(KotlinProperty kotlinProperty, KotlinSourceWriter writer) {
+        writer.writeLines(kotlinProperty.getAnnotations());
+        writer.writeLine(renderProperty(kotlinProperty));
+    }
+
+    String renderProperty(KotlinProperty kotlinProperty) {
         return KotlinRenderingUtilities.renderModifiers(kotlinProperty.getModifiers())
                 + kotlinProperty.getType().getValue()
                 + " " //$NON-NLS-1$
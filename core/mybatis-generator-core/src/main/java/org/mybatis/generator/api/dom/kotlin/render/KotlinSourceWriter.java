@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.kotlin.render;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.mybatis.generator.api.Indenter;
+
+/**
+ * Writes the lines of a Kotlin source file directly to an {@link Appendable}. The writer keeps track of the nesting
+ * depth, so a line is indented once when it is written rather than once for every enclosing type. Lines are
+ * separated, not terminated, by the system line separator - the same as joining the lines of a file.
+ *
+ * <p>Items in a type are separated by an empty line, but no empty line is written between the last item and
+ * the closing brace of the type. Renderers call {@link #endItem()} after each item, and {@link #closeBlock()}
+ * to close the type.
+ *
+ * <p>Errors from the appendable are thrown as {@link UncheckedIOException}.
+ */
+public class KotlinSourceWriter {
+    private final Appendable appendable;
+    private final String indent = Indenter.kotlinIndent(1);
+    private final String lineSeparator = System.lineSeparator();
+    private int depth;
+    private boolean isFirstLine = true;
+    private boolean hasPendingEmptyLine;
+
+    public KotlinSourceWriter(Appendable appendable) {
+        this.appendable = appendable;
+    }
+
+    public void indent() {
+        depth++;
+    }
+
+    public void outdent() {
+        depth--;
+    }
+
+    /**
+     * Writes a line at the current depth. Empty lines are never indented.
+     *
+     * @param line the line to write
+     */
+    public void writeLine(String line) {
+        finish();
+        newLine();
+        if (!line.isEmpty()) {
+            for (int i = depth; i > 0; i--) {
+                append(indent);
+            }
+            append(line);
+        }
+    }
+
+    public void writeLines(List<String> lines) {
+        for (String line : lines) {
+            writeLine(line);
+        }
+    }
+
+    /**
+     * Marks the end of an item in a type. An empty line will be written before the next line, unless the next
+     * line closes the type.
+     */
+    public void endItem() {
+        hasPendingEmptyLine = true;
+    }
+
+    /**
+     * Closes a type with a brace at the current depth.
+     */
+    public void closeBlock() {
+        hasPendingEmptyLine = false;
+        writeLine("}"); //$NON-NLS-1$
+    }
+
+    /**
+     * Writes an empty line if an item has ended and no line has been written since.
+     */
+    public void finish() {
+        if (hasPendingEmptyLine) {
+            hasPendingEmptyLine = false;
+            newLine();
+        }
+    }
+
+    protected void newLine() {
+        if (isFirstLine) {
+            isFirstLine = false;
+        } else {
+            append(lineSeparator);
+        }
+    }
+
+    private void append(String s) {
+        try {
+            appendable.append(s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Renders to a list of lines rather than a single string. This supports the list based rendering methods.
+     *
+     * @param renderer a function that writes lines to the writer
+     * @return the lines written by the renderer
+     */
+    static List<String> collectLines(Consumer<KotlinSourceWriter> renderer) {
+        LineCollector lineCollector = new LineCollector(new StringBuilder());
+        renderer.accept(lineCollector);
+        return lineCollector.getLines();
+    }
+
+    private static class LineCollector extends KotlinSourceWriter {
+        private final StringBuilder currentLine;
+        private final List<String> lines = new ArrayList<>();
+        private boolean hasCurrentLine;
+
+        LineCollector(StringBuilder currentLine) {
+            super(currentLine);
+            this.currentLine = currentLine;
+        }
+
+        @Override
+        protected void newLine() {
+            if (hasCurrentLine) {
+                lines.add(currentLine.toString());
+                currentLine.setLength(0);
+            }
+            hasCurrentLine = true;
+        }
+
+        List<String> getLines() {
+            finish();
+            if (hasCurrentLine) {
+                lines.add(currentLine.toString());
+                hasCurrentLine = false;
+            }
+            return lines;
+        }
+    }
+}
@@ -15,9 +15,6 @@
  */
 package org.mybatis.generator.api.dom.kotlin.render;
 
-import static org.mybatis.generator.internal.util.StringUtility.removeLastEmptyLine;
-
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -28,9 +25,11 @@ import org.mybatis.generator.internal.util.CustomCollectors;
 
 public class KotlinTypeRenderer {
     public List<String> render(KotlinType kotlinType) {
-        KotlinNamedItemRenderer renderer = new KotlinNamedItemRenderer();
+        return KotlinSourceWriter.collectLines(writer -> render(kotlinType, writer));
+    }
 
-        List<String> answer = new ArrayList<>(kotlinType.getAnnotations());
+    public void render(KotlinType kotlinType, KotlinSourceWriter writer) {
+        writer.writeLines(kotlinType.getAnnotations());
 
         String renderedModifiers = KotlinRenderingUtilities.renderModifiers(kotlinType.getModifiers())
                 + kotlinType.getType().getValue(); //$NON-NLS-1$
@@ -49,51 +48,46 @@ public class KotlinTypeRenderer {
 
         if (kotlinType.getNamedItems().isEmpty()) {
             if (kotlinType.getConstructorProperties().isEmpty()) {
-                answer.add(renderedModifiersAndName + renderedSuperTypes);
+                writer.writeLine(renderedModifiersAndName + renderedSuperTypes);
             } else {
-                answer.add(renderedModifiersAndName + "("); //$NON-NLS-1$
-                answer.addAll(renderConstructorItems(kotlinType));
-                answer.add(")" + renderedSuperTypes); //$NON-NLS-1$
+                writer.writeLine(renderedModifiersAndName + "("); //$NON-NLS-1$
+                renderConstructorItems(kotlinType, writer);
+                writer.writeLine(")" + renderedSuperTypes); //$NON-NLS-1$
             }
         } else {
             if (kotlinType.getConstructorProperties().isEmpty()) {
-                answer.add(renderedModifiersAndName + renderedSuperTypes + " {"); //$NON-NLS-1$
+                writer.writeLine(renderedModifiersAndName + renderedSuperTypes + " {"); //$NON-NLS-1$
             } else {
-                answer.add(renderedModifiersAndName + "("); //$NON-NLS-1$
-                answer.addAll(renderConstructorItems(kotlinType));
-                answer.add(")" + renderedSuperTypes + " {"); //$NON-NLS-1$ //$NON-NLS-2$
+                writer.writeLine(renderedModifiersAndName + "("); //$NON-NLS-1$
+                renderConstructorItems(kotlinType, writer);
+                writer.writeLine(")" + renderedSuperTypes + " {"); //$NON-NLS-1$ //$NON-NLS-2$
             }
-        }
-
-        for (KotlinNamedItem namedItem : kotlinType.getNamedItems()) {
-            answer.addAll(renderer.render(namedItem).stream().map(KotlinRenderingUtilities::kotlinIndent)
-                    .toList());
-            answer.add(""); //$NON-NLS-1$
-        }
 
-        answer = removeLastEmptyLine(answer);
-
-        if (!kotlinType.getNamedItems().isEmpty()) {
-            answer.add("}"); //$NON-NLS-1$
+            KotlinNamedItemRenderer renderer = new KotlinNamedItemRenderer();
+            writer.indent();
+            for (KotlinNamedItem namedItem : kotlinType.getNamedItems()) {
+                renderer.render(namedItem, writer);
+                writer.endItem();
+            }
+            writer.outdent();
+            writer.closeBlock();
         }
-
-        return answer;
     }
 
-    private List<String> renderConstructorItems(KotlinType kotlinType) {
-        List<String> lines = new ArrayList<>();
+    private void renderConstructorItems(KotlinType kotlinType, KotlinSourceWriter writer) {
         KotlinPropertyRenderer renderer = new KotlinPropertyRenderer();
 
+        writer.indent();
         Iterator<KotlinProperty> iter = kotlinType.getConstructorProperties().iterator();
         while (iter.hasNext()) {
-            lines.addAll(renderer.render(iter.next()).stream().map(KotlinRenderingUtilities::kotlinIndent)
-                    .toList());
+            KotlinProperty kotlinProperty = iter.next();
+            writer.writeLines(kotlinProperty.getAnnotations());
             if (iter.hasNext()) {
-                lines.set(lines.size() - 1,
-                        lines.get(lines.size() - 1) + ","); //$NON-NLS-1$
+                writer.writeLine(renderer.renderProperty(kotlinProperty) + ","); //$NON-NLS-1$
+            } else {
+                writer.writeLine(renderer.renderProperty(kotlinProperty));
             }
         }
-
-        return lines;
+        writer.outdent();
     }
 }
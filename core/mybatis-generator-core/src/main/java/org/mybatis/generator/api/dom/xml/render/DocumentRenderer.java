@@ -16,9 +16,6 @@
 package org.mybatis.generator.api.dom.xml.render;
 
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.xml.DocType;
@@ -32,29 +29,33 @@ public class DocumentRenderer {
     }
 
     public String render(Document document) {
-        return Stream.of(renderXmlHeader(),
-                renderDocType(document),
-                renderRootElement(document))
-                .flatMap(Function.identity())
-                .collect(Collectors.joining(System.lineSeparator()));
+        StringBuilder sb = new StringBuilder();
+        render(document, sb);
+        return sb.toString();
     }
 
-    private Stream<String> renderXmlHeader() {
-        return Stream.of("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+    /**
+     * Writes the document depth first to an appendable, without building the document as a string.
+     *
+     * @param document the document to render
+     * @param appendable where the document is written
+     * @throws java.io.UncheckedIOException if the appendable throws an IOException
+     */
+    public void render(Document document, Appendable appendable) {
+        ElementWriter writer = new ElementWriter(appendable, indenter);
+        writer.writeLine("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+        writer.writeLine(renderDocType(document));
+        document.getRootElement().accept(writer);
     }
 
-    private Stream<String> renderDocType(Document document) {
-        return Stream.of("<!DOCTYPE " //$NON-NLS-1$
+    private String renderDocType(Document document) {
+        return "<!DOCTYPE " //$NON-NLS-1$
                 + document.getRootElement().getName()
                 + document.getDocType().map(this::renderDocType).orElse("") //$NON-NLS-1$
-                + ">"); //$NON-NLS-1$
+                + ">"; //$NON-NLS-1$
     }
 
     private String renderDocType(DocType docType) {
         return " " + docType.accept(new DocTypeRenderer()); //$NON-NLS-1$
     }
-
-    private Stream<String> renderRootElement(Document document) {
-        return document.getRootElement().accept(new ElementRenderer(indenter));
-    }
 }
@@ -15,21 +15,16 @@
  */
 package org.mybatis.generator.api.dom.xml.render;
 
-import java.util.Comparator;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.mybatis.generator.api.Indenter;
-import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.ElementVisitor;
 import org.mybatis.generator.api.dom.xml.TextElement;
-import org.mybatis.generator.api.dom.xml.VisitableElement;
 import org.mybatis.generator.api.dom.xml.XmlElement;
-import org.mybatis.generator.internal.util.CustomCollectors;
 
 public class ElementRenderer implements ElementVisitor<Stream<String>> {
 
-    private final AttributeRenderer attributeRenderer = new AttributeRenderer();
     private final Indenter indenter;
 
     public ElementRenderer(Indenter indenter) {
@@ -43,56 +38,10 @@ public class ElementRenderer implements ElementVisitor<Stream<String>> {
 
     @Override
     public Stream<String> visit(XmlElement element) {
-        if (element.hasChildren()) {
-            return renderWithChildren(element);
-        } else {
-            return renderWithoutChildren(element);
-        }
-    }
-
-    private Stream<String> renderWithoutChildren(XmlElement element) {
-        return Stream.of("<" //$NON-NLS-1$
-                + element.getName()
-                + renderAttributes(element)
-                + " />"); //$NON-NLS-1$
+        return ElementWriter.collectLines(indenter, element::accept).stream();
     }
 
     public Stream<String> renderWithChildren(XmlElement element) {
-        return Stream.of(renderOpen(element), renderChildren(element), renderClose(element))
-                .flatMap(s -> s);
-    }
-
-    private String renderAttributes(XmlElement element) {
-        return element.getAttributes().stream()
-                .sorted(Comparator.comparing(Attribute::name))
-                .map(attributeRenderer::render)
-                .collect(CustomCollectors.joining(" ", " ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-    }
-
-    private Stream<String> renderOpen(XmlElement element) {
-        return Stream.of("<" //$NON-NLS-1$
-                + element.getName()
-                + renderAttributes(element)
-                + ">"); //$NON-NLS-1$
-    }
-
-    private Stream<String> renderChildren(XmlElement element) {
-        return element.getElements().stream()
-                .flatMap(this::renderChild)
-                .map(this::indent);
-    }
-
-    private Stream<String> renderChild(VisitableElement child) {
-        return child.accept(this);
-    }
-
-    private String indent(String s) {
-        return indenter.xmlIndent(1) + s;
-    }
-
-    private Stream<String> renderClose(XmlElement element) {
-        return Stream.of("</" //$NON-NLS-1$
-                + element.getName()
-                + ">"); //$NON-NLS-1$
+        return visit(element);
     }
 }
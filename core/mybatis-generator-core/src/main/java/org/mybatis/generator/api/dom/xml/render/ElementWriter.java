@@ -0,0 +1,177 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.xml.render;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.ElementVisitor;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.VisitableElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+/**
+ * Writes XML elements directly to an {@link Appendable}. Elements are written depth first, and the writer keeps
+ * track of the nesting depth, so a line is indented once when it is written rather than once for every enclosing
+ * element. Lines are separated, not terminated, by the system line separator - the same as joining the lines of a
+ * document.
+ *
+ * <p>Errors from the appendable are thrown as {@link UncheckedIOException}.
+ */
+public class ElementWriter implements ElementVisitor<ElementWriter> {
+    private static final Comparator<Attribute> ATTRIBUTE_ORDER = Comparator.comparing(Attribute::name);
+
+    private final AttributeRenderer attributeRenderer = new AttributeRenderer();
+    private final Appendable appendable;
+    private final String indent;
+    private final String lineSeparator = System.lineSeparator();
+    private int depth;
+    private boolean isFirstLine = true;
+
+    public ElementWriter(Appendable appendable, Indenter indenter) {
+        this.appendable = Objects.requireNonNull(appendable);
+        indent = indenter.xmlIndent(1);
+    }
+
+    /**
+     * Writes a line at the current depth. Lines are always indented, even if they are empty.
+     *
+     * @param line the line to write
+     */
+    public void writeLine(String line) {
+        startLine();
+        append(line);
+    }
+
+    @Override
+    public ElementWriter visit(TextElement element) {
+        writeLine(element.content());
+        return this;
+    }
+
+    @Override
+    public ElementWriter visit(XmlElement element) {
+        startLine();
+        append("<"); //$NON-NLS-1$
+        append(element.getName());
+        writeAttributes(element.getAttributes());
+        if (element.hasChildren()) {
+            append(">"); //$NON-NLS-1$
+            depth++;
+            for (VisitableElement child : element.getElements()) {
+                child.accept(this);
+            }
+            depth--;
+            startLine();
+            append("</"); //$NON-NLS-1$
+            append(element.getName());
+            append(">"); //$NON-NLS-1$
+        } else {
+            append(" />"); //$NON-NLS-1$
+        }
+        return this;
+    }
+
+    private void writeAttributes(List<Attribute> attributes) {
+        for (Attribute attribute : sortAttributes(attributes)) {
+            append(" "); //$NON-NLS-1$
+            append(attributeRenderer.render(attribute));
+        }
+    }
+
+    private List<Attribute> sortAttributes(List<Attribute> attributes) {
+        // most elements are built with their attributes in order, so only copy the list if it must be sorted
+        for (int i = 1; i < attributes.size(); i++) {
+            if (ATTRIBUTE_ORDER.compare(attributes.get(i - 1), attributes.get(i)) > 0) {
+                List<Attribute> sorted = new ArrayList<>(attributes);
+                sorted.sort(ATTRIBUTE_ORDER);
+                return sorted;
+            }
+        }
+        return attributes;
+    }
+
+    protected void newLine() {
+        if (isFirstLine) {
+            isFirstLine = false;
+        } else {
+            append(lineSeparator);
+        }
+    }
+
+    private void startLine() {
+        newLine();
+        for (int i = depth; i > 0; i--) {
+            append(indent);
+        }
+    }
+
+    private void append(String s) {
+        try {
+            appendable.append(s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Renders to a list of lines rather than a single string. This supports the stream based element renderer.
+     *
+     * @param indenter the indenter
+     * @param renderer a function that writes lines to the writer
+     * @return the lines written by the renderer
+     */
+    static List<String> collectLines(Indenter indenter, Consumer<ElementWriter> renderer) {
+        LineCollector lineCollector = new LineCollector(new StringBuilder(), indenter);
+        renderer.accept(lineCollector);
+        return lineCollector.getLines();
+    }
+
+    private static class LineCollector extends ElementWriter {
+        private final StringBuilder currentLine;
+        private final List<String> lines = new ArrayList<>();
+        private boolean hasCurrentLine;
+
+        LineCollector(StringBuilder currentLine, Indenter indenter) {
+            super(currentLine, indenter);
+            this.currentLine = currentLine;
+        }
+
+        @Override
+        protected void newLine() {
+            if (hasCurrentLine) {
+                lines.add(currentLine.toString());
+                currentLine.setLength(0);
+            }
+            hasCurrentLine = true;
+        }
+
+        List<String> getLines() {
+            if (hasCurrentLine) {
+                lines.add(currentLine.toString());
+                hasCurrentLine = false;
+            }
+            return lines;
+        }
+    }
+}
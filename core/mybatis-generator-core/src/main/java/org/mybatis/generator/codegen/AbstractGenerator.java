@@ -34,6 +34,7 @@ public abstract class AbstractGenerator {
     protected final CommentGenerator commentGenerator;
     protected final PluginAggregator pluginAggregator;
     protected final Indenter indenter;
+    protected final GenerationSession generationSession;
 
     protected AbstractGenerator(AbstractGeneratorBuilder<?> builder) {
         this.context = Objects.requireNonNull(builder.context);
@@ -43,6 +44,7 @@ public abstract class AbstractGenerator {
         this.commentGenerator = Objects.requireNonNull(builder.commentGenerator);
         this.pluginAggregator = Objects.requireNonNull(builder.pluginAggregator);
         this.indenter = Objects.requireNonNull(builder.indenter);
+        this.generationSession = Objects.requireNonNull(builder.generationSession);
     }
 
     protected <T extends AbstractGeneratorBuilder<T>> T initializeSubBuilder(T builder) {
@@ -52,7 +54,8 @@ public abstract class AbstractGenerator {
                 .withProgressCallback(progressCallback)
                 .withCommentGenerator(commentGenerator)
                 .withPluginAggregator(pluginAggregator)
-                .withIndenter(indenter);
+                .withIndenter(indenter)
+                .withGenerationSession(generationSession);
     }
 
     public abstract static class AbstractGeneratorBuilder<T extends AbstractGeneratorBuilder<T>> {
@@ -63,6 +66,7 @@ public abstract class AbstractGenerator {
         private @Nullable CommentGenerator commentGenerator;
         private @Nullable PluginAggregator pluginAggregator;
         private @Nullable Indenter indenter;
+        private @Nullable GenerationSession generationSession;
 
         public T withContext(Context context) {
             this.context = context;
@@ -99,6 +103,11 @@ public abstract class AbstractGenerator {
             return getThis();
         }
 
+        public T withGenerationSession(GenerationSession generationSession) {
+            this.generationSession = generationSession;
+            return getThis();
+        }
+
         protected abstract T getThis();
     }
 }
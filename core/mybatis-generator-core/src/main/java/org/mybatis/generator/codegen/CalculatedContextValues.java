@@ -22,6 +22,7 @@ import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.CommentGenerator;
+import org.mybatis.generator.api.GenerationMetrics.Phase;
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.JavaFormatter;
 import org.mybatis.generator.api.KnownRuntime;
@@ -33,6 +34,7 @@ import org.mybatis.generator.config.Defaults;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.internal.types.JdbcTypeProfile;
 
 /**
  * This class holds common objects in a context that can be pre-calculated before code generation runs.
@@ -45,20 +47,27 @@ public class CalculatedContextValues {
     private final CommentGenerator commentGenerator;
     private final @Nullable String javaFileEncoding;
     private final @Nullable String kotlinFileEncoding;
+    private final @Nullable JdbcTypeProfile jdbcTypeProfile;
     private final PluginAggregator pluginAggregator;
     private final KnownRuntime knownRuntime;
     private final String runtimeBuilderClassName;
     private final Indenter indenter;
+    private final GenerationSession generationSession;
+    private final GenerationMetricsCollector metricsCollector;
 
     protected CalculatedContextValues(Builder builder) {
         context = Objects.requireNonNull(builder.context);
         indenter = Objects.requireNonNull(builder.indenter);
+        generationSession = Objects.requireNonNull(builder.generationSession);
+        metricsCollector = builder.metricsCollector;
         javaFormatter = ObjectFactory.createJavaFormatter(context, indenter);
         kotlinFormatter = ObjectFactory.createKotlinFormatter(context);
         xmlFormatter = ObjectFactory.createXmlFormatter(context, indenter);
         commentGenerator = ObjectFactory.createCommentGenerator(context, indenter);
         javaFileEncoding = context.getProperty(PropertyRegistry.CONTEXT_JAVA_FILE_ENCODING);
         kotlinFileEncoding = context.getProperty(PropertyRegistry.CONTEXT_KOTLIN_FILE_ENCODING);
+        // created for every run, so that a change to the configuration of a reused context is seen
+        jdbcTypeProfile = ObjectFactory.createJdbcTypeProfile(context).orElse(null);
         Objects.requireNonNull(builder.warnings);
 
         // this will either be the alias entered in the configuration, or the default if nothing was specified
@@ -66,18 +75,20 @@ public class CalculatedContextValues {
         // this will either be a successful lookup by alias, or UNKNOWN
         knownRuntime = KnownRuntime.getByAlias(builderAlias);
 
+        GenerationMetricsCollector.Sample start = metricsCollector.start();
         pluginAggregator = new PluginAggregator();
         context.pluginConfigurations().forEach(pluginConfiguration -> {
             Plugin plugin = ObjectFactory.createPlugin(context, pluginConfiguration, commentGenerator, knownRuntime,
                     indenter);
             if (plugin.validate(builder.warnings)) {
-                pluginAggregator.addPlugin(plugin);
+                pluginAggregator.addPlugin(metricsCollector.meter(context.getId(), plugin));
             } else {
                 builder.warnings.add(getString("Warning.24", //$NON-NLS-1$
                         pluginConfiguration.getConfigurationType()
                                 .orElse("Unknown Plugin Type"), context.getId())); //$NON-NLS-1$
             }
         });
+        metricsCollector.record(context.getId(), Phase.PLUGIN_INITIALIZATION, start);
 
         if (knownRuntime == KnownRuntime.UNKNOWN) {
             runtimeBuilderClassName = builderAlias;
@@ -114,6 +125,15 @@ public class CalculatedContextValues {
         return kotlinFileEncoding;
     }
 
+    /**
+     * Returns the type profile shared by all the Java type resolvers of the context in this run.
+     *
+     * @return the type profile, or null if no profile is configured
+     */
+    public @Nullable JdbcTypeProfile jdbcTypeProfile() {
+        return jdbcTypeProfile;
+    }
+
     public PluginAggregator pluginAggregator() {
         return pluginAggregator;
     }
@@ -130,10 +150,20 @@ public class CalculatedContextValues {
         return indenter;
     }
 
+    public GenerationSession generationSession() {
+        return generationSession;
+    }
+
+    public GenerationMetricsCollector metricsCollector() {
+        return metricsCollector;
+    }
+
     public static class Builder {
         private @Nullable Context context;
         private @Nullable List<String> warnings;
         private @Nullable Indenter indenter;
+        private @Nullable GenerationSession generationSession;
+        private GenerationMetricsCollector metricsCollector = GenerationMetricsCollector.disabled();
 
         public Builder withContext(Context context) {
             this.context = context;
@@ -150,6 +180,16 @@ public class CalculatedContextValues {
             return this;
         }
 
+        public Builder withGenerationSession(GenerationSession generationSession) {
+            this.generationSession = generationSession;
+            return this;
+        }
+
+        public Builder withMetricsCollector(GenerationMetricsCollector metricsCollector) {
+            this.metricsCollector = metricsCollector;
+            return this;
+        }
+
         public CalculatedContextValues build() {
             return new CalculatedContextValues(this);
         }
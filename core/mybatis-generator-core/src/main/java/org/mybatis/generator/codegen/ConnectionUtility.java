@@ -19,6 +19,7 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.mybatis.generator.config.ConnectionFactoryConfiguration;
 import org.mybatis.generator.config.Context;
@@ -44,11 +45,33 @@ public final class ConnectionUtility {
      * @throws SQLException if any error occurs while creating the connection
      */
     public static Connection getConnection(Context context) throws SQLException {
+        return getConnection(context, List.of());
+    }
+
+    /**
+     * This method creates a new JDBC connection from the values specified in the configuration file. A JDBC driver
+     * specified in a jdbcConnection element is loaded from the class loaders of the generation session if possible.
+     *
+     * <p>If you call this method, then you are responsible for closing the connection when you are done with it.
+     *
+     * @param context the context containing the connection configuration
+     * @param generationSession the session of the current generation run
+     * @return a new connection created from the values in the configuration file
+     *
+     * @throws SQLException if any error occurs while creating the connection
+     */
+    public static Connection getConnection(Context context, GenerationSession generationSession)
+            throws SQLException {
+        return getConnection(context, generationSession.externalClassLoaders());
+    }
+
+    private static Connection getConnection(Context context, List<ClassLoader> externalClassLoaders)
+            throws SQLException {
         // if both configs are null, it is an internal error - we should have caught that with validation
 
         JDBCConnectionConfiguration jdbcConfig = context.getJDBCConnectionConfiguration();
         if (jdbcConfig != null) {
-            return new JDBCConnectionFactory(jdbcConfig).getConnection();
+            return new JDBCConnectionFactory(jdbcConfig, externalClassLoaders).getConnection();
         } else {
             ConnectionFactoryConfiguration config = context.getConnectionFactoryConfiguration();
             if (config == null) {
@@ -15,34 +15,57 @@
  */
 package org.mybatis.generator.codegen;
 
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.AbstractRuntime;
 import org.mybatis.generator.api.CommentGenerator;
+import org.mybatis.generator.api.GenerationMetrics.Phase;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.ProgressCallback;
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.internal.util.ParallelUtility;
 
 public class GenerationEngine {
     private final CalculatedContextValues contextValues;
     private final ProgressCallback progressCallback;
     private final List<AbstractRuntime> runtimes;
+    private final int parallelism;
 
     protected GenerationEngine(Builder builder) {
         contextValues = Objects.requireNonNull(builder.contextValues);
-        progressCallback = Objects.requireNonNull(builder.progressCallback);
 
         Context context = contextValues.context();
-        List<String> warnings = Objects.requireNonNull(builder.warnings);
         CommentGenerator commentGenerator = contextValues.commentGenerator();
 
+        List<String> warnings;
+        int requestedParallelism = context.getGenerationParallelism().orElse(builder.parallelism);
+        if (requestedParallelism > 1 && !contextValues.pluginAggregator().isThreadSafe()) {
+            Objects.requireNonNull(builder.warnings).add(getString("Warning.36", context.getId())); //$NON-NLS-1$
+            requestedParallelism = 1;
+        }
+        parallelism = requestedParallelism;
+
+        if (parallelism > 1) {
+            // runtimes will report progress and add warnings from worker threads
+            progressCallback = new SynchronizedProgressCallback(Objects.requireNonNull(builder.progressCallback));
+            warnings = Collections.synchronizedList(Objects.requireNonNull(builder.warnings));
+        } else {
+            progressCallback = Objects.requireNonNull(builder.progressCallback);
+            warnings = Objects.requireNonNull(builder.warnings);
+        }
+
         // initialize everything first before generating. This allows plugins to know about other
         // items in the configuration.
+        GenerationMetricsCollector.Sample start = contextValues.metricsCollector().start();
         runtimes = builder.introspectedTables.stream().map(introspectedTable -> {
             AbstractRuntime.AbstractRuntimeBuilder<?> runtimeBuilder = ObjectFactory.createInternalObject(
                     contextValues.runtimeBuilderClassName());
@@ -54,24 +77,86 @@ public class GenerationEngine {
                     .withProgressCallback(progressCallback)
                     .withWarnings(warnings)
                     .withIndenter(contextValues.indenter())
+                    .withGenerationSession(contextValues.generationSession())
                     .build();
         }).toList();
+        contextValues.metricsCollector().record(context.getId(), Phase.RUNTIME_CONSTRUCTION, start);
     }
 
     public int getGenerationSteps() {
         return runtimes.stream().mapToInt(AbstractRuntime::getGenerationSteps).sum();
     }
 
+    /**
+     * Runs the code generators for every table in the context. If parallel generation is enabled, then tables will be
+     * generated concurrently on a bounded pool of threads. In either case, the generated files are returned in
+     * configuration order.
+     *
+     * @return the files generated for this context
+     * @throws InterruptedException
+     *             if the progress callback reports a cancel
+     */
     public GenerationResults generate() throws InterruptedException {
-        PluginAggregator pluginAggregator = contextValues.pluginAggregator();
         var builder = new GenerationResults.Builder().withContextValues(contextValues);
+        generate(builder::withGenerationResults, RuntimeException.class);
+        return builder.build();
+    }
 
-        for (AbstractRuntime runtime : runtimes) {
-            if (!pluginAggregator.shouldGenerate(runtime.getIntrospectedTable())) {
-                continue;
-            }
+    /**
+     * Runs the code generators for every table in the context, and passes the files generated for each table to the
+     * consumer as soon as they are available. The consumer is called on the calling thread, in configuration order,
+     * even if parallel generation is enabled. The context level files generated by plugins are passed to the consumer
+     * last.
+     *
+     * <p>Generated files are not retained by this method, so the files for a table can be garbage collected as soon
+     * as the consumer is finished with them.
+     *
+     * @param consumer receives the generated files for each table
+     * @throws IOException
+     *             if the consumer throws an IOException
+     * @throws InterruptedException
+     *             if the progress callback, or the consumer, reports a cancel
+     */
+    public void generate(GenerationResultsConsumer consumer) throws IOException, InterruptedException {
+        generate(consumer::accept, IOException.class);
+    }
 
-            progressCallback.checkCancel();
+    private <E extends Exception> void generate(ParallelUtility.ThrowingConsumer<GenerationResults, E> consumer,
+                                                Class<E> exceptionType) throws E, InterruptedException {
+        PluginAggregator pluginAggregator = contextValues.pluginAggregator();
+
+        ParallelUtility.forEachInOrder(runtimes, parallelism,
+                "mbg-generate-" + contextValues.context().getId(), //$NON-NLS-1$
+                this::generateTable, consumer, exceptionType);
+
+        progressCallback.checkCancel();
+        GenerationMetricsCollector.Sample start = contextValues.metricsCollector().start();
+        GenerationResults contextResults = new GenerationResults.Builder()
+                .withContextValues(contextValues)
+                .withGeneratedJavaFiles(pluginAggregator.contextGenerateAdditionalJavaFiles())
+                .withGeneratedXmlFiles(pluginAggregator.contextGenerateAdditionalXmlFiles())
+                .withGeneratedKotlinFiles(pluginAggregator.contextGenerateAdditionalKotlinFiles())
+                .withGeneratedGenericFiles(pluginAggregator.contextGenerateAdditionalFiles())
+                .build();
+        contextValues.metricsCollector().record(contextValues.context().getId(), Phase.GENERATION, start);
+        consumer.accept(contextResults);
+    }
+
+    private GenerationResults generateTable(AbstractRuntime runtime) throws InterruptedException {
+        GenerationMetricsCollector.Sample start = contextValues.metricsCollector().start();
+        GenerationResults generationResults = generateFiles(runtime);
+        contextValues.metricsCollector().recordTable(contextValues.context().getId(),
+                runtime.getIntrospectedTable().getFullyQualifiedTable().toString(), start);
+        return generationResults;
+    }
+
+    private GenerationResults generateFiles(AbstractRuntime runtime) throws InterruptedException {
+        PluginAggregator pluginAggregator = contextValues.pluginAggregator();
+        var builder = new GenerationResults.Builder()
+                .withContextValues(contextValues)
+                .withIntrospectedTable(runtime.getIntrospectedTable());
+
+        if (pluginAggregator.shouldGenerate(runtime.getIntrospectedTable())) {
             builder.withGeneratedJavaFiles(runtime.getGeneratedJavaFiles());
             builder.withGeneratedJavaFiles(
                     pluginAggregator.contextGenerateAdditionalJavaFiles(runtime.getIntrospectedTable()));
@@ -91,12 +176,6 @@ public class GenerationEngine {
                     pluginAggregator.contextGenerateAdditionalFiles(runtime.getIntrospectedTable()));
         }
 
-        progressCallback.checkCancel();
-        builder.withGeneratedJavaFiles(pluginAggregator.contextGenerateAdditionalJavaFiles());
-        builder.withGeneratedXmlFiles(pluginAggregator.contextGenerateAdditionalXmlFiles());
-        builder.withGeneratedKotlinFiles(pluginAggregator.contextGenerateAdditionalKotlinFiles());
-        builder.withGeneratedGenericFiles(pluginAggregator.contextGenerateAdditionalFiles());
-
         return builder.build();
     }
 
@@ -105,6 +184,7 @@ public class GenerationEngine {
         private @Nullable ProgressCallback progressCallback;
         private @Nullable List<String> warnings;
         private final List<IntrospectedTable> introspectedTables = new ArrayList<>();
+        private int parallelism = 1;
 
         public Builder withContextValues(CalculatedContextValues contextValues) {
             this.contextValues = contextValues;
@@ -126,6 +206,18 @@ public class GenerationEngine {
             return this;
         }
 
+        /**
+         * Sets the maximum number of tables that will be generated concurrently. This value is used unless the
+         * context specifies the "generationParallelism" property. Values less than 2 disable parallel generation.
+         *
+         * @param parallelism the maximum number of generation threads
+         * @return this builder
+         */
+        public Builder withParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public GenerationEngine build() {
             return new GenerationEngine(this);
         }
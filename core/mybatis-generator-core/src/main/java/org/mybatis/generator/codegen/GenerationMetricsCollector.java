@@ -0,0 +1,265 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.GenerationMetrics;
+import org.mybatis.generator.api.GenerationMetrics.ContextMetrics;
+import org.mybatis.generator.api.GenerationMetrics.Measurement;
+import org.mybatis.generator.api.GenerationMetrics.Phase;
+import org.mybatis.generator.api.Plugin;
+
+/**
+ * Collects the wall time and allocated bytes of the phases of a generation run. A measurement is started and
+ * recorded on the same thread, so measurements may be taken concurrently from generation and writer threads.
+ *
+ * <p>A disabled collector does not measure anything, so callers do not need to check whether metrics are
+ * enabled.
+ */
+public class GenerationMetricsCollector {
+    private static final Sample NO_SAMPLE = new Sample(0, 0);
+    private static final com.sun.management.@Nullable ThreadMXBean THREAD_MX_BEAN = calculateThreadMXBean();
+
+    private final boolean enabled;
+    private final Sample runStart;
+    private final Map<Phase, Accumulator> runPhases = new EnumMap<>(Phase.class);
+    private final Map<String, ContextAccumulator> contexts = new LinkedHashMap<>();
+
+    private GenerationMetricsCollector(boolean enabled) {
+        this.enabled = enabled;
+        runStart = start();
+    }
+
+    public static GenerationMetricsCollector enabled() {
+        return new GenerationMetricsCollector(true);
+    }
+
+    public static GenerationMetricsCollector disabled() {
+        return new GenerationMetricsCollector(false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a measurement on the current thread.
+     *
+     * @return the start of the measurement
+     */
+    public Sample start() {
+        if (!enabled) {
+            return NO_SAMPLE;
+        }
+        return new Sample(System.nanoTime(), currentThreadAllocatedBytes());
+    }
+
+    /**
+     * Records a phase of the run that is not specific to any context.
+     *
+     * @param phase the phase
+     * @param start the start of the measurement, taken on the current thread
+     */
+    public void record(Phase phase, Sample start) {
+        if (enabled) {
+            synchronized (runPhases) {
+                runPhases.computeIfAbsent(phase, p -> new Accumulator()).add(start);
+            }
+        }
+    }
+
+    /**
+     * Records a phase of a context.
+     *
+     * @param contextId the id of the context
+     * @param phase the phase
+     * @param start the start of the measurement, taken on the current thread
+     */
+    public void record(String contextId, Phase phase, Sample start) {
+        if (enabled) {
+            context(contextId).phases.computeIfAbsent(phase, p -> new Accumulator()).add(start);
+        }
+    }
+
+    /**
+     * Records the generation of a table. The measurement is also added to the generation phase of the context.
+     *
+     * @param contextId the id of the context
+     * @param tableName the fully qualified name of the table
+     * @param start the start of the measurement, taken on the current thread
+     */
+    public void recordTable(String contextId, String tableName, Sample start) {
+        if (enabled) {
+            Measurement measurement = measure(start);
+            ContextAccumulator context = context(contextId);
+            context.tables.computeIfAbsent(tableName, t -> new Accumulator()).add(measurement);
+            context.phases.computeIfAbsent(Phase.GENERATION, p -> new Accumulator()).add(measurement);
+        }
+    }
+
+    /**
+     * Returns a plugin that measures every call to the supplied plugin. If the collector is disabled, the plugin
+     * is returned unchanged.
+     *
+     * @param contextId the id of the context that holds the plugin
+     * @param plugin the plugin to measure
+     * @return the measured plugin
+     */
+    public Plugin meter(String contextId, Plugin plugin) {
+        if (!enabled) {
+            return plugin;
+        }
+
+        Map<String, Accumulator> hooks = context(contextId).pluginHooks
+                .computeIfAbsent(plugin.getClass().getName(), t -> new ConcurrentHashMap<>());
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(), new Class<?>[] { Plugin.class },
+                (proxy, method, args) -> invoke(hooks, plugin, method, args));
+    }
+
+    private @Nullable Object invoke(Map<String, Accumulator> hooks, Plugin plugin, Method method,
+                                    @Nullable Object[] args) throws Throwable {
+        Sample start = start();
+        try {
+            return method.invoke(plugin, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            // equals, hashCode, and toString are not plugin hooks
+            if (method.getDeclaringClass() != Object.class) {
+                hooks.computeIfAbsent(method.getName(), m -> new Accumulator()).add(start);
+            }
+        }
+    }
+
+    /**
+     * Calculates the metrics of the run. The elapsed time and allocated bytes of the run are measured from the
+     * creation of this collector, so this method should be called on the thread that created the collector.
+     *
+     * @return the metrics
+     */
+    public GenerationMetrics finish() {
+        Measurement run = measure(runStart);
+
+        Map<Phase, Measurement> phases = new EnumMap<>(Phase.class);
+        synchronized (runPhases) {
+            runPhases.forEach((phase, accumulator) -> phases.put(phase, accumulator.toMeasurement()));
+        }
+
+        List<ContextMetrics> contextMetrics;
+        synchronized (contexts) {
+            contextMetrics = contexts.entrySet().stream()
+                    .map(e -> e.getValue().toContextMetrics(e.getKey()))
+                    .toList();
+        }
+
+        for (ContextMetrics context : contextMetrics) {
+            context.phases().forEach((phase, measurement) -> phases.merge(phase, measurement, Measurement::plus));
+        }
+
+        return new GenerationMetrics(run.elapsedNanos(), run.allocatedBytes(), THREAD_MX_BEAN != null, phases,
+                contextMetrics);
+    }
+
+    private ContextAccumulator context(String contextId) {
+        synchronized (contexts) {
+            return contexts.computeIfAbsent(contextId, c -> new ContextAccumulator());
+        }
+    }
+
+    private static Measurement measure(Sample start) {
+        return new Measurement(1, System.nanoTime() - start.nanos(),
+                currentThreadAllocatedBytes() - start.allocatedBytes());
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.@Nullable ThreadMXBean calculateThreadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+        } catch (LinkageError e) {
+            // the jdk.management module is not available
+        }
+        return null;
+    }
+
+    /**
+     * The start of a measurement.
+     *
+     * @param nanos the value of {@link System#nanoTime()}
+     * @param allocatedBytes the bytes allocated by the current thread so far
+     */
+    public record Sample(long nanos, long allocatedBytes) { }
+
+    private static class Accumulator {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        void add(Sample start) {
+            add(measure(start));
+        }
+
+        void add(Measurement measurement) {
+            count.add(measurement.count());
+            elapsedNanos.add(measurement.elapsedNanos());
+            allocatedBytes.add(measurement.allocatedBytes());
+        }
+
+        Measurement toMeasurement() {
+            return new Measurement(count.sum(), elapsedNanos.sum(), allocatedBytes.sum());
+        }
+    }
+
+    private static class ContextAccumulator {
+        private final Map<Phase, Accumulator> phases = new ConcurrentHashMap<>();
+        private final Map<String, Accumulator> tables = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, Accumulator>> pluginHooks = new ConcurrentHashMap<>();
+
+        ContextMetrics toContextMetrics(String contextId) {
+            Map<Phase, Measurement> phaseMeasurements = new EnumMap<>(Phase.class);
+            phases.forEach((phase, accumulator) -> phaseMeasurements.put(phase, accumulator.toMeasurement()));
+
+            Map<String, Measurement> tableMeasurements = new TreeMap<>();
+            tables.forEach((table, accumulator) -> tableMeasurements.put(table, accumulator.toMeasurement()));
+
+            Map<String, Map<String, Measurement>> hookMeasurements = new TreeMap<>();
+            pluginHooks.forEach((plugin, hooks) -> {
+                Map<String, Measurement> measurements = new TreeMap<>();
+                hooks.forEach((hook, accumulator) -> measurements.put(hook, accumulator.toMeasurement()));
+                hookMeasurements.put(plugin, measurements);
+            });
+
+            return new ContextMetrics(contextId, phaseMeasurements, tableMeasurements, hookMeasurements);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.mybatis.generator.api.GenerationMetrics;
+import org.mybatis.generator.api.GenerationMetrics.ContextMetrics;
+import org.mybatis.generator.api.GenerationMetrics.Measurement;
+import org.mybatis.generator.api.GenerationMetrics.Phase;
+import org.mybatis.generator.internal.util.JsonWriter;
+
+/**
+ * Writes generation metrics as a JSON report. The report holds the totals for the run and for every phase,
+ * followed by the phases, tables, and plugin methods of every context.
+ */
+public class GenerationMetricsReport {
+
+    /**
+     * Utility Class - No Instances.
+     */
+    private GenerationMetricsReport() {
+    }
+
+    /**
+     * Writes the report. Any existing file will be replaced.
+     *
+     * @param metrics the metrics to write
+     * @param file the report file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(GenerationMetrics metrics, File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+
+        Files.writeString(file.toPath(), toJson(metrics) + '\n', StandardCharsets.UTF_8);
+    }
+
+    public static String toJson(GenerationMetrics metrics) {
+        JsonWriter writer = new JsonWriter()
+                .beginObject()
+                .property("elapsedNanos", metrics.elapsedNanos()) //$NON-NLS-1$
+                .property("allocatedBytes", metrics.allocatedBytes()) //$NON-NLS-1$
+                .property("allocationsMeasured", metrics.allocationsMeasured()); //$NON-NLS-1$
+        writePhases(writer, metrics.phases());
+        writer.beginArray("contexts"); //$NON-NLS-1$
+
+        for (ContextMetrics context : metrics.contexts()) {
+            writer.beginObject().property("contextId", context.contextId()); //$NON-NLS-1$
+            writePhases(writer, context.phases());
+
+            writer.beginObject("tables"); //$NON-NLS-1$
+            context.tables().forEach((tableName, measurement) -> writeMeasurement(writer, tableName, measurement));
+            writer.endObject();
+
+            writer.beginObject("plugins"); //$NON-NLS-1$
+            context.pluginHooks().forEach((pluginType, hooks) -> {
+                writer.beginObject(pluginType);
+                hooks.forEach((hook, measurement) -> writeMeasurement(writer, hook, measurement));
+                writer.endObject();
+            });
+            writer.endObject().endObject();
+        }
+
+        return writer.endArray().endObject().toString();
+    }
+
+    private static void writePhases(JsonWriter writer, Map<Phase, Measurement> phases) {
+        writer.beginObject("phases"); //$NON-NLS-1$
+        phases.forEach((phase, measurement) -> writeMeasurement(writer, phase.getAlias(), measurement));
+        writer.endObject();
+    }
+
+    private static void writeMeasurement(JsonWriter writer, String name, Measurement measurement) {
+        writer.beginObject(name)
+                .property("count", measurement.count()) //$NON-NLS-1$
+                .property("elapsedNanos", measurement.elapsedNanos()) //$NON-NLS-1$
+                .property("allocatedBytes", measurement.allocatedBytes()) //$NON-NLS-1$
+                .endObject();
+    }
+}
@@ -18,12 +18,14 @@ package org.mybatis.generator.codegen;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.GeneratedJavaFile;
 import org.mybatis.generator.api.GeneratedKotlinFile;
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.GenericGeneratedFile;
+import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.JavaFormatter;
 import org.mybatis.generator.api.KotlinFormatter;
 import org.mybatis.generator.api.XmlFormatter;
@@ -31,9 +33,12 @@ import org.mybatis.generator.api.XmlFormatter;
 /**
  * Container for generated files from a single context.
  * Also includes information needed for writing those files to disk.
+ *
+ * <p>If the files were generated for a single table, then the results also hold the table.
  */
 public class GenerationResults {
     private final CalculatedContextValues contextValues;
+    private final @Nullable IntrospectedTable introspectedTable;
     private final List<GeneratedJavaFile> generatedJavaFiles;
     private final List<GeneratedXmlFile> generatedXmlFiles;
     private final List<GeneratedKotlinFile> generatedKotlinFiles;
@@ -41,12 +46,21 @@ public class GenerationResults {
 
     protected GenerationResults(Builder builder) {
         contextValues = Objects.requireNonNull(builder.contextValues);
+        introspectedTable = builder.introspectedTable;
         generatedJavaFiles = builder.generatedJavaFiles;
         generatedXmlFiles = builder.generatedXmlFiles;
         generatedKotlinFiles = builder.generatedKotlinFiles;
         generatedGenericFiles = builder.generatedGenericFiles;
     }
 
+    public String contextId() {
+        return contextValues.context().getId();
+    }
+
+    public Optional<IntrospectedTable> introspectedTable() {
+        return Optional.ofNullable(introspectedTable);
+    }
+
     public JavaFormatter javaFormatter() {
         return contextValues.javaFormatter();
     }
@@ -92,6 +106,7 @@ public class GenerationResults {
 
     public static class Builder {
         private @Nullable CalculatedContextValues contextValues;
+        private @Nullable IntrospectedTable introspectedTable;
         private final List<GeneratedJavaFile> generatedJavaFiles = new ArrayList<>();
         private final List<GeneratedXmlFile> generatedXmlFiles = new ArrayList<>();
         private final List<GeneratedKotlinFile> generatedKotlinFiles = new ArrayList<>();
@@ -102,6 +117,11 @@ public class GenerationResults {
             return this;
         }
 
+        public Builder withIntrospectedTable(IntrospectedTable introspectedTable) {
+            this.introspectedTable = introspectedTable;
+            return this;
+        }
+
         public Builder withGeneratedJavaFiles(List<GeneratedJavaFile> generatedJavaFiles) {
             this.generatedJavaFiles.addAll(generatedJavaFiles);
             return this;
@@ -122,6 +142,14 @@ public class GenerationResults {
             return this;
         }
 
+        public Builder withGenerationResults(GenerationResults generationResults) {
+            this.generatedJavaFiles.addAll(generationResults.generatedJavaFiles());
+            this.generatedXmlFiles.addAll(generationResults.generatedXmlFiles());
+            this.generatedKotlinFiles.addAll(generationResults.generatedKotlinFiles());
+            this.generatedGenericFiles.addAll(generationResults.generatedGenericFiles());
+            return this;
+        }
+
         public GenerationResults build() {
             return new GenerationResults(this);
         }
@@ -0,0 +1,27 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import java.io.IOException;
+
+/**
+ * Receives the files generated for a context as soon as they are available - one call for every table, and a
+ * final call for any context level files generated by plugins.
+ */
+@FunctionalInterface
+public interface GenerationResultsConsumer {
+    void accept(GenerationResults generationResults) throws IOException, InterruptedException;
+}
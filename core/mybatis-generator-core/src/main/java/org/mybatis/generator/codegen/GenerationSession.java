@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mybatis.generator.internal.ObjectFactory;
+
+/**
+ * Holds the state that is shared by every context in a single generation run - the class loaders used to find
+ * "external" classes (JDBC drivers, root classes, etc.), and the information cached about those classes.
+ *
+ * <p>A new session is created for every run of MyBatisGenerator, and is passed to the introspection and generation
+ * engines. Nothing is kept in static fields, so several generators can run at the same time in one JVM without
+ * affecting each other.
+ */
+public class GenerationSession {
+    private final List<ClassLoader> externalClassLoaders;
+    private final Map<String, RootClassInfo> rootClassInfoMap = new ConcurrentHashMap<>();
+
+    protected GenerationSession(Builder builder) {
+        externalClassLoaders = List.copyOf(builder.externalClassLoaders);
+    }
+
+    public List<ClassLoader> externalClassLoaders() {
+        return externalClassLoaders;
+    }
+
+    /**
+     * Returns a class loaded from the class loaders of this session, or from the global class loaders in
+     * {@link ObjectFactory}.
+     *
+     * @param type the type
+     * @param <T> the type of the class
+     * @return the class
+     * @throws ClassNotFoundException if the class cannot be found
+     */
+    public <T> Class<T> externalClassForName(String type) throws ClassNotFoundException {
+        return ObjectFactory.externalClassForName(type, externalClassLoaders);
+    }
+
+    /**
+     * Returns information about a root class. The class is introspected once per session.
+     *
+     * @param className the name of the root class
+     * @param warnings the list of warnings for the current run
+     * @return information about the root class
+     */
+    public RootClassInfo getRootClassInfo(String className, List<String> warnings) {
+        return rootClassInfoMap.computeIfAbsent(className, k -> new RootClassInfo(k, warnings, this));
+    }
+
+    public static class Builder {
+        private final List<ClassLoader> externalClassLoaders = new ArrayList<>();
+
+        public Builder withExternalClassLoader(ClassLoader externalClassLoader) {
+            externalClassLoaders.add(externalClassLoader);
+            return this;
+        }
+
+        public GenerationSession build() {
+            return new GenerationSession(this);
+        }
+    }
+}
@@ -17,38 +17,67 @@ package org.mybatis.generator.codegen;
 
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.io.File;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.IntrospectionMetrics;
+import org.mybatis.generator.api.IntrospectionMetrics.TableMetrics;
+import org.mybatis.generator.api.IntrospectionMetricsListener;
 import org.mybatis.generator.api.JavaTypeResolver;
 import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.IntrospectionSnapshotMode;
 import org.mybatis.generator.config.TableConfiguration;
 import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.db.DatabaseIntrospector;
+import org.mybatis.generator.internal.db.DatabaseMetadataSource;
+import org.mybatis.generator.internal.db.IntrospectionSnapshot;
+import org.mybatis.generator.internal.db.MeteredMetadataSource;
+import org.mybatis.generator.internal.util.ParallelUtility;
 
 public class IntrospectionEngine {
     private final CalculatedContextValues contextValues;
     private final ProgressCallback progressCallback;
     private final List<String> warnings;
     private final Set<String> fullyQualifiedTableNames;
+    private final @Nullable IntrospectionMetricsListener metricsListener;
+    private final boolean isCollectingMetrics;
+    private final List<TableMetrics> tableMetrics = new ArrayList<>();
 
     protected IntrospectionEngine(Builder builder) {
         contextValues = Objects.requireNonNull(builder.contextValues);
         progressCallback = Objects.requireNonNull(builder.progressCallback);
         warnings = Objects.requireNonNull(builder.warnings);
         fullyQualifiedTableNames = Objects.requireNonNull(builder.fullyQualifiedTableNames);
+        metricsListener = builder.metricsListener;
+        isCollectingMetrics = metricsListener != null
+                || contextValues.context().getIntrospectionMetricsFile().isPresent();
     }
 
     /**
      * Introspect tables based on the configuration specified in the
      * constructor. This method is long-running.
      *
+     * <p>If the context is configured to read an introspection snapshot, then tables are
+     * introspected from the snapshot and no database connection is opened. If the context
+     * is configured to write a snapshot, then the snapshot is written after all tables
+     * are introspected.
+     *
+     * <p>If a metrics listener is configured, or the context specifies an introspection metrics file, then the
+     * time and volume of the metadata calls for every table are measured and reported when all tables are
+     * introspected.
+     *
      * @return a list containing the results of table introspection. The list will be empty
      *     if this method is called before introspectTables(), or if no tables are found that
      *     match the configuration
@@ -61,35 +90,247 @@ public class IntrospectionEngine {
      */
     public List<IntrospectedTable> introspectTables()
             throws SQLException, InterruptedException {
+        long startNanos = System.nanoTime();
 
-        List<IntrospectedTable> introspectedTables = new ArrayList<>();
-        JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(contextValues.context(), warnings);
+        Context context = contextValues.context();
+        List<TableConfiguration> tableConfigurations = context.tableConfigurations().stream()
+                .filter(this::shouldIntrospect)
+                .toList();
 
-        try (Connection connection = ConnectionUtility.getConnection(contextValues.context())) {
+        List<IntrospectedTable> introspectedTables;
+        IntrospectionSnapshotMode snapshotMode = context.getIntrospectionSnapshotMode().orElse(null);
+        if (snapshotMode == IntrospectionSnapshotMode.READ) {
+            introspectedTables = introspectTablesFromSnapshot(tableConfigurations);
+        } else {
+            introspectedTables = introspectTablesFromDatabase(tableConfigurations, snapshotMode);
+        }
+
+        if (isCollectingMetrics) {
+            reportContextMetrics(System.nanoTime() - startNanos);
+        }
+
+        return introspectedTables;
+    }
+
+    private List<IntrospectedTable> introspectTablesFromDatabase(List<TableConfiguration> tableConfigurations,
+                                                                 @Nullable IntrospectionSnapshotMode snapshotMode)
+            throws SQLException, InterruptedException {
+        Context context = contextValues.context();
+        @Nullable IntrospectionSnapshot snapshot =
+                snapshotMode == IntrospectionSnapshotMode.WRITE ? new IntrospectionSnapshot(context.getId()) : null;
+
+        List<IntrospectedTable> introspectedTables;
+        int connections = Math.min(context.getIntrospectionConnections().orElse(1), tableConfigurations.size());
+        if (connections > 1) {
+            introspectedTables = introspectTablesConcurrently(tableConfigurations, connections, snapshot);
+        } else {
+            introspectedTables = introspectTablesSequentially(tableConfigurations, snapshot);
+        }
+
+        if (snapshot != null) {
+            writeSnapshot(snapshot);
+        }
+
+        return introspectedTables;
+    }
+
+    private List<IntrospectedTable> introspectTablesSequentially(List<TableConfiguration> tableConfigurations,
+                                                                 @Nullable IntrospectionSnapshot snapshot)
+            throws SQLException, InterruptedException {
+        try (Connection connection = ConnectionUtility.getConnection(contextValues.context(),
+                contextValues.generationSession())) {
             progressCallback.startTask(getString("Progress.0")); //$NON-NLS-1$
 
-            DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(
-                    contextValues.context(), connection.getMetaData(), javaTypeResolver);
+            DatabaseMetadataSource metadataSource =
+                    DatabaseMetadataSource.create(contextValues.context(), connection.getMetaData());
 
-            for (TableConfiguration tc : contextValues.context().tableConfigurations()) {
-                if (!shouldIntrospect(tc)) {
-                    continue;
-                }
+            return introspectTables(tableConfigurations, tc -> recordIfRequired(snapshot, tc, metadataSource));
+        }
+    }
+
+    private List<IntrospectedTable> introspectTablesFromSnapshot(List<TableConfiguration> tableConfigurations)
+            throws SQLException, InterruptedException {
+        IntrospectionSnapshot snapshot = IntrospectionSnapshot.read(getSnapshotFile(),
+                contextValues.context().getId());
 
-                progressCallback.startTask(getString("Progress.1", tc.getFullyQualifiedName())); //$NON-NLS-1$
-                List<IntrospectedTable> tables = databaseIntrospector
-                        .introspectTables(tc, contextValues.knownRuntime());
-                introspectedTables.addAll(tables);
+        progressCallback.startTask(getString("Progress.0")); //$NON-NLS-1$
 
-                progressCallback.checkCancel();
-            }
+        return introspectTables(tableConfigurations, snapshot::replaySource);
+    }
 
-            warnings.addAll(databaseIntrospector.getWarnings());
+    private List<IntrospectedTable> introspectTables(List<TableConfiguration> tableConfigurations,
+                                                     Function<TableConfiguration, DatabaseMetadataSource> sources)
+            throws SQLException, InterruptedException {
+        List<IntrospectedTable> introspectedTables = new ArrayList<>();
+        List<String> introspectionWarnings = new ArrayList<>();
+        JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(contextValues.context(), warnings,
+                contextValues.jdbcTypeProfile());
+
+        for (TableConfiguration tc : tableConfigurations) {
+            progressCallback.startTask(getString("Progress.1", tc.getFullyQualifiedName())); //$NON-NLS-1$
+            TableIntrospectionResult result = introspectTable(tc, javaTypeResolver, sources.apply(tc));
+            introspectedTables.addAll(result.introspectedTables());
+            introspectionWarnings.addAll(result.warnings());
+            reportTableMetrics(result.metrics());
+
+            progressCallback.checkCancel();
         }
 
+        warnings.addAll(introspectionWarnings);
         return introspectedTables;
     }
 
+    /**
+     * Introspects tables over a small pool of connections. Each table is introspected with its own
+     * DatabaseIntrospector and JavaTypeResolver so that no JDBC or resolver state is shared between threads.
+     * Metadata sources are tied to a pooled connection, so prefetched metadata is reused by every table
+     * introspected on that connection. Tables and warnings are merged back in configuration order, so the
+     * results match a sequential run.
+     */
+    private List<IntrospectedTable> introspectTablesConcurrently(List<TableConfiguration> tableConfigurations,
+                                                                 int connections,
+                                                                 @Nullable IntrospectionSnapshot snapshot)
+            throws SQLException, InterruptedException {
+        BlockingQueue<PooledConnection> connectionPool = new ArrayBlockingQueue<>(connections);
+        ProgressCallback synchronizedCallback = new SynchronizedProgressCallback(progressCallback);
+
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = ConnectionUtility.getConnection(contextValues.context(),
+                        contextValues.generationSession());
+                connectionPool.add(new PooledConnection(connection, DatabaseMetadataSource.create(
+                        contextValues.context(), connection.getMetaData())));
+            }
+
+            synchronizedCallback.startTask(getString("Progress.0")); //$NON-NLS-1$
+
+            List<TableIntrospectionResult> results = ParallelUtility.mapInOrder(tableConfigurations, connections,
+                    "mbg-introspect-" + contextValues.context().getId(), //$NON-NLS-1$
+                    tc -> introspectPooledTable(tc, connectionPool, synchronizedCallback, snapshot),
+                    SQLException.class);
+
+            List<IntrospectedTable> introspectedTables = new ArrayList<>();
+            for (TableIntrospectionResult result : results) {
+                introspectedTables.addAll(result.introspectedTables());
+                warnings.addAll(result.warnings());
+                reportTableMetrics(result.metrics());
+            }
+            return introspectedTables;
+        } finally {
+            closeConnections(connectionPool);
+        }
+    }
+
+    private TableIntrospectionResult introspectPooledTable(TableConfiguration tc,
+                                                           BlockingQueue<PooledConnection> connectionPool,
+                                                           ProgressCallback callback,
+                                                           @Nullable IntrospectionSnapshot snapshot)
+            throws SQLException, InterruptedException {
+        PooledConnection pooledConnection = connectionPool.take();
+        try {
+            List<String> tableWarnings = new ArrayList<>();
+            JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(contextValues.context(),
+                    tableWarnings, contextValues.jdbcTypeProfile());
+
+            callback.startTask(getString("Progress.1", tc.getFullyQualifiedName())); //$NON-NLS-1$
+            TableIntrospectionResult result = introspectTable(tc, javaTypeResolver,
+                    recordIfRequired(snapshot, tc, pooledConnection.metadataSource()));
+            tableWarnings.addAll(result.warnings());
+
+            callback.checkCancel();
+            return new TableIntrospectionResult(result.introspectedTables(), tableWarnings, result.metrics());
+        } finally {
+            connectionPool.add(pooledConnection);
+        }
+    }
+
+    private TableIntrospectionResult introspectTable(TableConfiguration tc, JavaTypeResolver javaTypeResolver,
+                                                     DatabaseMetadataSource metadataSource) throws SQLException {
+        @Nullable MeteredMetadataSource meteredSource =
+                isCollectingMetrics ? new MeteredMetadataSource(metadataSource) : null;
+        DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(contextValues.context(),
+                javaTypeResolver, meteredSource == null ? metadataSource : meteredSource);
+
+        long startNanos = System.nanoTime();
+        List<IntrospectedTable> tables = databaseIntrospector.introspectTables(tc, contextValues.knownRuntime());
+
+        @Nullable TableMetrics metrics = null;
+        if (meteredSource != null) {
+            metrics = new TableMetrics(tc.getCatalog(), tc.getSchema(), tc.getTableName(),
+                    System.nanoTime() - startNanos, tables.size(), meteredSource.getColumnsCalls(),
+                    meteredSource.getPrimaryKeysCalls(), meteredSource.getTablesCalls(),
+                    databaseIntrospector.getTypeResolutionFallbacks());
+        }
+
+        return new TableIntrospectionResult(tables, databaseIntrospector.getWarnings(), metrics);
+    }
+
+    private void reportTableMetrics(@Nullable TableMetrics metrics) {
+        if (metrics == null) {
+            return;
+        }
+
+        tableMetrics.add(metrics);
+        if (metricsListener != null) {
+            metricsListener.tableIntrospected(contextValues.context().getId(), metrics);
+        }
+    }
+
+    private void reportContextMetrics(long elapsedNanos) {
+        IntrospectionMetrics metrics =
+                new IntrospectionMetrics(contextValues.context().getId(), elapsedNanos, tableMetrics);
+        if (metricsListener != null) {
+            metricsListener.contextIntrospected(metrics);
+        }
+
+        contextValues.context().getIntrospectionMetricsFile().map(File::new).ifPresent(file -> {
+            try {
+                IntrospectionMetricsReport.write(metrics, file);
+            } catch (IOException e) {
+                warnings.add(getString("Warning.41", file.getPath(), e.getMessage())); //$NON-NLS-1$
+            }
+        });
+    }
+
+    private void closeConnections(BlockingQueue<PooledConnection> connectionPool) throws SQLException {
+        @Nullable SQLException firstException = null;
+        for (PooledConnection pooledConnection : connectionPool) {
+            try {
+                pooledConnection.connection().close();
+            } catch (SQLException e) {
+                if (firstException == null) {
+                    firstException = e;
+                } else {
+                    firstException.addSuppressed(e);
+                }
+            }
+        }
+
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    private static DatabaseMetadataSource recordIfRequired(@Nullable IntrospectionSnapshot snapshot,
+                                                           TableConfiguration tc,
+                                                           DatabaseMetadataSource metadataSource) {
+        return snapshot == null ? metadataSource : snapshot.recordingSource(tc, metadataSource);
+    }
+
+    private void writeSnapshot(IntrospectionSnapshot snapshot) {
+        File snapshotFile = getSnapshotFile();
+        try {
+            snapshot.write(snapshotFile);
+        } catch (IOException e) {
+            warnings.add(getString("Warning.37", snapshotFile.getPath(), e.getMessage())); //$NON-NLS-1$
+        }
+    }
+
+    private File getSnapshotFile() {
+        // the file is required by validation whenever a snapshot mode is configured
+        return new File(contextValues.context().getIntrospectionSnapshotFile().orElseThrow());
+    }
+
     private boolean shouldIntrospect(TableConfiguration tc) {
         if (isTableExcluded(tc.getFullyQualifiedName())) {
             return false;
@@ -115,11 +356,17 @@ public class IntrospectionEngine {
         return fullyQualifiedTableNames.contains(tableName);
     }
 
+    private record PooledConnection(Connection connection, DatabaseMetadataSource metadataSource) { }
+
+    private record TableIntrospectionResult(List<IntrospectedTable> introspectedTables, List<String> warnings,
+                                            @Nullable TableMetrics metrics) { }
+
     public static class Builder {
         private @Nullable CalculatedContextValues contextValues;
         private @Nullable ProgressCallback progressCallback;
         private @Nullable List<String> warnings;
         private @Nullable Set<String> fullyQualifiedTableNames;
+        private @Nullable IntrospectionMetricsListener metricsListener;
 
         public Builder withContextValues(CalculatedContextValues contextValues) {
             this.contextValues = contextValues;
@@ -155,6 +402,11 @@ public class IntrospectionEngine {
             return this;
         }
 
+        public Builder withMetricsListener(@Nullable IntrospectionMetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
         public IntrospectionEngine build() {
             return new IntrospectionEngine(this);
         }
@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.mybatis.generator.api.IntrospectionMetrics;
+import org.mybatis.generator.api.IntrospectionMetrics.CallMetrics;
+import org.mybatis.generator.api.IntrospectionMetrics.TableMetrics;
+import org.mybatis.generator.internal.util.JsonWriter;
+
+/**
+ * Writes introspection metrics as a JSON report. The report holds the totals for the context, followed by the
+ * metrics for every table configuration in configuration order.
+ */
+public class IntrospectionMetricsReport {
+
+    /**
+     * Utility Class - No Instances.
+     */
+    private IntrospectionMetricsReport() {
+    }
+
+    /**
+     * Writes the report. Any existing file will be replaced.
+     *
+     * @param metrics the metrics to write
+     * @param file the report file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(IntrospectionMetrics metrics, File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+
+        Files.writeString(file.toPath(), toJson(metrics) + '\n', StandardCharsets.UTF_8);
+    }
+
+    public static String toJson(IntrospectionMetrics metrics) {
+        JsonWriter writer = new JsonWriter()
+                .beginObject()
+                .property("contextId", metrics.contextId()) //$NON-NLS-1$
+                .property("elapsedNanos", metrics.elapsedNanos()) //$NON-NLS-1$
+                .beginObject("totals") //$NON-NLS-1$
+                .property("tableConfigurations", metrics.tables().size()) //$NON-NLS-1$
+                .property("metadataCalls", metrics.metadataCalls()) //$NON-NLS-1$
+                .property("typeResolutionFallbacks", metrics.typeResolutionFallbacks()); //$NON-NLS-1$
+        writeCalls(writer, metrics.columnsCalls(), metrics.primaryKeysCalls(), metrics.tablesCalls());
+        writer.endObject().beginArray("tables"); //$NON-NLS-1$
+
+        for (TableMetrics table : metrics.tables()) {
+            writer.beginObject()
+                    .property("catalog", table.catalog()) //$NON-NLS-1$
+                    .property("schema", table.schema()) //$NON-NLS-1$
+                    .property("tableName", table.tableName()) //$NON-NLS-1$
+                    .property("elapsedNanos", table.elapsedNanos()) //$NON-NLS-1$
+                    .property("introspectedTables", table.introspectedTables()) //$NON-NLS-1$
+                    .property("metadataCalls", table.metadataCalls()) //$NON-NLS-1$
+                    .property("typeResolutionFallbacks", table.typeResolutionFallbacks()); //$NON-NLS-1$
+            writeCalls(writer, table.columnsCalls(), table.primaryKeysCalls(), table.tablesCalls());
+            writer.endObject();
+        }
+
+        return writer.endArray().endObject().toString();
+    }
+
+    private static void writeCalls(JsonWriter writer, CallMetrics columnsCalls, CallMetrics primaryKeysCalls,
+                                   CallMetrics tablesCalls) {
+        writeCalls(writer, "getColumns", columnsCalls); //$NON-NLS-1$
+        writeCalls(writer, "getPrimaryKeys", primaryKeysCalls); //$NON-NLS-1$
+        writeCalls(writer, "getTables", tablesCalls); //$NON-NLS-1$
+    }
+
+    private static void writeCalls(JsonWriter writer, String name, CallMetrics calls) {
+        writer.beginObject(name)
+                .property("calls", calls.calls()) //$NON-NLS-1$
+                .property("rows", calls.rows()) //$NON-NLS-1$
+                .property("elapsedNanos", calls.elapsedNanos()) //$NON-NLS-1$
+                .endObject();
+    }
+}
@@ -20,41 +20,43 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
-import org.mybatis.generator.internal.ObjectFactory;
 
 /**
  * Holds information about a class (uses the JavaBeans Introspector to find properties).
  *
+ * @see GenerationSession#getRootClassInfo(String, List)
+ *
  * @author Jeff Butler
  */
 public class RootClassInfo {
 
-    private static final Map<String, RootClassInfo> rootClassInfoMap;
-
-    static {
-        rootClassInfoMap = Collections.synchronizedMap(new HashMap<>());
-    }
-
+    /**
+     * Introspects a root class in a new generation session. Nothing is cached, so the class is introspected on every
+     * call.
+     *
+     * @param className the name of the root class
+     * @param warnings the list of warnings for the current run
+     * @return information about the root class
+     * @deprecated use {@link GenerationSession#getRootClassInfo(String, List)} from the session of the current run
+     */
+    @Deprecated(since = "2.0.1")
     public static RootClassInfo getInstance(String className, List<String> warnings) {
-        return rootClassInfoMap.computeIfAbsent(className, k -> new RootClassInfo(k, warnings));
+        return new RootClassInfo(className, warnings, new GenerationSession.Builder().build());
     }
 
     /**
-     * Clears the internal map containing root class info.  This method should be called at the beginning of
-     * a generation run to clear the cached root class info in case there has been a change.
-     * For example, when using the eclipse launcher, the cache would be kept until eclipse
-     * was restarted.
+     * This method does nothing. Root class info is cached by the generation session, and a new session is created for
+     * every run.
      *
+     * @deprecated there is no longer a cache to clear
      */
+    @Deprecated(since = "2.0.1")
     public static void reset() {
-        rootClassInfoMap.clear();
+        // nothing is cached statically
     }
 
     private PropertyDescriptor[] propertyDescriptors;
@@ -62,7 +64,11 @@ public class RootClassInfo {
     private final List<String> warnings;
     private boolean genericMode = false;
 
-    private RootClassInfo(String className, List<String> warnings) {
+    /**
+     * Introspects a root class. Instances are cached by the generation session - use
+     * {@link GenerationSession#getRootClassInfo(String, List)} rather than calling this constructor directly.
+     */
+    RootClassInfo(String className, List<String> warnings, GenerationSession generationSession) {
         super();
         this.className = className;
         this.warnings = warnings;
@@ -74,7 +80,7 @@ public class RootClassInfo {
         }
 
         try {
-            Class<?> clazz = ObjectFactory.externalClassForName(nameWithoutGenerics);
+            Class<?> clazz = generationSession.externalClassForName(nameWithoutGenerics);
             BeanInfo bi = Introspector.getBeanInfo(clazz);
             propertyDescriptors = bi.getPropertyDescriptors();
         } catch (Exception e) {
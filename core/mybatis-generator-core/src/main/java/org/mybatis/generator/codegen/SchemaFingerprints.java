@@ -0,0 +1,362 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import static org.mybatis.generator.internal.util.FingerprintUtility.fingerprint;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.config.AbstractRenamingRule;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.config.TypedPropertyHolder;
+
+/**
+ * Fingerprints of the tables generated in a context. A fingerprint is calculated for every introspected table from
+ * the table metadata, the table configuration, the rest of the context configuration (including the plugin list),
+ * and the generator version. Fingerprints are stored in a file - typically next to the generated output - so that
+ * tables that have not changed since the previous run can be skipped. The files generated for each table are stored
+ * with its fingerprint, and a table is generated again if any of them no longer exists.
+ */
+public class SchemaFingerprints {
+    private static final String VERSION_RESOURCE =
+            "META-INF/maven/org.mybatis.generator/mybatis-generator-core/pom.properties"; //$NON-NLS-1$
+
+    private static final String FILES_KEY_SUFFIX = "/files"; //$NON-NLS-1$
+    private static final String FILES_SEPARATOR = "\n"; //$NON-NLS-1$
+
+    private static final Log logger = LogFactory.getLog(SchemaFingerprints.class);
+
+    private final File file;
+    private final String contextId;
+    private final String contextFingerprint;
+    private final Properties previousFingerprints = new Properties();
+    private final Properties currentFingerprints = new Properties();
+    private final Map<String, Set<String>> currentFiles = new HashMap<>();
+
+    private SchemaFingerprints(File file, CalculatedContextValues contextValues) {
+        this.file = file;
+        contextId = contextValues.context().getId();
+        contextFingerprint = calculateContextFingerprint(contextValues.context(), contextValues.indenter());
+    }
+
+    /**
+     * Reads the fingerprints stored by the previous run. If the file does not exist, or cannot be read, then every
+     * table will be considered changed.
+     *
+     * @param file the fingerprint file
+     * @param contextValues the context the fingerprints are calculated for
+     * @param warnings a list that will receive a warning if the file cannot be read
+     * @return the fingerprints
+     */
+    public static SchemaFingerprints read(File file, CalculatedContextValues contextValues, List<String> warnings) {
+        SchemaFingerprints schemaFingerprints = new SchemaFingerprints(file, contextValues);
+        if (file.exists()) {
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                schemaFingerprints.previousFingerprints.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                schemaFingerprints.previousFingerprints.clear();
+                warnings.add(getString("Warning.39", file.getPath(), e.getMessage())); //$NON-NLS-1$
+            }
+        }
+        return schemaFingerprints;
+    }
+
+    /**
+     * Calculates the fingerprint of a table, and remembers it so that it will be stored for the next run. A table is
+     * unchanged only if it has the same fingerprint as it did in the previous run, and every file generated for it by
+     * that run still exists.
+     *
+     * @param introspectedTable the table
+     * @return true if the table has not changed since the previous run
+     */
+    public boolean isUnchanged(IntrospectedTable introspectedTable) {
+        String key = calculateKey(introspectedTable);
+        String tableFingerprint = calculateTableFingerprint(introspectedTable);
+        currentFingerprints.setProperty(key, tableFingerprint);
+        if (!tableFingerprint.equals(previousFingerprints.getProperty(key))) {
+            return false;
+        }
+
+        String previousFiles = previousFingerprints.getProperty(key + FILES_KEY_SUFFIX);
+        if (previousFiles == null) {
+            return false;
+        }
+
+        Set<String> files = new TreeSet<>(Arrays.asList(previousFiles.split(FILES_SEPARATOR)));
+        for (String generatedFile : files) {
+            if (Files.notExists(resolve(generatedFile))) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug(getString("Tracing.13", key, generatedFile)); //$NON-NLS-1$
+                }
+                return false;
+            }
+        }
+
+        // the table will not be generated, so its files are carried forward to the next run
+        currentFiles.put(key, files);
+        if (logger.isDebugEnabled()) {
+            logger.debug(getString("Tracing.9", key)); //$NON-NLS-1$
+        }
+        return true;
+    }
+
+    /**
+     * Remembers a file that was written, or was left unchanged, for a table in this run. The file will be stored with
+     * the table fingerprint, so that the table will be generated again if the file is removed. Tables from other
+     * contexts are ignored.
+     *
+     * @param introspectedTable the table
+     * @param generatedFile the file
+     */
+    public void addGeneratedFile(IntrospectedTable introspectedTable, Path generatedFile) {
+        if (introspectedTable.getContext().getId().equals(contextId)) {
+            currentFiles.computeIfAbsent(calculateKey(introspectedTable), k -> new TreeSet<>())
+                    .add(relativize(generatedFile));
+        }
+    }
+
+    /**
+     * Forgets the fingerprint of a table whose generated files were not all written, so that the table will be
+     * generated again by the next run. Tables from other contexts are ignored.
+     *
+     * @param introspectedTable the table
+     */
+    public void forget(IntrospectedTable introspectedTable) {
+        if (introspectedTable.getContext().getId().equals(contextId)) {
+            currentFingerprints.remove(calculateKey(introspectedTable));
+        }
+    }
+
+    /**
+     * Writes the fingerprints, and generated files, of every table seen in this run except tables that have been
+     * forgotten. Any existing file will be replaced. This should be called after the generated files have been
+     * written, and any table with files that could not be written has been forgotten.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void write() throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+
+        Properties properties = new Properties();
+        for (String key : currentFingerprints.stringPropertyNames()) {
+            properties.setProperty(key, currentFingerprints.getProperty(key));
+            Set<String> files = currentFiles.get(key);
+            if (files != null) {
+                properties.setProperty(key + FILES_KEY_SUFFIX, String.join(FILES_SEPARATOR, files));
+            }
+        }
+
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            properties.store(writer,
+                    "MyBatis Generator schema fingerprints for context " + contextId); //$NON-NLS-1$
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    private static String calculateKey(IntrospectedTable introspectedTable) {
+        FullyQualifiedTable fqt = introspectedTable.getFullyQualifiedTable();
+        return fqt + "/" + fqt.getDomainObjectName(); //$NON-NLS-1$
+    }
+
+    /**
+     * Generated files are stored relative to the directory of the fingerprint file, with forward slashes, so that
+     * the fingerprint file can be moved with the generated output.
+     */
+    private String relativize(Path generatedFile) {
+        Path answer = generatedFile.toAbsolutePath();
+        Path directory = getDirectory();
+        if (answer.getRoot() != null && answer.getRoot().equals(directory.getRoot())) {
+            answer = directory.relativize(answer);
+        }
+        return answer.toString().replace(File.separatorChar, '/');
+    }
+
+    private Path resolve(String generatedFile) {
+        return getDirectory().resolve(generatedFile);
+    }
+
+    private Path getDirectory() {
+        return file.getAbsoluteFile().toPath().getParent();
+    }
+
+    private String calculateTableFingerprint(IntrospectedTable introspectedTable) {
+        StringBuilder sb = new StringBuilder(contextFingerprint);
+        appendTableConfiguration(sb, introspectedTable.getTableConfiguration());
+        append(sb, introspectedTable.getFullyQualifiedTable(), introspectedTable.getTableType(),
+                introspectedTable.getRemarks());
+
+        for (IntrospectedColumn column : introspectedTable.getAllColumns()) {
+            append(sb, column.getActualColumnName(), column.isColumnNameDelimited(), column.getJdbcType(),
+                    column.getJdbcTypeName(), column.getActualTypeName(), column.getLength(), column.getScale(),
+                    column.isNullable(), column.isIdentity(), column.isSequenceColumn(), column.isAutoIncrement(),
+                    column.isGeneratedColumn(), column.isGeneratedAlways(), column.getDefaultValue(),
+                    column.getRemarks(), column.getJavaProperty(),
+                    column.getFullyQualifiedJavaType().getFullyQualifiedName(), column.getTypeHandler(),
+                    column.getProperties());
+        }
+
+        for (IntrospectedColumn column : introspectedTable.getPrimaryKeyColumns()) {
+            append(sb, column.getActualColumnName());
+        }
+
+        return fingerprint(sb.toString());
+    }
+
+    private static String calculateContextFingerprint(Context context, Indenter indenter) {
+        StringBuilder sb = new StringBuilder();
+        append(sb, calculateGeneratorVersion(), indenter.javaIndent(1), indenter.xmlIndent(1));
+        appendContext(sb, context);
+        return fingerprint(sb.toString());
+    }
+
+    /**
+     * Appends the parts of the context configuration that can change the generated code. Connection details are not
+     * included, and tables are fingerprinted separately.
+     */
+    private static void appendContext(StringBuilder sb, Context context) {
+        append(sb, context.getId(), context.getTargetRuntime(), context.getDefaultModelType(),
+                context.getIntrospectedColumnImpl(), context.getBeginningDelimiter(), context.getEndingDelimiter(),
+                context.autoDelimitKeywords(), context.getProperties());
+
+        ModelGeneratorConfiguration modelGeneratorConfiguration = context.getModelGeneratorConfiguration();
+        append(sb, modelGeneratorConfiguration.getTargetProject(), modelGeneratorConfiguration.getTargetPackage(),
+                modelGeneratorConfiguration.getProperties());
+        append(sb, context.getSqlMapGeneratorConfiguration()
+                .map(c -> List.of(c.getTargetProject(), c.getTargetPackage(), c.getProperties())));
+        append(sb, context.getClientGeneratorConfiguration()
+                .map(c -> List.of(c.getTargetProject(), c.getTargetPackage(), c.getLegacyClientType(),
+                        c.getProperties())));
+
+        append(sb, context.getCommentGeneratorConfiguration().map(SchemaFingerprints::describeType),
+                context.getJavaTypeResolverConfiguration().map(SchemaFingerprints::describeType),
+                context.pluginConfigurations().map(SchemaFingerprints::describeType).toList());
+    }
+
+    private static List<Object> describeType(TypedPropertyHolder typedPropertyHolder) {
+        return List.of(typedPropertyHolder.getConfigurationType(), typedPropertyHolder.getProperties());
+    }
+
+    /**
+     * Appends the table configuration. Ignored columns are not included - they are left out of the introspected
+     * columns, which are fingerprinted separately.
+     */
+    private static void appendTableConfiguration(StringBuilder sb, TableConfiguration tc) {
+        append(sb, tc.getCatalog(), tc.getSchema(), tc.getTableName(), tc.getDomainObjectName(), tc.getAlias(),
+                tc.getMapperName(), tc.getSqlProviderName(), tc.getModelType(), tc.isWildcardEscapingEnabled(),
+                tc.isDelimitIdentifiers(), tc.isAllColumnDelimitingEnabled(), tc.getProperties());
+
+        append(sb, tc.isInsertStatementEnabled(), tc.isSelectByPrimaryKeyStatementEnabled(),
+                tc.isSelectByExampleStatementEnabled(), tc.isUpdateByPrimaryKeyStatementEnabled(),
+                tc.isDeleteByPrimaryKeyStatementEnabled(), tc.isDeleteByExampleStatementEnabled(),
+                tc.isCountByExampleStatementEnabled(), tc.isUpdateByExampleStatementEnabled());
+
+        append(sb, tc.getGeneratedKey().map(gk -> List.of(gk.getColumn(), gk.isIdentity(),
+                        gk.getRuntimeSqlStatement())),
+                Optional.ofNullable(tc.getDomainObjectRenamingRule()).map(SchemaFingerprints::describeRenamingRule),
+                tc.getColumnRenamingRule().map(SchemaFingerprints::describeRenamingRule));
+
+        append(sb, tc.getColumnOverrides().stream()
+                .map(co -> List.of(co.getColumnName(), co.isColumnNameDelimited(), co.getJavaProperty(),
+                        co.getJavaType(), co.getJdbcType(), co.getTypeHandler(), co.isGeneratedAlways(),
+                        co.getProperties()))
+                .toList());
+    }
+
+    private static List<Object> describeRenamingRule(AbstractRenamingRule renamingRule) {
+        return List.of(renamingRule.searchString(), renamingRule.replaceString());
+    }
+
+    private static String calculateGeneratorVersion() {
+        try (InputStream inputStream = SchemaFingerprints.class.getClassLoader()
+                .getResourceAsStream(VERSION_RESOURCE)) {
+            if (inputStream != null) {
+                Properties properties = new Properties();
+                properties.load(inputStream);
+                return properties.getProperty("version", ""); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        } catch (IOException e) {
+            // ignore - the version is not available
+        }
+
+        // running from classes, not a released jar
+        return ""; //$NON-NLS-1$
+    }
+
+    private static void append(StringBuilder sb, @Nullable Object... values) {
+        for (Object value : values) {
+            describe(sb, value);
+            sb.append('|');
+        }
+    }
+
+    /**
+     * Appends a description of a value that is stable from one run to the next.
+     */
+    private static void describe(StringBuilder sb, @Nullable Object value) {
+        if (value == null) {
+            sb.append("null"); //$NON-NLS-1$
+        } else if (value instanceof Optional<?> optional) {
+            describe(sb, optional.orElse(null));
+        } else if (value instanceof Collection<?> collection) {
+            sb.append('[');
+            collection.forEach(item -> append(sb, item));
+            sb.append(']');
+        } else if (value instanceof Map<?, ?> map) {
+            // maps are typically hash based, so sort the entries to make the description stable
+            Set<String> entries = new TreeSet<>();
+            map.forEach((k, v) -> {
+                StringBuilder entry = new StringBuilder();
+                append(entry, k, v);
+                entries.add(entry.toString());
+            });
+            sb.append(entries);
+        } else {
+            sb.append(value);
+        }
+    }
+}
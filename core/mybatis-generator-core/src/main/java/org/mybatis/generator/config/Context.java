@@ -165,6 +165,42 @@ public class Context extends PropertyHolder {
         for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
             pluginConfiguration.validate(errors, id);
         }
+
+        validatePositiveIntegerProperty(PropertyRegistry.CONTEXT_GENERATION_PARALLELISM, errors);
+        validatePositiveIntegerProperty(PropertyRegistry.CONTEXT_INTROSPECTION_CONNECTIONS, errors);
+
+        String introspectionStrategy = getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_STRATEGY);
+        if (introspectionStrategy != null && IntrospectionStrategy.getByAlias(introspectionStrategy.trim()) == null) {
+            errors.add(getString("ValidationError.39", introspectionStrategy, id)); //$NON-NLS-1$
+        }
+
+        String snapshotMode = getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE);
+        if (snapshotMode != null) {
+            if (IntrospectionSnapshotMode.getByAlias(snapshotMode.trim()) == null) {
+                errors.add(getString("ValidationError.41", snapshotMode, id)); //$NON-NLS-1$
+            }
+
+            if (!stringHasValue(getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FILE))) {
+                errors.add(getString("ValidationError.40", //$NON-NLS-1$
+                        PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE, id,
+                        PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FILE));
+            }
+        }
+    }
+
+    private void validatePositiveIntegerProperty(String propertyName, List<String> errors) {
+        String property = getProperty(propertyName);
+        if (property == null) {
+            return;
+        }
+
+        try {
+            if (Integer.parseInt(property.trim()) < 1) {
+                errors.add(getString("ValidationError.38", propertyName, id)); //$NON-NLS-1$
+            }
+        } catch (NumberFormatException e) {
+            errors.add(getString("ValidationError.38", propertyName, id)); //$NON-NLS-1$
+        }
     }
 
     public String getId() {
@@ -195,6 +231,70 @@ public class Context extends PropertyHolder {
         return Optional.ofNullable(introspectedColumnImpl);
     }
 
+    /**
+     * Returns the number of threads to use for code generation in this context, if specified with the
+     * "generationParallelism" property. If not specified, the value configured on the generator is used.
+     *
+     * @return the configured generation parallelism, if any
+     */
+    public Optional<Integer> getGenerationParallelism() {
+        return getIntegerProperty(PropertyRegistry.CONTEXT_GENERATION_PARALLELISM);
+    }
+
+    /**
+     * Returns the number of JDBC connections to use for table introspection in this context, if specified with the
+     * "introspectionConnections" property. If not specified, tables are introspected sequentially over a single
+     * connection.
+     *
+     * @return the configured number of introspection connections, if any
+     */
+    public Optional<Integer> getIntrospectionConnections() {
+        return getIntegerProperty(PropertyRegistry.CONTEXT_INTROSPECTION_CONNECTIONS);
+    }
+
+    /**
+     * Returns the strategy for retrieving table metadata in this context, as specified with the
+     * "introspectionStrategy" property. If not specified, metadata is retrieved separately for every table.
+     *
+     * @return the configured introspection strategy
+     */
+    public IntrospectionStrategy getIntrospectionStrategy() {
+        return Optional.ofNullable(getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_STRATEGY))
+                .map(String::trim)
+                .map(IntrospectionStrategy::getByAlias)
+                .orElse(IntrospectionStrategy.PER_TABLE);
+    }
+
+    /**
+     * Returns the introspection snapshot mode for this context, if specified with the "introspectionSnapshotMode"
+     * property.
+     *
+     * @return the configured snapshot mode, if any
+     */
+    public Optional<IntrospectionSnapshotMode> getIntrospectionSnapshotMode() {
+        return Optional.ofNullable(getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE))
+                .map(String::trim)
+                .map(IntrospectionSnapshotMode::getByAlias);
+    }
+
+    public Optional<String> getIntrospectionSnapshotFile() {
+        return Optional.ofNullable(getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FILE));
+    }
+
+    public Optional<String> getIntrospectionMetricsFile() {
+        return Optional.ofNullable(getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_METRICS_FILE));
+    }
+
+    public Optional<String> getSchemaFingerprintFile() {
+        return Optional.ofNullable(getProperty(PropertyRegistry.CONTEXT_SCHEMA_FINGERPRINT_FILE));
+    }
+
+    private Optional<Integer> getIntegerProperty(String propertyName) {
+        return Optional.ofNullable(getProperty(propertyName))
+                .map(String::trim)
+                .map(Integer::parseInt);
+    }
+
 
     public int getIntrospectionSteps() {
         int steps = 0;
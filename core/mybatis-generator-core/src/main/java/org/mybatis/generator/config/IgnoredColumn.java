@@ -37,6 +37,10 @@ public class IgnoredColumn {
         return columnName;
     }
 
+    public boolean isColumnNameDelimited() {
+        return isColumnNameDelimited;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (!(obj instanceof IgnoredColumn)) {
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.config;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Modes for using an introspection snapshot.
+ */
+public enum IntrospectionSnapshotMode {
+    /**
+     * Tables are introspected from the database, and the metadata is written to the snapshot file.
+     */
+    WRITE("write"), //$NON-NLS-1$
+
+    /**
+     * Tables are introspected from the metadata in the snapshot file. No database connection is opened.
+     */
+    READ("read"); //$NON-NLS-1$
+
+    private final String alias;
+
+    IntrospectionSnapshotMode(String alias) {
+        this.alias = alias;
+    }
+
+    public static @Nullable IntrospectionSnapshotMode getByAlias(String alias) {
+        for (IntrospectionSnapshotMode introspectionSnapshotMode : values()) {
+            if (introspectionSnapshotMode.alias.equalsIgnoreCase(alias)) {
+                return introspectionSnapshotMode;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.config;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Strategies for retrieving table metadata from the database.
+ */
+public enum IntrospectionStrategy {
+    /**
+     * Database metadata is retrieved with separate calls for every table in the configuration.
+     */
+    PER_TABLE("perTable"), //$NON-NLS-1$
+
+    /**
+     * Database metadata is retrieved with one bulk call for every catalog and schema in the configuration,
+     * and tables are resolved from the bulk results.
+     */
+    PREFETCH("prefetch"), //$NON-NLS-1$
+
+    /**
+     * Database metadata is retrieved like {@link #PREFETCH}, but with set based queries against the catalog
+     * views of the database (information_schema, or the data dictionary for Oracle) instead of the JDBC
+     * metadata calls. This is supported for HSQLDB, H2, and Oracle. Other databases use {@link #PREFETCH}.
+     */
+    CATALOG_VIEWS("catalogViews"); //$NON-NLS-1$
+
+    private final String alias;
+
+    IntrospectionStrategy(String alias) {
+        this.alias = alias;
+    }
+
+    public static @Nullable IntrospectionStrategy getByAlias(String alias) {
+        for (IntrospectionStrategy introspectionStrategy : values()) {
+            if (introspectionStrategy.alias.equalsIgnoreCase(alias)) {
+                return introspectionStrategy;
+            }
+        }
+
+        return null;
+    }
+}
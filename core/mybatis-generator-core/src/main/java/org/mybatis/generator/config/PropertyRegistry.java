@@ -53,6 +53,9 @@ public class PropertyRegistry {
     public static final String TABLE_SELECT_ALL_ORDER_BY_CLAUSE = "selectAllOrderByClause"; //$NON-NLS-1$
     public static final String TABLE_DYNAMIC_SQL_SUPPORT_CLASS_NAME = "dynamicSqlSupportClassName"; //$NON-NLS-1$
     public static final String TABLE_DYNAMIC_SQL_TABLE_OBJECT_NAME = "dynamicSqlTableObjectName"; //$NON-NLS-1$
+    public static final String TABLE_INCLUDE_TABLE_NAMES = "includeTableNames"; //$NON-NLS-1$
+    public static final String TABLE_EXCLUDE_TABLE_NAMES = "excludeTableNames"; //$NON-NLS-1$
+    public static final String TABLE_TABLE_TYPES = "tableTypes"; //$NON-NLS-1$
 
     public static final String CONTEXT_BEGINNING_DELIMITER = "beginningDelimiter"; //$NON-NLS-1$
     public static final String CONTEXT_ENDING_DELIMITER = "endingDelimiter"; //$NON-NLS-1$
@@ -62,10 +65,19 @@ public class PropertyRegistry {
     public static final String CONTEXT_XML_FORMATTER = "xmlFormatter"; //$NON-NLS-1$
     public static final String CONTEXT_KOTLIN_FORMATTER = "kotlinFormatter"; //$NON-NLS-1$
     public static final String CONTEXT_KOTLIN_FILE_ENCODING = "kotlinFileEncoding"; //$NON-NLS-1$
+    public static final String CONTEXT_GENERATION_PARALLELISM = "generationParallelism"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_CONNECTIONS = "introspectionConnections"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_STRATEGY = "introspectionStrategy"; //$NON-NLS-1$
+    public static final String CONTEXT_METADATA_SOURCE_FACTORY = "metadataSourceFactory"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_SNAPSHOT_FILE = "introspectionSnapshotFile"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_SNAPSHOT_MODE = "introspectionSnapshotMode"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_METRICS_FILE = "introspectionMetricsFile"; //$NON-NLS-1$
+    public static final String CONTEXT_SCHEMA_FINGERPRINT_FILE = "schemaFingerprintFile"; //$NON-NLS-1$
 
     public static final String CLIENT_DYNAMIC_SQL_SUPPORT_PACKAGE = "dynamicSqlSupportPackage"; //$NON-NLS-1$
 
     public static final String TYPE_RESOLVER_FORCE_BIG_DECIMALS = "forceBigDecimals"; //$NON-NLS-1$
+    public static final String TYPE_RESOLVER_JDBC_TYPE_PROFILE = "jdbcTypeProfile"; //$NON-NLS-1$
 
     public static final String MODEL_GENERATOR_TRIM_STRINGS = "trimStrings"; //$NON-NLS-1$
     public static final String MODEL_GENERATOR_EXAMPLE_PACKAGE = "exampleTargetPackage"; //$NON-NLS-1$
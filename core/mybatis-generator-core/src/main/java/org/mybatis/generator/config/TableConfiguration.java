@@ -22,16 +22,20 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.KnownRuntime;
 import org.mybatis.generator.exception.InvalidConfigurationException;
+import org.mybatis.generator.internal.util.ColumnNameIndex;
 import org.mybatis.generator.internal.util.messages.Messages;
 
 public class TableConfiguration extends PropertyHolder {
@@ -47,6 +51,8 @@ public class TableConfiguration extends PropertyHolder {
     // this is a Map for validation purposes. Initially, all items will be FALSE. When accessed, an item will
     // be made TRUE. This allows us to generate warning for columns configured to be ignored but not found.
     private final Map<IgnoredColumn, Boolean> ignoredColumns;
+    private final ColumnNameIndex<ColumnOverride> columnOverrideIndex = new ColumnNameIndex<>();
+    private final ColumnNameIndex<Map.Entry<IgnoredColumn, Boolean>> ignoredColumnIndex = new ColumnNameIndex<>();
     private @Nullable GeneratedKey generatedKey;
     private final @Nullable String catalog;
     private final @Nullable String schema;
@@ -87,12 +93,21 @@ public class TableConfiguration extends PropertyHolder {
         mapperName = builder.mapperName;
         sqlProviderName = builder.sqlProviderName;
         columnOverrides = Collections.unmodifiableList(builder.columnOverrides);
-        ignoredColumns = builder.ignoredColumns;
+        ignoredColumns = new LinkedHashMap<>(builder.ignoredColumns);
         generatedKey = builder.generatedKey;
         domainObjectRenamingRule = builder.domainObjectRenamingRule;
         columnRenamingRule = builder.columnRenamingRule;
         ignoredColumnPatterns = Collections.unmodifiableList(builder.ignoredColumnPatterns);
         fullyQualifiedName = composeFullyQualifiedTableName(catalog, schema, tableName, '.');
+
+        // index in iteration order so lookups find the same item as a linear search would
+        for (ColumnOverride columnOverride : columnOverrides) {
+            columnOverrideIndex.add(columnOverride.getColumnName(), columnOverride.isColumnNameDelimited(),
+                    columnOverride);
+        }
+        for (Map.Entry<IgnoredColumn, Boolean> entry : ignoredColumns.entrySet()) {
+            ignoredColumnIndex.add(entry.getKey().getColumnName(), entry.getKey().isColumnNameDelimited(), entry);
+        }
     }
 
     public boolean isDeleteByPrimaryKeyStatementEnabled() {
@@ -112,11 +127,10 @@ public class TableConfiguration extends PropertyHolder {
     }
 
     public boolean isColumnIgnored(String columnName) {
-        for (Map.Entry<IgnoredColumn, Boolean> entry : ignoredColumns.entrySet()) {
-            if (entry.getKey().matches(columnName)) {
-                entry.setValue(Boolean.TRUE);
-                return true;
-            }
+        Optional<Map.Entry<IgnoredColumn, Boolean>> ignoredColumn = ignoredColumnIndex.get(columnName);
+        if (ignoredColumn.isPresent()) {
+            ignoredColumn.get().setValue(Boolean.TRUE);
+            return true;
         }
 
         for (IgnoredColumnPattern ignoredColumnPattern : ignoredColumnPatterns) {
@@ -160,19 +174,7 @@ public class TableConfiguration extends PropertyHolder {
      * @return the column override (if any) related to this column
      */
     public Optional<ColumnOverride> getColumnOverride(String columnName) {
-        for (ColumnOverride co : columnOverrides) {
-            if (co.isColumnNameDelimited()) {
-                if (columnName.equals(co.getColumnName())) {
-                    return Optional.of(co);
-                }
-            } else {
-                if (columnName.equalsIgnoreCase(co.getColumnName())) {
-                    return Optional.of(co);
-                }
-            }
-        }
-
-        return Optional.empty();
+        return columnOverrideIndex.get(columnName);
     }
 
     public Optional<GeneratedKey> getGeneratedKey() {
@@ -295,6 +297,21 @@ public class TableConfiguration extends PropertyHolder {
         for (IgnoredColumnPattern ignoredColumnPattern : ignoredColumnPatterns) {
             ignoredColumnPattern.validate(errors, fullyQualifiedName);
         }
+
+        validateTableNamePattern(errors, PropertyRegistry.TABLE_INCLUDE_TABLE_NAMES);
+        validateTableNamePattern(errors, PropertyRegistry.TABLE_EXCLUDE_TABLE_NAMES);
+    }
+
+    private void validateTableNamePattern(List<String> errors, String propertyName) {
+        String regex = getProperty(propertyName);
+        if (regex != null) {
+            try {
+                Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                errors.add(Messages.getString("ValidationError.42", //$NON-NLS-1$
+                        propertyName, fullyQualifiedName, e.getDescription()));
+            }
+        }
     }
 
     private List<String> validateGeneratedKey(GeneratedKey generatedKey, Context context, KnownRuntime knownRuntime) {
@@ -384,6 +401,53 @@ public class TableConfiguration extends PropertyHolder {
         return getProperty(PropertyRegistry.TABLE_DYNAMIC_SQL_TABLE_OBJECT_NAME);
     }
 
+    /**
+     * Returns true if the tables matching this configuration should be discovered, and filtered, before any
+     * columns are retrieved. This is the case when any of the table name patterns or table types are configured.
+     *
+     * @return true if table discovery is enabled
+     */
+    public boolean isTableDiscoveryEnabled() {
+        return stringHasValue(getProperty(PropertyRegistry.TABLE_INCLUDE_TABLE_NAMES))
+                || stringHasValue(getProperty(PropertyRegistry.TABLE_EXCLUDE_TABLE_NAMES))
+                || stringHasValue(getProperty(PropertyRegistry.TABLE_TABLE_TYPES));
+    }
+
+    public Optional<Pattern> getIncludeTableNamesPattern() {
+        return compileProperty(PropertyRegistry.TABLE_INCLUDE_TABLE_NAMES);
+    }
+
+    public Optional<Pattern> getExcludeTableNamesPattern() {
+        return compileProperty(PropertyRegistry.TABLE_EXCLUDE_TABLE_NAMES);
+    }
+
+    private Optional<Pattern> compileProperty(String propertyName) {
+        return Optional.ofNullable(getProperty(propertyName))
+                .filter(s -> !s.isEmpty())
+                .map(Pattern::compile);
+    }
+
+    /**
+     * Returns the table types configured with the tableTypes property, a comma separated list such as "TABLE".
+     *
+     * @return the table types, or null if all table types should be introspected
+     */
+    public @Nullable List<String> getTableTypes() {
+        String tableTypes = getProperty(PropertyRegistry.TABLE_TABLE_TYPES);
+        if (tableTypes == null) {
+            return null;
+        }
+
+        List<String> answer = new ArrayList<>();
+        for (String tableType : tableTypes.split(",")) { //$NON-NLS-1$
+            if (stringHasValue(tableType.trim())) {
+                answer.add(tableType.trim());
+            }
+        }
+
+        return answer.isEmpty() ? null : answer;
+    }
+
     public static class Builder extends AbstractBuilder<Builder> {
         private @Nullable ModelType modelType;
         private @Nullable String catalog;
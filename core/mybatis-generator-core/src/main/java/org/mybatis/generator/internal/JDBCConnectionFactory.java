@@ -20,6 +20,7 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Properties;
 
 import org.mybatis.generator.config.JDBCConnectionConfiguration;
@@ -36,6 +37,7 @@ import org.mybatis.generator.exception.InternalException;
 public class JDBCConnectionFactory {
 
     private final JDBCConnectionConfiguration config;
+    private final List<ClassLoader> externalClassLoaders;
 
     /**
      * This constructor is called when there is a JDBCConnectionConfiguration
@@ -45,7 +47,21 @@ public class JDBCConnectionFactory {
      *            the configuration
      */
     public JDBCConnectionFactory(JDBCConnectionConfiguration config) {
+        this(config, List.of());
+    }
+
+    /**
+     * Creates a connection factory that loads the JDBC driver from the supplied class loaders
+     * before the global class loaders.
+     *
+     * @param config
+     *            the configuration
+     * @param externalClassLoaders
+     *            class loaders of the current generation run
+     */
+    public JDBCConnectionFactory(JDBCConnectionConfiguration config, List<ClassLoader> externalClassLoaders) {
         this.config = config;
+        this.externalClassLoaders = externalClassLoaders;
     }
 
     public Connection getConnection() throws SQLException {
@@ -70,7 +86,8 @@ public class JDBCConnectionFactory {
         Driver driver;
 
         try {
-            Class<Driver> clazz = ObjectFactory.externalClassForName(config.getDriverClass());
+            Class<Driver> clazz = ObjectFactory.externalClassForName(config.getDriverClass(),
+                    externalClassLoaders);
             driver = clazz.getConstructor().newInstance();
         } catch (Exception e) {
             throw new InternalException(getString("RuntimeError.8"), e); //$NON-NLS-1$
@@ -18,11 +18,16 @@ package org.mybatis.generator.internal;
 import static org.mybatis.generator.internal.util.StringUtility.stringValueOrElse;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.CommentGenerator;
 import org.mybatis.generator.api.ConnectionFactory;
 import org.mybatis.generator.api.Indenter;
@@ -41,6 +46,10 @@ import org.mybatis.generator.config.JavaTypeResolverConfiguration;
 import org.mybatis.generator.config.PluginConfiguration;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.exception.InternalException;
+import org.mybatis.generator.internal.types.BuiltInJdbcTypeProfile;
+import org.mybatis.generator.internal.types.JavaTypeResolverDefaultImpl;
+import org.mybatis.generator.internal.types.JdbcTypeProfile;
+import org.mybatis.generator.internal.util.StringUtility;
 
 /**
  * This class creates the different objects needed by the generator.
@@ -51,8 +60,21 @@ public class ObjectFactory {
 
     private static final List<ClassLoader> externalClassLoaders;
 
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (ReflectiveOperationException e) {
+                throw new InternalException(getString("RuntimeError.6", type.getName()), e); //$NON-NLS-1$
+            }
+        }
+    };
+
     static {
-        externalClassLoaders = new ArrayList<>();
+        externalClassLoaders = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -63,11 +85,13 @@ public class ObjectFactory {
     }
 
     /**
-     * Clears the class loaders.  This method should be called at the beginning of
-     * a generation run so that and change to the classloading configuration
-     * will be reflected.  For example, if the eclipse launcher changes configuration
-     * it might not be updated if eclipse hasn't been restarted.
+     * Clears the global class loaders added with {@link #addExternalClassLoader(ClassLoader)}.
+     *
+     * <p>MyBatisGenerator does not call this method. Class loaders for the class path entries in a configuration
+     * are held by the generation session for each run, so runs do not need to clear global state, and concurrent
+     * runs in the same JVM do not affect each other.
      *
+     * @see org.mybatis.generator.codegen.GenerationSession
      */
     public static void reset() {
         externalClassLoaders.clear();
@@ -78,10 +102,14 @@ public class ObjectFactory {
      * that do not depend on any of the generator's classes or interfaces. Examples are JDBC drivers, root classes, root
      * interfaces, etc.
      *
+     * <p>Class loaders added with this method are global - they are used by every generation run in the JVM until
+     * {@link #reset()} is called. Prefer a thread context class loader, or the class path entries in the
+     * configuration, when more than one generator may run at the same time.
+     *
      * @param classLoader
      *            the class loader
      */
-    public static synchronized void addExternalClassLoader(ClassLoader classLoader) {
+    public static void addExternalClassLoader(ClassLoader classLoader) {
         externalClassLoaders.add(classLoader);
     }
 
@@ -96,33 +124,57 @@ public class ObjectFactory {
      * @throws ClassNotFoundException
      *             the class not found exception
      */
-    @SuppressWarnings("unchecked")
     public static <T> Class<T> externalClassForName(String type) throws ClassNotFoundException {
-        Class<T> clazz;
+        return externalClassForName(type, List.of());
+    }
 
-        for (ClassLoader classLoader : externalClassLoaders) {
+    /**
+     * Returns a class loaded from the supplied classloaders, the global classloaders, or the context classloader (in
+     * that order). This is appropriate for JDBC drivers, model root classes, etc. It is not appropriate for any class
+     * that extends one of the supplied classes or interfaces.
+     *
+     * @param type
+     *            the type
+     * @param classLoaders
+     *            classloaders to search before the global classloaders - typically the classloaders of a single
+     *            generation run
+     * @return the Class loaded from the external classloader
+     * @throws ClassNotFoundException
+     *             the class not found exception
+     */
+    public static <T> Class<T> externalClassForName(String type, List<ClassLoader> classLoaders)
+            throws ClassNotFoundException {
+        Optional<Class<T>> clazz = classForName(type, classLoaders);
+        if (clazz.isEmpty()) {
+            clazz = classForName(type, externalClassLoaders);
+        }
+
+        return clazz.isPresent() ? clazz.get() : internalClassForName(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<Class<T>> classForName(String type, List<ClassLoader> classLoaders) {
+        for (ClassLoader classLoader : classLoaders) {
             try {
-                clazz = (Class<T>) Class.forName(type, true, classLoader);
-                return clazz;
+                return Optional.of((Class<T>) Class.forName(type, true, classLoader));
             } catch (Exception e) {
                 // ignore - fail safe below
             }
         }
 
-        return internalClassForName(type);
+        return Optional.empty();
     }
 
     public static <T> T createExternalObject(String type) {
-        T answer;
+        Class<T> clazz;
 
         try {
-            Class<T> clazz = externalClassForName(type);
-            answer = clazz.getConstructor().newInstance();
+            clazz = externalClassForName(type);
         } catch (Exception e) {
             throw new InternalException(getString("RuntimeError.6", type), e); //$NON-NLS-1$
         }
 
-        return answer;
+        return instanceSupplier(clazz).get();
     }
 
     @SuppressWarnings("unchecked")
@@ -164,19 +216,63 @@ public class ObjectFactory {
     }
 
     public static <T> T createInternalObject(String type) {
-        T answer;
+        return ObjectFactory.<T>internalObjectSupplier(type).get();
+    }
+
+    /**
+     * Returns a supplier of new instances of an "internal" class. The class is loaded, and its public no-argument
+     * constructor is found, when this method is called. Calling the supplier only calls the constructor, so this
+     * method should be used when many objects of the same type will be created.
+     *
+     * @param type
+     *            the fully qualified name of the class
+     * @return a supplier of new instances of the class
+     */
+    public static <T> Supplier<T> internalObjectSupplier(String type) {
+        Class<T> clazz;
 
         try {
-            Class<T> clazz = internalClassForName(type);
-            answer = clazz.getConstructor().newInstance();
+            clazz = internalClassForName(type);
         } catch (Exception e) {
             throw new InternalException(getString("RuntimeError.6", type), e); //$NON-NLS-1$
         }
 
-        return answer;
+        return instanceSupplier(clazz);
+    }
+
+    /**
+     * Returns a supplier of new instances of a class. Constructors are looked up once per class and cached with the
+     * class itself, so the cache works with any class loader and does not prevent class loaders from being
+     * garbage collected.
+     */
+    private static <T> Supplier<T> instanceSupplier(Class<T> clazz) {
+        MethodHandle constructor = CONSTRUCTORS.get(clazz);
+        return () -> {
+            try {
+                return clazz.cast(constructor.invokeExact());
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InternalException(getString("RuntimeError.6", clazz.getName()), e); //$NON-NLS-1$
+            }
+        };
     }
 
     public static JavaTypeResolver createJavaTypeResolver(Context context, List<String> warnings) {
+        return createJavaTypeResolver(context, warnings, null);
+    }
+
+    /**
+     * Creates a Java type resolver for a context. If the resolver is the default resolver, or a subclass of it,
+     * then it will use the supplied type profile rather than creating its own.
+     *
+     * @param context the context
+     * @param warnings the list of warnings for the current run
+     * @param jdbcTypeProfile the type profile shared by the resolvers of the context in the current run
+     * @return the new resolver
+     */
+    public static JavaTypeResolver createJavaTypeResolver(Context context, List<String> warnings,
+                                                          @Nullable JdbcTypeProfile jdbcTypeProfile) {
         String type = context.getJavaTypeResolverConfiguration()
                 .map(JavaTypeResolverConfiguration::getImplementationType)
                 .orElse(Defaults.DEFAULT_JAVA_TYPE_RESOLVER);
@@ -187,11 +283,45 @@ public class ObjectFactory {
         context.getJavaTypeResolverConfiguration()
                 .ifPresent(c -> answer.addConfigurationProperties(c.getProperties()));
 
+        if (jdbcTypeProfile != null && answer instanceof JavaTypeResolverDefaultImpl defaultJavaTypeResolver) {
+            defaultJavaTypeResolver.setJdbcTypeProfile(jdbcTypeProfile);
+        }
+
         answer.setContext(context);
 
         return answer;
     }
 
+    /**
+     * Creates the type profile named in the "jdbcTypeProfile" property of the Java type resolver configuration.
+     *
+     * @param context the context
+     * @return the profile, or empty if the property is not specified
+     */
+    public static Optional<JdbcTypeProfile> createJdbcTypeProfile(Context context) {
+        return context.getJavaTypeResolverConfiguration()
+                .map(c -> c.getProperty(PropertyRegistry.TYPE_RESOLVER_JDBC_TYPE_PROFILE))
+                .filter(StringUtility::stringHasValue)
+                .map(ObjectFactory::createJdbcTypeProfile);
+    }
+
+    /**
+     * Creates a type profile. The name is either the alias of a built-in profile, or the fully qualified name of a
+     * class that implements {@link JdbcTypeProfile}.
+     *
+     * @param profileName the configured profile name
+     * @return the profile
+     */
+    public static JdbcTypeProfile createJdbcTypeProfile(String profileName) {
+        String name = profileName.trim();
+        BuiltInJdbcTypeProfile builtInJdbcTypeProfile = BuiltInJdbcTypeProfile.getByAlias(name);
+        if (builtInJdbcTypeProfile != null) {
+            return builtInJdbcTypeProfile;
+        }
+
+        return createInternalObject(name);
+    }
+
     public static Plugin createPlugin(Context context, PluginConfiguration pluginConfiguration,
                                       CommentGenerator commentGenerator, KnownRuntime knownRuntime,
                                       Indenter indenter) {
@@ -264,10 +394,25 @@ public class ObjectFactory {
     }
 
     public static IntrospectedColumn createIntrospectedColumn(Context context) {
+        return introspectedColumnFactory(context).get();
+    }
+
+    /**
+     * Returns a supplier of new introspected columns for a context. The implementation class is resolved once, so
+     * this should be used instead of {@link #createIntrospectedColumn(Context)} when creating many columns.
+     *
+     * @param context
+     *            the context
+     * @return a supplier of new introspected columns
+     */
+    public static Supplier<IntrospectedColumn> introspectedColumnFactory(Context context) {
         String type = context.getIntrospectedColumnImpl().orElse(IntrospectedColumn.class.getName());
-        IntrospectedColumn answer = createInternalObject(type);
-        answer.setContext(context);
+        Supplier<IntrospectedColumn> supplier = internalObjectSupplier(type);
 
-        return answer;
+        return () -> {
+            IntrospectedColumn answer = supplier.get();
+            answer.setContext(context);
+            return answer;
+        };
     }
 }
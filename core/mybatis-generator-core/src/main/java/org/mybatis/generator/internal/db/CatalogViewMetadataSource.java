@@ -0,0 +1,158 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class for metadata sources that read bulk metadata directly from a database's catalog views
+ * (information_schema or a vendor specific equivalent) with a few set based queries. Many drivers implement
+ * the {@link DatabaseMetaData} methods with queries that are much more general, and much slower, than is
+ * needed here.
+ *
+ * <p>Metadata is prefetched for an entire catalog and schema, then resolved exactly like
+ * {@link PrefetchingMetadataSource}. Subclasses supply the queries.
+ */
+abstract class CatalogViewMetadataSource extends PrefetchingMetadataSource {
+    private final Log logger;
+
+    protected CatalogViewMetadataSource(DatabaseMetaData databaseMetaData) {
+        super(databaseMetaData);
+        logger = LogFactory.getLog(getClass());
+    }
+
+    /**
+     * Runs a query against the catalog views, restricted to a catalog and schema.
+     *
+     * @param select the select and from clauses of the query
+     * @param conditions fixed conditions for the where clause
+     * @param catalogColumn the column that holds the catalog name, or null if the database has no catalogs
+     * @param schemaColumn the column that holds the schema name
+     * @param catalog the catalog name, or null for all catalogs
+     * @param schema the schema name, or null for all schemas
+     * @param schemaIsPattern true if the schema name is a JDBC search pattern
+     * @param orderBy the order by clause
+     * @param rowReader reads one row of the result
+     * @param <T> the type of the rows
+     * @return the rows
+     * @throws SQLException if any error occurs running the query
+     */
+    protected <T> List<T> query(String select, List<String> conditions, @Nullable String catalogColumn,
+                                String schemaColumn, @Nullable String catalog, @Nullable String schema,
+                                boolean schemaIsPattern, String orderBy, RowReader<T> rowReader)
+            throws SQLException {
+        List<String> allConditions = new ArrayList<>(conditions);
+        List<String> parameters = new ArrayList<>();
+
+        if (catalogColumn != null && stringHasValue(catalog)) {
+            allConditions.add(catalogColumn + " = ?"); //$NON-NLS-1$
+            parameters.add(catalog);
+        }
+
+        if (schema != null) {
+            String escape = getSearchStringEscape();
+            String literal = schemaIsPattern ? MetadataPattern.compile(schema, escape).getLiteral() : schema;
+            if (literal != null) {
+                allConditions.add(schemaColumn + " = ?"); //$NON-NLS-1$
+                parameters.add(literal);
+            } else if (escape.isEmpty()) {
+                allConditions.add(schemaColumn + " LIKE ?"); //$NON-NLS-1$
+                parameters.add(schema);
+            } else {
+                allConditions.add(schemaColumn + " LIKE ? ESCAPE '" //$NON-NLS-1$
+                        + escape.replace("'", "''") + "'"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                parameters.add(schema);
+            }
+        }
+
+        StringBuilder sql = new StringBuilder(select);
+        if (!allConditions.isEmpty()) {
+            sql.append(" WHERE "); //$NON-NLS-1$
+            sql.append(String.join(" AND ", allConditions)); //$NON-NLS-1$
+        }
+        sql.append(" ORDER BY "); //$NON-NLS-1$
+        sql.append(orderBy);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(getString("Tracing.11", sql.toString(), parameters.toString())); //$NON-NLS-1$
+        }
+
+        try (PreparedStatement ps = databaseMetaData.getConnection().prepareStatement(sql.toString())) {
+            for (int i = 0; i < parameters.size(); i++) {
+                ps.setString(i + 1, parameters.get(i));
+            }
+
+            List<T> answer = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    answer.add(rowReader.read(rs));
+                }
+            }
+            return answer;
+        }
+    }
+
+    protected static int getInt(ResultSet rs, String columnLabel, int defaultValue) throws SQLException {
+        int answer = rs.getInt(columnLabel);
+        return rs.wasNull() ? defaultValue : answer;
+    }
+
+    /**
+     * Creates a metadata source that reads the catalog views of the connected database, if there is one for
+     * the database. Otherwise, metadata is prefetched with the standard JDBC metadata calls.
+     *
+     * @param databaseMetaData metadata from an open connection
+     * @return the metadata source
+     */
+    static PrefetchingMetadataSource create(DatabaseMetaData databaseMetaData) {
+        @Nullable String productName = null;
+        try {
+            productName = databaseMetaData.getDatabaseProductName();
+            if ("HSQL Database Engine".equals(productName)) { //$NON-NLS-1$
+                return InformationSchemaMetadataSource.forHsqldb(databaseMetaData);
+            } else if ("H2".equals(productName) && databaseMetaData.getDatabaseMajorVersion() >= 2) { //$NON-NLS-1$
+                return InformationSchemaMetadataSource.forH2(databaseMetaData);
+            } else if ("Oracle".equals(productName)) { //$NON-NLS-1$
+                return new OracleMetadataSource(databaseMetaData);
+            }
+        } catch (SQLException e) {
+            // ignore - fall through to the standard metadata calls
+        }
+
+        Log logger = LogFactory.getLog(CatalogViewMetadataSource.class);
+        if (logger.isDebugEnabled()) {
+            logger.debug(getString("Tracing.12", productName)); //$NON-NLS-1$
+        }
+        return new PrefetchingMetadataSource(databaseMetaData);
+    }
+
+    @FunctionalInterface
+    protected interface RowReader<T> {
+        T read(ResultSet rs) throws SQLException;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * One row of column metadata as returned from {@link DatabaseMetaData#getColumns(String, String, String, String)}.
+ *
+ * @param tableName the actual table name returned from the database
+ * @param columnName the actual column name
+ * @param jdbcType the JDBC type from {@link java.sql.Types}
+ * @param typeName the database specific type name
+ * @param columnSize the column size
+ * @param nullable true if the column is known to be nullable
+ * @param decimalDigits the number of fractional digits
+ * @param remarks the column remarks
+ * @param defaultValue the column default value
+ * @param autoIncrement whether the column is auto incremented. Null if the driver does not report this value
+ * @param generatedColumn whether the column is generated. Null if the driver does not report this value
+ */
+public record ColumnMetadata(ActualTableName tableName, String columnName, int jdbcType, String typeName,
+                             int columnSize, boolean nullable, int decimalDigits, String remarks,
+                             @Nullable String defaultValue, @Nullable Boolean autoIncrement,
+                             @Nullable Boolean generatedColumn) {
+
+    /**
+     * Reads all rows from a result set returned by {@link DatabaseMetaData#getColumns(String, String, String, String)}.
+     *
+     * @param rs the result set
+     * @return the rows in the order returned by the driver
+     * @throws SQLException if any error occurs reading the result set
+     */
+    static List<ColumnMetadata> readAll(ResultSet rs) throws SQLException {
+        boolean supportsIsAutoIncrement = false;
+        boolean supportsIsGeneratedColumn = false;
+        ResultSetMetaData rsmd = rs.getMetaData();
+        int colCount = rsmd.getColumnCount();
+        for (int i = 1; i <= colCount; i++) {
+            if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
+                supportsIsAutoIncrement = true;
+            }
+            if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
+                supportsIsGeneratedColumn = true;
+            }
+        }
+
+        List<ColumnMetadata> answer = new ArrayList<>();
+        while (rs.next()) {
+            ActualTableName atn = new ActualTableName(
+                    rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                    rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                    rs.getString("TABLE_NAME")); //$NON-NLS-1$
+
+            answer.add(new ColumnMetadata(atn,
+                    rs.getString("COLUMN_NAME"), //$NON-NLS-1$
+                    rs.getInt("DATA_TYPE"), //$NON-NLS-1$
+                    rs.getString("TYPE_NAME"), //$NON-NLS-1$
+                    rs.getInt("COLUMN_SIZE"), //$NON-NLS-1$
+                    rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable, //$NON-NLS-1$
+                    rs.getInt("DECIMAL_DIGITS"), //$NON-NLS-1$
+                    rs.getString("REMARKS"), //$NON-NLS-1$
+                    rs.getString("COLUMN_DEF"), //$NON-NLS-1$
+                    supportsIsAutoIncrement ? isYes(rs, "IS_AUTOINCREMENT") : null, //$NON-NLS-1$
+                    supportsIsGeneratedColumn ? isYes(rs, "IS_GENERATEDCOLUMN") : null)); //$NON-NLS-1$
+        }
+
+        return answer;
+    }
+
+    private static boolean isYes(ResultSet rs, String columnLabel) throws SQLException {
+        return "YES".equals(rs.getString(columnLabel)); //$NON-NLS-1$
+    }
+}
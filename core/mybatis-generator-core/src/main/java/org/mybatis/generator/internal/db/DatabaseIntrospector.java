@@ -23,8 +23,6 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -32,12 +30,15 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.StringTokenizer;
-import java.util.TreeMap;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
@@ -54,17 +55,34 @@ import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.util.JavaBeansUtil;
 
 public class DatabaseIntrospector {
-    private final DatabaseMetaData databaseMetaData;
+    private final DatabaseMetadataSource metadataSource;
     private final JavaTypeResolver javaTypeResolver;
     private final List<String> warnings = new ArrayList<>();
     private final Context context;
+    private final Supplier<IntrospectedColumn> introspectedColumnFactory;
     private final Log logger;
+    private int typeResolutionFallbacks;
 
     public DatabaseIntrospector(Context context, DatabaseMetaData databaseMetaData,
                                 JavaTypeResolver javaTypeResolver) {
+        this(context, javaTypeResolver, DatabaseMetadataSource.create(context, databaseMetaData));
+    }
+
+    /**
+     * Creates an introspector that retrieves table metadata from the supplied metadata source. A metadata source
+     * may be shared by several introspectors that use the same connection, so that prefetched metadata can be
+     * reused. The metadata source does not need to be backed by a live connection.
+     *
+     * @param context the context
+     * @param javaTypeResolver the Java type resolver
+     * @param metadataSource the source of table metadata
+     */
+    public DatabaseIntrospector(Context context, JavaTypeResolver javaTypeResolver,
+                                DatabaseMetadataSource metadataSource) {
         this.context = context;
-        this.databaseMetaData = databaseMetaData;
         this.javaTypeResolver = javaTypeResolver;
+        this.metadataSource = metadataSource;
+        introspectedColumnFactory = ObjectFactory.introspectedColumnFactory(context);
         logger = LogFactory.getLog(getClass());
     }
 
@@ -72,20 +90,24 @@ public class DatabaseIntrospector {
         return Collections.unmodifiableList(warnings);
     }
 
+    /**
+     * Returns the number of columns whose type could not be resolved by the Java type resolver, and were
+     * introspected as <code>java.lang.Object</code> and JDBC type OTHER.
+     *
+     * @return the number of type resolution fallbacks
+     */
+    public int getTypeResolutionFallbacks() {
+        return typeResolutionFallbacks;
+    }
+
     private void calculatePrimaryKey(FullyQualifiedTable table, IntrospectedTable introspectedTable) {
-        try (ResultSet rs = databaseMetaData.getPrimaryKeys(
-                table.getIntrospectedCatalog().orElse(null),
-                table.getIntrospectedSchema().orElse(null),
-                table.getIntrospectedTableName())) {
-            // keep primary columns in key sequence order
-            Map<Short, String> keyColumns = new TreeMap<>();
-            while (rs.next()) {
-                String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
-                short keySeq = rs.getShort("KEY_SEQ"); //$NON-NLS-1$
-                keyColumns.put(keySeq, columnName);
-            }
+        try {
+            List<String> keyColumns = metadataSource.getPrimaryKeyColumnNames(
+                    table.getIntrospectedCatalog().orElse(null),
+                    table.getIntrospectedSchema().orElse(null),
+                    table.getIntrospectedTableName());
 
-            for (String columnName : keyColumns.values()) {
+            for (String columnName : keyColumns) {
                 introspectedTable.addPrimaryKeyColumn(columnName);
             }
         } catch (SQLException e) {
@@ -248,6 +270,7 @@ public class DatabaseIntrospector {
                     // if the type is not supported, then we'll report a warning
                     introspectedColumn.setFullyQualifiedJavaType(FullyQualifiedJavaType.getObjectInstance());
                     introspectedColumn.setJdbcTypeName("OTHER"); //$NON-NLS-1$
+                    typeResolutionFallbacks++;
 
                     String warning = getString("Warning.14", //$NON-NLS-1$
                             Integer.toString(introspectedColumn.getJdbcType()),
@@ -326,11 +349,11 @@ public class DatabaseIntrospector {
             localCatalog = tc.getCatalog();
             localSchema = tc.getSchema();
             localTableName = tc.getTableName();
-        } else if (databaseMetaData.storesLowerCaseIdentifiers()) {
+        } else if (metadataSource.storesLowerCaseIdentifiers()) {
             localCatalog = tc.getCatalog() == null ? null : tc.getCatalog().toLowerCase();
             localSchema = tc.getSchema() == null ? null : tc.getSchema().toLowerCase();
             localTableName = tc.getTableName().toLowerCase();
-        } else if (databaseMetaData.storesUpperCaseIdentifiers()) {
+        } else if (metadataSource.storesUpperCaseIdentifiers()) {
             localCatalog = tc.getCatalog() == null ? null : tc.getCatalog().toUpperCase();
             localSchema = tc.getSchema() == null ? null : tc.getSchema().toUpperCase();
             localTableName = tc.getTableName().toUpperCase();
@@ -341,7 +364,7 @@ public class DatabaseIntrospector {
         }
 
         if (tc.isWildcardEscapingEnabled()) {
-            String escapeString = databaseMetaData.getSearchStringEscape();
+            String escapeString = metadataSource.getSearchStringEscape();
 
             if (localSchema != null) {
                 localSchema = escapeName(localSchema, escapeString);
@@ -358,61 +381,46 @@ public class DatabaseIntrospector {
             logger.debug(getString("Tracing.1", fullTableName)); //$NON-NLS-1$
         }
 
-        try (ResultSet rs
-                     = databaseMetaData.getColumns(localCatalog, localSchema, localTableName, "%")) { //$NON-NLS-1$
-            boolean supportsIsAutoIncrement = false;
-            boolean supportsIsGeneratedColumn = false;
-            ResultSetMetaData rsmd = rs.getMetaData();
-            int colCount = rsmd.getColumnCount();
-            for (int i = 1; i <= colCount; i++) {
-                if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
-                    supportsIsAutoIncrement = true;
-                }
-                if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
-                    supportsIsGeneratedColumn = true;
-                }
-            }
+        List<ColumnMetadata> columnMetadata;
+        if (tc.isTableDiscoveryEnabled()) {
+            columnMetadata = getDiscoveredColumns(tc, localCatalog, localSchema, localTableName);
+        } else {
+            columnMetadata = metadataSource.getColumns(localCatalog, localSchema, localTableName);
+        }
 
-            while (rs.next()) {
-                IntrospectedColumn introspectedColumn = ObjectFactory.createIntrospectedColumn(context);
-
-                introspectedColumn.setTableAlias(tc.getAlias());
-                introspectedColumn.setJdbcType(rs.getInt("DATA_TYPE")); //$NON-NLS-1$
-                introspectedColumn.setActualTypeName(rs.getString("TYPE_NAME")); //$NON-NLS-1$
-                introspectedColumn.setLength(rs.getInt("COLUMN_SIZE")); //$NON-NLS-1$
-                introspectedColumn.setActualColumnName(rs.getString("COLUMN_NAME")); //$NON-NLS-1$
-                introspectedColumn
-                        .setNullable(rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable); //$NON-NLS-1$
-                introspectedColumn.setScale(rs.getInt("DECIMAL_DIGITS")); //$NON-NLS-1$
-                introspectedColumn.setRemarks(rs.getString("REMARKS")); //$NON-NLS-1$
-                introspectedColumn.setDefaultValue(rs.getString("COLUMN_DEF")); //$NON-NLS-1$
-
-                if (supportsIsAutoIncrement) {
-                    introspectedColumn.setAutoIncrement(
-                            "YES".equals(rs.getString("IS_AUTOINCREMENT"))); //$NON-NLS-1$ //$NON-NLS-2$
-                }
+        for (ColumnMetadata column : columnMetadata) {
+            IntrospectedColumn introspectedColumn = introspectedColumnFactory.get();
+
+            introspectedColumn.setTableAlias(tc.getAlias());
+            introspectedColumn.setJdbcType(column.jdbcType());
+            introspectedColumn.setActualTypeName(column.typeName());
+            introspectedColumn.setLength(column.columnSize());
+            introspectedColumn.setActualColumnName(column.columnName());
+            introspectedColumn.setNullable(column.nullable());
+            introspectedColumn.setScale(column.decimalDigits());
+            introspectedColumn.setRemarks(column.remarks());
+            introspectedColumn.setDefaultValue(column.defaultValue());
+
+            if (column.autoIncrement() != null) {
+                introspectedColumn.setAutoIncrement(column.autoIncrement());
+            }
 
-                if (supportsIsGeneratedColumn) {
-                    introspectedColumn.setGeneratedColumn(
-                            "YES".equals(rs.getString("IS_GENERATEDCOLUMN"))); //$NON-NLS-1$ //$NON-NLS-2$
-                }
+            if (column.generatedColumn() != null) {
+                introspectedColumn.setGeneratedColumn(column.generatedColumn());
+            }
 
-                ActualTableName atn = new ActualTableName(
-                        rs.getString("TABLE_CAT"), //$NON-NLS-1$
-                        rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
-                        rs.getString("TABLE_NAME")); //$NON-NLS-1$
+            ActualTableName atn = column.tableName();
 
-                List<IntrospectedColumn> columns = answer.computeIfAbsent(atn, k -> new ArrayList<>());
+            List<IntrospectedColumn> columns = answer.computeIfAbsent(atn, k -> new ArrayList<>());
 
-                columns.add(introspectedColumn);
+            columns.add(introspectedColumn);
 
-                if (logger.isDebugEnabled()) {
-                    logger.debug(getString(
-                            "Tracing.2", //$NON-NLS-1$
-                            introspectedColumn.getActualColumnName(),
-                            Integer.toString(introspectedColumn.getJdbcType()),
-                            atn.toString()));
-                }
+            if (logger.isDebugEnabled()) {
+                logger.debug(getString(
+                        "Tracing.2", //$NON-NLS-1$
+                        introspectedColumn.getActualColumnName(),
+                        Integer.toString(introspectedColumn.getJdbcType()),
+                        atn.toString()));
             }
         }
 
@@ -440,6 +448,55 @@ public class DatabaseIntrospector {
         return answer;
     }
 
+    /**
+     * Lists the tables that match the table configuration with a single metadata call, filters them by
+     * table type and by the include and exclude patterns, and then retrieves the columns of the remaining
+     * tables only. This avoids reading every column of every table matched by a wildcard when most of the
+     * tables are not wanted.
+     */
+    private List<ColumnMetadata> getDiscoveredColumns(TableConfiguration tc, @Nullable String localCatalog,
+                                                      @Nullable String localSchema, String localTableName)
+            throws SQLException {
+        List<TableMetadata> tables = metadataSource.getTables(localCatalog, localSchema, localTableName,
+                tc.getTableTypes());
+        Optional<Pattern> includePattern = tc.getIncludeTableNamesPattern();
+        Optional<Pattern> excludePattern = tc.getExcludeTableNamesPattern();
+        String escapeString = metadataSource.getSearchStringEscape();
+
+        List<ColumnMetadata> answer = new ArrayList<>();
+        int tableCount = 0;
+        for (TableMetadata table : tables) {
+            ActualTableName atn = table.tableName();
+            String tableName = atn.getTableName();
+            if (includePattern.map(p -> !p.matcher(tableName).matches()).orElse(false)
+                    || excludePattern.map(p -> p.matcher(tableName).matches()).orElse(false)) {
+                continue;
+            }
+
+            tableCount++;
+            String schema = atn.getSchema();
+            if (schema != null) {
+                schema = escapeName(schema, escapeString);
+            }
+            for (ColumnMetadata column : metadataSource.getColumns(atn.getCatalog(), schema,
+                    escapeName(tableName, escapeString))) {
+                // the name is escaped, but guard against drivers that do not support escapes
+                if (column.tableName().equals(atn)) {
+                    answer.add(column);
+                }
+            }
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(getString("Tracing.10", //$NON-NLS-1$
+                    Integer.toString(tables.size()),
+                    composeFullyQualifiedTableName(localCatalog, localSchema, localTableName, '.'),
+                    Integer.toString(tableCount)));
+        }
+
+        return answer;
+    }
+
     private String escapeName(String localName, String escapeString) {
         StringTokenizer st = new StringTokenizer(localName, "_%", true); //$NON-NLS-1$
         StringBuilder sb = new StringBuilder();
@@ -519,16 +576,13 @@ public class DatabaseIntrospector {
      */
     private void enhanceIntrospectedTable(IntrospectedTable introspectedTable) {
         FullyQualifiedTable fqt = introspectedTable.getFullyQualifiedTable();
-        try (ResultSet rs = databaseMetaData.getTables(fqt.getIntrospectedCatalog().orElse(null),
-                fqt.getIntrospectedSchema().orElse(null),
-                fqt.getIntrospectedTableName(), null)) {
-
-            if (rs.next()) {
-                String remarks = rs.getString("REMARKS"); //$NON-NLS-1$
-                String tableType = rs.getString("TABLE_TYPE"); //$NON-NLS-1$
-                introspectedTable.setRemarks(remarks);
-                introspectedTable.setTableType(tableType);
-            }
+        try {
+            metadataSource.getTable(fqt.getIntrospectedCatalog().orElse(null),
+                    fqt.getIntrospectedSchema().orElse(null),
+                    fqt.getIntrospectedTableName()).ifPresent(tableMetadata -> {
+                        introspectedTable.setRemarks(tableMetadata.remarks());
+                        introspectedTable.setTableType(tableMetadata.tableType());
+                    });
         } catch (SQLException e) {
             warnings.add(getString("Warning.27", e.getMessage())); //$NON-NLS-1$
         }
@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.internal.ObjectFactory;
+
+/**
+ * Abstracts the database metadata calls made during table introspection. The arguments of each method have the
+ * same meaning as the corresponding method in {@link DatabaseMetaData}.
+ *
+ * <p>Implementations are not thread safe, and should be used by one thread at a time.
+ */
+public interface DatabaseMetadataSource {
+    boolean storesLowerCaseIdentifiers() throws SQLException;
+
+    boolean storesUpperCaseIdentifiers() throws SQLException;
+
+    String getSearchStringEscape() throws SQLException;
+
+    List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                    String tableNamePattern) throws SQLException;
+
+    /**
+     * Returns the primary key column names for a table.
+     *
+     * @param catalog the catalog name
+     * @param schema the schema name
+     * @param tableName the table name
+     * @return the primary key column names in key sequence order
+     * @throws SQLException if any error occurs retrieving the metadata
+     */
+    List<String> getPrimaryKeyColumnNames(@Nullable String catalog, @Nullable String schema, String tableName)
+            throws SQLException;
+
+    /**
+     * Returns the first table that matches the arguments.
+     *
+     * @param catalog the catalog name
+     * @param schemaPattern the schema name pattern
+     * @param tableNamePattern the table name pattern
+     * @return the table metadata, if any table matches
+     * @throws SQLException if any error occurs retrieving the metadata
+     */
+    Optional<TableMetadata> getTable(@Nullable String catalog, @Nullable String schemaPattern,
+                                     String tableNamePattern) throws SQLException;
+
+    /**
+     * Returns every table that matches the arguments.
+     *
+     * @param catalog the catalog name
+     * @param schemaPattern the schema name pattern
+     * @param tableNamePattern the table name pattern
+     * @param tableTypes the table types to return (for example "TABLE" or "VIEW"), or null for all types
+     * @return the table metadata in the order returned by the database
+     * @throws SQLException if any error occurs retrieving the metadata
+     */
+    List<TableMetadata> getTables(@Nullable String catalog, @Nullable String schemaPattern,
+                                  String tableNamePattern, @Nullable List<String> tableTypes) throws SQLException;
+
+    /**
+     * Creates a metadata source based on the introspection strategy configured in the context. If a custom
+     * {@link DatabaseMetadataSourceFactory} is configured, it is used instead.
+     *
+     * @param context the context
+     * @param databaseMetaData metadata from an open connection
+     * @return the metadata source
+     */
+    static DatabaseMetadataSource create(Context context, DatabaseMetaData databaseMetaData) {
+        String factoryType = context.getProperty(PropertyRegistry.CONTEXT_METADATA_SOURCE_FACTORY);
+        if (stringHasValue(factoryType)) {
+            DatabaseMetadataSourceFactory factory = ObjectFactory.createInternalObject(factoryType.trim());
+            return factory.createMetadataSource(context, databaseMetaData);
+        }
+
+        return switch (context.getIntrospectionStrategy()) {
+            case PER_TABLE -> new JdbcMetadataSource(databaseMetaData);
+            case PREFETCH -> new PrefetchingMetadataSource(databaseMetaData);
+            case CATALOG_VIEWS -> CatalogViewMetadataSource.create(databaseMetaData);
+        };
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+
+import org.mybatis.generator.config.Context;
+
+/**
+ * Creates metadata sources for a context. Implement this interface to plug a custom introspection strategy
+ * into the generator - for example to read metadata from the catalog views of a database that is not
+ * supported by the built-in strategies. Configure the implementation with the "metadataSourceFactory"
+ * context property.
+ *
+ * <p>A factory is created for each connection, so implementations do not need to be thread safe. Every
+ * implementation must have a public no-argument constructor.
+ */
+@FunctionalInterface
+public interface DatabaseMetadataSourceFactory {
+    /**
+     * Creates a metadata source for an open connection.
+     *
+     * @param context the context
+     * @param databaseMetaData metadata from an open connection. The connection is available from
+     *     {@link DatabaseMetaData#getConnection()} if the source needs to run queries
+     * @return the metadata source
+     */
+    DatabaseMetadataSource createMetadataSource(Context context, DatabaseMetaData databaseMetaData);
+}
@@ -0,0 +1,247 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Metadata source that reads the standard SQL INFORMATION_SCHEMA views. This works with HSQLDB and H2 (version
+ * 2 or later). The two databases differ only in where remarks are stored.
+ *
+ * <p>INFORMATION_SCHEMA reports the standard SQL name of each data type rather than a JDBC type code, so the
+ * JDBC type is calculated from the type name.
+ */
+class InformationSchemaMetadataSource extends CatalogViewMetadataSource {
+    private static final String INFORMATION_SCHEMA = "INFORMATION_SCHEMA"; //$NON-NLS-1$
+    private static final Map<String, Integer> JDBC_TYPES = createJdbcTypeMap();
+
+    private final boolean remarksInInformationSchema;
+
+    private InformationSchemaMetadataSource(DatabaseMetaData databaseMetaData, boolean remarksInInformationSchema) {
+        super(databaseMetaData);
+        this.remarksInInformationSchema = remarksInInformationSchema;
+    }
+
+    static InformationSchemaMetadataSource forHsqldb(DatabaseMetaData databaseMetaData) {
+        // HSQLDB keeps remarks in the non-standard SYSTEM_COMMENTS view
+        return new InformationSchemaMetadataSource(databaseMetaData, false);
+    }
+
+    static InformationSchemaMetadataSource forH2(DatabaseMetaData databaseMetaData) {
+        // H2 adds a REMARKS column to the COLUMNS and TABLES views
+        return new InformationSchemaMetadataSource(databaseMetaData, true);
+    }
+
+    @Override
+    protected List<ColumnMetadata> fetchColumns(@Nullable String catalog, @Nullable String schemaPattern)
+            throws SQLException {
+        String select = "SELECT c.TABLE_CATALOG, c.TABLE_SCHEMA, c.TABLE_NAME, c.COLUMN_NAME," //$NON-NLS-1$
+                + " c.DATA_TYPE, c.CHARACTER_MAXIMUM_LENGTH, c.NUMERIC_PRECISION, c.NUMERIC_SCALE," //$NON-NLS-1$
+                + " c.DATETIME_PRECISION, c.IS_NULLABLE, c.COLUMN_DEFAULT, c.IS_IDENTITY, c.IS_GENERATED" //$NON-NLS-1$
+                + (remarksInInformationSchema ? ", c.REMARKS" : "") //$NON-NLS-1$ //$NON-NLS-2$
+                + " FROM INFORMATION_SCHEMA.COLUMNS c"; //$NON-NLS-1$
+
+        Map<RemarksKey, String> remarks = remarksInInformationSchema ? Map.of()
+                : fetchSystemComments(catalog, schemaPattern);
+
+        return query(select, List.of(), "c.TABLE_CATALOG", "c.TABLE_SCHEMA", //$NON-NLS-1$ //$NON-NLS-2$
+                catalog, schemaPattern, true,
+                "c.TABLE_CATALOG, c.TABLE_SCHEMA, c.TABLE_NAME, c.ORDINAL_POSITION", //$NON-NLS-1$
+                rs -> {
+                    ActualTableName atn = readTableName(rs);
+                    String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
+                    String typeName = rs.getString("DATA_TYPE"); //$NON-NLS-1$
+                    int size = getInt(rs, "CHARACTER_MAXIMUM_LENGTH", //$NON-NLS-1$
+                            getInt(rs, "NUMERIC_PRECISION", //$NON-NLS-1$
+                                    getInt(rs, "DATETIME_PRECISION", 0))); //$NON-NLS-1$
+                    return new ColumnMetadata(atn, columnName,
+                            calculateJdbcType(typeName),
+                            typeName,
+                            size,
+                            !"NO".equals(rs.getString("IS_NULLABLE")), //$NON-NLS-1$ //$NON-NLS-2$
+                            getInt(rs, "NUMERIC_SCALE", 0), //$NON-NLS-1$
+                            remarksInInformationSchema ? rs.getString("REMARKS") //$NON-NLS-1$
+                                    : remarks.get(new RemarksKey(atn, columnName)),
+                            rs.getString("COLUMN_DEFAULT"), //$NON-NLS-1$
+                            "YES".equals(rs.getString("IS_IDENTITY")), //$NON-NLS-1$ //$NON-NLS-2$
+                            "ALWAYS".equals(rs.getString("IS_GENERATED"))); //$NON-NLS-1$ //$NON-NLS-2$
+                });
+    }
+
+    @Override
+    protected List<PrimaryKeyColumn> fetchPrimaryKeys(@Nullable String catalog, @Nullable String schema)
+            throws SQLException {
+        String select = "SELECT k.TABLE_CATALOG, k.TABLE_SCHEMA, k.TABLE_NAME, k.COLUMN_NAME," //$NON-NLS-1$
+                + " k.ORDINAL_POSITION" //$NON-NLS-1$
+                + " FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS t" //$NON-NLS-1$
+                + " JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k" //$NON-NLS-1$
+                + " ON k.CONSTRAINT_CATALOG = t.CONSTRAINT_CATALOG" //$NON-NLS-1$
+                + " AND k.CONSTRAINT_SCHEMA = t.CONSTRAINT_SCHEMA" //$NON-NLS-1$
+                + " AND k.CONSTRAINT_NAME = t.CONSTRAINT_NAME"; //$NON-NLS-1$
+
+        return query(select, List.of("t.CONSTRAINT_TYPE = 'PRIMARY KEY'"), //$NON-NLS-1$
+                "k.TABLE_CATALOG", "k.TABLE_SCHEMA", //$NON-NLS-1$ //$NON-NLS-2$
+                catalog, schema, false,
+                "k.TABLE_CATALOG, k.TABLE_SCHEMA, k.TABLE_NAME, k.ORDINAL_POSITION", //$NON-NLS-1$
+                rs -> new PrimaryKeyColumn(readTableName(rs),
+                        rs.getString("COLUMN_NAME"), //$NON-NLS-1$
+                        rs.getShort("ORDINAL_POSITION"))); //$NON-NLS-1$
+    }
+
+    @Override
+    protected List<TableMetadata> fetchTables(@Nullable String catalog, @Nullable String schemaPattern)
+            throws SQLException {
+        String select = "SELECT t.TABLE_CATALOG, t.TABLE_SCHEMA, t.TABLE_NAME, t.TABLE_TYPE" //$NON-NLS-1$
+                + (remarksInInformationSchema ? ", t.REMARKS" : "") //$NON-NLS-1$ //$NON-NLS-2$
+                + " FROM INFORMATION_SCHEMA.TABLES t"; //$NON-NLS-1$
+
+        Map<RemarksKey, String> remarks = remarksInInformationSchema ? Map.of()
+                : fetchSystemComments(catalog, schemaPattern);
+
+        return query(select, List.of(), "t.TABLE_CATALOG", "t.TABLE_SCHEMA", //$NON-NLS-1$ //$NON-NLS-2$
+                catalog, schemaPattern, true,
+                "t.TABLE_CATALOG, t.TABLE_SCHEMA, t.TABLE_NAME", //$NON-NLS-1$
+                rs -> {
+                    ActualTableName atn = readTableName(rs);
+                    return new TableMetadata(atn,
+                            remarksInInformationSchema ? rs.getString("REMARKS") //$NON-NLS-1$
+                                    : remarks.get(new RemarksKey(atn, null)),
+                            calculateTableType(atn, rs.getString("TABLE_TYPE"))); //$NON-NLS-1$
+                });
+    }
+
+    private Map<RemarksKey, String> fetchSystemComments(@Nullable String catalog, @Nullable String schemaPattern)
+            throws SQLException {
+        String select = "SELECT s.OBJECT_CATALOG, s.OBJECT_SCHEMA, s.OBJECT_NAME, s.COLUMN_NAME," //$NON-NLS-1$
+                + " s.\"COMMENT\"" //$NON-NLS-1$
+                + " FROM INFORMATION_SCHEMA.SYSTEM_COMMENTS s"; //$NON-NLS-1$
+
+        List<Map.Entry<RemarksKey, String>> rows = query(select,
+                List.of("s.OBJECT_TYPE IN ('TABLE', 'VIEW', 'COLUMN')"), //$NON-NLS-1$
+                "s.OBJECT_CATALOG", "s.OBJECT_SCHEMA", //$NON-NLS-1$ //$NON-NLS-2$
+                catalog, schemaPattern, true,
+                "s.OBJECT_CATALOG, s.OBJECT_SCHEMA, s.OBJECT_NAME", //$NON-NLS-1$
+                rs -> Map.entry(new RemarksKey(new ActualTableName(
+                                rs.getString("OBJECT_CATALOG"), //$NON-NLS-1$
+                                rs.getString("OBJECT_SCHEMA"), //$NON-NLS-1$
+                                rs.getString("OBJECT_NAME")), //$NON-NLS-1$
+                                rs.getString("COLUMN_NAME")), //$NON-NLS-1$
+                        Objects.requireNonNullElse(rs.getString("COMMENT"), ""))); //$NON-NLS-1$ //$NON-NLS-2$
+
+        Map<RemarksKey, String> answer = new HashMap<>();
+        for (Map.Entry<RemarksKey, String> row : rows) {
+            answer.put(row.getKey(), row.getValue());
+        }
+        return answer;
+    }
+
+    private static ActualTableName readTableName(ResultSet rs) throws SQLException {
+        return new ActualTableName(
+                rs.getString("TABLE_CATALOG"), //$NON-NLS-1$
+                rs.getString("TABLE_SCHEMA"), //$NON-NLS-1$
+                rs.getString("TABLE_NAME")); //$NON-NLS-1$
+    }
+
+    /**
+     * Calculates the table type as it would be reported by {@link DatabaseMetaData#getTables}.
+     */
+    static String calculateTableType(ActualTableName atn, String tableType) {
+        if (INFORMATION_SCHEMA.equals(atn.getSchema())) {
+            return "SYSTEM TABLE"; //$NON-NLS-1$
+        } else if ("BASE TABLE".equals(tableType)) { //$NON-NLS-1$
+            return "TABLE"; //$NON-NLS-1$
+        } else {
+            return tableType;
+        }
+    }
+
+    /**
+     * Calculates the JDBC type for a standard SQL data type name as reported in INFORMATION_SCHEMA.
+     *
+     * @param typeName the data type name
+     * @return the JDBC type from {@link Types}, or {@link Types#OTHER} if the name is not recognized
+     */
+    static int calculateJdbcType(@Nullable String typeName) {
+        if (typeName == null) {
+            return Types.OTHER;
+        }
+
+        String name = typeName.toUpperCase(Locale.ROOT);
+        if (name.equals("ARRAY") || name.endsWith(" ARRAY")) { //$NON-NLS-1$ //$NON-NLS-2$
+            return Types.ARRAY;
+        }
+
+        if (name.startsWith("INTERVAL")) { //$NON-NLS-1$
+            return Types.OTHER;
+        }
+
+        return JDBC_TYPES.getOrDefault(name, Types.OTHER);
+    }
+
+    private static Map<String, Integer> createJdbcTypeMap() {
+        Map<String, Integer> answer = new HashMap<>();
+        answer.put("BIGINT", Types.BIGINT); //$NON-NLS-1$
+        answer.put("BINARY", Types.BINARY); //$NON-NLS-1$
+        answer.put("BINARY LARGE OBJECT", Types.BLOB); //$NON-NLS-1$
+        answer.put("BINARY VARYING", Types.VARBINARY); //$NON-NLS-1$
+        answer.put("BIT", Types.BIT); //$NON-NLS-1$
+        answer.put("BIT VARYING", Types.BIT); //$NON-NLS-1$
+        answer.put("BLOB", Types.BLOB); //$NON-NLS-1$
+        answer.put("BOOLEAN", Types.BOOLEAN); //$NON-NLS-1$
+        answer.put("CHAR", Types.CHAR); //$NON-NLS-1$
+        answer.put("CHARACTER", Types.CHAR); //$NON-NLS-1$
+        answer.put("CHARACTER LARGE OBJECT", Types.CLOB); //$NON-NLS-1$
+        answer.put("CHARACTER VARYING", Types.VARCHAR); //$NON-NLS-1$
+        answer.put("CLOB", Types.CLOB); //$NON-NLS-1$
+        answer.put("DATE", Types.DATE); //$NON-NLS-1$
+        answer.put("DECFLOAT", Types.DECIMAL); //$NON-NLS-1$
+        answer.put("DECIMAL", Types.DECIMAL); //$NON-NLS-1$
+        answer.put("DOUBLE", Types.DOUBLE); //$NON-NLS-1$
+        answer.put("DOUBLE PRECISION", Types.DOUBLE); //$NON-NLS-1$
+        answer.put("FLOAT", Types.FLOAT); //$NON-NLS-1$
+        answer.put("INT", Types.INTEGER); //$NON-NLS-1$
+        answer.put("INTEGER", Types.INTEGER); //$NON-NLS-1$
+        answer.put("JAVA_OBJECT", Types.JAVA_OBJECT); //$NON-NLS-1$
+        answer.put("NATIONAL CHARACTER", Types.NCHAR); //$NON-NLS-1$
+        answer.put("NATIONAL CHARACTER LARGE OBJECT", Types.NCLOB); //$NON-NLS-1$
+        answer.put("NATIONAL CHARACTER VARYING", Types.NVARCHAR); //$NON-NLS-1$
+        answer.put("NUMERIC", Types.NUMERIC); //$NON-NLS-1$
+        answer.put("REAL", Types.REAL); //$NON-NLS-1$
+        answer.put("SMALLINT", Types.SMALLINT); //$NON-NLS-1$
+        answer.put("TIME", Types.TIME); //$NON-NLS-1$
+        answer.put("TIME WITH TIME ZONE", Types.TIME_WITH_TIMEZONE); //$NON-NLS-1$
+        answer.put("TIMESTAMP", Types.TIMESTAMP); //$NON-NLS-1$
+        answer.put("TIMESTAMP WITH TIME ZONE", Types.TIMESTAMP_WITH_TIMEZONE); //$NON-NLS-1$
+        answer.put("TINYINT", Types.TINYINT); //$NON-NLS-1$
+        answer.put("UUID", Types.BINARY); //$NON-NLS-1$
+        answer.put("VARBINARY", Types.VARBINARY); //$NON-NLS-1$
+        answer.put("VARCHAR", Types.VARCHAR); //$NON-NLS-1$
+        answer.put("VARCHAR_IGNORECASE", Types.VARCHAR); //$NON-NLS-1$
+        return Map.copyOf(answer);
+    }
+
+    private record RemarksKey(ActualTableName tableName, @Nullable String columnName) { }
+}
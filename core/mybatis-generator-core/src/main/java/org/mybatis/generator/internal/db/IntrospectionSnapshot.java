@@ -0,0 +1,154 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.FingerprintUtility.fingerprint;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.config.TableConfiguration;
+
+/**
+ * A snapshot of the database metadata used to introspect the tables in a context. A snapshot is written
+ * by recording the metadata calls made during a normal introspection. It can then be read back and replayed
+ * so that tables can be introspected without a database connection.
+ *
+ * <p>Metadata is keyed by table configuration. Each table configuration, and the snapshot as a whole, carries
+ * a fingerprint of the metadata so that a snapshot can be compared with the current state of the database.
+ */
+public class IntrospectionSnapshot {
+    private final String contextId;
+    private final Map<String, TableSnapshot> tables = new TreeMap<>();
+    private @Nullable Boolean storesLowerCaseIdentifiers;
+    private @Nullable Boolean storesUpperCaseIdentifiers;
+    private @Nullable String searchStringEscape;
+
+    public IntrospectionSnapshot(String contextId) {
+        this.contextId = contextId;
+    }
+
+    public String getContextId() {
+        return contextId;
+    }
+
+    /**
+     * Calculates a fingerprint of all the metadata in this snapshot.
+     *
+     * @return the fingerprint
+     */
+    public synchronized String getFingerprint() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(storesLowerCaseIdentifiers).append(storesUpperCaseIdentifiers).append(searchStringEscape);
+        tables.values().forEach(t -> sb.append(t.getFingerprint()));
+        return fingerprint(sb.toString());
+    }
+
+    /**
+     * Returns a metadata source that delegates to another source, and records every call in this snapshot.
+     *
+     * @param tc the table configuration that will be introspected with the returned source
+     * @param delegate the source of metadata - typically backed by a live connection
+     * @return the recording metadata source
+     */
+    public synchronized DatabaseMetadataSource recordingSource(TableConfiguration tc,
+                                                               DatabaseMetadataSource delegate) {
+        TableSnapshot tableSnapshot = tables.computeIfAbsent(calculateKey(tc), TableSnapshot::new);
+        return new RecordingMetadataSource(this, tableSnapshot, delegate);
+    }
+
+    /**
+     * Returns a metadata source that answers calls from the metadata recorded in this snapshot. The returned source
+     * will throw an SQLException if it is asked for metadata that was not recorded.
+     *
+     * @param tc the table configuration that will be introspected with the returned source
+     * @return the replaying metadata source
+     */
+    public synchronized DatabaseMetadataSource replaySource(TableConfiguration tc) {
+        String key = calculateKey(tc);
+        return new SnapshotMetadataSource(this, key, tables.get(key));
+    }
+
+    /**
+     * Reads a snapshot from a file.
+     *
+     * @param file the snapshot file
+     * @param contextId the id of the context that will use the snapshot
+     * @return the snapshot
+     * @throws SQLException if the file cannot be read, or if it was written for a different context
+     */
+    public static IntrospectionSnapshot read(File file, String contextId) throws SQLException {
+        IntrospectionSnapshot snapshot = IntrospectionSnapshotFile.read(file);
+        if (!snapshot.contextId.equals(contextId)) {
+            throw new SQLException(getString("RuntimeError.35", //$NON-NLS-1$
+                    file.getPath(), snapshot.contextId, contextId));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Writes this snapshot to a file. Any existing file will be replaced.
+     *
+     * @param file the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void write(File file) throws IOException {
+        IntrospectionSnapshotFile.write(this, file);
+    }
+
+    synchronized List<TableSnapshot> getTables() {
+        return List.copyOf(tables.values());
+    }
+
+    synchronized void addTable(TableSnapshot tableSnapshot) {
+        tables.put(tableSnapshot.getKey(), tableSnapshot);
+    }
+
+    synchronized Optional<Boolean> getStoresLowerCaseIdentifiers() {
+        return Optional.ofNullable(storesLowerCaseIdentifiers);
+    }
+
+    synchronized void setStoresLowerCaseIdentifiers(boolean storesLowerCaseIdentifiers) {
+        this.storesLowerCaseIdentifiers = storesLowerCaseIdentifiers;
+    }
+
+    synchronized Optional<Boolean> getStoresUpperCaseIdentifiers() {
+        return Optional.ofNullable(storesUpperCaseIdentifiers);
+    }
+
+    synchronized void setStoresUpperCaseIdentifiers(boolean storesUpperCaseIdentifiers) {
+        this.storesUpperCaseIdentifiers = storesUpperCaseIdentifiers;
+    }
+
+    synchronized Optional<String> getSearchStringEscape() {
+        return Optional.ofNullable(searchStringEscape);
+    }
+
+    synchronized void setSearchStringEscape(String searchStringEscape) {
+        this.searchStringEscape = searchStringEscape;
+    }
+
+    static String calculateKey(TableConfiguration tc) {
+        return tc.getFullyQualifiedName();
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads and writes introspection snapshots in a simple XML format. Every recorded metadata call is written
+ * as an element named for the corresponding {@link java.sql.DatabaseMetaData} method, with the call arguments
+ * as attributes and the results as child elements. Null values are written as missing attributes. Table discovery
+ * calls, which return every matching table rather than the first, are written as {@code getTableList} elements.
+ */
+final class IntrospectionSnapshotFile {
+    private static final String VERSION = "1"; //$NON-NLS-1$
+
+    private IntrospectionSnapshotFile() {
+        // utility class - no instances
+    }
+
+    static void write(IntrospectionSnapshot snapshot, File file) throws IOException {
+        try {
+            Document document = newDocumentBuilder().newDocument();
+            Element root = document.createElement("introspectionSnapshot"); //$NON-NLS-1$
+            root.setAttribute("version", VERSION); //$NON-NLS-1$
+            root.setAttribute("contextId", snapshot.getContextId()); //$NON-NLS-1$
+            root.setAttribute("fingerprint", snapshot.getFingerprint()); //$NON-NLS-1$
+            document.appendChild(root);
+
+            Element identifiers = document.createElement("identifiers"); //$NON-NLS-1$
+            setAttribute(identifiers, "storesLowerCase", //$NON-NLS-1$
+                    snapshot.getStoresLowerCaseIdentifiers().orElse(null));
+            setAttribute(identifiers, "storesUpperCase", //$NON-NLS-1$
+                    snapshot.getStoresUpperCaseIdentifiers().orElse(null));
+            setAttribute(identifiers, "searchStringEscape", //$NON-NLS-1$
+                    snapshot.getSearchStringEscape().orElse(null));
+            root.appendChild(identifiers);
+
+            for (TableSnapshot tableSnapshot : snapshot.getTables()) {
+                root.appendChild(createTableElement(document, tableSnapshot));
+            }
+
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                Files.createDirectories(parent.toPath());
+            }
+
+            try (OutputStream outputStream = Files.newOutputStream(file.toPath())) {
+                newTransformer().transform(new DOMSource(document), new StreamResult(outputStream));
+            }
+        } catch (ParserConfigurationException | TransformerException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Element createTableElement(Document document, TableSnapshot tableSnapshot) {
+        Element table = document.createElement("tableConfiguration"); //$NON-NLS-1$
+        table.setAttribute("key", tableSnapshot.getKey()); //$NON-NLS-1$
+        table.setAttribute("fingerprint", tableSnapshot.getFingerprint()); //$NON-NLS-1$
+
+        for (TableSnapshot.ColumnsCall call : tableSnapshot.getColumnsCalls()) {
+            Element element = document.createElement("getColumns"); //$NON-NLS-1$
+            setAttribute(element, "catalog", call.catalog()); //$NON-NLS-1$
+            setAttribute(element, "schemaPattern", call.schemaPattern()); //$NON-NLS-1$
+            setAttribute(element, "tableNamePattern", call.tableNamePattern()); //$NON-NLS-1$
+            for (ColumnMetadata column : call.columns()) {
+                Element columnElement = document.createElement("column"); //$NON-NLS-1$
+                setTableName(columnElement, column.tableName());
+                setAttribute(columnElement, "name", column.columnName()); //$NON-NLS-1$
+                setAttribute(columnElement, "jdbcType", column.jdbcType()); //$NON-NLS-1$
+                setAttribute(columnElement, "typeName", column.typeName()); //$NON-NLS-1$
+                setAttribute(columnElement, "size", column.columnSize()); //$NON-NLS-1$
+                setAttribute(columnElement, "nullable", column.nullable()); //$NON-NLS-1$
+                setAttribute(columnElement, "decimalDigits", column.decimalDigits()); //$NON-NLS-1$
+                setAttribute(columnElement, "remarks", column.remarks()); //$NON-NLS-1$
+                setAttribute(columnElement, "defaultValue", column.defaultValue()); //$NON-NLS-1$
+                setAttribute(columnElement, "autoIncrement", column.autoIncrement()); //$NON-NLS-1$
+                setAttribute(columnElement, "generatedColumn", column.generatedColumn()); //$NON-NLS-1$
+                element.appendChild(columnElement);
+            }
+            table.appendChild(element);
+        }
+
+        for (TableSnapshot.PrimaryKeysCall call : tableSnapshot.getPrimaryKeysCalls()) {
+            Element element = document.createElement("getPrimaryKeys"); //$NON-NLS-1$
+            setAttribute(element, "catalog", call.catalog()); //$NON-NLS-1$
+            setAttribute(element, "schema", call.schema()); //$NON-NLS-1$
+            setAttribute(element, "tableName", call.tableName()); //$NON-NLS-1$
+            for (String columnName : call.columnNames()) {
+                Element columnElement = document.createElement("column"); //$NON-NLS-1$
+                setAttribute(columnElement, "name", columnName); //$NON-NLS-1$
+                element.appendChild(columnElement);
+            }
+            table.appendChild(element);
+        }
+
+        for (TableSnapshot.TablesCall call : tableSnapshot.getTablesCalls()) {
+            Element element = document.createElement("getTables"); //$NON-NLS-1$
+            setAttribute(element, "catalog", call.catalog()); //$NON-NLS-1$
+            setAttribute(element, "schemaPattern", call.schemaPattern()); //$NON-NLS-1$
+            setAttribute(element, "tableNamePattern", call.tableNamePattern()); //$NON-NLS-1$
+            TableMetadata tableMetadata = call.table();
+            if (tableMetadata != null) {
+                element.appendChild(createTableMetadataElement(document, tableMetadata));
+            }
+            table.appendChild(element);
+        }
+
+        for (TableSnapshot.TableListCall call : tableSnapshot.getTableListCalls()) {
+            Element element = document.createElement("getTableList"); //$NON-NLS-1$
+            setAttribute(element, "catalog", call.catalog()); //$NON-NLS-1$
+            setAttribute(element, "schemaPattern", call.schemaPattern()); //$NON-NLS-1$
+            setAttribute(element, "tableNamePattern", call.tableNamePattern()); //$NON-NLS-1$
+            List<String> tableTypes = call.tableTypes();
+            if (tableTypes != null) {
+                for (String tableType : tableTypes) {
+                    Element typeElement = document.createElement("tableType"); //$NON-NLS-1$
+                    setAttribute(typeElement, "name", tableType); //$NON-NLS-1$
+                    element.appendChild(typeElement);
+                }
+            }
+            for (TableMetadata tableMetadata : call.tables()) {
+                element.appendChild(createTableMetadataElement(document, tableMetadata));
+            }
+            table.appendChild(element);
+        }
+
+        return table;
+    }
+
+    private static Element createTableMetadataElement(Document document, TableMetadata tableMetadata) {
+        Element tableElement = document.createElement("table"); //$NON-NLS-1$
+        setTableName(tableElement, tableMetadata.tableName());
+        setAttribute(tableElement, "remarks", tableMetadata.remarks()); //$NON-NLS-1$
+        setAttribute(tableElement, "type", tableMetadata.tableType()); //$NON-NLS-1$
+        return tableElement;
+    }
+
+    static IntrospectionSnapshot read(File file) throws SQLException {
+        try {
+            Element root = newDocumentBuilder().parse(file).getDocumentElement();
+            if (!"introspectionSnapshot".equals(root.getTagName()) //$NON-NLS-1$
+                    || !VERSION.equals(root.getAttribute("version"))) { //$NON-NLS-1$
+                throw new SQLException(getString("RuntimeError.37", file.getPath())); //$NON-NLS-1$
+            }
+
+            IntrospectionSnapshot snapshot = new IntrospectionSnapshot(root.getAttribute("contextId")); //$NON-NLS-1$
+
+            for (Element identifiers : childElements(root, "identifiers")) { //$NON-NLS-1$
+                String storesLowerCase = getAttribute(identifiers, "storesLowerCase"); //$NON-NLS-1$
+                if (storesLowerCase != null) {
+                    snapshot.setStoresLowerCaseIdentifiers(Boolean.parseBoolean(storesLowerCase));
+                }
+                String storesUpperCase = getAttribute(identifiers, "storesUpperCase"); //$NON-NLS-1$
+                if (storesUpperCase != null) {
+                    snapshot.setStoresUpperCaseIdentifiers(Boolean.parseBoolean(storesUpperCase));
+                }
+                String searchStringEscape = getAttribute(identifiers, "searchStringEscape"); //$NON-NLS-1$
+                if (searchStringEscape != null) {
+                    snapshot.setSearchStringEscape(searchStringEscape);
+                }
+            }
+
+            for (Element table : childElements(root, "tableConfiguration")) { //$NON-NLS-1$
+                snapshot.addTable(readTableSnapshot(table));
+            }
+
+            return snapshot;
+        } catch (IOException | SAXException | ParserConfigurationException | RuntimeException e) {
+            throw new SQLException(getString("RuntimeError.34", file.getPath(), e.getMessage()), e); //$NON-NLS-1$
+        }
+    }
+
+    private static TableSnapshot readTableSnapshot(Element table) {
+        TableSnapshot tableSnapshot = new TableSnapshot(table.getAttribute("key")); //$NON-NLS-1$
+
+        for (Element element : childElements(table, "getColumns")) { //$NON-NLS-1$
+            List<ColumnMetadata> columns = new ArrayList<>();
+            for (Element column : childElements(element, "column")) { //$NON-NLS-1$
+                columns.add(new ColumnMetadata(readTableName(column),
+                        column.getAttribute("name"), //$NON-NLS-1$
+                        Integer.parseInt(column.getAttribute("jdbcType")), //$NON-NLS-1$
+                        getAttribute(column, "typeName"), //$NON-NLS-1$
+                        Integer.parseInt(column.getAttribute("size")), //$NON-NLS-1$
+                        Boolean.parseBoolean(column.getAttribute("nullable")), //$NON-NLS-1$
+                        Integer.parseInt(column.getAttribute("decimalDigits")), //$NON-NLS-1$
+                        getAttribute(column, "remarks"), //$NON-NLS-1$
+                        getAttribute(column, "defaultValue"), //$NON-NLS-1$
+                        getBooleanAttribute(column, "autoIncrement"), //$NON-NLS-1$
+                        getBooleanAttribute(column, "generatedColumn"))); //$NON-NLS-1$
+            }
+            tableSnapshot.addColumnsCall(new TableSnapshot.ColumnsCall(getAttribute(element, "catalog"), //$NON-NLS-1$
+                    getAttribute(element, "schemaPattern"), //$NON-NLS-1$
+                    element.getAttribute("tableNamePattern"), //$NON-NLS-1$
+                    columns));
+        }
+
+        for (Element element : childElements(table, "getPrimaryKeys")) { //$NON-NLS-1$
+            List<String> columnNames = childElements(element, "column").stream() //$NON-NLS-1$
+                    .map(e -> e.getAttribute("name")) //$NON-NLS-1$
+                    .toList();
+            tableSnapshot.addPrimaryKeysCall(new TableSnapshot.PrimaryKeysCall(
+                    getAttribute(element, "catalog"), //$NON-NLS-1$
+                    getAttribute(element, "schema"), //$NON-NLS-1$
+                    element.getAttribute("tableName"), //$NON-NLS-1$
+                    columnNames));
+        }
+
+        for (Element element : childElements(table, "getTables")) { //$NON-NLS-1$
+            TableMetadata tableMetadata = childElements(element, "table").stream() //$NON-NLS-1$
+                    .map(IntrospectionSnapshotFile::readTableMetadata)
+                    .findFirst()
+                    .orElse(null);
+            tableSnapshot.addTablesCall(new TableSnapshot.TablesCall(
+                    getAttribute(element, "catalog"), //$NON-NLS-1$
+                    getAttribute(element, "schemaPattern"), //$NON-NLS-1$
+                    element.getAttribute("tableNamePattern"), //$NON-NLS-1$
+                    tableMetadata));
+        }
+
+        for (Element element : childElements(table, "getTableList")) { //$NON-NLS-1$
+            List<String> tableTypes = childElements(element, "tableType").stream() //$NON-NLS-1$
+                    .map(e -> e.getAttribute("name")) //$NON-NLS-1$
+                    .toList();
+            List<TableMetadata> tables = childElements(element, "table").stream() //$NON-NLS-1$
+                    .map(IntrospectionSnapshotFile::readTableMetadata)
+                    .toList();
+            tableSnapshot.addTableListCall(new TableSnapshot.TableListCall(
+                    getAttribute(element, "catalog"), //$NON-NLS-1$
+                    getAttribute(element, "schemaPattern"), //$NON-NLS-1$
+                    element.getAttribute("tableNamePattern"), //$NON-NLS-1$
+                    tableTypes.isEmpty() ? null : tableTypes,
+                    tables));
+        }
+
+        return tableSnapshot;
+    }
+
+    private static TableMetadata readTableMetadata(Element element) {
+        return new TableMetadata(readTableName(element),
+                getAttribute(element, "remarks"), //$NON-NLS-1$
+                getAttribute(element, "type")); //$NON-NLS-1$
+    }
+
+    private static void setTableName(Element element, ActualTableName tableName) {
+        setAttribute(element, "tableCatalog", tableName.getCatalog()); //$NON-NLS-1$
+        setAttribute(element, "tableSchema", tableName.getSchema()); //$NON-NLS-1$
+        setAttribute(element, "tableName", tableName.getTableName()); //$NON-NLS-1$
+    }
+
+    private static ActualTableName readTableName(Element element) {
+        return new ActualTableName(getAttribute(element, "tableCatalog"), //$NON-NLS-1$
+                getAttribute(element, "tableSchema"), //$NON-NLS-1$
+                element.getAttribute("tableName")); //$NON-NLS-1$
+    }
+
+    private static void setAttribute(Element element, String name, @Nullable Object value) {
+        if (value != null) {
+            element.setAttribute(name, value.toString());
+        }
+    }
+
+    private static @Nullable String getAttribute(Element element, String name) {
+        return element.hasAttribute(name) ? element.getAttribute(name) : null;
+    }
+
+    private static @Nullable Boolean getBooleanAttribute(Element element, String name) {
+        String value = getAttribute(element, name);
+        return value == null ? null : Boolean.valueOf(value);
+    }
+
+    private static List<Element> childElements(Element parent, String name) {
+        List<Element> answer = new ArrayList<>();
+        NodeList nodeList = parent.getChildNodes();
+        for (int i = 0; i < nodeList.getLength(); i++) {
+            Node node = nodeList.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE && name.equals(node.getNodeName())) {
+                answer.add((Element) node);
+            }
+        }
+        return answer;
+    }
+
+    private static DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        factory.setExpandEntityReferences(false);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        return factory.newDocumentBuilder();
+    }
+
+    private static Transformer newTransformer() throws TransformerException {
+        TransformerFactory factory = TransformerFactory.newInstance();
+        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+        Transformer transformer = factory.newTransformer();
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
+        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+        return transformer;
+    }
+}
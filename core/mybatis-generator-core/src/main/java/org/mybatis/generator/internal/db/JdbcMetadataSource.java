@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Metadata source that makes separate metadata calls for every table.
+ */
+class JdbcMetadataSource implements DatabaseMetadataSource {
+    private final DatabaseMetaData databaseMetaData;
+
+    JdbcMetadataSource(DatabaseMetaData databaseMetaData) {
+        this.databaseMetaData = databaseMetaData;
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        return databaseMetaData.storesLowerCaseIdentifiers();
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        return databaseMetaData.storesUpperCaseIdentifiers();
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        return databaseMetaData.getSearchStringEscape();
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                           String tableNamePattern) throws SQLException {
+        try (ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern, tableNamePattern,
+                "%")) { //$NON-NLS-1$
+            return ColumnMetadata.readAll(rs);
+        }
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumnNames(@Nullable String catalog, @Nullable String schema,
+                                                 String tableName) throws SQLException {
+        try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, tableName)) {
+            return PrimaryKeyColumn.toColumnNames(PrimaryKeyColumn.readAll(rs));
+        }
+    }
+
+    @Override
+    public Optional<TableMetadata> getTable(@Nullable String catalog, @Nullable String schemaPattern,
+                                            String tableNamePattern) throws SQLException {
+        try (ResultSet rs = databaseMetaData.getTables(catalog, schemaPattern, tableNamePattern, null)) {
+            return rs.next() ? Optional.of(TableMetadata.read(rs)) : Optional.empty();
+        }
+    }
+
+    @Override
+    public List<TableMetadata> getTables(@Nullable String catalog, @Nullable String schemaPattern,
+                                         String tableNamePattern, @Nullable List<String> tableTypes)
+            throws SQLException {
+        String[] types = tableTypes == null ? null : tableTypes.toArray(new String[0]);
+        try (ResultSet rs = databaseMetaData.getTables(catalog, schemaPattern, tableNamePattern, types)) {
+            return TableMetadata.readAll(rs);
+        }
+    }
+}
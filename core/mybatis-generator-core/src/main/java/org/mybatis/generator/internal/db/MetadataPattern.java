@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An in memory equivalent of a JDBC metadata search pattern, where "%" matches any substring and "_" matches any
+ * single character. Wildcard characters may be escaped with the driver's search string escape.
+ */
+final class MetadataPattern {
+    private final @Nullable String literal;
+    private final @Nullable Pattern pattern;
+
+    private MetadataPattern(@Nullable String literal, @Nullable Pattern pattern) {
+        this.literal = literal;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Returns the value matched by this pattern if the pattern does not contain any wildcards.
+     *
+     * @return the literal value, or null if the pattern contains wildcards
+     */
+    @Nullable String getLiteral() {
+        return literal;
+    }
+
+    boolean matches(String s) {
+        if (pattern == null) {
+            return s.equals(literal);
+        }
+
+        return pattern.matcher(s).matches();
+    }
+
+    static MetadataPattern compile(String searchPattern, @Nullable String searchStringEscape) {
+        StringBuilder literal = new StringBuilder();
+        StringBuilder regex = new StringBuilder();
+        boolean hasWildcard = false;
+
+        int i = 0;
+        while (i < searchPattern.length()) {
+            if (searchStringEscape != null && !searchStringEscape.isEmpty()
+                    && searchPattern.startsWith(searchStringEscape, i)
+                    && i + searchStringEscape.length() < searchPattern.length()) {
+                i += searchStringEscape.length();
+                char c = searchPattern.charAt(i);
+                literal.append(c);
+                regex.append(Pattern.quote(String.valueOf(c)));
+            } else {
+                char c = searchPattern.charAt(i);
+                if (c == '%') {
+                    hasWildcard = true;
+                    regex.append(".*"); //$NON-NLS-1$
+                } else if (c == '_') {
+                    hasWildcard = true;
+                    regex.append('.');
+                } else {
+                    literal.append(c);
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            i++;
+        }
+
+        if (hasWildcard) {
+            return new MetadataPattern(null, Pattern.compile(regex.toString(), Pattern.DOTALL));
+        } else {
+            return new MetadataPattern(literal.toString(), null);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.IntrospectionMetrics.CallMetrics;
+
+/**
+ * Metadata source that delegates to another source and measures the number of calls, the number of rows
+ * returned, and the time spent in every call. A metered source is created for each table configuration, and is
+ * not thread safe.
+ */
+public class MeteredMetadataSource implements DatabaseMetadataSource {
+    private final DatabaseMetadataSource delegate;
+    private final CallCounter columnsCalls = new CallCounter();
+    private final CallCounter primaryKeysCalls = new CallCounter();
+    private final CallCounter tablesCalls = new CallCounter();
+
+    public MeteredMetadataSource(DatabaseMetadataSource delegate) {
+        this.delegate = delegate;
+    }
+
+    public CallMetrics getColumnsCalls() {
+        return columnsCalls.toCallMetrics();
+    }
+
+    public CallMetrics getPrimaryKeysCalls() {
+        return primaryKeysCalls.toCallMetrics();
+    }
+
+    public CallMetrics getTablesCalls() {
+        return tablesCalls.toCallMetrics();
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        return delegate.storesLowerCaseIdentifiers();
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        return delegate.storesUpperCaseIdentifiers();
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        return delegate.getSearchStringEscape();
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                           String tableNamePattern) throws SQLException {
+        long start = System.nanoTime();
+        List<ColumnMetadata> answer = delegate.getColumns(catalog, schemaPattern, tableNamePattern);
+        columnsCalls.add(answer.size(), start);
+        return answer;
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumnNames(@Nullable String catalog, @Nullable String schema,
+                                                 String tableName) throws SQLException {
+        long start = System.nanoTime();
+        List<String> answer = delegate.getPrimaryKeyColumnNames(catalog, schema, tableName);
+        primaryKeysCalls.add(answer.size(), start);
+        return answer;
+    }
+
+    @Override
+    public Optional<TableMetadata> getTable(@Nullable String catalog, @Nullable String schemaPattern,
+                                            String tableNamePattern) throws SQLException {
+        long start = System.nanoTime();
+        Optional<TableMetadata> answer = delegate.getTable(catalog, schemaPattern, tableNamePattern);
+        tablesCalls.add(answer.isPresent() ? 1 : 0, start);
+        return answer;
+    }
+
+    @Override
+    public List<TableMetadata> getTables(@Nullable String catalog, @Nullable String schemaPattern,
+                                         String tableNamePattern, @Nullable List<String> tableTypes)
+            throws SQLException {
+        long start = System.nanoTime();
+        List<TableMetadata> answer = delegate.getTables(catalog, schemaPattern, tableNamePattern, tableTypes);
+        tablesCalls.add(answer.size(), start);
+        return answer;
+    }
+
+    private static class CallCounter {
+        private int calls;
+        private long rows;
+        private long elapsedNanos;
+
+        void add(int rowCount, long startNanos) {
+            elapsedNanos += System.nanoTime() - startNanos;
+            calls++;
+            rows += rowCount;
+        }
+
+        CallMetrics toCallMetrics() {
+            return new CallMetrics(calls, rows, elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Metadata source that reads the Oracle data dictionary views (ALL_TAB_COLS, ALL_TAB_COMMENTS,
+ * ALL_COL_COMMENTS, ALL_CONSTRAINTS, and ALL_CONS_COLUMNS). The Oracle driver implements the
+ * {@link DatabaseMetaData} methods with very general queries that are slow on large schemas.
+ *
+ * <p>Oracle has no catalogs - tables are qualified by the owner, which is reported as the schema. Type codes,
+ * sizes, and scales are calculated to match what the Oracle driver reports from
+ * {@link DatabaseMetaData#getColumns(String, String, String, String)}.
+ */
+class OracleMetadataSource extends CatalogViewMetadataSource {
+    private static final String COLUMNS_SELECT = "SELECT c.OWNER, c.TABLE_NAME, c.COLUMN_NAME," //$NON-NLS-1$
+            + " c.DATA_TYPE, c.DATA_LENGTH, c.DATA_PRECISION, c.DATA_SCALE, c.CHAR_LENGTH, c.NULLABLE," //$NON-NLS-1$
+            + " c.VIRTUAL_COLUMN, %s AS IDENTITY_COLUMN, m.COMMENTS, c.DATA_DEFAULT" //$NON-NLS-1$
+            + " FROM ALL_TAB_COLS c" //$NON-NLS-1$
+            + " LEFT JOIN ALL_COL_COMMENTS m ON m.OWNER = c.OWNER" //$NON-NLS-1$
+            + " AND m.TABLE_NAME = c.TABLE_NAME AND m.COLUMN_NAME = c.COLUMN_NAME"; //$NON-NLS-1$
+
+    // ORA-00904: invalid identifier
+    private static final int INVALID_IDENTIFIER = 904;
+
+    // IDENTITY_COLUMN was added in Oracle 12c
+    private boolean hasIdentityColumns = true;
+
+    OracleMetadataSource(DatabaseMetaData databaseMetaData) {
+        super(databaseMetaData);
+    }
+
+    @Override
+    protected List<ColumnMetadata> fetchColumns(@Nullable String catalog, @Nullable String schemaPattern)
+            throws SQLException {
+        if (hasIdentityColumns) {
+            try {
+                return queryColumns(schemaPattern, "c.IDENTITY_COLUMN"); //$NON-NLS-1$
+            } catch (SQLException e) {
+                if (!isInvalidIdentifier(e)) {
+                    throw e;
+                }
+                // the database is older than 12c
+                hasIdentityColumns = false;
+            }
+        }
+
+        return queryColumns(schemaPattern, "NULL"); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns true if an error was caused by an unknown column name. Any other error - a lost connection, a missing
+     * privilege, a timeout - is not caused by the database version, so the query must not be retried without the
+     * identity column.
+     *
+     * @param e the error
+     * @return true if the error is ORA-00904
+     */
+    static boolean isInvalidIdentifier(SQLException e) {
+        return e.getErrorCode() == INVALID_IDENTIFIER;
+    }
+
+    private List<ColumnMetadata> queryColumns(@Nullable String schemaPattern, String identityColumn)
+            throws SQLException {
+        return query(String.format(COLUMNS_SELECT, identityColumn),
+                List.of("c.HIDDEN_COLUMN = 'NO'"), //$NON-NLS-1$
+                null, "c.OWNER", null, schemaPattern, true, //$NON-NLS-1$
+                "c.OWNER, c.TABLE_NAME, c.COLUMN_ID", //$NON-NLS-1$
+                this::readColumn);
+    }
+
+    private ColumnMetadata readColumn(ResultSet rs) throws SQLException {
+        ActualTableName atn = new ActualTableName(null,
+                rs.getString("OWNER"), //$NON-NLS-1$
+                rs.getString("TABLE_NAME")); //$NON-NLS-1$
+        String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
+        String typeName = rs.getString("DATA_TYPE"); //$NON-NLS-1$
+        int jdbcType = calculateJdbcType(typeName);
+
+        int size;
+        int scale;
+        if ("NUMBER".equals(typeName)) { //$NON-NLS-1$
+            // the driver reports NUMBER without a precision as size 0 and scale -127
+            size = getInt(rs, "DATA_PRECISION", 0); //$NON-NLS-1$
+            scale = getInt(rs, "DATA_SCALE", -127); //$NON-NLS-1$
+        } else if (jdbcType == Types.CHAR || jdbcType == Types.VARCHAR
+                || jdbcType == Types.NCHAR || jdbcType == Types.NVARCHAR) {
+            size = getInt(rs, "CHAR_LENGTH", 0); //$NON-NLS-1$
+            scale = 0;
+        } else if (jdbcType == Types.FLOAT) {
+            size = getInt(rs, "DATA_PRECISION", 0); //$NON-NLS-1$
+            scale = -127;
+        } else {
+            size = getInt(rs, "DATA_LENGTH", 0); //$NON-NLS-1$
+            scale = getInt(rs, "DATA_SCALE", 0); //$NON-NLS-1$
+        }
+
+        boolean nullable = "Y".equals(rs.getString("NULLABLE")); //$NON-NLS-1$ //$NON-NLS-2$
+        boolean virtual = "YES".equals(rs.getString("VIRTUAL_COLUMN")); //$NON-NLS-1$ //$NON-NLS-2$
+        String identity = rs.getString("IDENTITY_COLUMN"); //$NON-NLS-1$
+        String remarks = rs.getString("COMMENTS"); //$NON-NLS-1$
+        // DATA_DEFAULT is a LONG column - it must be read last
+        String defaultValue = rs.getString("DATA_DEFAULT"); //$NON-NLS-1$
+
+        return new ColumnMetadata(atn, columnName, jdbcType, typeName, size, nullable, scale, remarks,
+                defaultValue == null || virtual ? null : defaultValue.trim(),
+                identity == null ? null : "YES".equals(identity), //$NON-NLS-1$
+                virtual);
+    }
+
+    @Override
+    protected List<PrimaryKeyColumn> fetchPrimaryKeys(@Nullable String catalog, @Nullable String schema)
+            throws SQLException {
+        String select = "SELECT c.OWNER, c.TABLE_NAME, k.COLUMN_NAME, k.POSITION" //$NON-NLS-1$
+                + " FROM ALL_CONSTRAINTS c" //$NON-NLS-1$
+                + " JOIN ALL_CONS_COLUMNS k ON k.OWNER = c.OWNER" //$NON-NLS-1$
+                + " AND k.CONSTRAINT_NAME = c.CONSTRAINT_NAME AND k.TABLE_NAME = c.TABLE_NAME"; //$NON-NLS-1$
+
+        return query(select, List.of("c.CONSTRAINT_TYPE = 'P'"), //$NON-NLS-1$
+                null, "c.OWNER", null, schema, false, //$NON-NLS-1$
+                "c.OWNER, c.TABLE_NAME, k.POSITION", //$NON-NLS-1$
+                rs -> new PrimaryKeyColumn(new ActualTableName(null,
+                        rs.getString("OWNER"), //$NON-NLS-1$
+                        rs.getString("TABLE_NAME")), //$NON-NLS-1$
+                        rs.getString("COLUMN_NAME"), //$NON-NLS-1$
+                        rs.getShort("POSITION"))); //$NON-NLS-1$
+    }
+
+    @Override
+    protected List<TableMetadata> fetchTables(@Nullable String catalog, @Nullable String schemaPattern)
+            throws SQLException {
+        String select = "SELECT t.OWNER, t.TABLE_NAME, t.TABLE_TYPE, t.COMMENTS" //$NON-NLS-1$
+                + " FROM ALL_TAB_COMMENTS t"; //$NON-NLS-1$
+
+        return query(select, List.of(), null, "t.OWNER", null, schemaPattern, true, //$NON-NLS-1$
+                "t.OWNER, t.TABLE_NAME", //$NON-NLS-1$
+                rs -> new TableMetadata(new ActualTableName(null,
+                        rs.getString("OWNER"), //$NON-NLS-1$
+                        rs.getString("TABLE_NAME")), //$NON-NLS-1$
+                        rs.getString("COMMENTS"), //$NON-NLS-1$
+                        rs.getString("TABLE_TYPE"))); //$NON-NLS-1$
+    }
+
+    /**
+     * Calculates the JDBC type for an Oracle data type name as reported in the data dictionary.
+     *
+     * @param typeName the data type name
+     * @return the JDBC type from {@link Types}, or {@link Types#OTHER} if the name is not recognized
+     */
+    static int calculateJdbcType(@Nullable String typeName) {
+        if (typeName == null) {
+            return Types.OTHER;
+        }
+
+        String name = typeName.toUpperCase(Locale.ROOT);
+        if (name.startsWith("TIMESTAMP")) { //$NON-NLS-1$
+            if (name.endsWith("WITH LOCAL TIME ZONE")) { //$NON-NLS-1$
+                return -102;
+            } else if (name.endsWith("WITH TIME ZONE")) { //$NON-NLS-1$
+                return -101;
+            } else {
+                return Types.TIMESTAMP;
+            }
+        }
+
+        return switch (name) {
+            case "VARCHAR2", "VARCHAR" -> Types.VARCHAR; //$NON-NLS-1$ //$NON-NLS-2$
+            case "NVARCHAR2" -> Types.NVARCHAR; //$NON-NLS-1$
+            case "CHAR" -> Types.CHAR; //$NON-NLS-1$
+            case "NCHAR" -> Types.NCHAR; //$NON-NLS-1$
+            case "NUMBER" -> Types.DECIMAL; //$NON-NLS-1$
+            case "FLOAT" -> Types.FLOAT; //$NON-NLS-1$
+            case "BINARY_FLOAT" -> 100; //$NON-NLS-1$
+            case "BINARY_DOUBLE" -> 101; //$NON-NLS-1$
+            case "DATE" -> Types.TIMESTAMP; //$NON-NLS-1$
+            case "CLOB" -> Types.CLOB; //$NON-NLS-1$
+            case "NCLOB" -> Types.NCLOB; //$NON-NLS-1$
+            case "BLOB" -> Types.BLOB; //$NON-NLS-1$
+            case "RAW" -> Types.VARBINARY; //$NON-NLS-1$
+            case "LONG" -> Types.LONGVARCHAR; //$NON-NLS-1$
+            case "LONG RAW" -> Types.LONGVARBINARY; //$NON-NLS-1$
+            case "ROWID" -> Types.ROWID; //$NON-NLS-1$
+            default -> Types.OTHER;
+        };
+    }
+}
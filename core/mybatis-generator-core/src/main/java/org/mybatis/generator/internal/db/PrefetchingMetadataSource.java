@@ -0,0 +1,250 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Metadata source that retrieves metadata for an entire catalog and schema with one call, then resolves
+ * tables from the prefetched rows. This greatly reduces the number of database round trips when many tables
+ * share a schema.
+ *
+ * <p>Table name patterns are matched in memory with the same rules as the JDBC metadata methods, so the
+ * results are the same as with {@link JdbcMetadataSource}.
+ *
+ * <p>Subclasses may override the fetch methods to retrieve the bulk metadata in a database specific way, for
+ * example by querying catalog views directly.
+ */
+class PrefetchingMetadataSource implements DatabaseMetadataSource {
+    protected final DatabaseMetaData databaseMetaData;
+    private final JdbcMetadataSource perTableSource;
+    private final Map<SchemaKey, Map<String, List<ColumnMetadata>>> columns = new HashMap<>();
+    private final Map<SchemaKey, Map<String, List<PrimaryKeyColumn>>> primaryKeys = new HashMap<>();
+    private final Set<SchemaKey> schemasWithoutBulkPrimaryKeys = new HashSet<>();
+    private final Map<SchemaKey, Map<String, List<TableMetadata>>> tables = new HashMap<>();
+    private @Nullable String searchStringEscape;
+    private final Log logger;
+
+    PrefetchingMetadataSource(DatabaseMetaData databaseMetaData) {
+        this.databaseMetaData = databaseMetaData;
+        perTableSource = new JdbcMetadataSource(databaseMetaData);
+        logger = LogFactory.getLog(getClass());
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        return databaseMetaData.storesLowerCaseIdentifiers();
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        return databaseMetaData.storesUpperCaseIdentifiers();
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                           String tableNamePattern) throws SQLException {
+        SchemaKey key = new SchemaKey(catalog, schemaPattern);
+        Map<String, List<ColumnMetadata>> index = columns.get(key);
+        if (index == null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(getString("Tracing.5", catalog, schemaPattern)); //$NON-NLS-1$
+            }
+
+            index = indexByTableName(fetchColumns(catalog, schemaPattern), ColumnMetadata::tableName);
+            columns.put(key, index);
+        }
+
+        return find(index, tableNamePattern);
+    }
+
+    /**
+     * Retrieves the columns of every table in a catalog and schema.
+     *
+     * @param catalog the catalog name
+     * @param schemaPattern the schema name pattern
+     * @return the columns, grouped by table, in column order
+     * @throws SQLException if any error occurs retrieving the metadata
+     */
+    protected List<ColumnMetadata> fetchColumns(@Nullable String catalog, @Nullable String schemaPattern)
+            throws SQLException {
+        try (ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern, "%", "%")) { //$NON-NLS-1$ //$NON-NLS-2$
+            return ColumnMetadata.readAll(rs);
+        }
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumnNames(@Nullable String catalog, @Nullable String schema,
+                                                 String tableName) throws SQLException {
+        SchemaKey key = new SchemaKey(catalog, schema);
+        if (schemasWithoutBulkPrimaryKeys.contains(key)) {
+            return perTableSource.getPrimaryKeyColumnNames(catalog, schema, tableName);
+        }
+
+        Map<String, List<PrimaryKeyColumn>> index = primaryKeys.get(key);
+        if (index == null) {
+            index = prefetchPrimaryKeys(key);
+            if (index == null) {
+                schemasWithoutBulkPrimaryKeys.add(key);
+                return perTableSource.getPrimaryKeyColumnNames(catalog, schema, tableName);
+            }
+            primaryKeys.put(key, index);
+        }
+
+        return PrimaryKeyColumn.toColumnNames(index.getOrDefault(tableName, List.of()));
+    }
+
+    private @Nullable Map<String, List<PrimaryKeyColumn>> prefetchPrimaryKeys(SchemaKey key) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(getString("Tracing.6", key.catalog(), key.schema())); //$NON-NLS-1$
+        }
+
+        // If the bulk call fails, or returns nothing at all, then we fall back to asking for each table.
+        List<PrimaryKeyColumn> rows;
+        try {
+            rows = fetchPrimaryKeys(key.catalog(), key.schema());
+        } catch (SQLException e) {
+            rows = List.of();
+        }
+
+        if (rows.isEmpty()) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(getString("Tracing.8", key.catalog(), key.schema())); //$NON-NLS-1$
+            }
+            return null;
+        }
+
+        return indexByTableName(rows, PrimaryKeyColumn::tableName);
+    }
+
+    /**
+     * Retrieves the primary key columns of every table in a catalog and schema.
+     *
+     * @param catalog the catalog name
+     * @param schema the schema name
+     * @return the primary key columns
+     * @throws SQLException if any error occurs retrieving the metadata
+     */
+    protected List<PrimaryKeyColumn> fetchPrimaryKeys(@Nullable String catalog, @Nullable String schema)
+            throws SQLException {
+        // JDBC requires a table name here, but many drivers accept null and return the keys for every table.
+        try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, null)) {
+            return PrimaryKeyColumn.readAll(rs);
+        }
+    }
+
+    @Override
+    public Optional<TableMetadata> getTable(@Nullable String catalog, @Nullable String schemaPattern,
+                                            String tableNamePattern) throws SQLException {
+        return find(getTableIndex(catalog, schemaPattern), tableNamePattern).stream().findFirst();
+    }
+
+    @Override
+    public List<TableMetadata> getTables(@Nullable String catalog, @Nullable String schemaPattern,
+                                         String tableNamePattern, @Nullable List<String> tableTypes)
+            throws SQLException {
+        List<TableMetadata> answer = find(getTableIndex(catalog, schemaPattern), tableNamePattern);
+        if (tableTypes == null) {
+            return answer;
+        }
+
+        return answer.stream()
+                .filter(t -> tableTypes.stream().anyMatch(type -> type.equalsIgnoreCase(t.tableType())))
+                .toList();
+    }
+
+    private Map<String, List<TableMetadata>> getTableIndex(@Nullable String catalog, @Nullable String schemaPattern)
+            throws SQLException {
+        SchemaKey key = new SchemaKey(catalog, schemaPattern);
+        Map<String, List<TableMetadata>> index = tables.get(key);
+        if (index == null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(getString("Tracing.7", catalog, schemaPattern)); //$NON-NLS-1$
+            }
+
+            index = indexByTableName(fetchTables(catalog, schemaPattern), TableMetadata::tableName);
+            tables.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Retrieves every table in a catalog and schema.
+     *
+     * @param catalog the catalog name
+     * @param schemaPattern the schema name pattern
+     * @return the tables
+     * @throws SQLException if any error occurs retrieving the metadata
+     */
+    protected List<TableMetadata> fetchTables(@Nullable String catalog, @Nullable String schemaPattern)
+            throws SQLException {
+        try (ResultSet rs = databaseMetaData.getTables(catalog, schemaPattern, "%", null)) { //$NON-NLS-1$
+            return TableMetadata.readAll(rs);
+        }
+    }
+
+    private <T> List<T> find(Map<String, List<T>> index, String tableNamePattern) throws SQLException {
+        MetadataPattern pattern = MetadataPattern.compile(tableNamePattern, getSearchStringEscape());
+        String literal = pattern.getLiteral();
+        if (literal != null) {
+            return index.getOrDefault(literal, List.of());
+        }
+
+        return index.entrySet().stream()
+                .filter(e -> pattern.matches(e.getKey()))
+                .flatMap(e -> e.getValue().stream())
+                .toList();
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        String answer = searchStringEscape;
+        if (answer == null) {
+            answer = databaseMetaData.getSearchStringEscape();
+            searchStringEscape = answer;
+        }
+        return answer;
+    }
+
+    private static <T> Map<String, List<T>> indexByTableName(List<T> rows,
+                                                             Function<T, ActualTableName> tableNameFunction) {
+        // keep the rows in the order returned by the driver
+        Map<String, List<T>> index = new LinkedHashMap<>();
+        for (T row : rows) {
+            index.computeIfAbsent(tableNameFunction.apply(row).getTableName(), k -> new ArrayList<>()).add(row);
+        }
+        return index;
+    }
+
+    private record SchemaKey(@Nullable String catalog, @Nullable String schema) { }
+}
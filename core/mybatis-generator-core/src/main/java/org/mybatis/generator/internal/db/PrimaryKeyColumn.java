@@ -0,0 +1,57 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One row of primary key metadata as returned from
+ * {@link java.sql.DatabaseMetaData#getPrimaryKeys(String, String, String)}.
+ *
+ * @param tableName the actual table name returned from the database
+ * @param columnName the column name
+ * @param keySequence the sequence number of the column within the primary key
+ */
+record PrimaryKeyColumn(ActualTableName tableName, String columnName, short keySequence) {
+
+    static List<PrimaryKeyColumn> readAll(ResultSet rs) throws SQLException {
+        List<PrimaryKeyColumn> answer = new ArrayList<>();
+        while (rs.next()) {
+            ActualTableName atn = new ActualTableName(
+                    rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                    rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                    rs.getString("TABLE_NAME")); //$NON-NLS-1$
+            answer.add(new PrimaryKeyColumn(atn,
+                    rs.getString("COLUMN_NAME"), //$NON-NLS-1$
+                    rs.getShort("KEY_SEQ"))); //$NON-NLS-1$
+        }
+        return answer;
+    }
+
+    static List<String> toColumnNames(List<PrimaryKeyColumn> primaryKeyColumns) {
+        // keep primary columns in key sequence order
+        Map<Short, String> keyColumns = new TreeMap<>();
+        for (PrimaryKeyColumn primaryKeyColumn : primaryKeyColumns) {
+            keyColumns.put(primaryKeyColumn.keySequence(), primaryKeyColumn.columnName());
+        }
+        return List.copyOf(keyColumns.values());
+    }
+}
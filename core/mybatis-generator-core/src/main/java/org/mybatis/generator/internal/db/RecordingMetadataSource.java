@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Metadata source that delegates to another source and records every call in an introspection snapshot.
+ */
+class RecordingMetadataSource implements DatabaseMetadataSource {
+    private final IntrospectionSnapshot snapshot;
+    private final TableSnapshot tableSnapshot;
+    private final DatabaseMetadataSource delegate;
+
+    RecordingMetadataSource(IntrospectionSnapshot snapshot, TableSnapshot tableSnapshot,
+                            DatabaseMetadataSource delegate) {
+        this.snapshot = snapshot;
+        this.tableSnapshot = tableSnapshot;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        boolean answer = delegate.storesLowerCaseIdentifiers();
+        snapshot.setStoresLowerCaseIdentifiers(answer);
+        return answer;
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        boolean answer = delegate.storesUpperCaseIdentifiers();
+        snapshot.setStoresUpperCaseIdentifiers(answer);
+        return answer;
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        String answer = delegate.getSearchStringEscape();
+        snapshot.setSearchStringEscape(answer);
+        return answer;
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                           String tableNamePattern) throws SQLException {
+        List<ColumnMetadata> answer = delegate.getColumns(catalog, schemaPattern, tableNamePattern);
+        tableSnapshot.addColumnsCall(
+                new TableSnapshot.ColumnsCall(catalog, schemaPattern, tableNamePattern, List.copyOf(answer)));
+        return answer;
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumnNames(@Nullable String catalog, @Nullable String schema,
+                                                 String tableName) throws SQLException {
+        List<String> answer = delegate.getPrimaryKeyColumnNames(catalog, schema, tableName);
+        tableSnapshot.addPrimaryKeysCall(
+                new TableSnapshot.PrimaryKeysCall(catalog, schema, tableName, List.copyOf(answer)));
+        return answer;
+    }
+
+    @Override
+    public Optional<TableMetadata> getTable(@Nullable String catalog, @Nullable String schemaPattern,
+                                            String tableNamePattern) throws SQLException {
+        Optional<TableMetadata> answer = delegate.getTable(catalog, schemaPattern, tableNamePattern);
+        tableSnapshot.addTablesCall(
+                new TableSnapshot.TablesCall(catalog, schemaPattern, tableNamePattern, answer.orElse(null)));
+        return answer;
+    }
+
+    @Override
+    public List<TableMetadata> getTables(@Nullable String catalog, @Nullable String schemaPattern,
+                                         String tableNamePattern, @Nullable List<String> tableTypes)
+            throws SQLException {
+        List<TableMetadata> answer = delegate.getTables(catalog, schemaPattern, tableNamePattern, tableTypes);
+        tableSnapshot.addTableListCall(new TableSnapshot.TableListCall(catalog, schemaPattern, tableNamePattern,
+                tableTypes == null ? null : List.copyOf(tableTypes), List.copyOf(answer)));
+        return answer;
+    }
+}
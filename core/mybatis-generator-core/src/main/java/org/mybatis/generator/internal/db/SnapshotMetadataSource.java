@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Metadata source that answers calls from the metadata recorded in an introspection snapshot. No database
+ * connection is required.
+ */
+class SnapshotMetadataSource implements DatabaseMetadataSource {
+    private final IntrospectionSnapshot snapshot;
+    private final String tableKey;
+    private final @Nullable TableSnapshot tableSnapshot;
+
+    SnapshotMetadataSource(IntrospectionSnapshot snapshot, String tableKey, @Nullable TableSnapshot tableSnapshot) {
+        this.snapshot = snapshot;
+        this.tableKey = tableKey;
+        this.tableSnapshot = tableSnapshot;
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        return snapshot.getStoresLowerCaseIdentifiers().orElseThrow(this::notRecorded);
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        return snapshot.getStoresUpperCaseIdentifiers().orElseThrow(this::notRecorded);
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        return snapshot.getSearchStringEscape().orElseThrow(this::notRecorded);
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                           String tableNamePattern) throws SQLException {
+        return getTableSnapshot().findColumns(catalog, schemaPattern, tableNamePattern)
+                .orElseThrow(this::notRecorded);
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumnNames(@Nullable String catalog, @Nullable String schema,
+                                                 String tableName) throws SQLException {
+        return getTableSnapshot().findPrimaryKeyColumnNames(catalog, schema, tableName)
+                .orElseThrow(this::notRecorded);
+    }
+
+    @Override
+    public Optional<TableMetadata> getTable(@Nullable String catalog, @Nullable String schemaPattern,
+                                            String tableNamePattern) throws SQLException {
+        TableSnapshot.TablesCall call = getTableSnapshot().findTable(catalog, schemaPattern, tableNamePattern)
+                .orElseThrow(this::notRecorded);
+        return Optional.ofNullable(call.table());
+    }
+
+    @Override
+    public List<TableMetadata> getTables(@Nullable String catalog, @Nullable String schemaPattern,
+                                         String tableNamePattern, @Nullable List<String> tableTypes)
+            throws SQLException {
+        return getTableSnapshot().findTables(catalog, schemaPattern, tableNamePattern, tableTypes)
+                .orElseThrow(this::notRecorded);
+    }
+
+    private TableSnapshot getTableSnapshot() throws SQLException {
+        if (tableSnapshot == null) {
+            throw notRecorded();
+        }
+        return tableSnapshot;
+    }
+
+    private SQLException notRecorded() {
+        return new SQLException(getString("RuntimeError.36", tableKey, snapshot.getContextId())); //$NON-NLS-1$
+    }
+}
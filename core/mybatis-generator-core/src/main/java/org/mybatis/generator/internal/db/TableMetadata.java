@@ -0,0 +1,57 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One row of table metadata as returned from
+ * {@link java.sql.DatabaseMetaData#getTables(String, String, String, String[])}.
+ *
+ * @param tableName the actual table name returned from the database
+ * @param remarks the table remarks
+ * @param tableType the table type - for example "TABLE" or "VIEW"
+ */
+public record TableMetadata(ActualTableName tableName, String remarks, String tableType) {
+
+    static List<TableMetadata> readAll(ResultSet rs) throws SQLException {
+        List<TableMetadata> answer = new ArrayList<>();
+        while (rs.next()) {
+            answer.add(read(rs));
+        }
+        return answer;
+    }
+
+    /**
+     * Reads the current row of the result set.
+     *
+     * @param rs a result set positioned on a row
+     * @return the table metadata from the current row
+     * @throws SQLException if any error occurs reading the result set
+     */
+    static TableMetadata read(ResultSet rs) throws SQLException {
+        ActualTableName atn = new ActualTableName(
+                rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                rs.getString("TABLE_NAME")); //$NON-NLS-1$
+        return new TableMetadata(atn,
+                rs.getString("REMARKS"), //$NON-NLS-1$
+                rs.getString("TABLE_TYPE")); //$NON-NLS-1$
+    }
+}
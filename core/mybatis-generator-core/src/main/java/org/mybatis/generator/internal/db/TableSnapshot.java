@@ -0,0 +1,151 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.FingerprintUtility.fingerprint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The metadata calls, and their results, made while introspecting a single table configuration.
+ */
+final class TableSnapshot {
+    private final String key;
+    private final List<ColumnsCall> columnsCalls = new ArrayList<>();
+    private final List<PrimaryKeysCall> primaryKeysCalls = new ArrayList<>();
+    private final List<TablesCall> tablesCalls = new ArrayList<>();
+    private final List<TableListCall> tableListCalls = new ArrayList<>();
+
+    TableSnapshot(String key) {
+        this.key = key;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    synchronized List<ColumnsCall> getColumnsCalls() {
+        return List.copyOf(columnsCalls);
+    }
+
+    synchronized List<PrimaryKeysCall> getPrimaryKeysCalls() {
+        return List.copyOf(primaryKeysCalls);
+    }
+
+    synchronized List<TablesCall> getTablesCalls() {
+        return List.copyOf(tablesCalls);
+    }
+
+    synchronized List<TableListCall> getTableListCalls() {
+        return List.copyOf(tableListCalls);
+    }
+
+    synchronized void addColumnsCall(ColumnsCall call) {
+        if (!columnsCalls.contains(call)) {
+            columnsCalls.add(call);
+        }
+    }
+
+    synchronized void addPrimaryKeysCall(PrimaryKeysCall call) {
+        if (!primaryKeysCalls.contains(call)) {
+            primaryKeysCalls.add(call);
+        }
+    }
+
+    synchronized void addTablesCall(TablesCall call) {
+        if (!tablesCalls.contains(call)) {
+            tablesCalls.add(call);
+        }
+    }
+
+    synchronized void addTableListCall(TableListCall call) {
+        if (!tableListCalls.contains(call)) {
+            tableListCalls.add(call);
+        }
+    }
+
+    synchronized Optional<List<ColumnMetadata>> findColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                                            String tableNamePattern) {
+        return columnsCalls.stream()
+                .filter(c -> Objects.equals(c.catalog(), catalog)
+                        && Objects.equals(c.schemaPattern(), schemaPattern)
+                        && c.tableNamePattern().equals(tableNamePattern))
+                .map(ColumnsCall::columns)
+                .findFirst();
+    }
+
+    synchronized Optional<List<String>> findPrimaryKeyColumnNames(@Nullable String catalog, @Nullable String schema,
+                                                                  String tableName) {
+        return primaryKeysCalls.stream()
+                .filter(c -> Objects.equals(c.catalog(), catalog)
+                        && Objects.equals(c.schema(), schema)
+                        && c.tableName().equals(tableName))
+                .map(PrimaryKeysCall::columnNames)
+                .findFirst();
+    }
+
+    synchronized Optional<TablesCall> findTable(@Nullable String catalog, @Nullable String schemaPattern,
+                                                String tableNamePattern) {
+        return tablesCalls.stream()
+                .filter(c -> Objects.equals(c.catalog(), catalog)
+                        && Objects.equals(c.schemaPattern(), schemaPattern)
+                        && c.tableNamePattern().equals(tableNamePattern))
+                .findFirst();
+    }
+
+    synchronized Optional<List<TableMetadata>> findTables(@Nullable String catalog, @Nullable String schemaPattern,
+                                                          String tableNamePattern, @Nullable List<String> tableTypes) {
+        return tableListCalls.stream()
+                .filter(c -> Objects.equals(c.catalog(), catalog)
+                        && Objects.equals(c.schemaPattern(), schemaPattern)
+                        && c.tableNamePattern().equals(tableNamePattern)
+                        && Objects.equals(c.tableTypes(), tableTypes))
+                .map(TableListCall::tables)
+                .findFirst();
+    }
+
+    /**
+     * Calculates a fingerprint of the recorded metadata. The fingerprint will change if anything about the
+     * table's metadata changes in the database.
+     *
+     * @return the fingerprint
+     */
+    synchronized String getFingerprint() {
+        String calls = key + columnsCalls + primaryKeysCalls + tablesCalls;
+        if (!tableListCalls.isEmpty()) {
+            // only added when present so fingerprints recorded without table discovery remain valid
+            calls += tableListCalls;
+        }
+        return fingerprint(calls);
+    }
+
+    record ColumnsCall(@Nullable String catalog, @Nullable String schemaPattern, String tableNamePattern,
+                       List<ColumnMetadata> columns) { }
+
+    record PrimaryKeysCall(@Nullable String catalog, @Nullable String schema, String tableName,
+                           List<String> columnNames) { }
+
+    record TablesCall(@Nullable String catalog, @Nullable String schemaPattern, String tableNamePattern,
+                      @Nullable TableMetadata table) { }
+
+    record TableListCall(@Nullable String catalog, @Nullable String schemaPattern, String tableNamePattern,
+                         @Nullable List<String> tableTypes, List<TableMetadata> tables) { }
+}
@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.types;
+
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.JavaTypeResolver.JdbcTypeInformation;
+
+/**
+ * The type profiles that can be selected by name with the "jdbcTypeProfile" property of the default Java type
+ * resolver.
+ */
+public enum BuiltInJdbcTypeProfile implements JdbcTypeProfile {
+    MYSQL("mysql", new MySqlTypeProfile()), //$NON-NLS-1$
+    ORACLE("oracle", new OracleTypeProfile()), //$NON-NLS-1$
+    POSTGRESQL("postgresql", new PostgreSqlTypeProfile()); //$NON-NLS-1$
+
+    private final String alias;
+    private final JdbcTypeProfile profile;
+
+    BuiltInJdbcTypeProfile(String alias, JdbcTypeProfile profile) {
+        this.alias = alias;
+        this.profile = profile;
+    }
+
+    @Override
+    public Optional<JdbcTypeInformation> calculateTypeInformation(IntrospectedColumn introspectedColumn) {
+        return profile.calculateTypeInformation(introspectedColumn);
+    }
+
+    public static @Nullable BuiltInJdbcTypeProfile getByAlias(String alias) {
+        for (BuiltInJdbcTypeProfile builtInJdbcTypeProfile : values()) {
+            if (builtInJdbcTypeProfile.alias.equalsIgnoreCase(alias)) {
+                return builtInJdbcTypeProfile;
+            }
+        }
+
+        return null;
+    }
+}
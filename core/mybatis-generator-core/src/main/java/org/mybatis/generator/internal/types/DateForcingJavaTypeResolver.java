@@ -22,12 +22,14 @@ import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 
 public class DateForcingJavaTypeResolver extends JavaTypeResolverDefaultImpl {
+    private static final FullyQualifiedJavaType DATE = FullyQualifiedJavaType.of(Date.class.getName());
+
     @Override
     protected JdbcTypeInformation overrideDefault(IntrospectedColumn column,
                                                   JdbcTypeInformation defaultTypeInformation) {
         return switch (column.getJdbcType()) {
         case Types.DATE, Types.TIME, Types.TIMESTAMP ->
-                defaultTypeInformation.withJavaType(new FullyQualifiedJavaType(Date.class.getName()));
+                defaultTypeInformation.withJavaType(DATE);
         default -> super.overrideDefault(column, defaultTypeInformation);
         };
     }
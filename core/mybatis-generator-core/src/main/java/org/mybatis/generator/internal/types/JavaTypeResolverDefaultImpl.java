@@ -16,6 +16,7 @@
 package org.mybatis.generator.internal.types;
 
 import static org.mybatis.generator.internal.util.StringUtility.isTrue;
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
 import java.math.BigDecimal;
 import java.sql.Types;
@@ -24,6 +25,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,9 +38,18 @@ import org.mybatis.generator.api.JavaTypeResolver;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.internal.ObjectFactory;
 
 public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
 
+    private static final FullyQualifiedJavaType BYTE_ARRAY = FullyQualifiedJavaType.of("byte[]"); //$NON-NLS-1$
+    private static final FullyQualifiedJavaType LONG = FullyQualifiedJavaType.of(Long.class.getName());
+    private static final FullyQualifiedJavaType INTEGER = FullyQualifiedJavaType.of(Integer.class.getName());
+    private static final FullyQualifiedJavaType SHORT = FullyQualifiedJavaType.of(Short.class.getName());
+
+    // the standard mappings never change, so they are built once and copied into each instance
+    private static final Map<Integer, JdbcTypeInformation> DEFAULT_TYPE_MAP = createDefaultTypeMap();
+
     protected @Nullable List<String> warnings;
 
     protected final Properties properties;
@@ -49,86 +60,94 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
 
     protected final Map<Integer, JdbcTypeInformation> typeMap;
 
+    protected @Nullable JdbcTypeProfile jdbcTypeProfile;
+
     public JavaTypeResolverDefaultImpl() {
         super();
         properties = new Properties();
-        typeMap = new HashMap<>();
-
-        typeMap.put(Types.ARRAY, new JdbcTypeInformation("ARRAY", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
-        typeMap.put(Types.BIGINT, new JdbcTypeInformation("BIGINT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Long.class.getName())));
-        typeMap.put(Types.BINARY, new JdbcTypeInformation("BINARY", //$NON-NLS-1$
-                new FullyQualifiedJavaType("byte[]"))); //$NON-NLS-1$
-        typeMap.put(Types.BIT, new JdbcTypeInformation("BIT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Boolean.class.getName())));
-        typeMap.put(Types.BLOB, new JdbcTypeInformation("BLOB", //$NON-NLS-1$
-                new FullyQualifiedJavaType("byte[]"))); //$NON-NLS-1$
-        typeMap.put(Types.BOOLEAN, new JdbcTypeInformation("BOOLEAN", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Boolean.class.getName())));
-        typeMap.put(Types.CHAR, new JdbcTypeInformation("CHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
-        typeMap.put(Types.CLOB, new JdbcTypeInformation("CLOB", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
-        typeMap.put(Types.DATALINK, new JdbcTypeInformation("DATALINK", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
-        typeMap.put(Types.DATE, new JdbcTypeInformation("DATE", //$NON-NLS-1$
-                new FullyQualifiedJavaType(LocalDate.class.getName())));
-        typeMap.put(Types.DECIMAL, new JdbcTypeInformation("DECIMAL", //$NON-NLS-1$
-                new FullyQualifiedJavaType(BigDecimal.class.getName())));
-        typeMap.put(Types.DISTINCT, new JdbcTypeInformation("DISTINCT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
-        typeMap.put(Types.DOUBLE, new JdbcTypeInformation("DOUBLE", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Double.class.getName())));
-        typeMap.put(Types.FLOAT, new JdbcTypeInformation("FLOAT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Double.class.getName())));
-        typeMap.put(Types.INTEGER, new JdbcTypeInformation("INTEGER", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Integer.class.getName())));
-        typeMap.put(Types.JAVA_OBJECT, new JdbcTypeInformation("JAVA_OBJECT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
-        typeMap.put(Types.LONGNVARCHAR, new JdbcTypeInformation("LONGNVARCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
-        typeMap.put(Types.LONGVARBINARY, new JdbcTypeInformation("LONGVARBINARY", //$NON-NLS-1$
-                new FullyQualifiedJavaType("byte[]"))); //$NON-NLS-1$
-        typeMap.put(Types.LONGVARCHAR, new JdbcTypeInformation("LONGVARCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
-        typeMap.put(Types.NCHAR, new JdbcTypeInformation("NCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
-        typeMap.put(Types.NCLOB, new JdbcTypeInformation("NCLOB", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
-        typeMap.put(Types.NVARCHAR, new JdbcTypeInformation("NVARCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
-        typeMap.put(Types.NULL, new JdbcTypeInformation("NULL", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
-        typeMap.put(Types.NUMERIC, new JdbcTypeInformation("NUMERIC", //$NON-NLS-1$
-                new FullyQualifiedJavaType(BigDecimal.class.getName())));
-        typeMap.put(Types.OTHER, new JdbcTypeInformation("OTHER", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
-        typeMap.put(Types.REAL, new JdbcTypeInformation("REAL", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Float.class.getName())));
-        typeMap.put(Types.REF, new JdbcTypeInformation("REF", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
-        typeMap.put(Types.SMALLINT, new JdbcTypeInformation("SMALLINT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Short.class.getName())));
-        typeMap.put(Types.SQLXML, new JdbcTypeInformation("SQLXML", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
-        typeMap.put(Types.STRUCT, new JdbcTypeInformation("STRUCT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
-        typeMap.put(Types.TIME, new JdbcTypeInformation("TIME", //$NON-NLS-1$
-                new FullyQualifiedJavaType(LocalTime.class.getName())));
-        typeMap.put(Types.TIMESTAMP, new JdbcTypeInformation("TIMESTAMP", //$NON-NLS-1$
-                new FullyQualifiedJavaType(LocalDateTime.class.getName())));
-        typeMap.put(Types.TINYINT, new JdbcTypeInformation("TINYINT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Byte.class.getName())));
-        typeMap.put(Types.VARBINARY, new JdbcTypeInformation("VARBINARY", //$NON-NLS-1$
-                new FullyQualifiedJavaType("byte[]"))); //$NON-NLS-1$
-        typeMap.put(Types.VARCHAR, new JdbcTypeInformation("VARCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
+        typeMap = new HashMap<>(DEFAULT_TYPE_MAP);
+    }
+
+    private static Map<Integer, JdbcTypeInformation> createDefaultTypeMap() {
+        Map<Integer, JdbcTypeInformation> answer = new HashMap<>();
+
+        answer.put(Types.ARRAY, new JdbcTypeInformation("ARRAY", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Object.class.getName())));
+        answer.put(Types.BIGINT, new JdbcTypeInformation("BIGINT", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Long.class.getName())));
+        answer.put(Types.BINARY, new JdbcTypeInformation("BINARY", //$NON-NLS-1$
+                FullyQualifiedJavaType.of("byte[]"))); //$NON-NLS-1$
+        answer.put(Types.BIT, new JdbcTypeInformation("BIT", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Boolean.class.getName())));
+        answer.put(Types.BLOB, new JdbcTypeInformation("BLOB", //$NON-NLS-1$
+                FullyQualifiedJavaType.of("byte[]"))); //$NON-NLS-1$
+        answer.put(Types.BOOLEAN, new JdbcTypeInformation("BOOLEAN", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Boolean.class.getName())));
+        answer.put(Types.CHAR, new JdbcTypeInformation("CHAR", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(String.class.getName())));
+        answer.put(Types.CLOB, new JdbcTypeInformation("CLOB", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(String.class.getName())));
+        answer.put(Types.DATALINK, new JdbcTypeInformation("DATALINK", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Object.class.getName())));
+        answer.put(Types.DATE, new JdbcTypeInformation("DATE", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(LocalDate.class.getName())));
+        answer.put(Types.DECIMAL, new JdbcTypeInformation("DECIMAL", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(BigDecimal.class.getName())));
+        answer.put(Types.DISTINCT, new JdbcTypeInformation("DISTINCT", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Object.class.getName())));
+        answer.put(Types.DOUBLE, new JdbcTypeInformation("DOUBLE", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Double.class.getName())));
+        answer.put(Types.FLOAT, new JdbcTypeInformation("FLOAT", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Double.class.getName())));
+        answer.put(Types.INTEGER, new JdbcTypeInformation("INTEGER", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Integer.class.getName())));
+        answer.put(Types.JAVA_OBJECT, new JdbcTypeInformation("JAVA_OBJECT", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Object.class.getName())));
+        answer.put(Types.LONGNVARCHAR, new JdbcTypeInformation("LONGNVARCHAR", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(String.class.getName())));
+        answer.put(Types.LONGVARBINARY, new JdbcTypeInformation("LONGVARBINARY", //$NON-NLS-1$
+                FullyQualifiedJavaType.of("byte[]"))); //$NON-NLS-1$
+        answer.put(Types.LONGVARCHAR, new JdbcTypeInformation("LONGVARCHAR", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(String.class.getName())));
+        answer.put(Types.NCHAR, new JdbcTypeInformation("NCHAR", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(String.class.getName())));
+        answer.put(Types.NCLOB, new JdbcTypeInformation("NCLOB", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(String.class.getName())));
+        answer.put(Types.NVARCHAR, new JdbcTypeInformation("NVARCHAR", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(String.class.getName())));
+        answer.put(Types.NULL, new JdbcTypeInformation("NULL", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Object.class.getName())));
+        answer.put(Types.NUMERIC, new JdbcTypeInformation("NUMERIC", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(BigDecimal.class.getName())));
+        answer.put(Types.OTHER, new JdbcTypeInformation("OTHER", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Object.class.getName())));
+        answer.put(Types.REAL, new JdbcTypeInformation("REAL", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Float.class.getName())));
+        answer.put(Types.REF, new JdbcTypeInformation("REF", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Object.class.getName())));
+        answer.put(Types.SMALLINT, new JdbcTypeInformation("SMALLINT", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Short.class.getName())));
+        answer.put(Types.SQLXML, new JdbcTypeInformation("SQLXML", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(String.class.getName())));
+        answer.put(Types.STRUCT, new JdbcTypeInformation("STRUCT", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Object.class.getName())));
+        answer.put(Types.TIME, new JdbcTypeInformation("TIME", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(LocalTime.class.getName())));
+        answer.put(Types.TIMESTAMP, new JdbcTypeInformation("TIMESTAMP", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(LocalDateTime.class.getName())));
+        answer.put(Types.TINYINT, new JdbcTypeInformation("TINYINT", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(Byte.class.getName())));
+        answer.put(Types.VARBINARY, new JdbcTypeInformation("VARBINARY", //$NON-NLS-1$
+                FullyQualifiedJavaType.of("byte[]"))); //$NON-NLS-1$
+        answer.put(Types.VARCHAR, new JdbcTypeInformation("VARCHAR", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(String.class.getName())));
         // JDK 1.8 types
-        typeMap.put(Types.TIME_WITH_TIMEZONE, new JdbcTypeInformation("TIME_WITH_TIMEZONE", //$NON-NLS-1$
-                new FullyQualifiedJavaType(OffsetTime.class.getName())));
-        typeMap.put(Types.TIMESTAMP_WITH_TIMEZONE, new JdbcTypeInformation("TIMESTAMP_WITH_TIMEZONE", //$NON-NLS-1$
-                new FullyQualifiedJavaType(OffsetDateTime.class.getName())));
+        answer.put(Types.TIME_WITH_TIMEZONE, new JdbcTypeInformation("TIME_WITH_TIMEZONE", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(OffsetTime.class.getName())));
+        answer.put(Types.TIMESTAMP_WITH_TIMEZONE, new JdbcTypeInformation("TIMESTAMP_WITH_TIMEZONE", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(OffsetDateTime.class.getName())));
+
+        return Collections.unmodifiableMap(answer);
     }
 
     @Override
@@ -139,6 +158,14 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
 
     @Override
     public Optional<JdbcTypeInformation> calculateTypeInformation(IntrospectedColumn introspectedColumn) {
+        if (jdbcTypeProfile != null) {
+            Optional<JdbcTypeInformation> profileTypeInformation =
+                    jdbcTypeProfile.calculateTypeInformation(introspectedColumn);
+            if (profileTypeInformation.isPresent()) {
+                return profileTypeInformation;
+            }
+        }
+
         JdbcTypeInformation jdbcTypeInformation = typeMap.get(introspectedColumn.getJdbcType());
         if (jdbcTypeInformation != null) {
             return Optional.of(overrideDefault(introspectedColumn, jdbcTypeInformation));
@@ -159,7 +186,7 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
     protected JdbcTypeInformation overrideBitType(IntrospectedColumn column,
                                                   JdbcTypeInformation defaultTypeInformation) {
         if (column.getLength() > 1) {
-            return defaultTypeInformation.withJavaType(new FullyQualifiedJavaType("byte[]")); //$NON-NLS-1$
+            return defaultTypeInformation.withJavaType(BYTE_ARRAY);
         } else {
             return defaultTypeInformation;
         }
@@ -170,11 +197,11 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
         if (column.getScale() > 0 || column.getLength() > 18 || forceBigDecimals) {
             return defaultTypeInformation;
         } else if (column.getLength() > 9) {
-            return defaultTypeInformation.withJavaType(new FullyQualifiedJavaType(Long.class.getName()));
+            return defaultTypeInformation.withJavaType(LONG);
         } else if (column.getLength() > 4) {
-            return defaultTypeInformation.withJavaType(new FullyQualifiedJavaType(Integer.class.getName()));
+            return defaultTypeInformation.withJavaType(INTEGER);
         } else {
-            return defaultTypeInformation.withJavaType(new FullyQualifiedJavaType(Short.class.getName()));
+            return defaultTypeInformation.withJavaType(SHORT);
         }
     }
 
@@ -186,5 +213,23 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
     @Override
     public void setContext(Context context) {
         this.context = context;
+
+        String profileName = properties.getProperty(PropertyRegistry.TYPE_RESOLVER_JDBC_TYPE_PROFILE);
+        if (jdbcTypeProfile == null && stringHasValue(profileName)) {
+            jdbcTypeProfile = ObjectFactory.createJdbcTypeProfile(profileName);
+        }
+    }
+
+    /**
+     * Sets the type profile for this resolver. A resolver is created for every thread that introspects tables, so
+     * the profile is created once for each run and shared by all the resolvers of a context. If no profile is set
+     * before {@link #setContext(Context)} is called, then the profile named in the "jdbcTypeProfile" property is
+     * created for this resolver.
+     *
+     * @param jdbcTypeProfile
+     *            the profile
+     */
+    public void setJdbcTypeProfile(JdbcTypeProfile jdbcTypeProfile) {
+        this.jdbcTypeProfile = jdbcTypeProfile;
     }
 }
@@ -0,0 +1,42 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.types;
+
+import java.util.Optional;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.JavaTypeResolver.JdbcTypeInformation;
+
+/**
+ * A type profile holds the type mappings for a particular database. The default Java type resolver consults the
+ * profile configured with the "jdbcTypeProfile" property before its standard mappings. This allows vendor specific
+ * types - which drivers often report with a non-standard JDBC type code, or as OTHER - to be resolved by the
+ * vendor type name reported in {@link IntrospectedColumn#getActualTypeName()}.
+ *
+ * <p>One profile instance is created for each run, and is shared by all the type resolvers of a context, so
+ * implementations must be thread safe. Implementations must have a public default constructor.
+ */
+@FunctionalInterface
+public interface JdbcTypeProfile {
+    /**
+     * Calculates type information for a column.
+     *
+     * @param introspectedColumn
+     *            the column whose type information needs to be calculated
+     * @return the calculated type information, or empty if the standard mappings should be used for this column
+     */
+    Optional<JdbcTypeInformation> calculateTypeInformation(IntrospectedColumn introspectedColumn);
+}
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.types;
+
+import java.math.BigInteger;
+import java.sql.Types;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.JavaTypeResolver.JdbcTypeInformation;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+
+/**
+ * Type profile for MySQL and MariaDB. Unsigned integer columns are resolved to a Java type large enough to hold
+ * every value of the column, and TINYINT(1) columns are resolved as Boolean even when the driver is configured
+ * to report them as TINYINT.
+ */
+public class MySqlTypeProfile implements JdbcTypeProfile {
+    private static final JdbcTypeInformation BOOLEAN = typeInformation("BIT", Boolean.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation UNSIGNED_TINYINT = typeInformation("TINYINT", Short.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation UNSIGNED_SMALLINT =
+            typeInformation("SMALLINT", Integer.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation UNSIGNED_INTEGER = typeInformation("INTEGER", Long.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation UNSIGNED_BIGINT =
+            typeInformation("BIGINT", BigInteger.class); //$NON-NLS-1$
+
+    @Override
+    public Optional<JdbcTypeInformation> calculateTypeInformation(IntrospectedColumn introspectedColumn) {
+        int jdbcType = introspectedColumn.getJdbcType();
+        if (jdbcType != Types.TINYINT && jdbcType != Types.SMALLINT && jdbcType != Types.INTEGER
+                && jdbcType != Types.BIGINT) {
+            return Optional.empty();
+        }
+
+        if (introspectedColumn.getActualTypeName().toUpperCase(Locale.ROOT).contains("UNSIGNED")) { //$NON-NLS-1$
+            return Optional.of(switch (jdbcType) {
+            case Types.TINYINT -> UNSIGNED_TINYINT;
+            case Types.SMALLINT -> UNSIGNED_SMALLINT;
+            case Types.INTEGER -> UNSIGNED_INTEGER;
+            default -> UNSIGNED_BIGINT;
+            });
+        } else if (jdbcType == Types.TINYINT && introspectedColumn.getLength() == 1) {
+            return Optional.of(BOOLEAN);
+        }
+
+        return Optional.empty();
+    }
+
+    private static JdbcTypeInformation typeInformation(String jdbcTypeName, Class<?> javaType) {
+        return new JdbcTypeInformation(jdbcTypeName, FullyQualifiedJavaType.of(javaType.getName()));
+    }
+}
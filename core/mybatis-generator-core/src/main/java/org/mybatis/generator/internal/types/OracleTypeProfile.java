@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.types;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.JavaTypeResolver.JdbcTypeInformation;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+
+/**
+ * Type profile for Oracle. The Oracle driver reports several types with type codes that are not defined in
+ * {@link java.sql.Types}, which would otherwise be resolved as OTHER. This profile also resolves NUMBER columns
+ * declared without a precision (which the driver reports with a precision of zero, or with a negative scale) as
+ * BigDecimal rather than Short.
+ */
+public class OracleTypeProfile implements JdbcTypeProfile {
+    // type codes from oracle.jdbc.OracleTypes
+    private static final int TIMESTAMPTZ = -101;
+    private static final int TIMESTAMPLTZ = -102;
+    private static final int BINARY_FLOAT = 100;
+    private static final int BINARY_DOUBLE = 101;
+
+    private static final JdbcTypeInformation TIMESTAMP_WITH_TIME_ZONE =
+            typeInformation("TIMESTAMP_WITH_TIMEZONE", OffsetDateTime.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation TIMESTAMP_WITH_LOCAL_TIME_ZONE =
+            typeInformation("TIMESTAMP", LocalDateTime.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation FLOAT = typeInformation("REAL", Float.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation DOUBLE = typeInformation("DOUBLE", Double.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation ROWID = typeInformation("VARCHAR", String.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation DECIMAL = typeInformation("DECIMAL", BigDecimal.class); //$NON-NLS-1$
+    private static final JdbcTypeInformation NUMERIC = typeInformation("NUMERIC", BigDecimal.class); //$NON-NLS-1$
+
+    @Override
+    public Optional<JdbcTypeInformation> calculateTypeInformation(IntrospectedColumn introspectedColumn) {
+        return switch (introspectedColumn.getJdbcType()) {
+        case TIMESTAMPTZ -> Optional.of(TIMESTAMP_WITH_TIME_ZONE);
+        case TIMESTAMPLTZ -> Optional.of(TIMESTAMP_WITH_LOCAL_TIME_ZONE);
+        case BINARY_FLOAT -> Optional.of(FLOAT);
+        case BINARY_DOUBLE -> Optional.of(DOUBLE);
+        case Types.ROWID -> Optional.of(ROWID);
+        case Types.DECIMAL -> calculateNumberType(introspectedColumn, DECIMAL);
+        case Types.NUMERIC -> calculateNumberType(introspectedColumn, NUMERIC);
+        default -> Optional.empty();
+        };
+    }
+
+    private Optional<JdbcTypeInformation> calculateNumberType(IntrospectedColumn introspectedColumn,
+                                                              JdbcTypeInformation bigDecimalType) {
+        if ("NUMBER".equals(introspectedColumn.getActualTypeName().toUpperCase(Locale.ROOT)) //$NON-NLS-1$
+                && (introspectedColumn.getLength() == 0 || introspectedColumn.getScale() < 0)) {
+            return Optional.of(bigDecimalType);
+        }
+
+        return Optional.empty();
+    }
+
+    private static JdbcTypeInformation typeInformation(String jdbcTypeName, Class<?> javaType) {
+        return new JdbcTypeInformation(jdbcTypeName, FullyQualifiedJavaType.of(javaType.getName()));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.types;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.JavaTypeResolver.JdbcTypeInformation;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+
+/**
+ * Type profile for PostgreSQL. The PostgreSQL driver reports several common types as OTHER, and reports the time zone
+ * aware types as plain TIMESTAMP and TIME. This profile resolves those types by name, and resolves arrays of the
+ * built-in types to Java arrays.
+ *
+ * <p>Note that MyBatis does not include type handlers for JSON or UUID columns, so a type handler will need to be
+ * configured for those columns.
+ */
+public class PostgreSqlTypeProfile implements JdbcTypeProfile {
+
+    private static final Map<String, JdbcTypeInformation> NAMED_TYPES = Map.of(
+            "json", typeInformation("OTHER", String.class), //$NON-NLS-1$ //$NON-NLS-2$
+            "jsonb", typeInformation("OTHER", String.class), //$NON-NLS-1$ //$NON-NLS-2$
+            "uuid", typeInformation("OTHER", UUID.class), //$NON-NLS-1$ //$NON-NLS-2$
+            "timestamptz", typeInformation("TIMESTAMP_WITH_TIMEZONE", OffsetDateTime.class), //$NON-NLS-1$ //$NON-NLS-2$
+            "timetz", typeInformation("TIME_WITH_TIMEZONE", OffsetTime.class)); //$NON-NLS-1$ //$NON-NLS-2$
+
+    // array type names are the element type name with a leading underscore
+    private static final Map<String, JdbcTypeInformation> ARRAY_TYPES = Map.ofEntries(
+            Map.entry("_bool", arrayTypeInformation(Boolean.class)), //$NON-NLS-1$
+            Map.entry("_int2", arrayTypeInformation(Short.class)), //$NON-NLS-1$
+            Map.entry("_int4", arrayTypeInformation(Integer.class)), //$NON-NLS-1$
+            Map.entry("_int8", arrayTypeInformation(Long.class)), //$NON-NLS-1$
+            Map.entry("_float4", arrayTypeInformation(Float.class)), //$NON-NLS-1$
+            Map.entry("_float8", arrayTypeInformation(Double.class)), //$NON-NLS-1$
+            Map.entry("_numeric", arrayTypeInformation(BigDecimal.class)), //$NON-NLS-1$
+            Map.entry("_bpchar", arrayTypeInformation(String.class)), //$NON-NLS-1$
+            Map.entry("_varchar", arrayTypeInformation(String.class)), //$NON-NLS-1$
+            Map.entry("_text", arrayTypeInformation(String.class)), //$NON-NLS-1$
+            Map.entry("_uuid", arrayTypeInformation(UUID.class))); //$NON-NLS-1$
+
+    @Override
+    public Optional<JdbcTypeInformation> calculateTypeInformation(IntrospectedColumn introspectedColumn) {
+        String typeName = introspectedColumn.getActualTypeName().toLowerCase(Locale.ROOT);
+        if (introspectedColumn.getJdbcType() == Types.ARRAY) {
+            return Optional.ofNullable(ARRAY_TYPES.get(typeName));
+        }
+
+        return Optional.ofNullable(NAMED_TYPES.get(typeName));
+    }
+
+    private static JdbcTypeInformation typeInformation(String jdbcTypeName, Class<?> javaType) {
+        return new JdbcTypeInformation(jdbcTypeName, FullyQualifiedJavaType.of(javaType.getName()));
+    }
+
+    private static JdbcTypeInformation arrayTypeInformation(Class<?> elementType) {
+        return new JdbcTypeInformation("ARRAY", //$NON-NLS-1$
+                FullyQualifiedJavaType.of(elementType.getName() + "[]")); //$NON-NLS-1$
+    }
+}
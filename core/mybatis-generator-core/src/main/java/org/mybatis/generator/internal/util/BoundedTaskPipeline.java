@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs independent tasks on a bounded pool of threads while the tasks are still being produced. Submitting a task
+ * blocks when the pipeline already holds its capacity of waiting and running tasks, so a fast producer cannot
+ * build up an unbounded backlog of work (and the memory held by that work).
+ *
+ * <p>Tasks may be submitted with a key. Tasks with the same key run one after another, in submission order - this
+ * is used to make sure that two tasks never write the same file at the same time.
+ *
+ * <p>Results are returned in submission order regardless of the order in which the work completes. This class is
+ * not thread safe - tasks should be submitted, and results collected, from a single thread.
+ *
+ * @param <R> the type of the task results
+ * @param <E> the type of checked exception thrown by the tasks
+ */
+public class BoundedTaskPipeline<R, E extends Exception> implements AutoCloseable {
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+    private final Class<E> exceptionType;
+    private final List<Future<R>> futures = new ArrayList<>();
+    private final Map<Object, Future<R>> lastFutureByKey = new HashMap<>();
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param parallelism the number of worker threads
+     * @param capacity the maximum number of tasks that may be waiting or running at any time
+     * @param threadNamePrefix prefix for the names of the worker threads
+     * @param exceptionType the checked exception type thrown by the tasks
+     */
+    public BoundedTaskPipeline(int parallelism, int capacity, String threadNamePrefix, Class<E> exceptionType) {
+        executorService = ParallelUtility.newFixedThreadPool(parallelism, threadNamePrefix);
+        permits = new Semaphore(Math.max(capacity, parallelism));
+        this.exceptionType = exceptionType;
+    }
+
+    /**
+     * Adds a result that is already known. The result will be returned in order with the results of the
+     * submitted tasks.
+     *
+     * @param result the result
+     */
+    public void addResult(R result) {
+        futures.add(CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * Submits a task, waiting if the pipeline is full. If a task with the same key was submitted earlier, then
+     * this task will not start until the earlier task has finished.
+     *
+     * @param key the key of the task, or null if the task may run at the same time as any other task
+     * @param task the task
+     * @throws InterruptedException if the calling thread is interrupted while waiting for space in the pipeline
+     */
+    public void submit(@Nullable Object key, Task<R, E> task) throws InterruptedException {
+        @Nullable Future<R> predecessor = key == null ? null : lastFutureByKey.get(key);
+        permits.acquire();
+        Future<R> future;
+        try {
+            future = executorService.submit(() -> {
+                try {
+                    awaitPredecessor(predecessor);
+                    return task.call();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+
+        futures.add(future);
+        if (key != null) {
+            lastFutureByKey.put(key, future);
+        }
+    }
+
+    /**
+     * Waits for all submitted tasks to finish, and returns the results in submission order. If any task failed,
+     * then the first failure (in submission order) is rethrown.
+     *
+     * @return the results of all tasks, in submission order
+     * @throws E if a task throws an exception of this type
+     * @throws InterruptedException if a task throws InterruptedException, or the calling thread is interrupted
+     *     while waiting for results
+     */
+    public List<R> finish() throws E, InterruptedException {
+        List<R> answer = new ArrayList<>(futures.size());
+        for (Future<R> future : futures) {
+            answer.add(ParallelUtility.getResult(future, exceptionType));
+        }
+        return answer;
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    private static void awaitPredecessor(@Nullable Future<?> predecessor) throws InterruptedException {
+        // The predecessor was submitted earlier, so it is already running (or finished) when this task starts.
+        // Its failure will be reported by finish(), so it is ignored here.
+        if (predecessor != null) {
+            try {
+                predecessor.get();
+            } catch (ExecutionException e) {
+                // ignore
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Task<R, E extends Exception> {
+        R call() throws E, InterruptedException;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import static org.mybatis.generator.internal.util.StringUtility.mapStringValueOrElseGet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Writes generated files through a {@link FileChannel}. Content is encoded into a reusable direct buffer, and the
+ * encoder for each file encoding is created once, so writing many files does not allocate new streams, buffers,
+ * and encoders for every file. Malformed and unmappable characters are replaced, the same as an
+ * {@link java.io.OutputStreamWriter}.
+ *
+ * <p>If atomic writes are enabled, each file is written to a temporary file in the same directory and then moved
+ * over the target file. An interrupted run then never leaves a partially written file in place of a generated
+ * file, although the temporary file may remain.
+ *
+ * <p>Instances are not thread safe - use one instance for each writing thread.
+ */
+public class ChannelFileWriter {
+    private static final int BUFFER_SIZE = 8192;
+    private static final Set<StandardOpenOption> OVERWRITE_OPTIONS = Set.of(StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    private static final Set<StandardOpenOption> CREATE_NEW_OPTIONS = Set.of(StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE_NEW);
+
+    private final boolean isAtomicWriteEnabled;
+    private final Map<String, CharsetEncoder> encoders = new HashMap<>();
+    private final CharBuffer charBuffer = CharBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    public ChannelFileWriter(boolean isAtomicWriteEnabled) {
+        this.isAtomicWriteEnabled = isAtomicWriteEnabled;
+    }
+
+    /**
+     * Writes, or overwrites, the contents of the specified file.
+     *
+     * @param file
+     *            the file
+     * @param fileEncoding
+     *            the file encoding, or null to use the default charset
+     * @param content
+     *            writes the content of the file
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void write(Path file, @Nullable String fileEncoding, Content content) throws IOException {
+        CharsetEncoder encoder = getEncoder(fileEncoding);
+        if (!isAtomicWriteEnabled) {
+            write(file, encoder, content, OVERWRITE_OPTIONS);
+            return;
+        }
+
+        Path tempFile = file.resolveSibling("." + file.getFileName() //$NON-NLS-1$
+                + '.' + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp"); //$NON-NLS-1$
+        try {
+            write(tempFile, encoder, content, CREATE_NEW_OPTIONS);
+            move(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // the file is complete, so a plain move still never leaves a partially written target
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void write(Path file, CharsetEncoder encoder, Content content, Set<StandardOpenOption> options)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            EncodingAppendable appendable = new EncodingAppendable(channel, encoder);
+            content.writeTo(appendable);
+            appendable.finish();
+        } finally {
+            charBuffer.clear();
+            byteBuffer.clear();
+        }
+    }
+
+    private CharsetEncoder getEncoder(@Nullable String fileEncoding) {
+        String key = mapStringValueOrElseGet(fileEncoding, s -> s, () -> ""); //$NON-NLS-1$
+        CharsetEncoder encoder = encoders.computeIfAbsent(key, k -> calculateCharset(fileEncoding).newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE));
+        return encoder.reset();
+    }
+
+    private static Charset calculateCharset(@Nullable String fileEncoding) {
+        return mapStringValueOrElseGet(fileEncoding, Charset::forName, Charset::defaultCharset);
+    }
+
+    /**
+     * The content of a file. The content is written to an appendable that encodes it directly into the file.
+     */
+    @FunctionalInterface
+    public interface Content {
+        void writeTo(Appendable appendable) throws IOException;
+    }
+
+    private class EncodingAppendable implements Appendable {
+        private final FileChannel channel;
+        private final CharsetEncoder encoder;
+
+        EncodingAppendable(FileChannel channel, CharsetEncoder encoder) {
+            this.channel = channel;
+            this.encoder = encoder;
+        }
+
+        @Override
+        public Appendable append(@Nullable CharSequence csq) throws IOException {
+            CharSequence s = csq == null ? "null" : csq; //$NON-NLS-1$
+            return append(s, 0, s.length());
+        }
+
+        @Override
+        public Appendable append(@Nullable CharSequence csq, int start, int end) throws IOException {
+            CharSequence s = csq == null ? "null" : csq; //$NON-NLS-1$
+            int index = start;
+            while (index < end) {
+                if (!charBuffer.hasRemaining()) {
+                    encode(false);
+                }
+                int next = Math.min(end, index + charBuffer.remaining());
+                charBuffer.append(s, index, next);
+                index = next;
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (!charBuffer.hasRemaining()) {
+                encode(false);
+            }
+            charBuffer.put(c);
+            return this;
+        }
+
+        void finish() throws IOException {
+            encode(true);
+            while (encoder.flush(byteBuffer).isOverflow()) {
+                drain();
+            }
+            drain();
+        }
+
+        private void encode(boolean endOfInput) throws IOException {
+            charBuffer.flip();
+            CoderResult result = encoder.encode(charBuffer, byteBuffer, endOfInput);
+            while (result.isOverflow()) {
+                drain();
+                result = encoder.encode(charBuffer, byteBuffer, endOfInput);
+            }
+            // an incomplete surrogate pair at the end of the buffer is kept for the next encode
+            charBuffer.compact();
+        }
+
+        private void drain() throws IOException {
+            byteBuffer.flip();
+            while (byteBuffer.hasRemaining()) {
+                channel.write(byteBuffer);
+            }
+            byteBuffer.clear();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An index of items keyed by column name that follows the generator's usual column matching rules: a delimited name
+ * matches only the identical string, and an undelimited name matches ignoring case (exactly as
+ * {@link String#equalsIgnoreCase(String)}). When more than one item matches a name, the item that was added first
+ * is returned - which is the same result as a linear search over the items in the order they were added.
+ *
+ * <p>This class is not thread safe. It is meant to be filled once and then only read.
+ *
+ * @param <T> the type of the indexed items
+ */
+public class ColumnNameIndex<T> {
+    private final Map<String, Entry<T>> delimitedNames = new HashMap<>();
+    private final Map<String, Entry<T>> undelimitedNames = new HashMap<>();
+    private int size;
+    private boolean hasCollisions;
+
+    public void add(String columnName, boolean isColumnNameDelimited, T item) {
+        Entry<T> entry = new Entry<>(size++, item);
+        @Nullable Entry<T> existing;
+        if (isColumnNameDelimited) {
+            existing = delimitedNames.putIfAbsent(columnName, entry);
+        } else {
+            existing = undelimitedNames.putIfAbsent(caseFold(columnName), entry);
+        }
+
+        if (existing != null) {
+            hasCollisions = true;
+        }
+    }
+
+    public Optional<T> get(String columnName) {
+        @Nullable Entry<T> delimitedMatch = delimitedNames.get(columnName);
+        @Nullable Entry<T> undelimitedMatch = undelimitedNames.get(caseFold(columnName));
+
+        if (delimitedMatch == null) {
+            return Optional.ofNullable(undelimitedMatch).map(Entry::item);
+        } else if (undelimitedMatch == null || delimitedMatch.position() < undelimitedMatch.position()) {
+            return Optional.of(delimitedMatch.item());
+        } else {
+            return Optional.of(undelimitedMatch.item());
+        }
+    }
+
+    /**
+     * Returns true if two items were added with names that fall in the same bucket - two delimited names that are
+     * identical, or two undelimited names that are equal ignoring case. Only in that case does the order in which
+     * items were added change the result of a lookup.
+     *
+     * @return true if any added names collided
+     */
+    public boolean hasCollisions() {
+        return hasCollisions;
+    }
+
+    /**
+     * Calculates a key that is equal for two strings if, and only if, the strings are equal according to
+     * {@link String#equalsIgnoreCase(String)}. That method considers two characters equal if they are the same after
+     * converting each to upper case and then to lower case, so the key applies the same conversion to every code
+     * point. {@link String#toLowerCase()} and {@link String#toUpperCase()} can not be used here because they are
+     * locale sensitive and may change the length of the string.
+     *
+     * @param s the string to fold
+     * @return the folded key
+     */
+    static String caseFold(String s) {
+        @Nullable StringBuilder sb = null;
+        int i = 0;
+        while (i < s.length()) {
+            int codePoint = s.codePointAt(i);
+            int folded = Character.toLowerCase(Character.toUpperCase(codePoint));
+            if (folded != codePoint && sb == null) {
+                sb = new StringBuilder(s.length());
+                sb.append(s, 0, i);
+            }
+
+            if (sb != null) {
+                sb.appendCodePoint(folded);
+            }
+
+            i += Character.charCount(codePoint);
+        }
+
+        return sb == null ? s : sb.toString();
+    }
+
+    private record Entry<T>(int position, T item) { }
+}
@@ -0,0 +1,52 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.mybatis.generator.exception.InternalException;
+
+/**
+ * This class holds methods for calculating fingerprints of generator inputs. Fingerprints are used to decide
+ * whether the inputs have changed from one run to the next.
+ */
+public class FingerprintUtility {
+
+    /**
+     * Utility Class - No Instances.
+     */
+    private FingerprintUtility() {
+    }
+
+    /**
+     * Calculates a fingerprint (a hex encoded SHA-256 digest) of the content.
+     *
+     * @param content the content
+     * @return the fingerprint
+     */
+    public static String fingerprint(String content) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+            return HexFormat.of().formatHex(messageDigest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new InternalException(String.valueOf(e.getMessage()), e);
+        }
+    }
+}
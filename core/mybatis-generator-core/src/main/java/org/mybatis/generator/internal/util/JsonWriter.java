@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A minimal writer for the JSON reports produced by the generator. Objects and arrays are written as they are
+ * opened and closed, and the output is indented with two spaces per level. This is not a general purpose JSON
+ * library - only string, number, and boolean values are supported.
+ */
+public class JsonWriter {
+    private final StringBuilder sb = new StringBuilder();
+    private final Deque<Boolean> scopesWithMembers = new ArrayDeque<>();
+
+    public JsonWriter beginObject() {
+        startValue();
+        return open('{');
+    }
+
+    public JsonWriter beginObject(String name) {
+        name(name);
+        return open('{');
+    }
+
+    public JsonWriter endObject() {
+        return close('}');
+    }
+
+    public JsonWriter beginArray(String name) {
+        name(name);
+        return open('[');
+    }
+
+    public JsonWriter endArray() {
+        return close(']');
+    }
+
+    public JsonWriter property(String name, @Nullable String value) {
+        name(name);
+        appendString(value);
+        return this;
+    }
+
+    public JsonWriter property(String name, long value) {
+        name(name);
+        sb.append(value);
+        return this;
+    }
+
+    public JsonWriter property(String name, boolean value) {
+        name(name);
+        sb.append(value);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+
+    private void name(String name) {
+        startValue();
+        appendString(name);
+        sb.append(": "); //$NON-NLS-1$
+    }
+
+    private void startValue() {
+        if (!scopesWithMembers.isEmpty()) {
+            if (scopesWithMembers.pop()) {
+                sb.append(',');
+            }
+            scopesWithMembers.push(true);
+            newLine();
+        }
+    }
+
+    private JsonWriter open(char c) {
+        sb.append(c);
+        scopesWithMembers.push(false);
+        return this;
+    }
+
+    private JsonWriter close(char c) {
+        if (scopesWithMembers.pop()) {
+            newLine();
+        }
+        sb.append(c);
+        return this;
+    }
+
+    private void newLine() {
+        sb.append('\n');
+        sb.append("  ".repeat(scopesWithMembers.size())); //$NON-NLS-1$
+    }
+
+    private void appendString(@Nullable String value) {
+        if (value == null) {
+            sb.append("null"); //$NON-NLS-1$
+            return;
+        }
+
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"' -> sb.append("\\\""); //$NON-NLS-1$
+            case '\\' -> sb.append("\\\\"); //$NON-NLS-1$
+            case '\n' -> sb.append("\\n"); //$NON-NLS-1$
+            case '\r' -> sb.append("\\r"); //$NON-NLS-1$
+            case '\t' -> sb.append("\\t"); //$NON-NLS-1$
+            default -> {
+                if (c < ' ') {
+                    sb.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+                } else {
+                    sb.append(c);
+                }
+            }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mybatis.generator.exception.InternalException;
+
+/**
+ * This class holds methods useful for running independent units of work on a bounded pool of threads.
+ */
+public class ParallelUtility {
+
+    /**
+     * Utility Class - No Instances.
+     */
+    private ParallelUtility() {
+    }
+
+    /**
+     * Applies the function to every item in the list using at most <code>parallelism</code> threads. The results are
+     * returned in the same order as the input list regardless of the order in which the work completes.
+     *
+     * <p>If any invocation of the function fails, then the remaining work is canceled and the first failure (in list
+     * order) is rethrown.
+     *
+     * @param items the items to process
+     * @param parallelism the maximum number of threads to use. If less than 2, then all work is done on the calling
+     *     thread
+     * @param threadNamePrefix prefix for the names of the worker threads
+     * @param function the function to apply to each item
+     * @param exceptionType the checked exception type thrown by the function
+     * @param <T> the type of the input items
+     * @param <R> the type of the results
+     * @param <E> the type of checked exception thrown by the function
+     * @return the results, in input order
+     * @throws E if the function throws an exception of this type
+     * @throws InterruptedException if the function throws InterruptedException, or the calling thread is interrupted
+     *     while waiting for results
+     */
+    public static <T, R, E extends Exception> List<R> mapInOrder(List<T> items, int parallelism,
+            String threadNamePrefix, ThrowingFunction<T, R, E> function, Class<E> exceptionType)
+            throws E, InterruptedException {
+        List<R> answer = new ArrayList<>(items.size());
+        forEachInOrder(items, parallelism, threadNamePrefix, function, answer::add, exceptionType);
+        return answer;
+    }
+
+    /**
+     * Applies the function to every item in the list using at most <code>parallelism</code> threads, and passes
+     * each result to the consumer. The consumer is always called on the calling thread, in the same order as the
+     * input list. Each result is passed to the consumer as soon as it, and every result before it, is available -
+     * so the consumer can start work on early results while later items are still being processed. Work is only
+     * started on an item when fewer than twice <code>parallelism</code> results are waiting for the consumer, so the
+     * number of results held in memory at any time is bounded.
+     *
+     * <p>If any invocation of the function fails, then the remaining work is canceled and the first failure (in list
+     * order) is rethrown.
+     *
+     * @param items the items to process
+     * @param parallelism the maximum number of threads to use. If less than 2, then all work is done on the calling
+     *     thread
+     * @param threadNamePrefix prefix for the names of the worker threads
+     * @param function the function to apply to each item
+     * @param consumer the consumer of the results
+     * @param exceptionType the checked exception type thrown by the function and the consumer
+     * @param <T> the type of the input items
+     * @param <R> the type of the results
+     * @param <E> the type of checked exception thrown by the function and the consumer
+     * @throws E if the function or the consumer throws an exception of this type
+     * @throws InterruptedException if the function or the consumer throws InterruptedException, or the calling
+     *     thread is interrupted while waiting for results
+     */
+    public static <T, R, E extends Exception> void forEachInOrder(List<T> items, int parallelism,
+            String threadNamePrefix, ThrowingFunction<T, R, E> function, ThrowingConsumer<R, E> consumer,
+            Class<E> exceptionType) throws E, InterruptedException {
+        if (parallelism < 2 || items.size() < 2) {
+            for (T item : items) {
+                consumer.accept(function.apply(item));
+            }
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, items.size()),
+                new NamedThreadFactory(threadNamePrefix));
+        try {
+            int window = parallelism * 2;
+            Deque<Future<R>> futures = new ArrayDeque<>(window);
+            Iterator<T> iterator = items.iterator();
+            while (iterator.hasNext() || !futures.isEmpty()) {
+                while (iterator.hasNext() && futures.size() < window) {
+                    T item = iterator.next();
+                    futures.add(executorService.submit(() -> function.apply(item)));
+                }
+
+                consumer.accept(getResult(futures.remove(), exceptionType));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    static ExecutorService newFixedThreadPool(int threads, String threadNamePrefix) {
+        return Executors.newFixedThreadPool(threads, new NamedThreadFactory(threadNamePrefix));
+    }
+
+    static <R, E extends Exception> R getResult(Future<R> future, Class<E> exceptionType)
+            throws E, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InterruptedException ie) {
+                throw ie;
+            } else if (exceptionType.isInstance(cause)) {
+                throw exceptionType.cast(cause);
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new InternalException(getString("RuntimeError.32"), cause); //$NON-NLS-1$
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingFunction<T, R, E extends Exception> {
+        R apply(T t) throws E, InterruptedException;
+    }
+
+    @FunctionalInterface
+    public interface ThrowingConsumer<T, E extends Exception> {
+        void accept(T t) throws E, InterruptedException;
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String prefix;
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + "-" + threadNumber.getAndIncrement()); //$NON-NLS-1$
+            thread.setDaemon(true);
+            thread.setContextClassLoader(Thread.currentThread().getContextClassLoader());
+            return thread;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.mybatis.generator.merge.java;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.github.javaparser.JavaParser;
@@ -57,8 +58,9 @@ public class JavaMergeUtilities {
      */
     public static void copyMissingImports(CompilationUnit sourceCompilationUnit,
                                           CompilationUnit targetCompilationUnit) {
-        List<String> newFileImports = targetCompilationUnit.getImports().stream()
-                .map(JavaMergeUtilities::stringify).toList();
+        Set<String> newFileImports = targetCompilationUnit.getImports().stream()
+                .map(JavaMergeUtilities::stringify)
+                .collect(Collectors.toSet());
 
         sourceCompilationUnit.getImports().stream()
                 .filter(im -> !newFileImports.contains(stringify(im)))
@@ -46,6 +46,16 @@ public abstract class BaseRecordPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsIncrementalGeneration() {
+        return true;
+    }
+
     @Override
     public boolean modelRecordGenerated(TopLevelRecord topLevelRecord, IntrospectedTable introspectedTable) {
         if (!Boolean.parseBoolean(introspectedTable.getTableConfigurationProperty(skipProperty))
@@ -15,11 +15,11 @@
  */
 package org.mybatis.generator.plugins;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedTable;
@@ -44,7 +44,8 @@ public class RowBoundsPlugin extends PluginAdapter {
 
     private final FullyQualifiedJavaType rowBounds =
             new FullyQualifiedJavaType("org.apache.ibatis.session.RowBounds"); //$NON-NLS-1$
-    private final Map<FullyQualifiedTable, List<XmlElement>> elementsToAdd = new HashMap<>();
+    // tables may be generated concurrently when the context runs in parallel
+    private final Map<FullyQualifiedTable, List<XmlElement>> elementsToAdd = new ConcurrentHashMap<>();
 
     @Override
     public boolean validate(List<String> warnings) {
@@ -55,6 +56,16 @@ public class RowBoundsPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsIncrementalGeneration() {
+        return true;
+    }
+
     @Override
     public boolean clientSelectByExampleWithBLOBsMethodGenerated(Method method, Interface interfaze,
                                                                  IntrospectedTable introspectedTable) {
@@ -136,7 +147,7 @@ public class RowBoundsPlugin extends PluginAdapter {
 
         // save the new element locally.   We'll add it to the document
         // later
-        List<XmlElement> elements = elementsToAdd.computeIfAbsent(fqt, k -> new ArrayList<>());
+        List<XmlElement> elements = elementsToAdd.computeIfAbsent(fqt, k -> new CopyOnWriteArrayList<>());
         elements.add(newElement);
 
         return true;
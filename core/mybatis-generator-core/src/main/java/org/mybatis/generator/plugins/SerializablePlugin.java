@@ -58,6 +58,16 @@ public class SerializablePlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsIncrementalGeneration() {
+        return true;
+    }
+
     @Override
     public void setProperties(Properties properties) {
         super.setProperties(properties);
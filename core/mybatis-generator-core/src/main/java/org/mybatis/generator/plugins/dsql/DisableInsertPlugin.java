@@ -36,6 +36,16 @@ public class DisableInsertPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsIncrementalGeneration() {
+        return true;
+    }
+
     @Override
     public boolean clientBasicInsertMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
@@ -77,7 +77,7 @@ public class GeneratedKeyAnnotationUtility {
                                                                     IntrospectedColumn introspectedColumn,
                                                                     GeneratedKey gk) {
         JavaMethodParts.Builder builder = new JavaMethodParts.Builder();
-        builder.withImport(new FullyQualifiedJavaType(SELECT_KEY_IMPORT));
+        builder.withImport(FullyQualifiedJavaType.of(SELECT_KEY_IMPORT));
         FullyQualifiedJavaType fqjt = introspectedColumn.getFullyQualifiedJavaType();
         String annotation = JAVA_SELECT_KEY_TEMPLATE.formatted(gk.getRuntimeSqlStatement(),
                 prefix.value() + introspectedColumn.getJavaProperty(),
@@ -90,7 +90,7 @@ public class GeneratedKeyAnnotationUtility {
     private static JavaMethodParts calculateJavaOptionsAnnotation(Prefix prefix,
                                                                   IntrospectedColumn introspectedColumn) {
         JavaMethodParts.Builder builder = new JavaMethodParts.Builder();
-        builder.withImport(new FullyQualifiedJavaType(OPTIONS_IMPORT));
+        builder.withImport(FullyQualifiedJavaType.of(OPTIONS_IMPORT));
         String annotation = OPTIONS_TEMPLATE.formatted(prefix.value() + introspectedColumn.getJavaProperty(),
                 escapeStringForJava(introspectedColumn.getActualColumnName()));
         builder.withAnnotation(annotation);
@@ -74,7 +74,7 @@ public class SimpleModelGenerator extends AbstractJavaGenerator {
         }
 
         Optional<RootClassInfo> rootClassInfo = RootClassAndInterfaceUtility.getRootClass(introspectedTable)
-                .map(rc -> RootClassInfo.getInstance(rc, warnings));
+                .map(rc -> generationSession.getRootClassInfo(rc, warnings));
         for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
             if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn)).orElse(false)) {
                 continue;
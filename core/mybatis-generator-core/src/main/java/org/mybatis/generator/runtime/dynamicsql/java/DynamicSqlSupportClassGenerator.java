@@ -63,10 +63,10 @@ public class DynamicSqlSupportClassGenerator extends AbstractGenerator {
         TopLevelClass topLevelClass = new TopLevelClass(introspectedTable.getMyBatisDynamicSqlSupportType());
         topLevelClass.setVisibility(JavaVisibility.PUBLIC);
         topLevelClass.setFinal(true);
-        topLevelClass.addImportedType(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.SqlColumn")); //$NON-NLS-1$
+        topLevelClass.addImportedType(FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.SqlColumn")); //$NON-NLS-1$
         topLevelClass.addImportedType(
                 new FullyQualifiedJavaType("org.mybatis.dynamic.sql.AliasableSqlTable")); //$NON-NLS-1$
-        topLevelClass.addImportedType(new FullyQualifiedJavaType("java.sql.JDBCType")); //$NON-NLS-1$
+        topLevelClass.addImportedType(FullyQualifiedJavaType.of("java.sql.JDBCType")); //$NON-NLS-1$
         return topLevelClass;
     }
 
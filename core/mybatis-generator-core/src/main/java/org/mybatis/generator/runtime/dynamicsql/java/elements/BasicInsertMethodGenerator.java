@@ -51,7 +51,7 @@ public class BasicInsertMethodGenerator extends AbstractJavaInterfaceMethodGener
         FullyQualifiedJavaType annotation =
                 new FullyQualifiedJavaType("org.apache.ibatis.annotations.InsertProvider"); //$NON-NLS-1$
 
-        imports.add(new FullyQualifiedJavaType(
+        imports.add(FullyQualifiedJavaType.of(
                 "org.mybatis.dynamic.sql.insert.render.InsertStatementProvider")); //$NON-NLS-1$
         imports.add(adapter);
         imports.add(annotation);
@@ -50,9 +50,9 @@ public class BasicMultipleInsertMethodGenerator extends AbstractJavaInterfaceMet
 
     private JavaMethodAndImports generateMethodWithGeneratedKeys(GeneratedKey gk) {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
-        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.util.SqlProviderAdapter")); //$NON-NLS-1$)
-        imports.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.InsertProvider")); //$NON-NLS-1$
-        imports.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+        imports.add(FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.util.SqlProviderAdapter")); //$NON-NLS-1$)
+        imports.add(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.InsertProvider")); //$NON-NLS-1$
+        imports.add(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
 
         Parameter parm1 = new Parameter(FullyQualifiedJavaType.getStringInstance(), "insertStatement"); //$NON-NLS-1$
         parm1.addAnnotation("@Param(\"insertStatement\")"); //$NON-NLS-1$
@@ -43,7 +43,7 @@ public class GeneralCountMethodGenerator extends AbstractJavaInterfaceMethodGene
         FullyQualifiedJavaType parameterType = new FullyQualifiedJavaType(
                 "org.mybatis.dynamic.sql.dsl.CountDSLCompleter"); //$NON-NLS-1$
         imports.add(parameterType);
-        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
+        imports.add(FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
 
         Method method = new Method("count"); //$NON-NLS-1$
         method.setDefault(true);
@@ -43,7 +43,7 @@ public class GeneralDeleteMethodGenerator extends AbstractJavaInterfaceMethodGen
         FullyQualifiedJavaType parameterType = new FullyQualifiedJavaType(
                 "org.mybatis.dynamic.sql.dsl.DeleteDSLCompleter"); //$NON-NLS-1$
         imports.add(parameterType);
-        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
+        imports.add(FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
 
         Method method = new Method("delete"); //$NON-NLS-1$
         method.setDefault(true);
@@ -46,7 +46,7 @@ public class GeneralSelectOneMethodGenerator extends AbstractJavaInterfaceMethod
                 "org.mybatis.dynamic.sql.dsl.SelectDSLCompleter"); //$NON-NLS-1$
 
         imports.add(parameterType);
-        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
+        imports.add(FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
 
         FullyQualifiedJavaType returnType = new FullyQualifiedJavaType("java.util.Optional"); //$NON-NLS-1$
         returnType.addTypeArgument(recordType);
@@ -44,7 +44,7 @@ public class GeneralUpdateMethodGenerator extends AbstractJavaInterfaceMethodGen
                 "org.mybatis.dynamic.sql.dsl.UpdateDSLCompleter"); //$NON-NLS-1$
 
         imports.add(parameterType);
-        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
+        imports.add(FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
 
         FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getIntInstance();
 
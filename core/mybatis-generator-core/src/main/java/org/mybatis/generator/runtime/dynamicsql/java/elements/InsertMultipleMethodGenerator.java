@@ -51,7 +51,7 @@ public class InsertMultipleMethodGenerator extends AbstractJavaInterfaceMethodGe
 
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
-        imports.add(new FullyQualifiedJavaType("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
+        imports.add(FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
         imports.add(recordType);
 
         Method method = new Method("insertMultiple"); //$NON-NLS-1$
@@ -37,7 +37,7 @@ public class AnnotatedCountByExampleMethodGenerator extends CountByExampleMethod
 
         return new JavaMethodParts.Builder()
                 .withAnnotation(annotation)
-                .withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.SelectProvider")) //$NON-NLS-1$
+                .withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.SelectProvider")) //$NON-NLS-1$
                 .build();
     }
 
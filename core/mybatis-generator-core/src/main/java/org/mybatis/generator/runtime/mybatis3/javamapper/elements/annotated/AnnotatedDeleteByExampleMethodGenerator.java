@@ -37,7 +37,7 @@ public class AnnotatedDeleteByExampleMethodGenerator extends DeleteByExampleMeth
 
         return new JavaMethodParts.Builder()
                 .withAnnotation(annotation)
-                .withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.DeleteProvider")) //$NON-NLS-1$
+                .withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.DeleteProvider")) //$NON-NLS-1$
                 .build();
     }
 
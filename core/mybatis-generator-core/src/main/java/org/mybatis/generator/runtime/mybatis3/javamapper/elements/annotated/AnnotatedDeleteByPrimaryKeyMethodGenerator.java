@@ -39,7 +39,7 @@ public class AnnotatedDeleteByPrimaryKeyMethodGenerator extends DeleteByPrimaryK
                 .withAnnotation(deleteStatement)
                 .withAnnotations(buildByPrimaryKeyWhereClause())
                 .withAnnotation("})") //$NON-NLS-1$
-                .withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Delete")) //$NON-NLS-1$
+                .withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Delete")) //$NON-NLS-1$
                 .build();
     }
 
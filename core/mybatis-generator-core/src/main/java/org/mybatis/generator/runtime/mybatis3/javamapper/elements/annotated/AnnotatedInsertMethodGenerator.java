@@ -38,7 +38,7 @@ public class AnnotatedInsertMethodGenerator extends InsertMethodGenerator {
     @Override
     protected JavaMethodParts extraMethodParts() {
         var builder = new JavaMethodParts.Builder()
-                .withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Insert")); //$NON-NLS-1$
+                .withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Insert")); //$NON-NLS-1$
         addAnnotations(builder);
 
         introspectedTable.getGeneratedKey()
@@ -37,7 +37,7 @@ public class AnnotatedInsertSelectiveMethodGenerator extends InsertSelectiveMeth
 
         var builder = new JavaMethodParts.Builder()
                 .withAnnotation(annotation)
-                .withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.InsertProvider")); //$NON-NLS-1$
+                .withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.InsertProvider")); //$NON-NLS-1$
 
         introspectedTable.getGeneratedKey()
                 .flatMap(gk -> GeneratedKeyAnnotationUtility.getLegacyJavaGeneratedKeyAnnotation(introspectedTable, gk))
@@ -75,7 +75,7 @@ public class AnnotatedSelectAllMethodGenerator extends SelectAllMethodGenerator
             builder.withImports(getAnnotatedResultImports(introspectedColumn));
         }
 
-        builder.withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Select")); //$NON-NLS-1$
+        builder.withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Select")); //$NON-NLS-1$
     }
 
     public static class AnnotatedBuilder extends SelectAllMethodGenerator.Builder {
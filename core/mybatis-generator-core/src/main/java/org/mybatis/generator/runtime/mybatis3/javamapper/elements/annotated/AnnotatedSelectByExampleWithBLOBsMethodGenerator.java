@@ -53,7 +53,7 @@ public class AnnotatedSelectByExampleWithBLOBsMethodGenerator extends SelectByEx
             builder.withImports(getAnnotatedResultImports(introspectedColumn));
         }
 
-        builder.withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.SelectProvider")); //$NON-NLS-1$
+        builder.withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.SelectProvider")); //$NON-NLS-1$
     }
 
     public static class AnnotatedBuilder extends SelectByExampleWithBLOBsMethodGenerator.Builder {
@@ -73,10 +73,10 @@ public class AnnotatedSelectByPrimaryKeyMethodGenerator extends SelectByPrimaryK
     }
 
     private void addImports(JavaMethodParts.Builder builder) {
-        builder.withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Select")); //$NON-NLS-1$
+        builder.withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Select")); //$NON-NLS-1$
 
         if (useResultMapAnnotation()) {
-            builder.withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.ResultMap")); //$NON-NLS-1$
+            builder.withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.ResultMap")); //$NON-NLS-1$
         } else {
             builder.withImports(getAnnotatedSelectImports());
             for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
@@ -37,7 +37,7 @@ public class AnnotatedUpdateByExampleWithoutBLOBsMethodGenerator extends UpdateB
 
         return new JavaMethodParts.Builder()
                 .withAnnotation(annotation)
-                .withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.UpdateProvider")) //$NON-NLS-1$
+                .withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.UpdateProvider")) //$NON-NLS-1$
                 .build();
     }
 
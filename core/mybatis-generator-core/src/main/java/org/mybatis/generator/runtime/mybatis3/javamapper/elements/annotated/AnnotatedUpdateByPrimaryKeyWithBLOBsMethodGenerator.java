@@ -29,7 +29,7 @@ public class AnnotatedUpdateByPrimaryKeyWithBLOBsMethodGenerator extends UpdateB
     protected JavaMethodParts extraMethodParts() {
         return new JavaMethodParts.Builder()
                 .withAnnotations(buildUpdateByPrimaryKeyAnnotations(introspectedTable.getNonPrimaryKeyColumns()))
-                .withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Update")) //$NON-NLS-1$
+                .withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Update")) //$NON-NLS-1$
                 .build();
     }
 
@@ -29,7 +29,7 @@ public class AnnotatedUpdateByPrimaryKeyWithoutBLOBsMethodGenerator
     @Override
     protected JavaMethodParts extraMethodParts() {
         var builder = new JavaMethodParts.Builder()
-                .withImport(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Update")); //$NON-NLS-1$
+                .withImport(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Update")); //$NON-NLS-1$
 
         if (isSimple) {
             builder.withAnnotations(buildUpdateByPrimaryKeyAnnotations(introspectedTable.getNonPrimaryKeyColumns()));
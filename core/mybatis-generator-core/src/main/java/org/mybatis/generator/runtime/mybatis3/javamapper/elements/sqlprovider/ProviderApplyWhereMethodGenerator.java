@@ -47,13 +47,13 @@ public class ProviderApplyWhereMethodGenerator extends AbstractJavaClassMethodGe
     public Optional<JavaMethodAndImports> generateMethodAndImports() {
         Set<FullyQualifiedJavaType> importedTypes = new HashSet<>();
         importedTypes.add(MyBatis3FormattingUtilities.BUILDER_IMPORT);
-        importedTypes.add(new FullyQualifiedJavaType("java.util.List")); //$NON-NLS-1$
+        importedTypes.add(FullyQualifiedJavaType.of("java.util.List")); //$NON-NLS-1$
 
         FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedTable.getExampleType());
         importedTypes.add(fqjt);
-        importedTypes.add(new FullyQualifiedJavaType(
+        importedTypes.add(FullyQualifiedJavaType.of(
                 "%s.Criteria".formatted(fqjt.getFullyQualifiedName()))); //$NON-NLS-1$
-        importedTypes.add(new FullyQualifiedJavaType(
+        importedTypes.add(FullyQualifiedJavaType.of(
                 "%s.Criterion".formatted(fqjt.getFullyQualifiedName()))); //$NON-NLS-1$
 
         Method method = new Method("applyWhere"); //$NON-NLS-1$
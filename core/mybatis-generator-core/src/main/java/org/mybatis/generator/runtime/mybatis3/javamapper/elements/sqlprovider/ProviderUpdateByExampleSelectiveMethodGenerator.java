@@ -55,7 +55,7 @@ public class ProviderUpdateByExampleSelectiveMethodGenerator extends AbstractJav
 
         Set<FullyQualifiedJavaType> importedTypes = new HashSet<>();
         importedTypes.add(MyBatis3FormattingUtilities.BUILDER_IMPORT);
-        importedTypes.add(new FullyQualifiedJavaType("java.util.Map")); //$NON-NLS-1$
+        importedTypes.add(FullyQualifiedJavaType.of("java.util.Map")); //$NON-NLS-1$
 
         FullyQualifiedJavaType recordClass = introspectedTable.getRules().calculateAllFieldsClass();
         importedTypes.add(recordClass);
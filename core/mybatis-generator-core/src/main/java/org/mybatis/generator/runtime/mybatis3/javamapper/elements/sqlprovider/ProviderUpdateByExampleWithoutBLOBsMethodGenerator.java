@@ -75,7 +75,7 @@ public class ProviderUpdateByExampleWithoutBLOBsMethodGenerator extends Abstract
         method.addBodyLine(""); //$NON-NLS-1$
 
         importedTypes.add(MyBatis3FormattingUtilities.BUILDER_IMPORT);
-        importedTypes.add(new FullyQualifiedJavaType("java.util.Map")); //$NON-NLS-1$
+        importedTypes.add(FullyQualifiedJavaType.of("java.util.Map")); //$NON-NLS-1$
 
         FullyQualifiedJavaType example = new FullyQualifiedJavaType(introspectedTable.getExampleType());
         importedTypes.add(example);
@@ -77,7 +77,7 @@ public class BaseRecordGenerator extends AbstractJavaGenerator {
         }
 
         Optional<RootClassInfo> rootClassInfo = RootClassAndInterfaceUtility.getRootClass(introspectedTable)
-                .map(rc -> RootClassInfo.getInstance(rc, warnings));
+                .map(rc -> generationSession.getRootClassInfo(rc, warnings));
         for (IntrospectedColumn introspectedColumn : getColumnsInThisClass()) {
             if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn)).orElse(false)) {
                 continue;
@@ -72,7 +72,7 @@ public class PrimaryKeyGenerator extends AbstractJavaGenerator {
         commentGenerator.addModelClassComment(topLevelClass, introspectedTable);
 
         Optional<RootClassInfo> rootClassInfo = RootClassAndInterfaceUtility.getRootClass(introspectedTable)
-                .map(rc -> RootClassInfo.getInstance(rc, warnings));
+                .map(rc -> generationSession.getRootClassInfo(rc, warnings));
         for (IntrospectedColumn introspectedColumn : introspectedTable.getPrimaryKeyColumns()) {
             if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn)).orElse(false)) {
                 continue;
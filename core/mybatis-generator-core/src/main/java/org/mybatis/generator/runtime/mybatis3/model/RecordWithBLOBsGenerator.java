@@ -72,7 +72,7 @@ public class RecordWithBLOBsGenerator extends AbstractJavaGenerator {
         }
 
         Optional<RootClassInfo> rootClassInfo = RootClassAndInterfaceUtility.getRootClass(introspectedTable)
-                .map(rc -> RootClassInfo.getInstance(rc, warnings));
+                .map(rc -> generationSession.getRootClassInfo(rc, warnings));
         for (IntrospectedColumn introspectedColumn : introspectedTable.getBLOBColumns()) {
             if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn)).orElse(false)) {
                 continue;
@@ -0,0 +1,414 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.GenerationMetrics;
+import org.mybatis.generator.api.GenerationMetrics.Phase;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+class GenerationModesTest {
+    // generated comments include the generation timestamp, which will differ between runs
+    private static final Pattern DATE_PATTERN = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T[0-9:.+\\-Z]+");
+
+    @Test
+    void testParallelGenerationMatchesSequentialGeneration() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        GenerationOutput sequential = generate(1, Map.of());
+        GenerationOutput parallel = generate(8, Map.of());
+
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    void testParallelGenerationWithRowBoundsPlugin() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        // this context only uses thread safe plugins, so it really runs in parallel
+        Set<String> contextIds = Set.of("FlatJava5");
+        GenerationOutput sequential = generate(1, Map.of(), contextIds);
+        assertThat(sequential.xmlFiles()).anySatisfy(xml -> assertThat(xml).contains("WithRowbounds"));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(generate(8, Map.of(), contextIds)).isEqualTo(sequential);
+        }
+    }
+
+    @Test
+    void testConcurrentGeneratorsDoNotInterfere() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        GenerationOutput sequential = generate(1, Map.of());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<GenerationOutput>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executorService.submit(() -> generate(1, Map.of())));
+            }
+
+            for (Future<GenerationOutput> future : futures) {
+                assertThat(future.get()).isEqualTo(sequential);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentIntrospectionMatchesSequentialIntrospection() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        GenerationOutput sequential = generate(1, Map.of());
+        GenerationOutput concurrent = generate(1, Map.of("introspectionConnections", "4"));
+
+        assertThat(concurrent).isEqualTo(sequential);
+    }
+
+    @Test
+    void testPrefetchIntrospectionMatchesPerTableIntrospection() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        GenerationOutput perTable = generate(1, Map.of());
+        GenerationOutput prefetch = generate(1, Map.of("introspectionStrategy", "prefetch"));
+        GenerationOutput concurrentPrefetch = generate(1,
+                Map.of("introspectionStrategy", "prefetch", "introspectionConnections", "4"));
+
+        assertThat(prefetch).isEqualTo(perTable);
+        assertThat(concurrentPrefetch).isEqualTo(perTable);
+    }
+
+    @Test
+    void testSnapshotIntrospectionMatchesDatabaseIntrospection(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        String snapshotFile = tempDir.resolve("snapshot-${contextId}.xml").toString();
+        GenerationOutput database = generate(1, Map.of());
+        GenerationOutput written = generate(1,
+                Map.of("introspectionSnapshotMode", "write", "introspectionSnapshotFile", snapshotFile));
+        GenerationOutput read = generate(1,
+                Map.of("introspectionSnapshotMode", "read", "introspectionSnapshotFile", snapshotFile));
+
+        assertThat(written).isEqualTo(database);
+        assertThat(read).isEqualTo(database);
+    }
+
+    @Test
+    void testUnchangedTablesAreNotGeneratedAgain(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Map<String, String> properties = Map.of("schemaFingerprintFile",
+                tempDir.resolve("fingerprints-${contextId}.properties").toString());
+        MyBatisGenerator first = generateAndWrite(tempDir, properties, UnaryOperator.identity());
+        MyBatisGenerator second = generateAndWrite(tempDir, properties, UnaryOperator.identity());
+
+        assertThat(first.getGeneratedJavaFiles()).isNotEmpty();
+        assertThat(first.getGeneratedXmlFiles()).isNotEmpty();
+        assertThat(second.getGeneratedJavaFiles()).isEmpty();
+        assertThat(second.getGeneratedXmlFiles()).isEmpty();
+
+        // removing the fingerprints of a context causes every table in that context to be generated again
+        Files.delete(tempDir.resolve("fingerprints-FlatJava5.properties"));
+        MyBatisGenerator third = generateAndWrite(tempDir, properties, UnaryOperator.identity());
+
+        assertThat(third.getGeneratedJavaFiles()).isNotEmpty().allSatisfy(f ->
+                assertThat(f.getTargetPackage()).startsWith("mbg.test.mb3.generated.flat."));
+        assertThat(third.getGeneratedXmlFiles()).isNotEmpty().allSatisfy(f ->
+                assertThat(f.getTargetPackage()).startsWith("mbg.test.mb3.generated.flat."));
+    }
+
+    @Test
+    void testTablesWithUnwrittenFilesAreGeneratedAgain(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path outputDirectory = tempDir.resolve("output");
+        Path fingerprintFile = tempDir.resolve("fingerprints.properties");
+        Map<String, String> properties = Map.of("schemaFingerprintFile", fingerprintFile.toString());
+        UnaryOperator<MyBatisGenerator.Builder> options = b -> b.withContextIds(Set.of("miscellaneousTests"));
+        generateAndWrite(outputDirectory, properties, options);
+
+        // regenerate every table, but make the merge of one mapper fail
+        Path mapper;
+        try (Stream<Path> paths = Files.walk(outputDirectory)) {
+            mapper = paths.filter(p -> p.getFileName().toString().endsWith("Mapper.xml")).findFirst().orElseThrow();
+        }
+        Files.writeString(mapper, "not a mapper");
+        Files.delete(fingerprintFile);
+        MyBatisGenerator second = generateAndWrite(outputDirectory, properties, options);
+
+        assertThat(second.getGeneratedXmlFiles()).hasSizeGreaterThan(1);
+        assertThat(Files.readString(mapper)).isEqualTo("not a mapper");
+
+        // only the table with the unwritten mapper is generated again
+        Files.delete(mapper);
+        MyBatisGenerator third = generateAndWrite(outputDirectory, properties, options);
+
+        assertThat(third.getGeneratedXmlFiles()).singleElement()
+                .satisfies(f -> assertThat(f.getFileName()).isEqualTo(mapper.getFileName().toString()));
+        assertThat(third.getGeneratedJavaFiles()).isNotEmpty();
+        assertThat(Files.readString(mapper)).startsWith("<?xml");
+
+        MyBatisGenerator fourth = generateAndWrite(outputDirectory, properties, options);
+        assertThat(fourth.getGeneratedXmlFiles()).isEmpty();
+    }
+
+    @Test
+    void testTablesWithDeletedFilesAreGeneratedAgain(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path outputDirectory = tempDir.resolve("output");
+        Map<String, String> properties = Map.of("schemaFingerprintFile",
+                tempDir.resolve("fingerprints.properties").toString());
+        UnaryOperator<MyBatisGenerator.Builder> options = b -> b.withContextIds(Set.of("miscellaneousTests"));
+        MyBatisGenerator first = generateAndWrite(outputDirectory, properties, options);
+        MyBatisGenerator second = generateAndWrite(outputDirectory, properties, options);
+
+        assertThat(second.getGeneratedJavaFiles()).isEmpty();
+
+        // only the table with the deleted file is generated again
+        Path javaFile;
+        try (Stream<Path> paths = Files.walk(outputDirectory)) {
+            javaFile = paths.filter(p -> p.getFileName().toString().endsWith(".java")).sorted().findFirst()
+                    .orElseThrow();
+        }
+        Files.delete(javaFile);
+        MyBatisGenerator third = generateAndWrite(outputDirectory, properties, options);
+
+        assertThat(third.getGeneratedJavaFiles()).extracting(GeneratedJavaFile::getFileName)
+                .contains(javaFile.getFileName().toString())
+                .hasSizeLessThan(first.getGeneratedJavaFiles().size());
+        assertThat(javaFile).exists();
+
+        MyBatisGenerator fourth = generateAndWrite(outputDirectory, properties, options);
+        assertThat(fourth.getGeneratedJavaFiles()).isEmpty();
+    }
+
+    @Test
+    void testUnchangedFilesAreNotWrittenAgain(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        // this context suppresses dates in comments, so the generated files are identical on every run
+        UnaryOperator<MyBatisGenerator.Builder> options = b -> b
+                .withContextIds(Set.of("miscellaneousTests"))
+                .withCompareBeforeWriteEnabled(true);
+        MyBatisGenerator first = generateAndWrite(tempDir, Map.of(), options);
+        MyBatisGenerator second = generateAndWrite(tempDir, Map.of(), options);
+
+        assertThat(first.getNumberOfWrittenFiles()).isPositive();
+        assertThat(first.getNumberOfUnchangedFiles()).isZero();
+        assertThat(second.getNumberOfWrittenFiles()).isZero();
+        assertThat(second.getNumberOfUnchangedFiles()).isEqualTo(first.getNumberOfWrittenFiles());
+    }
+
+    @Test
+    void testPipelinedWriteMatchesSequentialWrite(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path sequentialDirectory = tempDir.resolve("sequential");
+        Path pipelinedDirectory = tempDir.resolve("pipelined");
+        MyBatisGenerator sequential = generateAndWrite(sequentialDirectory, Map.of(),
+                b -> b.withContextIds(Set.of("miscellaneousTests")));
+        MyBatisGenerator pipelined = generateAndWrite(pipelinedDirectory, Map.of(),
+                b -> b.withContextIds(Set.of("miscellaneousTests")).withWriteParallelism(4));
+
+        assertThat(pipelined.getNumberOfWrittenFiles()).isEqualTo(sequential.getNumberOfWrittenFiles());
+        assertThat(readFiles(pipelinedDirectory)).isEqualTo(readFiles(sequentialDirectory));
+    }
+
+    @Test
+    void testStreamingMatchesNonStreaming(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path sequentialDirectory = tempDir.resolve("sequential");
+        Path streamingDirectory = tempDir.resolve("streaming");
+        MyBatisGenerator sequential = generateAndWrite(sequentialDirectory, Map.of(),
+                b -> b.withContextIds(Set.of("miscellaneousTests")));
+        MyBatisGenerator streaming = generateAndWrite(streamingDirectory, Map.of(),
+                b -> b.withContextIds(Set.of("miscellaneousTests")).withStreamingEnabled(true));
+
+        assertThat(readFiles(streamingDirectory)).isEqualTo(readFiles(sequentialDirectory));
+        assertThat(sequential.getGeneratedJavaFiles()).isNotEmpty();
+        assertThat(streaming.getGeneratedJavaFiles()).isEmpty();
+
+        Map<Path, String> sinkFiles = new HashMap<>();
+        new MyBatisGenerator.Builder()
+                .withConfiguration(parseConfiguration(Map.of()))
+                .withContextIds(Set.of("miscellaneousTests"))
+                .build()
+                .generateToSink((generatedFile, content, fileEncoding) -> sinkFiles.put(
+                        Path.of(generatedFile.getTargetPackage().replace('.', '/'), generatedFile.getFileName()),
+                        content));
+
+        assertThat(sinkFiles).isEqualTo(readFiles(sequentialDirectory));
+    }
+
+    @Test
+    void testAtomicWriteMatchesDirectWrite(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path directDirectory = tempDir.resolve("direct");
+        Path atomicDirectory = tempDir.resolve("atomic");
+        MyBatisGenerator direct = generateAndWrite(directDirectory, Map.of(),
+                b -> b.withContextIds(Set.of("miscellaneousTests")));
+        generateAndWrite(atomicDirectory, Map.of(),
+                b -> b.withContextIds(Set.of("miscellaneousTests")).withAtomicWriteEnabled(true));
+        MyBatisGenerator atomic = generateAndWrite(atomicDirectory, Map.of(),
+                b -> b.withContextIds(Set.of("miscellaneousTests")).withAtomicWriteEnabled(true)
+                        .withWriteParallelism(4));
+
+        // no temporary files may be left behind after overwriting the existing files
+        assertThat(atomic.getNumberOfWrittenFiles()).isEqualTo(direct.getNumberOfWrittenFiles());
+        assertThat(readFiles(atomicDirectory)).isEqualTo(readFiles(directDirectory));
+    }
+
+    @Test
+    void testMetricsDoNotChangeGeneratedFiles(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path plainDirectory = tempDir.resolve("plain");
+        Path meteredDirectory = tempDir.resolve("metered");
+        MyBatisGenerator plain = generateAndWrite(plainDirectory, Map.of(),
+                b -> b.withContextIds(Set.of("miscellaneousTests")));
+        MyBatisGenerator metered = generateAndWrite(meteredDirectory,
+                Map.of("introspectionMetricsFile", tempDir.resolve("introspection-${contextId}.json").toString()),
+                b -> b.withContextIds(Set.of("miscellaneousTests")).withMetricsEnabled(true));
+
+        assertThat(readFiles(meteredDirectory)).isEqualTo(readFiles(plainDirectory));
+        assertThat(plain.getGenerationMetrics()).isEmpty();
+
+        GenerationMetrics metrics = metered.getGenerationMetrics().orElseThrow();
+        assertThat(metrics.elapsedNanos()).isPositive();
+        assertThat(metrics.phases()).containsKeys(Phase.CONFIGURATION_VALIDATION, Phase.PLUGIN_INITIALIZATION,
+                Phase.INTROSPECTION, Phase.RUNTIME_CONSTRUCTION, Phase.GENERATION, Phase.FORMATTING, Phase.WRITE);
+        assertThat(metrics.phases().get(Phase.WRITE).count()).isEqualTo(metered.getNumberOfWrittenFiles());
+        assertThat(metrics.contexts()).singleElement().satisfies(context -> {
+            assertThat(context.contextId()).isEqualTo("miscellaneousTests");
+            assertThat(context.tables()).isNotEmpty();
+            assertThat(context.pluginHooks())
+                    .containsKey("org.mybatis.generator.plugins.EqualsHashCodePlugin")
+                    .allSatisfy((plugin, hooks) -> assertThat(hooks).isNotEmpty());
+        });
+
+        assertThat(Files.readString(tempDir.resolve("introspection-miscellaneousTests.json")))
+                .contains("\"contextId\": \"miscellaneousTests\"", "\"getColumns\": {");
+    }
+
+    private static MyBatisGenerator generateAndWrite(Path targetDirectory, Map<String, String> contextProperties,
+                                                     UnaryOperator<MyBatisGenerator.Builder> options)
+            throws Exception {
+        Configuration config = parseConfiguration(contextProperties);
+        DefaultShellCallback shellCallback = new DefaultShellCallback();
+
+        MyBatisGenerator myBatisGenerator = options.apply(new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withShellCallback((targetProject, targetPackage) ->
+                        shellCallback.getDirectory(targetDirectory.toString(), targetPackage))
+                .withOverwriteEnabled(true))
+                .build();
+        myBatisGenerator.generateAndWrite();
+        return myBatisGenerator;
+    }
+
+    private static GenerationOutput generate(int parallelism, Map<String, String> contextProperties)
+            throws Exception {
+        return generate(parallelism, contextProperties, Set.of());
+    }
+
+    private static GenerationOutput generate(int parallelism, Map<String, String> contextProperties,
+                                             Set<String> contextIds) throws Exception {
+        Configuration config = parseConfiguration(contextProperties);
+
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withContextIds(contextIds)
+                .withShellCallback(new DefaultShellCallback())
+                .withOverwriteEnabled(true)
+                .withParallelism(parallelism)
+                .build();
+        List<String> warnings = myBatisGenerator.generateOnly();
+
+        return new GenerationOutput(render(myBatisGenerator.getGeneratedJavaFiles()),
+                renderXml(myBatisGenerator.getGeneratedXmlFiles()), warnings);
+    }
+
+    private static Configuration parseConfiguration(Map<String, String> contextProperties) throws Exception {
+        ConfigurationParser cp = new ConfigurationParser();
+        InputStream is = GenerationModesTest.class.getResourceAsStream("/scripts/generatorConfig.xml");
+        assertThat(is).isNotNull();
+        Configuration config = cp.parseConfiguration(is);
+        config.getContexts().forEach(c -> contextProperties.forEach((k, v) ->
+                c.getProperties().setProperty(k, v.replace("${contextId}", c.getId()))));
+        return config;
+    }
+
+    private static Map<Path, String> readFiles(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            Map<Path, String> answer = new HashMap<>();
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                answer.put(directory.relativize(path), Files.readString(path));
+            }
+            return answer;
+        }
+    }
+
+    private static List<String> render(List<GeneratedJavaFile> files) {
+        DefaultJavaFormatter formatter = new DefaultJavaFormatter();
+        formatter.setIndenter(Indenter.defaultIndenter());
+        return files.stream()
+                .map(f -> f.getFileName() + "\n" + formatter.getFormattedContent(f.getCompilationUnit()))
+                .map(s -> DATE_PATTERN.matcher(s).replaceAll("DATE"))
+                .toList();
+    }
+
+    private static List<String> renderXml(List<GeneratedXmlFile> files) {
+        DefaultXmlFormatter formatter = new DefaultXmlFormatter();
+        formatter.setIndenter(Indenter.defaultIndenter());
+        return files.stream()
+                .map(f -> f.getFileName() + "\n" + formatter.getFormattedContent(f.getDocument()))
+                .map(s -> DATE_PATTERN.matcher(s).replaceAll("DATE"))
+                .toList();
+    }
+
+    private record GenerationOutput(List<String> javaFiles, List<String> xmlFiles, List<String> warnings) { }
+}
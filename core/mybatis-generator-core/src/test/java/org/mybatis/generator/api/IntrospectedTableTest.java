@@ -0,0 +1,144 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+
+class IntrospectedTableTest {
+
+    private static final String TABLE_NAME = "MY_TABLE";
+
+    @Test
+    void testColumnLookup() {
+        IntrospectedTable introspectedTable = generateMinimalTestObject();
+        IntrospectedColumn id = addColumn(introspectedTable, "ID", "INTEGER");
+        IntrospectedColumn firstName = addColumn(introspectedTable, "First Name", "VARCHAR");
+        IntrospectedColumn description = addColumn(introspectedTable, "DESCRIPTION", "CLOB");
+
+        assertThat(introspectedTable.getColumn("id")).containsSame(id);
+        assertThat(introspectedTable.getColumn("First Name")).containsSame(firstName);
+        assertThat(introspectedTable.getColumn("FIRST NAME")).isEmpty();
+        assertThat(introspectedTable.getColumn("Description")).containsSame(description);
+        assertThat(introspectedTable.getColumn("NAME")).isEmpty();
+
+        id.setActualColumnName("ITEM_ID");
+        assertThat(introspectedTable.getColumn("id")).isEmpty();
+        assertThat(introspectedTable.getColumn("item_id")).containsSame(id);
+
+        introspectedTable.getBaseColumns().remove(firstName);
+        assertThat(introspectedTable.getColumn("First Name")).isEmpty();
+    }
+
+    @Test
+    void testAddPrimaryKeyColumn() {
+        IntrospectedTable introspectedTable = generateMinimalTestObject();
+        IntrospectedColumn name = addColumn(introspectedTable, "NAME", "VARCHAR");
+        IntrospectedColumn id = addColumn(introspectedTable, "ID", "INTEGER");
+        IntrospectedColumn data = addColumn(introspectedTable, "DATA", "BLOB");
+
+        // primary key columns match the actual name exactly
+        introspectedTable.addPrimaryKeyColumn("id");
+        assertThat(introspectedTable.getPrimaryKeyColumns()).isEmpty();
+
+        introspectedTable.addPrimaryKeyColumn("ID");
+        introspectedTable.addPrimaryKeyColumn("DATA");
+        introspectedTable.addPrimaryKeyColumn("ID");
+
+        assertThat(introspectedTable.getPrimaryKeyColumns()).containsExactly(id, data);
+        assertThat(introspectedTable.getBaseColumns()).containsExactly(name);
+        assertThat(introspectedTable.getBLOBColumns()).isEmpty();
+        assertThat(introspectedTable.getColumn("id")).containsSame(id);
+    }
+
+    @Test
+    void testColumnViews() {
+        IntrospectedTable introspectedTable = generateMinimalTestObject();
+        IntrospectedColumn name = addColumn(introspectedTable, "NAME", "VARCHAR");
+        IntrospectedColumn id = addColumn(introspectedTable, "ID", "INTEGER");
+        IntrospectedColumn data = addColumn(introspectedTable, "DATA", "BLOB");
+
+        assertThat(introspectedTable.getAllColumns()).containsExactly(name, id, data);
+        assertThat(introspectedTable.getAllColumns()).isSameAs(introspectedTable.getAllColumns());
+
+        introspectedTable.addPrimaryKeyColumn("ID");
+
+        assertThat(introspectedTable.getAllColumns()).containsExactly(id, name, data);
+        assertThat(introspectedTable.getNonBLOBColumns()).containsExactly(id, name);
+        assertThat(introspectedTable.getNonPrimaryKeyColumns()).containsExactly(name, data);
+    }
+
+    @Test
+    void testJDBCDateAndTimeColumns() {
+        IntrospectedTable introspectedTable = generateMinimalTestObject();
+        addColumn(introspectedTable, "ID", "INTEGER");
+        assertThat(introspectedTable.hasJDBCDateColumns()).isFalse();
+        assertThat(introspectedTable.hasJDBCTimeColumns()).isFalse();
+
+        IntrospectedColumn birthDate = addColumn(introspectedTable, "BIRTH_DATE", "DATE");
+        assertThat(introspectedTable.hasJDBCDateColumns()).isFalse();
+
+        birthDate.setFullyQualifiedJavaType(FullyQualifiedJavaType.getDateInstance());
+        assertThat(introspectedTable.hasJDBCDateColumns()).isTrue();
+        assertThat(introspectedTable.hasJDBCTimeColumns()).isFalse();
+
+        birthDate.setJdbcTypeName("TIME");
+        assertThat(introspectedTable.hasJDBCDateColumns()).isFalse();
+        assertThat(introspectedTable.hasJDBCTimeColumns()).isTrue();
+    }
+
+    private IntrospectedColumn addColumn(IntrospectedTable introspectedTable, String columnName, String jdbcTypeName) {
+        IntrospectedColumn introspectedColumn = new IntrospectedColumn();
+        introspectedColumn.setActualColumnName(columnName);
+        introspectedColumn.setJdbcTypeName(jdbcTypeName);
+        introspectedColumn.setFullyQualifiedJavaType(FullyQualifiedJavaType.getObjectInstance());
+        introspectedTable.addColumn(introspectedColumn);
+        return introspectedColumn;
+    }
+
+    private IntrospectedTable generateMinimalTestObject() {
+        ModelGeneratorConfiguration modelGeneratorConfiguration = new ModelGeneratorConfiguration.Builder()
+                .withTargetPackage("foo.bar")
+                .withTargetProject("TestProject")
+                .build();
+
+        Context context = new Context.Builder()
+                .withId("test")
+                .withModelGeneratorConfiguration(modelGeneratorConfiguration)
+                .build();
+
+        FullyQualifiedTable fullyQualifiedTable = new FullyQualifiedTable.Builder()
+                .withContext(context)
+                .withIntrospectedTableName(TABLE_NAME)
+                .build();
+
+        TableConfiguration tableConfiguration = new TableConfiguration.Builder()
+                .withTableName(TABLE_NAME)
+                .build();
+
+        return new IntrospectedTable.Builder()
+                .withContext(context)
+                .withKnownRuntime(KnownRuntime.MYBATIS3)
+                .withFullyQualifiedTable(fullyQualifiedTable)
+                .withTableConfiguration(tableConfiguration)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.generator.api.dom.IndentationAssertions.assertIndentedByBraceDepth;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.generator.api.IndentType;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.dom.java.CompilationUnit;
+import org.mybatis.generator.api.dom.java.ComplexHierarchyGenerator;
+import org.mybatis.generator.api.dom.java.Field;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.InnerClass;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.RecordGenerator;
+import org.mybatis.generator.api.dom.java.SimpleInterfaceGenerator;
+import org.mybatis.generator.api.dom.java.SupersGenerator;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.api.dom.java.render.InnerClassRenderer;
+
+class DefaultJavaFormatterTest {
+
+    @ParameterizedTest
+    @MethodSource("compilationUnits")
+    void testFormatMatchesFormattedContent(CompilationUnit compilationUnit) throws IOException {
+        for (Indenter indenter : indenters()) {
+            DefaultJavaFormatter javaFormatter = new DefaultJavaFormatter();
+            javaFormatter.setIndenter(indenter);
+
+            StringBuilder sb = new StringBuilder();
+            javaFormatter.format(compilationUnit, sb);
+
+            assertThat(sb).hasToString(javaFormatter.getFormattedContent(compilationUnit));
+        }
+    }
+
+    @Test
+    void testFormatUsesOverriddenVisitMethod() throws IOException {
+        TopLevelClass topLevelClass = new TopLevelClass("com.foo.Bar");
+        topLevelClass.addMethod(createMethod("baz"));
+        DefaultJavaFormatter javaFormatter = new DefaultJavaFormatter() {
+            @Override
+            public String visit(TopLevelClass topLevelClass) {
+                return "// formatted by a subclass" + System.lineSeparator() + super.visit(topLevelClass);
+            }
+        };
+        javaFormatter.setIndenter(Indenter.defaultIndenter());
+
+        StringBuilder sb = new StringBuilder();
+        javaFormatter.format(topLevelClass, sb);
+
+        assertThat(sb).hasToString(javaFormatter.getFormattedContent(topLevelClass))
+                .startsWith("// formatted by a subclass");
+    }
+
+    @Test
+    void testFormatUsesOverriddenFormattedContent() throws IOException {
+        TopLevelClass topLevelClass = new TopLevelClass("com.foo.Bar");
+        topLevelClass.addMethod(createMethod("baz"));
+        DefaultJavaFormatter javaFormatter = new DefaultJavaFormatter() {
+            @Override
+            public String getFormattedContent(CompilationUnit compilationUnit) {
+                return super.getFormattedContent(compilationUnit).replace("baz", "qux");
+            }
+        };
+        javaFormatter.setIndenter(Indenter.defaultIndenter());
+
+        StringBuilder sb = new StringBuilder();
+        javaFormatter.format(topLevelClass, sb);
+
+        assertThat(sb).hasToString(javaFormatter.getFormattedContent(topLevelClass));
+        assertThat(sb.toString()).contains("public void qux() {")
+                .doesNotContain("baz");
+    }
+
+    @Test
+    void testLargeDeeplyNestedClass() throws IOException {
+        TopLevelClass topLevelClass = new TopLevelClass("com.foo.Outer");
+        topLevelClass.setVisibility(JavaVisibility.PUBLIC);
+        topLevelClass.addImportedType("java.util.List");
+        for (int i = 0; i < 500; i++) {
+            topLevelClass.addField(new Field("field" + i, FullyQualifiedJavaType.getStringInstance()));
+            topLevelClass.addMethod(createMethod("method" + i));
+        }
+
+        InnerClass outermost = new InnerClass("Level0");
+        InnerClass innerClass = outermost;
+        for (int i = 1; i < 100; i++) {
+            innerClass.addMethod(createMethod("method" + i));
+            InnerClass nested = new InnerClass("Level" + i);
+            innerClass.addInnerClass(nested);
+            innerClass = nested;
+        }
+        topLevelClass.addInnerClass(outermost);
+
+        for (Indenter indenter : indenters()) {
+            DefaultJavaFormatter javaFormatter = new DefaultJavaFormatter();
+            javaFormatter.setIndenter(indenter);
+            StringBuilder sb = new StringBuilder();
+            javaFormatter.format(topLevelClass, sb);
+
+            List<String> lines = sb.toString().lines().toList();
+            assertIndentedByBraceDepth(lines, indenter::javaIndent);
+            assertThat(lines).contains(indenter.javaIndent(100) + "class Level99 {");
+            // fields and methods are followed by a blank line, and each method has seven lines
+            assertThat(lines).hasSize(500 * 2 + 500 * 8 + 99 * 8 + 100 * 2 + 6);
+
+            // the line based renderer must produce the same inner class, one level out
+            List<String> innerClassLines = new InnerClassRenderer(indenter).render(outermost, topLevelClass);
+            int first = lines.indexOf(indenter.javaIndent(1) + "class Level0 {");
+            assertThat(lines.subList(first, first + innerClassLines.size()))
+                    .containsExactlyElementsOf(innerClassLines.stream()
+                            .map(l -> l.isEmpty() ? l : indenter.javaIndent(1) + l)
+                            .toList());
+        }
+    }
+
+    private static Method createMethod(String name) {
+        Method method = new Method(name);
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.addBodyLine("if (true) {");
+        method.addBodyLine("return;");
+        method.addBodyLine("} else {");
+        method.addBodyLine("");
+        method.addBodyLine("}");
+        return method;
+    }
+
+    private static List<Indenter> indenters() {
+        return List.of(
+                Indenter.defaultIndenter(),
+                new Indenter.Builder().withJavaIndentType(IndentType.TABS).build(),
+                new Indenter.Builder().withJavaIndentAmount(2).build());
+    }
+
+    private static Stream<CompilationUnit> compilationUnits() {
+        return Stream.of(
+                ComplexHierarchyGenerator.generateTestClasses(),
+                SimpleInterfaceGenerator.generateTestClasses(),
+                SupersGenerator.generateTestClasses(),
+                RecordGenerator.generateTestClasses())
+                .flatMap(List::stream);
+    }
+}
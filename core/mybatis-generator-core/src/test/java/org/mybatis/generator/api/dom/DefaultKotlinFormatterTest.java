@@ -0,0 +1,214 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.generator.api.dom.IndentationAssertions.assertIndentedByBraceDepth;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.dom.kotlin.KotlinArg;
+import org.mybatis.generator.api.dom.kotlin.KotlinFile;
+import org.mybatis.generator.api.dom.kotlin.KotlinFunction;
+import org.mybatis.generator.api.dom.kotlin.KotlinModifier;
+import org.mybatis.generator.api.dom.kotlin.KotlinProperty;
+import org.mybatis.generator.api.dom.kotlin.KotlinType;
+
+class DefaultKotlinFormatterTest {
+
+    @Test
+    void testFormat() throws IOException {
+        KotlinFile kotlinFile = new KotlinFile("Foo");
+        kotlinFile.addFileCommentLine("/*");
+        kotlinFile.addFileCommentLine(" * Generated");
+        kotlinFile.addFileCommentLine(" */");
+        kotlinFile.setPackage("com.foo");
+        kotlinFile.addImport("java.util.Date");
+        kotlinFile.addImport("java.math.BigDecimal");
+        kotlinFile.addNamedItem(createType());
+        kotlinFile.addNamedItem(KotlinProperty.newVal("answer").withInitializationString("42").build());
+        kotlinFile.addNamedItem(KotlinProperty.newVal("question").withInitializationString("\"?\"").build());
+        kotlinFile.addNamedItem(KotlinFunction.newOneLineFunction("double")
+                .withArgument(KotlinArg.newArg("i").withDataType("Int").build())
+                .withCodeLine("i * 2")
+                .build());
+
+        String expected = """
+                /*
+                 * Generated
+                 */
+                package com.foo
+
+                import java.math.BigDecimal
+                import java.util.Date
+
+                data class Foo(
+                    @Id
+                    val id: Int,
+                    var date: Date?
+                ) : Bar {
+                    fun isEmpty(): Boolean =
+                        id == 0
+
+                    companion object {
+                        val EMPTY = Foo(0, null)
+
+                        fun of(id: Int): Foo {
+
+                            return Foo(id, null)
+                        }
+                    }
+                }
+
+                val answer = 42
+
+                val question = "?"
+
+                fun double(i: Int) =
+                    i * 2""";
+
+        DefaultKotlinFormatter kotlinFormatter = new DefaultKotlinFormatter();
+        StringBuilder sb = new StringBuilder();
+        kotlinFormatter.format(kotlinFile, sb);
+
+        assertThat(sb.toString()).isEqualToNormalizingNewlines(expected);
+        assertThat(kotlinFormatter.getFormattedContent(kotlinFile)).isEqualTo(sb.toString());
+    }
+
+    @Test
+    void testFormatStreamsToFile(@TempDir Path tempDir) throws IOException {
+        KotlinFile kotlinFile = createKotlinFile();
+        DefaultKotlinFormatter kotlinFormatter = new DefaultKotlinFormatter();
+
+        Path file = tempDir.resolve("Foo.kt");
+        RecordingAppendable appendable;
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            appendable = new RecordingAppendable(writer);
+            kotlinFormatter.format(kotlinFile, appendable);
+        }
+
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        assertThat(content).isEqualTo(kotlinFormatter.getFormattedContent(kotlinFile));
+        // the file is written a line at a time, it is never built as a whole
+        assertThat(appendable.getAppendCount()).isGreaterThan(1000);
+        assertThat(appendable.getLargestAppend()).isLessThan(1000);
+
+        // Kotlin is always indented four spaces for each open brace, and code lines in the test file contain no braces
+        List<String> lines = content.lines().toList();
+        assertIndentedByBraceDepth(lines, Indenter::kotlinIndent);
+        assertThat(lines).contains(Indenter.kotlinIndent(29) + "class Level30 {");
+    }
+
+    @Test
+    void testFormatUsesOverriddenFormattedContent() throws IOException {
+        KotlinFile kotlinFile = createKotlinFile();
+        DefaultKotlinFormatter kotlinFormatter = new DefaultKotlinFormatter() {
+            @Override
+            public String getFormattedContent(KotlinFile kotlinFile) {
+                return super.getFormattedContent(kotlinFile) + "\n// formatted by a subclass";
+            }
+        };
+
+        RecordingAppendable appendable = new RecordingAppendable(new StringBuilder());
+        kotlinFormatter.format(kotlinFile, appendable);
+
+        assertThat(appendable.getAppendCount()).isOne();
+        StringBuilder sb = new StringBuilder();
+        kotlinFormatter.format(kotlinFile, sb);
+        assertThat(sb).hasToString(kotlinFormatter.getFormattedContent(kotlinFile))
+                .endsWith("// formatted by a subclass");
+    }
+
+    @Test
+    void testSubclassWithoutOverriddenFormattedContentStreams() throws IOException {
+        KotlinFile kotlinFile = createKotlinFile();
+        DefaultKotlinFormatter kotlinFormatter = new DefaultKotlinFormatter() { };
+
+        StringBuilder sb = new StringBuilder();
+        RecordingAppendable appendable = new RecordingAppendable(sb);
+        kotlinFormatter.format(kotlinFile, appendable);
+
+        assertThat(appendable.getAppendCount()).isGreaterThan(1000);
+        assertThat(sb).hasToString(kotlinFormatter.getFormattedContent(kotlinFile));
+    }
+
+    private static KotlinType createType() {
+        return KotlinType.newClass("Foo")
+                .withModifier(KotlinModifier.DATA)
+                .withConstructorProperty(KotlinProperty.newVal("id")
+                        .withDataType("Int")
+                        .withAnnotation("@Id")
+                        .build())
+                .withConstructorProperty(KotlinProperty.newVar("date").withDataType("Date?").build())
+                .withSuperType("Bar")
+                .withNamedItem(KotlinFunction.newOneLineFunction("isEmpty")
+                        .withExplicitReturnType("Boolean")
+                        .withCodeLine("id == 0")
+                        .build())
+                .withNamedItem(KotlinType.newCompanionObject()
+                        .withNamedItem(KotlinProperty.newVal("EMPTY").withInitializationString("Foo(0, null)").build())
+                        .withNamedItem(KotlinFunction.newMultiLineFunction("of")
+                                .withArgument(KotlinArg.newArg("id").withDataType("Int").build())
+                                .withExplicitReturnType("Foo")
+                                .withCodeLine("")
+                                .withCodeLine("return Foo(id, null)")
+                                .build())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Creates a file with many top level items, and classes nested thirty levels deep.
+     */
+    private static KotlinFile createKotlinFile() {
+        KotlinFile kotlinFile = new KotlinFile("Foo");
+        kotlinFile.setPackage("com.foo");
+        kotlinFile.addImport("java.util.Date");
+
+        for (int i = 0; i < 300; i++) {
+            kotlinFile.addNamedItem(KotlinProperty.newVal("answer" + i).withInitializationString("42").build());
+            kotlinFile.addNamedItem(createFunction("function" + i));
+        }
+
+        KotlinType nested = KotlinType.newClass("Level30").withNamedItem(createFunction("function30")).build();
+        for (int i = 29; i > 0; i--) {
+            nested = KotlinType.newClass("Level" + i)
+                    .withNamedItem(createFunction("function" + i))
+                    .withNamedItem(nested)
+                    .build();
+        }
+        kotlinFile.addNamedItem(nested);
+
+        return kotlinFile;
+    }
+
+    private static KotlinFunction createFunction(String name) {
+        return KotlinFunction.newMultiLineFunction(name)
+                .withExplicitReturnType("Int")
+                .withCodeLine("val doubled = answer0 * 2")
+                .withCodeLine("")
+                .withCodeLine("return doubled")
+                .build();
+    }
+}
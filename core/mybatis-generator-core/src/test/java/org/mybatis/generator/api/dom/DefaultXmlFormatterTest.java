@@ -0,0 +1,224 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.IndentType;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.api.dom.xml.render.ElementRenderer;
+
+class DefaultXmlFormatterTest {
+
+    @Test
+    void testFormat() throws IOException {
+        Document document = new Document("-//mybatis.org//DTD Mapper 3.0//EN",
+                "https://mybatis.org/dtd/mybatis-3-mapper.dtd", createMapper());
+
+        String expected = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <!DOCTYPE mapper PUBLIC "-//mybatis.org//DTD Mapper 3.0//EN" \
+                "https://mybatis.org/dtd/mybatis-3-mapper.dtd">
+                <mapper namespace="com.foo.FooMapper">
+                  <resultMap id="BaseResultMap" type="com.foo.Foo">
+                    <id column="id" jdbcType="INTEGER" property="id" />
+                  </resultMap>
+                  <select id="selectAll" resultMap="BaseResultMap">
+                    select id
+                   \s
+                    from foo
+                  </select>
+                  <sql id="empty" />
+                </mapper>""";
+
+        DefaultXmlFormatter xmlFormatter = new DefaultXmlFormatter();
+        xmlFormatter.setIndenter(Indenter.defaultIndenter());
+        StringBuilder sb = new StringBuilder();
+        xmlFormatter.format(document, sb);
+
+        assertThat(sb.toString()).isEqualToNormalizingNewlines(expected);
+        assertThat(xmlFormatter.getFormattedContent(document)).isEqualTo(sb.toString());
+    }
+
+    @Test
+    void testElementRendererLines() {
+        List<String> lines = new ElementRenderer(Indenter.defaultIndenter()).visit(createMapper()).toList();
+
+        assertThat(lines).containsExactly(
+                "<mapper namespace=\"com.foo.FooMapper\">",
+                "  <resultMap id=\"BaseResultMap\" type=\"com.foo.Foo\">",
+                "    <id column=\"id\" jdbcType=\"INTEGER\" property=\"id\" />",
+                "  </resultMap>",
+                "  <select id=\"selectAll\" resultMap=\"BaseResultMap\">",
+                "    select id",
+                "    ",
+                "    from foo",
+                "  </select>",
+                "  <sql id=\"empty\" />",
+                "</mapper>");
+    }
+
+    @Test
+    void testFormatStreamsToFile(@TempDir Path tempDir) throws IOException {
+        Document document = createDocument();
+        DefaultXmlFormatter xmlFormatter = new DefaultXmlFormatter();
+        xmlFormatter.setIndenter(Indenter.defaultIndenter());
+
+        Path file = tempDir.resolve("FooMapper.xml");
+        RecordingAppendable appendable;
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            appendable = new RecordingAppendable(writer);
+            xmlFormatter.format(document, appendable);
+        }
+
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        assertThat(content).isEqualTo(xmlFormatter.getFormattedContent(document));
+        // the document is written a line at a time, it is never built as a whole
+        assertThat(appendable.getAppendCount()).isGreaterThan(1000);
+        assertThat(appendable.getLargestAppend()).isLessThan(1000);
+    }
+
+    @Test
+    void testFormatMatchesFormattedContent() throws IOException {
+        Document document = createDocument();
+        List<Indenter> indenters = List.of(
+                Indenter.defaultIndenter(),
+                new Indenter.Builder().withXmlIndentType(IndentType.TABS).build(),
+                new Indenter.Builder().withXmlIndentAmount(4).build());
+
+        for (Indenter indenter : indenters) {
+            DefaultXmlFormatter xmlFormatter = new DefaultXmlFormatter();
+            xmlFormatter.setIndenter(indenter);
+
+            StringBuilder sb = new StringBuilder();
+            xmlFormatter.format(document, sb);
+
+            assertThat(sb).hasToString(xmlFormatter.getFormattedContent(document));
+            assertThat(sb.toString().lines()).contains(indenter.xmlIndent(50) + "<level50 id=\"leaf\" />");
+        }
+    }
+
+    @Test
+    void testFormatUsesOverriddenFormattedContent() throws IOException {
+        Document document = createDocument();
+        DefaultXmlFormatter xmlFormatter = new DefaultXmlFormatter() {
+            @Override
+            public String getFormattedContent(Document document) {
+                return super.getFormattedContent(document) + "\n<!-- formatted by a subclass -->";
+            }
+        };
+        xmlFormatter.setIndenter(Indenter.defaultIndenter());
+
+        RecordingAppendable appendable = new RecordingAppendable(new StringBuilder());
+        xmlFormatter.format(document, appendable);
+
+        assertThat(appendable.getAppendCount()).isOne();
+        StringBuilder sb = new StringBuilder();
+        xmlFormatter.format(document, sb);
+        assertThat(sb).hasToString(xmlFormatter.getFormattedContent(document))
+                .endsWith("<!-- formatted by a subclass -->");
+    }
+
+    @Test
+    void testSubclassWithoutOverriddenFormattedContentStreams() throws IOException {
+        Document document = createDocument();
+        DefaultXmlFormatter xmlFormatter = new DefaultXmlFormatter() {
+            @Override
+            public void setIndenter(Indenter indenter) {
+                super.setIndenter(new Indenter.Builder().withXmlIndentAmount(4).build());
+            }
+        };
+        xmlFormatter.setIndenter(Indenter.defaultIndenter());
+
+        StringBuilder sb = new StringBuilder();
+        RecordingAppendable appendable = new RecordingAppendable(sb);
+        xmlFormatter.format(document, appendable);
+
+        assertThat(appendable.getAppendCount()).isGreaterThan(1000);
+        assertThat(sb).hasToString(xmlFormatter.getFormattedContent(document));
+    }
+
+    private static XmlElement createMapper() {
+        XmlElement mapper = new XmlElement("mapper");
+        mapper.addAttribute(new Attribute("namespace", "com.foo.FooMapper"));
+
+        XmlElement resultMap = new XmlElement("resultMap");
+        resultMap.addAttribute(new Attribute("type", "com.foo.Foo"));
+        resultMap.addAttribute(new Attribute("id", "BaseResultMap"));
+        XmlElement id = new XmlElement("id");
+        id.addAttribute(new Attribute("property", "id"));
+        id.addAttribute(new Attribute("jdbcType", "INTEGER"));
+        id.addAttribute(new Attribute("column", "id"));
+        resultMap.addElement(id);
+        mapper.addElement(resultMap);
+
+        XmlElement select = new XmlElement("select");
+        select.addAttribute(new Attribute("id", "selectAll"));
+        select.addAttribute(new Attribute("resultMap", "BaseResultMap"));
+        select.addElement(new TextElement("select id"));
+        select.addElement(new TextElement(""));
+        select.addElement(new TextElement("from foo"));
+        mapper.addElement(select);
+
+        XmlElement sql = new XmlElement("sql");
+        sql.addAttribute(new Attribute("id", "empty"));
+        mapper.addElement(sql);
+
+        return mapper;
+    }
+
+    /**
+     * Creates a mapper with many statements, and elements nested fifty levels deep.
+     */
+    private static Document createDocument() {
+        XmlElement mapper = new XmlElement("mapper");
+        mapper.addAttribute(new Attribute("namespace", "com.foo.FooMapper"));
+
+        for (int i = 0; i < 500; i++) {
+            XmlElement select = new XmlElement("select");
+            select.addAttribute(new Attribute("resultMap", "BaseResultMap"));
+            select.addAttribute(new Attribute("id", "select" + i));
+            select.addElement(new TextElement("select id"));
+            select.addElement(new TextElement(""));
+            select.addElement(new TextElement("from foo" + i));
+            mapper.addElement(select);
+        }
+
+        XmlElement parent = mapper;
+        for (int i = 1; i <= 50; i++) {
+            XmlElement nested = new XmlElement("level" + i);
+            nested.addAttribute(new Attribute("id", i == 50 ? "leaf" : "level" + i));
+            parent.addElement(nested);
+            parent = nested;
+        }
+
+        return new Document("-//mybatis.org//DTD Mapper 3.0//EN", "https://mybatis.org/dtd/mybatis-3-mapper.dtd",
+                mapper);
+    }
+}
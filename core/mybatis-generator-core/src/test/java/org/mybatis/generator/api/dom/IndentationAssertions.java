@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Assertions about the indentation of formatted source code.
+ */
+final class IndentationAssertions {
+    private IndentationAssertions() {
+    }
+
+    /**
+     * Every non-blank line must be indented by the number of braces open before it, calculated independently of the
+     * renderers. Lines may only open a brace at the end, or close one at the start.
+     *
+     * @param lines the formatted lines
+     * @param indent returns the indentation for a brace depth
+     */
+    static void assertIndentedByBraceDepth(List<String> lines, IntFunction<String> indent) {
+        int depth = 0;
+        for (String line : lines) {
+            String content = line.strip();
+            if (content.startsWith("}")) {
+                depth--;
+            }
+            if (!content.isEmpty()) {
+                assertThat(line).isEqualTo(indent.apply(depth) + content);
+            }
+            if (content.endsWith("{")) {
+                depth++;
+            }
+        }
+        assertThat(depth).isZero();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom;
+
+import java.io.IOException;
+
+/**
+ * Records how content is appended, so tests can tell whether a formatter streamed its output or appended it as a
+ * single string.
+ */
+class RecordingAppendable implements Appendable {
+    private final Appendable delegate;
+    private int appendCount;
+    private int largestAppend;
+
+    RecordingAppendable(Appendable delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        record(csq.length());
+        delegate.append(csq);
+        return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        record(end - start);
+        delegate.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        record(1);
+        delegate.append(c);
+        return this;
+    }
+
+    private void record(int length) {
+        appendCount++;
+        largestAppend = Math.max(largestAppend, length);
+    }
+
+    int getAppendCount() {
+        return appendCount;
+    }
+
+    int getLargestAppend() {
+        return largestAppend;
+    }
+}
@@ -16,6 +16,7 @@
 package org.mybatis.generator.api.dom.java;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -367,4 +368,74 @@ class FullyQualifiedJavaTypeTest {
 
         assertThat(ptw.hashCode()).hasSameHashCodeAs("java.lang.Boolean");
     }
+
+    @Test
+    void testInternedType() {
+        FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of("java.util.Map<java.lang.String, com.foo.Bar>");
+
+        assertThat(fqjt).isSameAs(FullyQualifiedJavaType.of("java.util.Map<java.lang.String, com.foo.Bar>"));
+        assertThat(fqjt.isImmutable()).isTrue();
+        assertThat(fqjt.getShortName()).isEqualTo("Map<String, Bar>");
+        assertThat(fqjt.getImportList()).containsExactly("java.util.Map", "com.foo.Bar");
+        assertThat(fqjt.getTypeArguments()).allMatch(FullyQualifiedJavaType::isImmutable);
+
+        FullyQualifiedJavaType mutable = new FullyQualifiedJavaType("java.util.Map<java.lang.String, com.foo.Bar>");
+        assertThat(mutable.isImmutable()).isFalse();
+        assertThat(fqjt).isEqualTo(mutable).hasSameHashCodeAs(mutable);
+    }
+
+    @Test
+    void testInternedTypeCannotBeParameterized() {
+        FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of("java.util.List");
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> fqjt.addTypeArgument(FullyQualifiedJavaType.of("com.foo.Bar")));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> fqjt.getTypeArguments().add(FullyQualifiedJavaType.of("com.foo.Bar")));
+        assertThat(fqjt.getFullyQualifiedName()).isEqualTo("java.util.List");
+    }
+
+    @Test
+    void testMutableTypeNamesFollowTypeArguments() {
+        FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType("java.util.List");
+        assertThat(fqjt.getFullyQualifiedName()).isEqualTo("java.util.List");
+        int hashCode = fqjt.hashCode();
+
+        FullyQualifiedJavaType argument = new FullyQualifiedJavaType("java.util.Set");
+        fqjt.addTypeArgument(argument);
+        argument.addTypeArgument(FullyQualifiedJavaType.of("com.foo.Bar"));
+
+        assertThat(fqjt.getFullyQualifiedName()).isEqualTo("java.util.List<java.util.Set<com.foo.Bar>>");
+        assertThat(fqjt.getShortName()).isEqualTo("List<Set<Bar>>");
+        assertThat(fqjt.getImportList()).containsExactly("java.util.List", "java.util.Set", "com.foo.Bar");
+        assertThat(fqjt.hashCode()).isNotEqualTo(hashCode);
+    }
+
+    @Test
+    void testSharedInstancesAreImmutable() {
+        assertThat(FullyQualifiedJavaType.getStringInstance()).isSameAs(FullyQualifiedJavaType.getStringInstance());
+        assertThat(FullyQualifiedJavaType.getStringInstance().isImmutable()).isTrue();
+        assertThat(FullyQualifiedJavaType.getObjectInstance().isImmutable()).isTrue();
+        assertThat(PrimitiveTypeWrapper.getIntegerInstance().isImmutable()).isTrue();
+        assertThat(FullyQualifiedJavaType.getIntInstance().getPrimitiveTypeWrapper())
+                .isSameAs(PrimitiveTypeWrapper.getIntegerInstance());
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> FullyQualifiedJavaType.getObjectInstance()
+                        .addTypeArgument(FullyQualifiedJavaType.getStringInstance()));
+        assertThat(FullyQualifiedJavaType.getObjectInstance().getFullyQualifiedName()).isEqualTo("java.lang.Object");
+    }
+
+    @Test
+    void testWithTypeArguments() {
+        FullyQualifiedJavaType map = FullyQualifiedJavaType.of("java.util.Map");
+        FullyQualifiedJavaType parameterized = map.withTypeArguments(FullyQualifiedJavaType.getStringInstance(),
+                FullyQualifiedJavaType.of("com.foo.Bar"));
+
+        assertThat(parameterized.isImmutable()).isFalse();
+        assertThat(parameterized.getFullyQualifiedName()).isEqualTo("java.util.Map<java.lang.String, com.foo.Bar>");
+        assertThat(parameterized.getImportList()).containsExactly("java.util.Map", "com.foo.Bar");
+        assertThat(map.getFullyQualifiedName()).isEqualTo("java.util.Map");
+        assertThat(map.getTypeArguments()).isEmpty();
+    }
 }
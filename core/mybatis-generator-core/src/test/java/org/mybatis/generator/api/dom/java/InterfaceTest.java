@@ -62,6 +62,39 @@ class InterfaceTest {
         assertTrue(interfaze.getImportedTypes().contains(hashMap));
     }
 
+    @Test
+    void testGetImportLines() {
+        Interface interfaze = new Interface("com.foo.UserInterface");
+        interfaze.addImportedType(FullyQualifiedJavaType.of("com.bar.Record2"));
+        interfaze.addImportedType(FullyQualifiedJavaType.of("com.bar.Record"));
+        interfaze.addImportedType(FullyQualifiedJavaType.of("java.util.List<com.bar.Record>"));
+
+        // type arguments added after the type is imported must be included
+        FullyQualifiedJavaType map = new FullyQualifiedJavaType("java.util.Map");
+        interfaze.addImportedType(map);
+        map.addTypeArgument(FullyQualifiedJavaType.getStringInstance());
+        map.addTypeArgument(FullyQualifiedJavaType.of("java.math.BigDecimal"));
+
+        // comment generators add imports to the imported types directly
+        interfaze.getImportedTypes().add(FullyQualifiedJavaType.of("jakarta.annotation.Generated"));
+
+        assertThat(interfaze.getImportLines()).containsExactly(
+                "import com.bar.Record2;",
+                "import com.bar.Record;",
+                "import jakarta.annotation.Generated;",
+                "import java.math.BigDecimal;",
+                "import java.util.List;",
+                "import java.util.Map;");
+
+        interfaze.getImportedTypes().remove(map);
+        interfaze.getImportedTypes().removeIf(t -> t.getShortName().equals("Record2"));
+
+        assertThat(interfaze.getImportLines()).containsExactly(
+                "import com.bar.Record;",
+                "import jakarta.annotation.Generated;",
+                "import java.util.List;");
+    }
+
     @Test
     void testAddFileCommentLine() {
         Interface interfaze = new Interface("com.foo.UserInterface");
@@ -0,0 +1,69 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.exception.InternalException;
+
+class ObjectFactoryTest {
+    @Test
+    void testIntrospectedColumnFactoryCreatesNewColumns() {
+        Context context = new Context.Builder().withId("test-context")
+                .withModelGeneratorConfiguration(new ModelGeneratorConfiguration.Builder()
+                        .withTargetPackage("foo")
+                        .withTargetProject("test-project")
+                        .build())
+                .build();
+
+        Supplier<IntrospectedColumn> factory = ObjectFactory.introspectedColumnFactory(context);
+        IntrospectedColumn first = factory.get();
+        IntrospectedColumn second = factory.get();
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getContext()).isSameAs(context);
+        assertThat(second.getContext()).isSameAs(context);
+    }
+
+    @Test
+    void testInternalObjectSupplier() {
+        Supplier<DefaultCommentGenerator> supplier =
+                ObjectFactory.internalObjectSupplier(DefaultCommentGenerator.class.getName());
+
+        assertThat(supplier.get()).isInstanceOf(DefaultCommentGenerator.class).isNotSameAs(supplier.get());
+    }
+
+    @Test
+    void testUnknownClass() {
+        assertThatExceptionOfType(InternalException.class)
+                .isThrownBy(() -> ObjectFactory.createInternalObject("org.mybatis.generator.DoesNotExist"))
+                .withMessageContaining("org.mybatis.generator.DoesNotExist");
+    }
+
+    @Test
+    void testClassWithoutPublicConstructor() {
+        assertThatExceptionOfType(InternalException.class)
+                .isThrownBy(() -> ObjectFactory.createInternalObject("java.lang.Runtime"))
+                .withMessageContaining("java.lang.Runtime");
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.SqlScriptRunner;
+
+class CatalogViewMetadataSourceTest {
+    private static final String URL = "jdbc:hsqldb:mem:catalogviews";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void createDatabase() throws Exception {
+        SqlScriptRunner scriptRunner =
+                new SqlScriptRunner(CatalogViewMetadataSourceTest.class.getResourceAsStream("/scripts/CreateDB.sql"),
+                        "org.hsqldb.jdbcDriver", URL, "sa", "");
+        scriptRunner.executeScript();
+        connection = DriverManager.getConnection(URL, "sa", "");
+    }
+
+    @AfterAll
+    static void closeConnection() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void testHsqldbIsDetected() throws Exception {
+        assertThat(CatalogViewMetadataSource.create(connection.getMetaData()))
+                .isInstanceOf(InformationSchemaMetadataSource.class);
+    }
+
+    @Test
+    void testSameTablesAsJdbcMetadata() throws Exception {
+        DatabaseMetaData databaseMetaData = connection.getMetaData();
+        DatabaseMetadataSource jdbcSource = new PrefetchingMetadataSource(databaseMetaData);
+        DatabaseMetadataSource catalogViewSource = CatalogViewMetadataSource.create(databaseMetaData);
+
+        for (String schema : List.of("PUBLIC", "MBGTEST")) {
+            List<TableMetadata> expected = jdbcSource.getTables(null, schema, "%", null);
+            List<TableMetadata> actual = catalogViewSource.getTables(null, schema, "%", null);
+
+            assertThat(actual).isNotEmpty();
+            assertThat(actual).extracting(TableMetadata::tableName, TableMetadata::tableType)
+                    .containsExactlyInAnyOrderElementsOf(expected.stream()
+                            .map(t -> tuple(t.tableName(), t.tableType()))
+                            .toList());
+        }
+    }
+
+    @Test
+    void testSameColumnsAsJdbcMetadata() throws Exception {
+        DatabaseMetaData databaseMetaData = connection.getMetaData();
+        DatabaseMetadataSource jdbcSource = new PrefetchingMetadataSource(databaseMetaData);
+        DatabaseMetadataSource catalogViewSource = CatalogViewMetadataSource.create(databaseMetaData);
+
+        for (TableMetadata table : jdbcSource.getTables(null, "PUBLIC", "%", List.of("TABLE"))) {
+            String tableName = table.tableName().getTableName();
+            List<ColumnMetadata> expected = jdbcSource.getColumns(null, "PUBLIC", tableName);
+            List<ColumnMetadata> actual = catalogViewSource.getColumns(null, "PUBLIC", tableName);
+
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                ColumnMetadata expectedColumn = expected.get(i);
+                ColumnMetadata actualColumn = actual.get(i);
+                assertThat(actualColumn.tableName()).isEqualTo(expectedColumn.tableName());
+                assertThat(actualColumn.columnName()).isEqualTo(expectedColumn.columnName());
+                assertThat(actualColumn.jdbcType()).as(tableName + "." + expectedColumn.columnName())
+                        .isEqualTo(expectedColumn.jdbcType());
+                assertThat(actualColumn.nullable()).isEqualTo(expectedColumn.nullable());
+                assertThat(actualColumn.remarks()).isEqualTo(expectedColumn.remarks());
+                assertThat(actualColumn.autoIncrement()).isEqualTo(expectedColumn.autoIncrement());
+            }
+
+            assertThat(catalogViewSource.getPrimaryKeyColumnNames(null, "PUBLIC", tableName))
+                    .isEqualTo(jdbcSource.getPrimaryKeyColumnNames(null, "PUBLIC", tableName));
+        }
+    }
+
+    @Test
+    void testRemarksAndGeneratedColumns() throws Exception {
+        DatabaseMetadataSource source = CatalogViewMetadataSource.create(connection.getMetaData());
+
+        assertThat(source.getTable(null, "PUBLIC", "ENUM_TEST")).hasValueSatisfying(
+                t -> assertThat(t.remarks()).isEqualTo("This is a comment for the EnumTest table"));
+        assertThat(source.getColumns(null, "PUBLIC", "ENUM_TEST"))
+                .filteredOn(c -> c.columnName().equals("NAME"))
+                .singleElement()
+                .extracting(ColumnMetadata::remarks)
+                .isEqualTo("This is a comment for the EnumTest.name column");
+        assertThat(source.getColumns(null, "PUBLIC", "GENERATEDALWAYSTEST"))
+                .filteredOn(ColumnMetadata::generatedColumn)
+                .extracting(ColumnMetadata::columnName)
+                .containsExactly("ID_PLUS1", "ID_PLUS2");
+    }
+
+    @Test
+    void testStandardTypeNames() {
+        assertThat(InformationSchemaMetadataSource.calculateJdbcType("CHARACTER VARYING")).isEqualTo(Types.VARCHAR);
+        assertThat(InformationSchemaMetadataSource.calculateJdbcType("integer")).isEqualTo(Types.INTEGER);
+        assertThat(InformationSchemaMetadataSource.calculateJdbcType("TIMESTAMP WITH TIME ZONE"))
+                .isEqualTo(Types.TIMESTAMP_WITH_TIMEZONE);
+        assertThat(InformationSchemaMetadataSource.calculateJdbcType("INTEGER ARRAY")).isEqualTo(Types.ARRAY);
+        assertThat(InformationSchemaMetadataSource.calculateJdbcType("INTERVAL DAY")).isEqualTo(Types.OTHER);
+        assertThat(InformationSchemaMetadataSource.calculateJdbcType("GEOMETRY")).isEqualTo(Types.OTHER);
+    }
+
+    @Test
+    void testOracleMissingIdentityColumn() {
+        assertThat(OracleMetadataSource.isInvalidIdentifier(new SQLSyntaxErrorException(
+                "ORA-00904: \"C\".\"IDENTITY_COLUMN\": invalid identifier", "42000", 904))).isTrue();
+        assertThat(OracleMetadataSource.isInvalidIdentifier(new SQLRecoverableException(
+                "IO Error: Connection reset", "08006", 17002))).isFalse();
+        assertThat(OracleMetadataSource.isInvalidIdentifier(new SQLSyntaxErrorException(
+                "ORA-00942: table or view does not exist", "42000", 942))).isFalse();
+    }
+
+    @Test
+    void testOracleColumnErrorsAreThrown() throws Exception {
+        // the Oracle data dictionary does not exist in HSQLDB, so the first query fails with a different error
+        OracleMetadataSource source = new OracleMetadataSource(connection.getMetaData());
+
+        assertThatExceptionOfType(SQLException.class).isThrownBy(() -> source.fetchColumns(null, "PUBLIC"));
+    }
+
+    @Test
+    void testOracleTypeNames() {
+        assertThat(OracleMetadataSource.calculateJdbcType("VARCHAR2")).isEqualTo(Types.VARCHAR);
+        assertThat(OracleMetadataSource.calculateJdbcType("NUMBER")).isEqualTo(Types.DECIMAL);
+        assertThat(OracleMetadataSource.calculateJdbcType("DATE")).isEqualTo(Types.TIMESTAMP);
+        assertThat(OracleMetadataSource.calculateJdbcType("TIMESTAMP(6)")).isEqualTo(Types.TIMESTAMP);
+        assertThat(OracleMetadataSource.calculateJdbcType("TIMESTAMP(6) WITH TIME ZONE")).isEqualTo(-101);
+        assertThat(OracleMetadataSource.calculateJdbcType("TIMESTAMP(6) WITH LOCAL TIME ZONE")).isEqualTo(-102);
+        assertThat(OracleMetadataSource.calculateJdbcType("BINARY_DOUBLE")).isEqualTo(101);
+        assertThat(OracleMetadataSource.calculateJdbcType("XMLTYPE")).isEqualTo(Types.OTHER);
+    }
+}
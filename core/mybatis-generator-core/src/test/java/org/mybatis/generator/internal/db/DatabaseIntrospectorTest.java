@@ -0,0 +1,223 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.config.Property;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.types.JavaTypeResolverDefaultImpl;
+
+class DatabaseIntrospectorTest {
+
+    @Test
+    void testWildcardWithoutDiscovery() throws Exception {
+        TestMetadataSource metadataSource = new TestMetadataSource();
+        TableConfiguration tc = new TableConfiguration.Builder()
+                .withTableName("ORDER%")
+                .build();
+
+        List<IntrospectedTable> tables = introspect(metadataSource, tc);
+
+        assertThat(tables).extracting(t -> t.getFullyQualifiedTable().getIntrospectedTableName())
+                .containsExactlyInAnyOrder("ORDERS", "ORDER_LINES", "ORDERS_ARCHIVE", "ORDER_SUMMARY");
+        assertThat(metadataSource.columnsCalls).containsExactly("ORDER%");
+        assertThat(metadataSource.tablesCalls).isEmpty();
+    }
+
+    @Test
+    void testDiscoveryWithTableTypesAndExclusions() throws Exception {
+        TestMetadataSource metadataSource = new TestMetadataSource();
+        TableConfiguration tc = new TableConfiguration.Builder()
+                .withTableName("ORDER%")
+                .withProperty(new Property(PropertyRegistry.TABLE_TABLE_TYPES, "TABLE"))
+                .withProperty(new Property(PropertyRegistry.TABLE_EXCLUDE_TABLE_NAMES, ".*_ARCHIVE"))
+                .build();
+
+        List<IntrospectedTable> tables = introspect(metadataSource, tc);
+
+        assertThat(tables).extracting(t -> t.getFullyQualifiedTable().getIntrospectedTableName())
+                .containsExactlyInAnyOrder("ORDERS", "ORDER_LINES");
+        assertThat(metadataSource.tablesCalls).containsExactly("ORDER%");
+        assertThat(metadataSource.columnsCalls).containsExactly("ORDERS", "ORDER\\_LINES");
+    }
+
+    @Test
+    void testDiscoveryWithInclusions() throws Exception {
+        TestMetadataSource metadataSource = new TestMetadataSource();
+        TableConfiguration tc = new TableConfiguration.Builder()
+                .withTableName("%")
+                .withProperty(new Property(PropertyRegistry.TABLE_INCLUDE_TABLE_NAMES, "(?i)orders.*"))
+                .withProperty(new Property(PropertyRegistry.TABLE_EXCLUDE_TABLE_NAMES, ".*_ARCHIVE"))
+                .build();
+
+        List<IntrospectedTable> tables = introspect(metadataSource, tc);
+
+        assertThat(tables).extracting(t -> t.getFullyQualifiedTable().getIntrospectedTableName())
+                .containsExactly("ORDERS");
+        assertThat(metadataSource.columnsCalls).containsExactly("ORDERS");
+    }
+
+    @Test
+    void testMeteredMetadataSource() throws Exception {
+        MeteredMetadataSource metadataSource = new MeteredMetadataSource(new TestMetadataSource());
+        TableConfiguration tc = new TableConfiguration.Builder()
+                .withTableName("ORDER%")
+                .withProperty(new Property(PropertyRegistry.TABLE_TABLE_TYPES, "TABLE"))
+                .withProperty(new Property(PropertyRegistry.TABLE_EXCLUDE_TABLE_NAMES, ".*_ARCHIVE"))
+                .build();
+
+        DatabaseIntrospector introspector = createIntrospector(metadataSource);
+        List<IntrospectedTable> tables = introspector.introspectTables(tc, KnownRuntime.MYBATIS3);
+
+        assertThat(tables).hasSize(2);
+        // one discovery call for the three matching tables, then one table call for each introspected table
+        assertThat(metadataSource.getTablesCalls().calls()).isEqualTo(3);
+        assertThat(metadataSource.getTablesCalls().rows()).isEqualTo(3);
+        assertThat(metadataSource.getColumnsCalls().calls()).isEqualTo(2);
+        assertThat(metadataSource.getColumnsCalls().rows()).isEqualTo(2);
+        assertThat(metadataSource.getPrimaryKeysCalls().calls()).isEqualTo(2);
+        assertThat(metadataSource.getPrimaryKeysCalls().rows()).isEqualTo(2);
+        assertThat(introspector.getTypeResolutionFallbacks()).isZero();
+    }
+
+    @Test
+    void testTableTypesProperty() {
+        TableConfiguration tc = new TableConfiguration.Builder()
+                .withTableName("%")
+                .withProperty(new Property(PropertyRegistry.TABLE_TABLE_TYPES, " TABLE, ,VIEW "))
+                .build();
+
+        assertThat(tc.isTableDiscoveryEnabled()).isTrue();
+        assertThat(tc.getTableTypes()).containsExactly("TABLE", "VIEW");
+    }
+
+    @Test
+    void testInvalidPatternIsReported() {
+        TableConfiguration tc = new TableConfiguration.Builder()
+                .withTableName("%")
+                .withProperty(new Property(PropertyRegistry.TABLE_INCLUDE_TABLE_NAMES, "ORDERS("))
+                .build();
+
+        List<String> errors = new ArrayList<>();
+        tc.validate(errors, 0, createContext(), KnownRuntime.MYBATIS3);
+
+        assertThat(errors).singleElement().asString().contains(PropertyRegistry.TABLE_INCLUDE_TABLE_NAMES);
+    }
+
+    private List<IntrospectedTable> introspect(TestMetadataSource metadataSource, TableConfiguration tc)
+            throws Exception {
+        return createIntrospector(metadataSource).introspectTables(tc, KnownRuntime.MYBATIS3);
+    }
+
+    private DatabaseIntrospector createIntrospector(DatabaseMetadataSource metadataSource) {
+        Context context = createContext();
+        JavaTypeResolverDefaultImpl javaTypeResolver = new JavaTypeResolverDefaultImpl();
+        javaTypeResolver.setContext(context);
+        javaTypeResolver.setWarnings(new ArrayList<>());
+
+        return new DatabaseIntrospector(context, javaTypeResolver, metadataSource);
+    }
+
+    private Context createContext() {
+        ModelGeneratorConfiguration modelGeneratorConfiguration = new ModelGeneratorConfiguration.Builder()
+                .withTargetPackage("foo.bar")
+                .withTargetProject("TestProject")
+                .build();
+
+        return new Context.Builder()
+                .withId("test")
+                .withModelGeneratorConfiguration(modelGeneratorConfiguration)
+                .build();
+    }
+
+    private static class TestMetadataSource implements DatabaseMetadataSource {
+        private final List<TableMetadata> tables = List.of(
+                table("ORDERS", "TABLE"),
+                table("ORDER_LINES", "TABLE"),
+                table("ORDERS_ARCHIVE", "TABLE"),
+                table("ORDER_SUMMARY", "VIEW"),
+                table("CUSTOMERS", "TABLE"));
+        private final List<String> columnsCalls = new ArrayList<>();
+        private final List<String> tablesCalls = new ArrayList<>();
+
+        @Override
+        public boolean storesLowerCaseIdentifiers() {
+            return false;
+        }
+
+        @Override
+        public boolean storesUpperCaseIdentifiers() {
+            return true;
+        }
+
+        @Override
+        public String getSearchStringEscape() {
+            return "\\";
+        }
+
+        @Override
+        public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                               String tableNamePattern) {
+            columnsCalls.add(tableNamePattern);
+            MetadataPattern pattern = MetadataPattern.compile(tableNamePattern, getSearchStringEscape());
+            return tables.stream()
+                    .filter(t -> pattern.matches(t.tableName().getTableName()))
+                    .map(t -> new ColumnMetadata(t.tableName(), "ID", Types.INTEGER, "INTEGER", 10, false, 0,
+                            null, null, null, null))
+                    .toList();
+        }
+
+        @Override
+        public List<String> getPrimaryKeyColumnNames(@Nullable String catalog, @Nullable String schema,
+                                                     String tableName) {
+            return List.of("ID");
+        }
+
+        @Override
+        public Optional<TableMetadata> getTable(@Nullable String catalog, @Nullable String schemaPattern,
+                                                String tableNamePattern) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<TableMetadata> getTables(@Nullable String catalog, @Nullable String schemaPattern,
+                                             String tableNamePattern, @Nullable List<String> tableTypes) {
+            tablesCalls.add(tableNamePattern);
+            MetadataPattern pattern = MetadataPattern.compile(tableNamePattern, getSearchStringEscape());
+            return tables.stream()
+                    .filter(t -> pattern.matches(t.tableName().getTableName()))
+                    .filter(t -> tableTypes == null || tableTypes.contains(t.tableType()))
+                    .toList();
+        }
+
+        private static TableMetadata table(String tableName, String tableType) {
+            return new TableMetadata(new ActualTableName(null, "PUBLIC", tableName), "", tableType);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IntrospectionSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRoundTrip() throws Exception {
+        IntrospectionSnapshot snapshot = createSnapshot();
+        File file = tempDir.resolve("snapshot.xml").toFile();
+        snapshot.write(file);
+
+        IntrospectionSnapshot readSnapshot = IntrospectionSnapshot.read(file, "ctx");
+
+        assertThat(readSnapshot.getFingerprint()).isEqualTo(snapshot.getFingerprint());
+        assertThat(readSnapshot.getStoresUpperCaseIdentifiers()).hasValue(true);
+        assertThat(readSnapshot.getStoresLowerCaseIdentifiers()).hasValue(false);
+        assertThat(readSnapshot.getSearchStringEscape()).hasValue("\\");
+
+        TableSnapshot tableSnapshot = readSnapshot.getTables().get(0);
+        assertThat(tableSnapshot.getKey()).isEqualTo("PUBLIC.ORDERS");
+
+        List<ColumnMetadata> columns = tableSnapshot.findColumns(null, "PUBLIC", "ORDERS").orElseThrow();
+        assertThat(columns).hasSize(2);
+        assertThat(columns.get(0).remarks()).isEqualTo("Line 1\nLine 2 \"quoted\" & <escaped>");
+        assertThat(columns.get(0).autoIncrement()).isTrue();
+        assertThat(columns.get(1).remarks()).isNull();
+        assertThat(columns.get(1).autoIncrement()).isNull();
+
+        assertThat(tableSnapshot.findPrimaryKeyColumnNames(null, "PUBLIC", "ORDERS")).hasValue(List.of("ID"));
+        assertThat(tableSnapshot.findTable(null, "PUBLIC", "ORDERS")).hasValueSatisfying(call -> {
+            assertThat(call.table()).isNotNull();
+            assertThat(call.table().tableType()).isEqualTo("TABLE");
+        });
+        assertThat(tableSnapshot.findTable(null, "PUBLIC", "MISSING")).hasValueSatisfying(
+                call -> assertThat(call.table()).isNull());
+        assertThat(tableSnapshot.findTables(null, "PUBLIC", "ORD%", List.of("TABLE"))).hasValueSatisfying(
+                tables -> assertThat(tables).extracting(TableMetadata::tableType).containsExactly("TABLE"));
+        assertThat(tableSnapshot.findTables(null, "PUBLIC", "ORD%", null)).isEmpty();
+    }
+
+    @Test
+    void testFingerprintChangesWithMetadata() {
+        IntrospectionSnapshot snapshot = createSnapshot();
+        String fingerprint = snapshot.getFingerprint();
+
+        snapshot.getTables().get(0).addPrimaryKeysCall(
+                new TableSnapshot.PrimaryKeysCall(null, "PUBLIC", "ORDER_LINES", List.of("ID", "LINE")));
+
+        assertThat(snapshot.getFingerprint()).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void testWrongContext() throws Exception {
+        File file = tempDir.resolve("snapshot.xml").toFile();
+        createSnapshot().write(file);
+
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> IntrospectionSnapshot.read(file, "other"))
+                .withMessageContaining("ctx");
+    }
+
+    @Test
+    void testReplayOfUnrecordedCall() {
+        IntrospectionSnapshot snapshot = createSnapshot();
+        TableSnapshot tableSnapshot = snapshot.getTables().get(0);
+        DatabaseMetadataSource source = new SnapshotMetadataSource(snapshot, tableSnapshot.getKey(), tableSnapshot);
+
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> source.getColumns(null, "PUBLIC", "CUSTOMERS"))
+                .withMessageContaining("PUBLIC.ORDERS");
+    }
+
+    private IntrospectionSnapshot createSnapshot() {
+        IntrospectionSnapshot snapshot = new IntrospectionSnapshot("ctx");
+        snapshot.setStoresLowerCaseIdentifiers(false);
+        snapshot.setStoresUpperCaseIdentifiers(true);
+        snapshot.setSearchStringEscape("\\");
+
+        ActualTableName tableName = new ActualTableName("DB", "PUBLIC", "ORDERS");
+        TableSnapshot tableSnapshot = new TableSnapshot("PUBLIC.ORDERS");
+        tableSnapshot.addColumnsCall(new TableSnapshot.ColumnsCall(null, "PUBLIC", "ORDERS", List.of(
+                new ColumnMetadata(tableName, "ID", Types.INTEGER, "INTEGER", 32, false, 0,
+                        "Line 1\nLine 2 \"quoted\" & <escaped>", null, true, false),
+                new ColumnMetadata(tableName, "DESCRIPTION", Types.VARCHAR, "VARCHAR", 50, true, 0,
+                        null, "'none'", null, null))));
+        tableSnapshot.addPrimaryKeysCall(new TableSnapshot.PrimaryKeysCall(null, "PUBLIC", "ORDERS", List.of("ID")));
+        tableSnapshot.addTablesCall(new TableSnapshot.TablesCall(null, "PUBLIC", "ORDERS",
+                new TableMetadata(tableName, "Customer orders", "TABLE")));
+        tableSnapshot.addTablesCall(new TableSnapshot.TablesCall(null, "PUBLIC", "MISSING", null));
+        tableSnapshot.addTableListCall(new TableSnapshot.TableListCall(null, "PUBLIC", "ORD%", List.of("TABLE"),
+                List.of(new TableMetadata(tableName, "Customer orders", "TABLE"))));
+        snapshot.addTable(tableSnapshot);
+        return snapshot;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MetadataPatternTest {
+    @Test
+    void testLiteral() {
+        MetadataPattern pattern = MetadataPattern.compile("CUSTOMER", "\\");
+        assertThat(pattern.getLiteral()).isEqualTo("CUSTOMER");
+        assertThat(pattern.matches("CUSTOMER")).isTrue();
+        assertThat(pattern.matches("customer")).isFalse();
+    }
+
+    @Test
+    void testUnderscoreMatchesAnySingleCharacter() {
+        MetadataPattern pattern = MetadataPattern.compile("FOO_BAR", "\\");
+        assertThat(pattern.getLiteral()).isNull();
+        assertThat(pattern.matches("FOO_BAR")).isTrue();
+        assertThat(pattern.matches("FOOXBAR")).isTrue();
+        assertThat(pattern.matches("FOOBAR")).isFalse();
+    }
+
+    @Test
+    void testPercentMatchesAnySubstring() {
+        MetadataPattern pattern = MetadataPattern.compile("FOO%", "\\");
+        assertThat(pattern.matches("FOO")).isTrue();
+        assertThat(pattern.matches("FOOBAR")).isTrue();
+        assertThat(pattern.matches("BARFOO")).isFalse();
+    }
+
+    @Test
+    void testEscapedWildcards() {
+        MetadataPattern pattern = MetadataPattern.compile("FOO\\_BAR\\%", "\\");
+        assertThat(pattern.getLiteral()).isEqualTo("FOO_BAR%");
+        assertThat(pattern.matches("FOO_BAR%")).isTrue();
+        assertThat(pattern.matches("FOOXBAR%")).isFalse();
+    }
+
+    @Test
+    void testRegexCharactersAreLiteral() {
+        MetadataPattern pattern = MetadataPattern.compile("A.B%", null);
+        assertThat(pattern.matches("A.BC")).isTrue();
+        assertThat(pattern.matches("AXBC")).isFalse();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.JavaTypeResolver.JdbcTypeInformation;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.JavaTypeResolverConfiguration;
+import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.config.Property;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.internal.ObjectFactory;
+
+class JavaTypeResolverDefaultImplTest {
+
+    @Test
+    void testStandardMappings() {
+        JavaTypeResolverDefaultImpl resolver = createResolver(createContext(), null);
+
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.VARCHAR, "VARCHAR", 20, 0)))
+                .hasValue(typeInformation("VARCHAR", "java.lang.String"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.DECIMAL, "NUMBER", 0, -127)))
+                .hasValue(typeInformation("DECIMAL", "java.lang.Short"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.OTHER, "uuid", 0, 0)))
+                .hasValue(typeInformation("OTHER", "java.lang.Object"));
+        assertThat(resolver.calculateTypeInformation(createColumn(-101, "TIMESTAMP WITH TIME ZONE", 0, 0)))
+                .isEmpty();
+    }
+
+    @Test
+    void testOracleProfile() {
+        JavaTypeResolverDefaultImpl resolver = createResolver(createContext(), "oracle");
+
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.DECIMAL, "NUMBER", 0, -127)))
+                .hasValue(typeInformation("DECIMAL", "java.math.BigDecimal"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.DECIMAL, "NUMBER", 9, 0)))
+                .hasValue(typeInformation("DECIMAL", "java.lang.Integer"));
+        assertThat(resolver.calculateTypeInformation(createColumn(-101, "TIMESTAMP WITH TIME ZONE", 0, 0)))
+                .hasValue(typeInformation("TIMESTAMP_WITH_TIMEZONE", "java.time.OffsetDateTime"));
+        assertThat(resolver.calculateTypeInformation(createColumn(100, "BINARY_FLOAT", 0, 0)))
+                .hasValue(typeInformation("REAL", "java.lang.Float"));
+    }
+
+    @Test
+    void testPostgreSqlProfile() {
+        JavaTypeResolverDefaultImpl resolver = createResolver(createContext(), "PostgreSQL");
+
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.OTHER, "jsonb", 0, 0)))
+                .hasValue(typeInformation("OTHER", "java.lang.String"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.OTHER, "uuid", 0, 0)))
+                .hasValue(typeInformation("OTHER", "java.util.UUID"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.ARRAY, "_int4", 0, 0)))
+                .hasValue(typeInformation("ARRAY", "java.lang.Integer[]"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.ARRAY, "_tsvector", 0, 0)))
+                .hasValue(typeInformation("ARRAY", "java.lang.Object"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.INTEGER, "int4", 10, 0)))
+                .hasValue(typeInformation("INTEGER", "java.lang.Integer"));
+    }
+
+    @Test
+    void testMySqlProfile() {
+        JavaTypeResolverDefaultImpl resolver = createResolver(createContext(), "mysql");
+
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.INTEGER, "INT UNSIGNED", 10, 0)))
+                .hasValue(typeInformation("INTEGER", "java.lang.Long"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.BIGINT, "BIGINT UNSIGNED", 20, 0)))
+                .hasValue(typeInformation("BIGINT", "java.math.BigInteger"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.TINYINT, "TINYINT", 1, 0)))
+                .hasValue(typeInformation("BIT", "java.lang.Boolean"));
+        assertThat(resolver.calculateTypeInformation(createColumn(Types.TINYINT, "TINYINT", 3, 0)))
+                .hasValue(typeInformation("TINYINT", "java.lang.Byte"));
+    }
+
+    @Test
+    void testProfileIsSharedByResolversOfARun() {
+        Context context = createContext(TestProfile.class.getName());
+        JdbcTypeProfile jdbcTypeProfile = ObjectFactory.createJdbcTypeProfile(context).orElseThrow();
+        List<String> warnings = new ArrayList<>();
+        JavaTypeResolverDefaultImpl resolver1 =
+                (JavaTypeResolverDefaultImpl) ObjectFactory.createJavaTypeResolver(context, warnings, jdbcTypeProfile);
+        JavaTypeResolverDefaultImpl resolver2 =
+                (JavaTypeResolverDefaultImpl) ObjectFactory.createJavaTypeResolver(context, warnings, jdbcTypeProfile);
+
+        assertThat(resolver1.calculateTypeInformation(createColumn(Types.OTHER, "money", 0, 0)))
+                .hasValue(typeInformation("DECIMAL", "java.math.BigDecimal"));
+        assertThat(resolver1.jdbcTypeProfile).isInstanceOf(TestProfile.class)
+                .isSameAs(jdbcTypeProfile)
+                .isSameAs(resolver2.jdbcTypeProfile);
+    }
+
+    @Test
+    void testProfileFollowsConfigurationChanges() {
+        Context context = createContext("oracle");
+        JdbcTypeProfile firstProfile = ObjectFactory.createJdbcTypeProfile(context).orElseThrow();
+
+        // a context may be edited and run again
+        context.getJavaTypeResolverConfiguration().orElseThrow().getProperties()
+                .setProperty(PropertyRegistry.TYPE_RESOLVER_JDBC_TYPE_PROFILE, TestProfile.class.getName());
+        JdbcTypeProfile secondProfile = ObjectFactory.createJdbcTypeProfile(context).orElseThrow();
+        JavaTypeResolverDefaultImpl resolver =
+                (JavaTypeResolverDefaultImpl) ObjectFactory.createJavaTypeResolver(context, new ArrayList<>());
+
+        assertThat(firstProfile).isSameAs(BuiltInJdbcTypeProfile.ORACLE);
+        assertThat(secondProfile).isInstanceOf(TestProfile.class);
+        assertThat(resolver.jdbcTypeProfile).isInstanceOf(TestProfile.class)
+                .isNotSameAs(secondProfile);
+    }
+
+    @Test
+    void testNoProfile() {
+        assertThat(ObjectFactory.createJdbcTypeProfile(createContext())).isEmpty();
+    }
+
+    public static class TestProfile implements JdbcTypeProfile {
+        @Override
+        public Optional<JdbcTypeInformation> calculateTypeInformation(IntrospectedColumn introspectedColumn) {
+            if ("money".equals(introspectedColumn.getActualTypeName())) {
+                return Optional.of(typeInformation("DECIMAL", "java.math.BigDecimal"));
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static JdbcTypeInformation typeInformation(String jdbcTypeName, String javaType) {
+        return new JdbcTypeInformation(jdbcTypeName, new FullyQualifiedJavaType(javaType));
+    }
+
+    private IntrospectedColumn createColumn(int jdbcType, String typeName, int length, int scale) {
+        IntrospectedColumn introspectedColumn = new IntrospectedColumn();
+        introspectedColumn.setJdbcType(jdbcType);
+        introspectedColumn.setActualTypeName(typeName);
+        introspectedColumn.setLength(length);
+        introspectedColumn.setScale(scale);
+        return introspectedColumn;
+    }
+
+    private JavaTypeResolverDefaultImpl createResolver(Context context, String jdbcTypeProfile) {
+        JavaTypeResolverDefaultImpl resolver = new JavaTypeResolverDefaultImpl();
+        resolver.setWarnings(new ArrayList<>());
+        Properties properties = new Properties();
+        if (jdbcTypeProfile != null) {
+            properties.setProperty(PropertyRegistry.TYPE_RESOLVER_JDBC_TYPE_PROFILE, jdbcTypeProfile);
+        }
+        resolver.addConfigurationProperties(properties);
+        resolver.setContext(context);
+        return resolver;
+    }
+
+    private Context createContext() {
+        return createContextBuilder().build();
+    }
+
+    private Context createContext(String jdbcTypeProfile) {
+        JavaTypeResolverConfiguration javaTypeResolverConfiguration = new JavaTypeResolverConfiguration.Builder()
+                .withProperty(new Property(PropertyRegistry.TYPE_RESOLVER_JDBC_TYPE_PROFILE, jdbcTypeProfile))
+                .build();
+
+        return createContextBuilder()
+                .withJavaTypeResolverConfiguration(javaTypeResolverConfiguration)
+                .build();
+    }
+
+    private Context.Builder createContextBuilder() {
+        ModelGeneratorConfiguration modelGeneratorConfiguration = new ModelGeneratorConfiguration.Builder()
+                .withTargetPackage("foo.bar")
+                .withTargetProject("TestProject")
+                .build();
+
+        return new Context.Builder()
+                .withId("test")
+                .withModelGeneratorConfiguration(modelGeneratorConfiguration);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ColumnNameIndexTest {
+
+    @Test
+    void testDelimitedNameMatchesExactly() {
+        ColumnNameIndex<String> index = new ColumnNameIndex<>();
+        index.add("First Name", true, "first");
+
+        assertThat(index.get("First Name")).hasValue("first");
+        assertThat(index.get("FIRST NAME")).isEmpty();
+    }
+
+    @Test
+    void testUndelimitedNameMatchesIgnoringCase() {
+        ColumnNameIndex<String> index = new ColumnNameIndex<>();
+        index.add("LastName", false, "last");
+
+        assertThat(index.get("LastName")).hasValue("last");
+        assertThat(index.get("LASTNAME")).hasValue("last");
+        assertThat(index.get("lastname")).hasValue("last");
+        assertThat(index.get("Last_Name")).isEmpty();
+        assertThat(index.hasCollisions()).isFalse();
+    }
+
+    @Test
+    void testFirstMatchWins() {
+        ColumnNameIndex<String> index = new ColumnNameIndex<>();
+        index.add("ID", false, "first");
+        index.add("id", false, "second");
+        index.add("Id", true, "third");
+
+        assertThat(index.get("iD")).hasValue("first");
+        assertThat(index.get("Id")).hasValue("first");
+        assertThat(index.hasCollisions()).isTrue();
+    }
+
+    @Test
+    void testEarlierDelimitedMatchWins() {
+        ColumnNameIndex<String> index = new ColumnNameIndex<>();
+        index.add("Id", true, "first");
+        index.add("ID", false, "second");
+
+        assertThat(index.get("Id")).hasValue("first");
+        assertThat(index.get("id")).hasValue("second");
+        assertThat(index.hasCollisions()).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "id, ID",
+            "straße, STRAßE",
+            "ſtatus, STATUS",
+            "İd, id",
+            "K, K",
+            "𐐀, 𐐨",
+            "abc, abd",
+            "ß, SS"
+    })
+    void testCaseFoldMatchesEqualsIgnoreCase(String s1, String s2) {
+        assertThat(ColumnNameIndex.caseFold(s1).equals(ColumnNameIndex.caseFold(s2)))
+                .isEqualTo(s1.equalsIgnoreCase(s2));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class JsonWriterTest {
+
+    @Test
+    void testNestedStructures() {
+        String json = new JsonWriter()
+                .beginObject()
+                .property("name", "ctx")
+                .property("count", 3)
+                .beginObject("totals")
+                .property("enabled", true)
+                .endObject()
+                .beginArray("tables")
+                .beginObject()
+                .property("catalog", null)
+                .endObject()
+                .endArray()
+                .beginArray("empty")
+                .endArray()
+                .endObject()
+                .toString();
+
+        assertThat(json).isEqualTo("""
+                {
+                  "name": "ctx",
+                  "count": 3,
+                  "totals": {
+                    "enabled": true
+                  },
+                  "tables": [
+                    {
+                      "catalog": null
+                    }
+                  ],
+                  "empty": []
+                }""");
+    }
+
+    @Test
+    void testEscapedStrings() {
+        String json = new JsonWriter()
+                .beginObject()
+                .property("value", "a\"b\\c\nd\u0001")
+                .endObject()
+                .toString();
+
+        assertThat(json).isEqualTo("{\n  \"value\": \"a\\\"b\\\\c\\nd\\u0001\"\n}");
+    }
+}
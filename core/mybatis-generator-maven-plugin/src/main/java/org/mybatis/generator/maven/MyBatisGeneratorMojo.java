@@ -38,7 +38,6 @@ import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.XMLParserException;
-import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.util.ClassloaderUtility;
 import org.mybatis.generator.internal.util.StringUtility;
 import org.mybatis.generator.internal.util.messages.Messages;
@@ -160,6 +159,41 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
     @Parameter(property = "mybatis.generator.javaMergeEnabled", defaultValue = "false")
     private boolean javaMergeEnabled;
 
+    /**
+     * The maximum number of tables that will be generated concurrently in each context. The default (1)
+     * generates tables sequentially.
+     */
+    @Parameter(property = "mybatis.generator.parallelism", defaultValue = "1")
+    private int parallelism;
+
+    /**
+     * The number of threads that format and write generated files. If more than one, files are written while
+     * generation is still running. The default (1) writes files sequentially after generation is complete.
+     */
+    @Parameter(property = "mybatis.generator.writeParallelism", defaultValue = "1")
+    private int writeParallelism;
+
+    /**
+     * If true, then generated files are compared with existing files before they are written. Existing files
+     * with identical content are not touched, so incremental builds do not see them as modified.
+     */
+    @Parameter(property = "mybatis.generator.compareBeforeWrite", defaultValue = "false")
+    private boolean compareBeforeWrite;
+
+    /**
+     * If true, then the files for each table are written as soon as the table is generated, and are not kept in
+     * memory afterwards. This reduces memory use for very large schemas.
+     */
+    @Parameter(property = "mybatis.generator.streaming", defaultValue = "false")
+    private boolean streaming;
+
+    /**
+     * If true, then each generated file is written to a temporary file and moved into place, so an interrupted
+     * build never leaves a partially written file.
+     */
+    @Parameter(property = "mybatis.generator.atomicWrite", defaultValue = "false")
+    private boolean atomicWrite;
+
     @Override
     public void execute() throws MojoExecutionException {
         if (skip) {
@@ -174,7 +208,9 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
         // add resource directories to the classpath.  This is required to support
         // use of a properties file in the build.  Typically, the properties file
         // is in the project's source tree, but the plugin classpath does not
-        // include the project classpath.
+        // include the project classpath.  The classloader is set as the thread context
+        // classloader (rather than a global ObjectFactory classloader) so that
+        // modules built in parallel do not see each other's resources.
         assert project != null;
         List<Resource> resources = project.getResources();
         List<String> resourceDirectories = new ArrayList<>();
@@ -182,7 +218,7 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
             resourceDirectories.add(resource.getDirectory());
         }
         ClassLoader cl = ClassloaderUtility.getCustomClassloader(resourceDirectories);
-        ObjectFactory.addExternalClassLoader(cl);
+        Thread.currentThread().setContextClassLoader(cl);
 
         if (configurationFile == null) {
             throw new MojoExecutionException(Messages.getString("RuntimeError.0")); //$NON-NLS-1$
@@ -213,9 +249,19 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
                     .withFullyQualifiedTableNames(fullyQualifiedTables)
                     .withOverwriteEnabled(overwrite)
                     .withJavaFileMergeEnabled(javaMergeEnabled)
+                    .withCompareBeforeWriteEnabled(compareBeforeWrite)
+                    .withStreamingEnabled(streaming)
+                    .withAtomicWriteEnabled(atomicWrite)
+                    .withParallelism(parallelism)
+                    .withWriteParallelism(writeParallelism)
                     .build();
 
             warnings.addAll(myBatisGenerator.generateAndWrite());
+            if (compareBeforeWrite) {
+                getLog().info(Messages.getString("Progress.19", //$NON-NLS-1$
+                        Integer.toString(myBatisGenerator.getNumberOfWrittenFiles()),
+                        Integer.toString(myBatisGenerator.getNumberOfUnchangedFiles())));
+            }
         } catch (XMLParserException | InvalidConfigurationException e) {
             for (String error : e.getExtraMessages()) {
                 getLog().error(error);